@@ -2,15 +2,12 @@ package com.minted.api.account.controller;
 
 import com.minted.api.account.dto.AccountTypeRequest;
 import com.minted.api.account.dto.AccountTypeResponse;
-import com.minted.api.user.entity.User;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.account.service.AccountTypeService;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,11 +19,9 @@ import java.util.Map;
 public class AccountTypeController {
 
     private final AccountTypeService accountTypeService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllAccountTypes(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getAllAccountTypes(@CurrentUser Long userId) {
         List<AccountTypeResponse> accountTypes = accountTypeService.getAllByUserId(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -35,8 +30,7 @@ public class AccountTypeController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<Map<String, Object>> getAllActiveAccountTypes(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getAllActiveAccountTypes(@CurrentUser Long userId) {
         List<AccountTypeResponse> accountTypes = accountTypeService.getAllActiveByUserId(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -47,9 +41,8 @@ public class AccountTypeController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getAccountTypeById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         AccountTypeResponse accountType = accountTypeService.getById(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -60,9 +53,8 @@ public class AccountTypeController {
     @PostMapping
     public ResponseEntity<Map<String, Object>> createAccountType(
             @Valid @RequestBody AccountTypeRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         AccountTypeResponse accountType = accountTypeService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "success", true,
@@ -75,9 +67,8 @@ public class AccountTypeController {
     public ResponseEntity<Map<String, Object>> updateAccountType(
             @PathVariable Long id,
             @Valid @RequestBody AccountTypeRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         AccountTypeResponse accountType = accountTypeService.update(id, request, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -89,9 +80,8 @@ public class AccountTypeController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteAccountType(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         accountTypeService.delete(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -102,20 +92,12 @@ public class AccountTypeController {
     @PatchMapping("/{id}/toggle")
     public ResponseEntity<Map<String, Object>> toggleAccountType(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         accountTypeService.toggleActive(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "Account type status toggled successfully"
         ));
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
@@ -0,0 +1,17 @@
+package com.minted.api.account.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * An account whose stored balance no longer matches its opening balance plus the net of its transactions.
+ */
+public record BalanceDrift(
+        Long accountId,
+        Long userId,
+        BigDecimal storedBalance,
+        BigDecimal computedBalance
+) {
+    public BigDecimal drift() {
+        return storedBalance.subtract(computedBalance);
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "accounts")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +36,10 @@ public class Account {
     @Column(name = "balance", precision = 15, scale = 2)
     private BigDecimal balance = BigDecimal.ZERO;
 
+    // Balance before any recorded transaction; balance = openingBalance + net of transactions (see AccountBalanceService)
+    @Column(name = "opening_balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal openingBalance = BigDecimal.ZERO;
+
     @Column(name = "currency", length = 3)
     private String currency = "INR";
 
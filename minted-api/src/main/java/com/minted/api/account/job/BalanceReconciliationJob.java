@@ -0,0 +1,176 @@
+package com.minted.api.account.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.account.dto.BalanceDrift;
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.account.service.BalanceDeltas;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.entity.JobScheduleConfig;
+import com.minted.api.job.entity.JobStepExecution;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.enums.JobStepStatus;
+import com.minted.api.job.enums.JobTriggerType;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.JobSchedulerService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recomputes every account's balance as opening balance plus the net of its transactions, in one set-based
+ * query, and reports accounts whose stored balance drifted. With {@code app.balance.reconciliation.auto-correct}
+ * the drift is also corrected, as a delta so that writes racing with the job are not lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceReconciliationJob implements Runnable {
+
+    public static final String JOB_NAME = "BALANCE_RECONCILIATION";
+
+    private static final int MAX_REPORTED_ACCOUNTS = 50;
+
+    private final AccountBalanceService accountBalanceService;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final JobScheduleConfigRepository scheduleConfigRepository;
+    private final JobSchedulerService jobSchedulerService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.balance.reconciliation.auto-correct:false}")
+    private boolean autoCorrect;
+
+    @PostConstruct
+    public void init() {
+        scheduleConfigRepository.findByJobName(JOB_NAME).ifPresent(config -> {
+            jobSchedulerService.registerJob(JOB_NAME, this, config.getCronExpression(), config.getEnabled());
+        });
+    }
+
+    @Override
+    public void run() {
+        log.info("Starting BalanceReconciliationJob execution...");
+
+        JobScheduleConfig config = scheduleConfigRepository.findByJobName(JOB_NAME).orElse(null);
+        JobExecution execution = new JobExecution();
+        execution.setJobName(JOB_NAME);
+        execution.setScheduleConfig(config);
+        execution.setStatus(JobStatus.RUNNING);
+        execution.setTriggerType(JobTriggerType.SCHEDULED);
+        execution.setStartTime(LocalDateTime.now());
+        execution.setTotalSteps(3);
+        execution = jobExecutionRepository.save(execution);
+
+        try {
+            // Step 1: Recompute
+            JobStepExecution detectStep = createStep(execution, "Detect Balance Drift", 1);
+            List<BalanceDrift> drifts;
+            try {
+                drifts = accountBalanceService.findDrift();
+                completeStep(detectStep, driftReport(drifts));
+            } catch (RuntimeException e) {
+                failStep(detectStep, e);
+                throw e;
+            }
+            execution.setCompletedSteps(1);
+            jobExecutionRepository.save(execution);
+
+            // Step 2: Correct
+            JobStepExecution correctStep = createStep(execution, "Correct Drift", 2);
+            try {
+                Map<String, Object> context = new HashMap<>();
+                context.put("autoCorrect", autoCorrect);
+                if (autoCorrect && !drifts.isEmpty()) {
+                    BalanceDeltas corrections = new BalanceDeltas();
+                    drifts.forEach(d -> corrections.add(d.accountId(), d.drift().negate()));
+                    accountBalanceService.apply(corrections);
+                    log.warn("Corrected balance drift of {} accounts", drifts.size());
+                }
+                context.put("corrected", autoCorrect ? drifts.size() : 0);
+                completeStep(correctStep, context);
+            } catch (RuntimeException e) {
+                failStep(correctStep, e);
+                throw e;
+            }
+            execution.setCompletedSteps(2);
+            jobExecutionRepository.save(execution);
+
+            // Step 3: Update Config
+            JobStepExecution step = createStep(execution, "Update Schedule Configuration", 3);
+            if (config != null) {
+                config.setLastRunAt(LocalDateTime.now());
+                scheduleConfigRepository.save(config);
+            }
+            Map<String, Object> context = new HashMap<>();
+            context.put("configUpdated", config != null);
+            completeStep(step, context);
+            execution.setCompletedSteps(3);
+
+            execution.setStatus(JobStatus.COMPLETED);
+            execution.setEndTime(LocalDateTime.now());
+            jobExecutionRepository.save(execution);
+
+            log.info("BalanceReconciliationJob completed: {} accounts drifted", drifts.size());
+        } catch (Exception e) {
+            log.error("BalanceReconciliationJob failed", e);
+            execution.setStatus(JobStatus.FAILED);
+            execution.setEndTime(LocalDateTime.now());
+            execution.setErrorMessage(e.getMessage());
+            jobExecutionRepository.save(execution);
+        }
+    }
+
+    private Map<String, Object> driftReport(List<BalanceDrift> drifts) {
+        Map<String, Object> context = new HashMap<>();
+        context.put("driftedAccounts", drifts.size());
+        context.put("totalAbsoluteDrift", drifts.stream()
+                .map(d -> d.drift().abs())
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        if (!drifts.isEmpty()) {
+            context.put("accounts", drifts.stream().limit(MAX_REPORTED_ACCOUNTS).map(d -> Map.of(
+                    "accountId", d.accountId(),
+                    "userId", d.userId(),
+                    "stored", d.storedBalance(),
+                    "computed", d.computedBalance())).toList());
+            log.warn("Balance drift detected on {} accounts (first: accountId={}, stored={}, computed={})",
+                    drifts.size(), drifts.get(0).accountId(), drifts.get(0).storedBalance(), drifts.get(0).computedBalance());
+        }
+        return context;
+    }
+
+    private JobStepExecution createStep(JobExecution jobExecution, String name, int order) {
+        JobStepExecution step = new JobStepExecution();
+        step.setJobExecution(jobExecution);
+        step.setStepName(name);
+        step.setStepOrder(order);
+        step.setStatus(JobStepStatus.RUNNING);
+        step.setStartTime(LocalDateTime.now());
+        jobExecution.getSteps().add(step);
+        return step;
+    }
+
+    private void completeStep(JobStepExecution step, Map<String, Object> context) {
+        step.setStatus(JobStepStatus.COMPLETED);
+        step.setEndTime(LocalDateTime.now());
+        try {
+            step.setContextJson(objectMapper.writeValueAsString(context));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize step context for step: {}", step.getStepName(), e);
+        }
+    }
+
+    private void failStep(JobStepExecution step, Exception e) {
+        step.setStatus(JobStepStatus.FAILED);
+        step.setEndTime(LocalDateTime.now());
+        step.setErrorMessage(e.getMessage());
+    }
+}
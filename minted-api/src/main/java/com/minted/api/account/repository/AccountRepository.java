@@ -2,10 +2,13 @@ package com.minted.api.account.repository;
 
 import com.minted.api.account.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +31,30 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     @Query("SELECT a FROM Account a WHERE a.user.id = :userId AND a.isActive = true ORDER BY a.balance DESC")
     List<Account> findActiveAccountsByUserIdOrderByBalanceDesc(@Param("userId") Long userId);
+
+    // Applies a signed delta in one statement instead of read-modify-write through the entity
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = a.balance + :delta, a.updatedAt = :updatedAt WHERE a.id = :id")
+    int adjustBalance(@Param("id") Long id, @Param("delta") BigDecimal delta, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Moves the opening balance by the correction from the current balance to :balance; run before setBalance
+    @Modifying
+    @Query("UPDATE Account a SET a.openingBalance = a.openingBalance + (:balance - a.balance) WHERE a.id = :id")
+    int shiftOpeningBalance(@Param("id") Long id, @Param("balance") BigDecimal balance);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.balance = :balance, a.updatedAt = :updatedAt WHERE a.id = :id")
+    int setBalance(@Param("id") Long id, @Param("balance") BigDecimal balance, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // {accountId, userId, storedBalance, computedBalance} of every account whose balance drifted from its transactions
+    @Query(value = "SELECT a.id, a.user_id, a.balance, a.opening_balance + COALESCE(n.net, 0) " +
+            "FROM accounts a LEFT JOIN (" +
+            "  SELECT e.account_id, SUM(e.amount) AS net FROM (" +
+            "    SELECT account_id, CASE WHEN type = 'INCOME' THEN amount ELSE -amount END AS amount FROM transactions" +
+            "    UNION ALL" +
+            "    SELECT to_account_id, amount FROM transactions WHERE type = 'TRANSFER' AND to_account_id IS NOT NULL" +
+            "  ) e GROUP BY e.account_id" +
+            ") n ON n.account_id = a.id " +
+            "WHERE a.balance <> a.opening_balance + COALESCE(n.net, 0) ORDER BY a.id", nativeQuery = true)
+    List<Object[]> findBalanceDriftRows();
 }
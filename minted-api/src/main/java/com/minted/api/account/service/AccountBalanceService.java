@@ -0,0 +1,25 @@
+package com.minted.api.account.service;
+
+import com.minted.api.account.dto.BalanceDrift;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The only writer of {@code accounts.balance}. Changes are applied as atomic
+ * {@code balance = balance + delta} updates, so concurrent writers to one account never lose an update.
+ */
+public interface AccountBalanceService {
+
+    /** Applies each non-zero delta with one update per account, in account id order. Joins the caller's transaction. */
+    void apply(BalanceDeltas deltas);
+
+    /**
+     * Sets an absolute balance (user correction) and shifts the opening balance by the same amount,
+     * so the balance stays derivable from the account's transactions.
+     */
+    void setBalance(Long accountId, BigDecimal balance);
+
+    /** Accounts whose stored balance differs from opening balance plus their transactions, in one set-based query. */
+    List<BalanceDrift> findDrift();
+}
@@ -0,0 +1,52 @@
+package com.minted.api.account.service;
+
+import com.minted.api.account.dto.BalanceDrift;
+import com.minted.api.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceServiceImpl implements AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    @Transactional
+    public void apply(BalanceDeltas deltas) {
+        LocalDateTime now = LocalDateTime.now();
+        deltas.asMap().forEach((accountId, delta) -> {
+            if (delta.signum() != 0) {
+                accountRepository.adjustBalance(accountId, delta, now);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void setBalance(Long accountId, BigDecimal balance) {
+        // Two statements in a fixed order: the shift must read the balance before it is overwritten
+        accountRepository.shiftOpeningBalance(accountId, balance);
+        accountRepository.setBalance(accountId, balance, LocalDateTime.now());
+        log.info("Account balance set: id={}, balance={}", accountId, balance);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BalanceDrift> findDrift() {
+        return accountRepository.findBalanceDriftRows().stream()
+                .map(row -> new BalanceDrift(
+                        ((Number) row[0]).longValue(),
+                        ((Number) row[1]).longValue(),
+                        (BigDecimal) row[2],
+                        (BigDecimal) row[3]))
+                .toList();
+    }
+}
@@ -29,6 +29,7 @@ public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
     private final AccountTypeRepository accountTypeRepository;
     private final UserRepository userRepository;
+    private final AccountBalanceService accountBalanceService;
 
     @Override
     @Transactional(readOnly = true)
@@ -62,12 +63,13 @@ public class AccountServiceImpl implements AccountService {
             Account account = softDeleted.get();
             AccountType accountType = findAccountTypeByIdAndUserId(request.accountTypeId(), userId);
             account.setAccountType(accountType);
-            account.setBalance(request.balance() != null ? request.balance() : BigDecimal.ZERO);
             account.setCurrency(request.currency() != null ? request.currency() : "INR");
             account.setColor(request.color());
             account.setIcon(request.icon());
             account.setIsActive(true);
             Account restored = accountRepository.save(account);
+            // The restored account keeps its transactions; the requested balance is taken as of now
+            changeBalance(restored, request.balance() != null ? request.balance() : BigDecimal.ZERO);
             log.info("Account restored from soft-delete: id={}, name={}", restored.getId(), restored.getName());
             return AccountResponse.from(restored);
         }
@@ -84,6 +86,7 @@ public class AccountServiceImpl implements AccountService {
         account.setName(request.name());
         account.setAccountType(accountType);
         account.setBalance(request.balance() != null ? request.balance() : BigDecimal.ZERO);
+        account.setOpeningBalance(account.getBalance());
         account.setCurrency(request.currency() != null ? request.currency() : "INR");
         account.setColor(request.color());
         account.setIcon(request.icon());
@@ -110,12 +113,14 @@ public class AccountServiceImpl implements AccountService {
 
         account.setName(request.name());
         account.setAccountType(accountType);
-        account.setBalance(request.balance() != null ? request.balance() : account.getBalance());
         account.setCurrency(request.currency() != null ? request.currency() : account.getCurrency());
         account.setColor(request.color());
         account.setIcon(request.icon());
 
         Account updated = accountRepository.save(account);
+        if (request.balance() != null && request.balance().compareTo(updated.getBalance()) != 0) {
+            changeBalance(updated, request.balance());
+        }
         log.info("Account updated: id={}", updated.getId());
         return AccountResponse.from(updated);
     }
@@ -137,6 +142,16 @@ public class AccountServiceImpl implements AccountService {
         accountRepository.save(account);
     }
 
+    /**
+     * Balance edits go through {@link AccountBalanceService#setBalance} so they neither overwrite concurrent
+     * transaction deltas nor break reconciliation. Must run before the entity's balance is touched, since
+     * a dirty balance would be flushed ahead of the update.
+     */
+    private void changeBalance(Account account, BigDecimal balance) {
+        accountBalanceService.setBalance(account.getId(), balance);
+        account.setBalance(balance);
+    }
+
     private Account findAccountByIdAndUserId(Long id, Long userId) {
         return accountRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found with id: " + id));
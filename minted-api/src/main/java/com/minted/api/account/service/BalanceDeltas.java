@@ -0,0 +1,59 @@
+package com.minted.api.account.service;
+
+import com.minted.api.transaction.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Net balance change per account, accumulated before being applied by {@link AccountBalanceService}.
+ * Kept in account id order so concurrent writers lock account rows in the same order.
+ */
+public final class BalanceDeltas {
+
+    private final Map<Long, BigDecimal> deltas = new TreeMap<>();
+
+    /** Adds the effect of a transaction: income credits, expense debits, a transfer moves the amount. */
+    public BalanceDeltas add(TransactionType type, BigDecimal amount, Long accountId, Long toAccountId) {
+        switch (type) {
+            case INCOME -> add(accountId, amount);
+            case EXPENSE -> add(accountId, amount.negate());
+            case TRANSFER -> {
+                add(accountId, amount.negate());
+                // Bulk-imported transfers have no destination and only debit the source
+                if (toAccountId != null) {
+                    add(toAccountId, amount);
+                }
+            }
+        }
+        return this;
+    }
+
+    /** Adds the inverse of {@link #add(TransactionType, BigDecimal, Long, Long)}, for an edited or deleted transaction. */
+    public BalanceDeltas reverse(TransactionType type, BigDecimal amount, Long accountId, Long toAccountId) {
+        return add(type, amount.negate(), accountId, toAccountId);
+    }
+
+    public BalanceDeltas add(Long accountId, BigDecimal delta) {
+        deltas.merge(accountId, delta, BigDecimal::add);
+        return this;
+    }
+
+    public BigDecimal get(Long accountId) {
+        return deltas.getOrDefault(accountId, BigDecimal.ZERO);
+    }
+
+    public boolean isEmpty() {
+        return deltas.values().stream().allMatch(d -> d.signum() == 0);
+    }
+
+    public int size() {
+        return deltas.size();
+    }
+
+    public Map<Long, BigDecimal> asMap() {
+        return Collections.unmodifiableMap(deltas);
+    }
+}
@@ -1,6 +1,8 @@
 package com.minted.api.admin.controller;
 
 import com.minted.api.admin.dto.*;
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.common.concurrent.ExecutorStats;
 import com.minted.api.job.dto.JobExecutionResponse;
 import com.minted.api.job.dto.JobScheduleConfigRequest;
 import com.minted.api.job.dto.JobScheduleConfigResponse;
@@ -30,6 +32,7 @@ public class AdminController {
     private final DefaultListsService defaultListsService;
     private final UserManagementService userManagementService;
     private final SystemSettingService systemSettingService;
+    private final List<BoundedExecutor> executors;
 
     // --- Jobs & Schedules ---
 
@@ -64,6 +67,11 @@ public class AdminController {
         return ResponseEntity.ok(jobExecutionService.updateScheduleConfig(id, request));
     }
 
+    @GetMapping("/executors")
+    public ResponseEntity<List<ExecutorStats>> getExecutorStats() {
+        return ResponseEntity.ok(executors.stream().map(BoundedExecutor::stats).toList());
+    }
+
     // --- Default Lists ---
 
     @GetMapping("/defaults/categories")
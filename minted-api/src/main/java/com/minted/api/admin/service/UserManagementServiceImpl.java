@@ -22,16 +22,22 @@ import com.minted.api.transaction.repository.TransactionRepository;
 import com.minted.api.budget.repository.BudgetRepository;
 import com.minted.api.recurring.repository.RecurringTransactionRepository;
 import com.minted.api.bulkimport.repository.BulkImportRepository;
+import com.minted.api.statement.repository.CreditCardStatementRepository;
 import com.minted.api.dashboard.repository.DashboardCardRepository;
 import com.minted.api.notification.enums.NotificationType;
 import com.minted.api.notification.service.NotificationHelper;
 import com.minted.api.admin.service.UserManagementService;
+import com.minted.api.auth.service.UserPrincipalCache;
+import com.minted.api.avatar.service.AvatarService;
+import com.minted.api.friend.repository.FriendRepository;
+import com.minted.api.llm.service.LlmResultCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -52,8 +58,13 @@ public class UserManagementServiceImpl implements UserManagementService {
     private final BudgetRepository budgetRepository;
     private final RecurringTransactionRepository recurringTransactionRepository;
     private final BulkImportRepository bulkImportRepository;
+    private final CreditCardStatementRepository statementRepository;
     private final DashboardCardRepository dashboardCardRepository;
     private final NotificationHelper notificationHelper;
+    private final UserPrincipalCache userPrincipalCache;
+    private final FriendRepository friendRepository;
+    private final AvatarService avatarService;
+    private final LlmResultCacheService llmResultCacheService;
 
     private static final Pattern PASSWORD_PATTERN = Pattern.compile(
             "^(?=.*[A-Z])(?=.*[0-9]).{8,}$"
@@ -118,6 +129,7 @@ public class UserManagementServiceImpl implements UserManagementService {
 
         user.setIsActive(!user.getIsActive());
         User saved = userRepository.save(user);
+        userPrincipalCache.evict(saved.getUsername());
 
         log.info("User {} {} by admin", saved.getUsername(), saved.getIsActive() ? "enabled" : "disabled");
         return AdminUserResponse.from(saved);
@@ -137,13 +149,24 @@ public class UserManagementServiceImpl implements UserManagementService {
         transactionRepository.deleteAll(transactionRepository.findByUserId(userId));
         recurringTransactionRepository.deleteAll(recurringTransactionRepository.findByUserId(userId));
         budgetRepository.deleteAll(budgetRepository.findByUserId(userId));
+        // Statements go through JPA (not the users cascade) so their text and LLM response blobs are removed too
+        statementRepository.deleteAll(statementRepository.findByUserIdOrderByCreatedAtDesc(userId));
         accountRepository.deleteAll(accountRepository.findByUserId(userId));
         accountTypeRepository.deleteAll(accountTypeRepository.findByUserId(userId));
         transactionCategoryRepository.deleteAll(transactionCategoryRepository.findByUserId(userId));
         bulkImportRepository.deleteAll(bulkImportRepository.findByUserIdOrderByCreatedAtDesc(userId));
         dashboardCardRepository.deleteAll(dashboardCardRepository.findByUserIdOrderByPositionOrderAsc(userId));
+        llmResultCacheService.evictUser(userId);
+
+        // Friends go with the user via ON DELETE CASCADE; their avatars live in a separate store
+        List<String> avatarIds = new ArrayList<>(friendRepository.findAvatarIdsByUserId(userId));
+        if (user.getAvatarId() != null) {
+            avatarIds.add(user.getAvatarId());
+        }
+        avatarService.deleteAll(avatarIds);
 
         userRepository.delete(user);
+        userPrincipalCache.evict(user.getUsername());
 
         log.info("User {} deleted by admin", user.getUsername());
     }
@@ -163,6 +186,7 @@ public class UserManagementServiceImpl implements UserManagementService {
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         user.setForcePasswordChange(true);
         userRepository.save(user);
+        userPrincipalCache.evict(user.getUsername());
 
         log.info("Password reset for user {} by admin", user.getUsername());
     }
@@ -3,19 +3,17 @@ package com.minted.api.analytics.controller;
 import com.minted.api.analytics.dto.AnalyticsSummaryResponse;
 import com.minted.api.analytics.dto.BudgetSummaryResponse;
 import com.minted.api.analytics.dto.CategoryWiseResponse;
+import com.minted.api.analytics.dto.DashboardResponse;
 import com.minted.api.dashboard.dto.ChartDataResponse;
 import com.minted.api.analytics.dto.SpendingActivityResponse;
 import com.minted.api.analytics.dto.TotalBalanceResponse;
 import com.minted.api.analytics.dto.TrendResponse;
-import com.minted.api.user.entity.User;
 import com.minted.api.transaction.enums.TransactionType;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.analytics.service.AnalyticsService;
+import com.minted.api.common.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -28,16 +26,14 @@ import java.util.Map;
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
-    private final UserRepository userRepository;
 
     @GetMapping("/summary")
     public ResponseEntity<Map<String, Object>> getSummary(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) Long accountId,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         AnalyticsSummaryResponse summary = analyticsService.getSummary(userId, startDate, endDate, accountId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -51,9 +47,8 @@ public class AnalyticsController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) TransactionType type,
             @RequestParam(required = false) Long accountId,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         TransactionType effectiveType = type != null ? type : TransactionType.EXPENSE;
         List<CategoryWiseResponse> data = analyticsService.getCategoryWise(userId, startDate, endDate, effectiveType, accountId);
         return ResponseEntity.ok(Map.of(
@@ -66,9 +61,8 @@ public class AnalyticsController {
     public ResponseEntity<Map<String, Object>> getTrend(
             @RequestParam(defaultValue = "6") int months,
             @RequestParam(required = false) Long accountId,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<TrendResponse> data = analyticsService.getTrend(userId, months, accountId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -80,9 +74,8 @@ public class AnalyticsController {
     public ResponseEntity<Map<String, Object>> getSpendingActivity(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<SpendingActivityResponse> data = analyticsService.getSpendingActivity(userId, startDate, endDate);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -91,8 +84,7 @@ public class AnalyticsController {
     }
 
     @GetMapping("/total-balance")
-    public ResponseEntity<Map<String, Object>> getTotalBalance(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getTotalBalance(@CurrentUser Long userId) {
         TotalBalanceResponse data = analyticsService.getTotalBalance(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -101,8 +93,7 @@ public class AnalyticsController {
     }
 
     @GetMapping("/budget-summary")
-    public ResponseEntity<Map<String, Object>> getBudgetSummary(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getBudgetSummary(@CurrentUser Long userId) {
         List<BudgetSummaryResponse> data = analyticsService.getBudgetSummary(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -110,10 +101,18 @@ public class AnalyticsController {
         ));
     }
 
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
+    @GetMapping("/dashboard")
+    public ResponseEntity<Map<String, Object>> getDashboard(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(defaultValue = "6") int trendMonths,
+            @CurrentUser Long userId
+    ) {
+        DashboardResponse data = analyticsService.getDashboard(userId, startDate, endDate, accountId, trendMonths);
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", data
+        ));
     }
 }
@@ -0,0 +1,21 @@
+package com.minted.api.analytics.dto;
+
+import com.minted.api.dashboard.dto.ChartDataResponse;
+
+import java.util.List;
+
+public record DashboardResponse(
+        AnalyticsSummaryResponse summary,
+        List<CategoryWiseResponse> categoryWise,
+        List<TrendResponse> trend,
+        List<SpendingActivityResponse> spendingActivity,
+        TotalBalanceResponse totalBalance,
+        List<BudgetSummaryResponse> budgetSummary,
+        List<CardData> cards
+) {
+    public record CardData(
+            Long cardId,
+            String title,
+            ChartDataResponse data
+    ) {}
+}
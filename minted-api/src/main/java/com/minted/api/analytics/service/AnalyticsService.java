@@ -3,6 +3,7 @@ package com.minted.api.analytics.service;
 import com.minted.api.analytics.dto.AnalyticsSummaryResponse;
 import com.minted.api.analytics.dto.BudgetSummaryResponse;
 import com.minted.api.analytics.dto.CategoryWiseResponse;
+import com.minted.api.analytics.dto.DashboardResponse;
 import com.minted.api.dashboard.dto.ChartDataResponse;
 import com.minted.api.analytics.dto.SpendingActivityResponse;
 import com.minted.api.analytics.dto.TotalBalanceResponse;
@@ -27,4 +28,10 @@ public interface AnalyticsService {
     TotalBalanceResponse getTotalBalance(Long userId);
 
     List<BudgetSummaryResponse> getBudgetSummary(Long userId);
+
+    /**
+     * Every dashboard widget in one call: summary, expense categories and trend (filtered by {@code accountId}),
+     * spending activity, total balance, budget summary and the data of each active dashboard card.
+     */
+    DashboardResponse getDashboard(Long userId, LocalDate startDate, LocalDate endDate, Long accountId, int trendMonths);
 }
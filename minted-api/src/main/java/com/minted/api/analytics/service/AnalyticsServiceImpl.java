@@ -7,17 +7,22 @@ import com.minted.api.budget.entity.Budget;
 import com.minted.api.dashboard.entity.DashboardCard;
 import com.minted.api.transaction.entity.Transaction;
 import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.common.concurrent.BoundedExecutor;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.account.repository.AccountRepository;
 import com.minted.api.budget.repository.BudgetRepository;
 import com.minted.api.dashboard.repository.DashboardCardRepository;
+import com.minted.api.transaction.repository.TransactionMonthlyAggregateRepository;
 import com.minted.api.transaction.repository.TransactionRepository;
 import com.minted.api.analytics.service.AnalyticsService;
 import com.minted.api.dashboardconfig.service.DashboardConfigService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -26,25 +31,109 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Totals over whole months are read from {@code transaction_monthly_aggregates}; only the partial months at the
+ * ends of a range (see {@link MonthAlignedRange}) scan {@code transactions}.
+ * {@link #getDashboard} resolves exclusions and dates once and computes every widget in parallel on the
+ * {@code analyticsExecutor}, each in its own read-only transaction.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AnalyticsServiceImpl implements AnalyticsService {
 
     private final TransactionRepository transactionRepository;
+    private final TransactionMonthlyAggregateRepository aggregateRepository;
     private final DashboardCardRepository dashboardCardRepository;
     private final AccountRepository accountRepository;
     private final BudgetRepository budgetRepository;
     private final DashboardConfigService dashboardConfigService;
+    private final PlatformTransactionManager transactionManager;
+    @Qualifier("analyticsExecutor")
+    private final BoundedExecutor analyticsExecutor;
 
     @Override
     @Transactional(readOnly = true)
     public AnalyticsSummaryResponse getSummary(Long userId, LocalDate startDate, LocalDate endDate, Long accountId) {
         log.debug("Computing analytics summary: userId={}, range={} to {}, accountId={}", userId, startDate, endDate, accountId);
+        return summary(userId, startDate, endDate, accountId, dashboardConfigService.getExcludedCategoryIds(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryWiseResponse> getCategoryWise(Long userId, LocalDate startDate, LocalDate endDate, TransactionType type, Long accountId) {
+        return categoryWise(userId, startDate, endDate, type, accountId, dashboardConfigService.getExcludedCategoryIds(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrendResponse> getTrend(Long userId, int months, Long accountId) {
+        return trend(userId, months, accountId, dashboardConfigService.getExcludedCategoryIds(userId), LocalDate.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChartDataResponse getCardData(Long userId, Long cardId, LocalDate startDate, LocalDate endDate) {
+        DashboardCard card = dashboardCardRepository.findByIdAndUserId(cardId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Dashboard card not found with id: " + cardId));
+        return cardData(userId, card.getXAxisMeasure(), card.getYAxisMeasure(), startDate, endDate,
+                dashboardConfigService.getExcludedCategoryIds(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SpendingActivityResponse> getSpendingActivity(Long userId, LocalDate startDate, LocalDate endDate) {
+        return spendingActivity(userId, startDate, endDate, dashboardConfigService.getExcludedCategoryIds(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TotalBalanceResponse getTotalBalance(Long userId) {
+        return totalBalance(userId, dashboardConfigService.getExcludedCategoryIds(userId), LocalDate.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BudgetSummaryResponse> getBudgetSummary(Long userId) {
+        return budgetSummary(userId, dashboardConfigService.getExcludedCategoryIds(userId), LocalDate.now());
+    }
+
+    @Override
+    public DashboardResponse getDashboard(Long userId, LocalDate startDate, LocalDate endDate, Long accountId, int trendMonths) {
+        log.debug("Computing dashboard: userId={}, range={} to {}, accountId={}", userId, startDate, endDate, accountId);
         List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
+        List<DashboardCard> cards = dashboardCardRepository.findByUserIdAndIsActiveTrueOrderByPositionOrderAsc(userId);
+        LocalDate today = LocalDate.now();
+
+        CompletableFuture<AnalyticsSummaryResponse> summary = async(() -> summary(userId, startDate, endDate, accountId, excludedIds));
+        CompletableFuture<List<CategoryWiseResponse>> categoryWise = async(() -> categoryWise(userId, startDate, endDate, TransactionType.EXPENSE, accountId, excludedIds));
+        CompletableFuture<List<TrendResponse>> trend = async(() -> trend(userId, trendMonths, accountId, excludedIds, today));
+        CompletableFuture<List<SpendingActivityResponse>> spendingActivity = async(() -> spendingActivity(userId, startDate, endDate, excludedIds));
+        CompletableFuture<TotalBalanceResponse> totalBalance = async(() -> totalBalance(userId, excludedIds, today));
+        CompletableFuture<List<BudgetSummaryResponse>> budgetSummary = async(() -> budgetSummary(userId, excludedIds, today));
+        // Cards only differ by their axes, so each distinct pair is computed once
+        Map<String, CompletableFuture<ChartDataResponse>> charts = new HashMap<>();
+        for (DashboardCard card : cards) {
+            charts.computeIfAbsent(card.getXAxisMeasure() + "|" + card.getYAxisMeasure(), axes -> async(() ->
+                    cardData(userId, card.getXAxisMeasure(), card.getYAxisMeasure(), startDate, endDate, excludedIds)));
+        }
+
+        List<DashboardResponse.CardData> cardData = cards.stream()
+                .map(card -> new DashboardResponse.CardData(card.getId(), card.getTitle(),
+                        join(charts.get(card.getXAxisMeasure() + "|" + card.getYAxisMeasure()))))
+                .toList();
+        return new DashboardResponse(join(summary), join(categoryWise), join(trend), join(spendingActivity),
+                join(totalBalance), join(budgetSummary), cardData);
+    }
 
+    private AnalyticsSummaryResponse summary(Long userId, LocalDate startDate, LocalDate endDate, Long accountId, List<Long> excludedIds) {
         BigDecimal totalIncome = sumAmountFiltered(userId, TransactionType.INCOME, startDate, endDate, excludedIds, accountId);
         BigDecimal totalExpense = sumAmountFiltered(userId, TransactionType.EXPENSE, startDate, endDate, excludedIds, accountId);
 
@@ -52,18 +141,13 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         totalExpense = totalExpense != null ? totalExpense : BigDecimal.ZERO;
 
         BigDecimal netBalance = totalIncome.subtract(totalExpense);
-        List<Long> effectiveExcluded = excludedIds.isEmpty() ? List.of(-1L) : excludedIds;
-        Long transactionCount = transactionRepository.countFiltered(userId, startDate, endDate, effectiveExcluded, accountId);
+        Long transactionCount = countFiltered(userId, startDate, endDate, excludedIds, accountId);
 
         return new AnalyticsSummaryResponse(totalIncome, totalExpense, netBalance, transactionCount);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<CategoryWiseResponse> getCategoryWise(Long userId, LocalDate startDate, LocalDate endDate, TransactionType type, Long accountId) {
-        List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
-        List<Long> effectiveExcluded = excludedIds.isEmpty() ? List.of(-1L) : excludedIds;
-        List<Object[]> results = transactionRepository.sumAmountGroupedByCategoryFiltered(userId, type, startDate, endDate, effectiveExcluded, accountId);
+    private List<CategoryWiseResponse> categoryWise(Long userId, LocalDate startDate, LocalDate endDate, TransactionType type, Long accountId, List<Long> excludedIds) {
+        List<Object[]> results = groupByCategoryFiltered(userId, type, startDate, endDate, excludedIds, accountId);
 
         BigDecimal total = results.stream()
                 .map(r -> (BigDecimal) r[2])
@@ -89,12 +173,8 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                 .collect(Collectors.toList());
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<TrendResponse> getTrend(Long userId, int months, Long accountId) {
-        LocalDate endDate = LocalDate.now();
+    private List<TrendResponse> trend(Long userId, int months, Long accountId, List<Long> excludedIds, LocalDate endDate) {
         LocalDate startDate = endDate.minusMonths(months - 1).withDayOfMonth(1);
-        List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
 
         List<Object[]> incomeResults = groupByMonthFiltered(userId, TransactionType.INCOME, startDate, endDate, excludedIds, accountId);
         List<Object[]> expenseResults = groupByMonthFiltered(userId, TransactionType.EXPENSE, startDate, endDate, excludedIds, accountId);
@@ -127,27 +207,16 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return trend;
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public ChartDataResponse getCardData(Long userId, Long cardId, LocalDate startDate, LocalDate endDate) {
-        DashboardCard card = dashboardCardRepository.findByIdAndUserId(cardId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Dashboard card not found with id: " + cardId));
-
-        String xAxis = card.getXAxisMeasure();
-        String yAxis = card.getYAxisMeasure();
-
+    private ChartDataResponse cardData(Long userId, String xAxis, String yAxis, LocalDate startDate, LocalDate endDate, List<Long> excludedIds) {
         return switch (xAxis) {
-            case "category" -> buildCategoryChartData(userId, startDate, endDate, yAxis);
-            case "month" -> buildMonthlyChartData(userId, startDate, endDate, yAxis);
-            case "account" -> buildAccountChartData(userId, startDate, endDate, yAxis);
-            default -> buildMonthlyChartData(userId, startDate, endDate, yAxis);
+            case "category" -> buildCategoryChartData(userId, startDate, endDate, yAxis, excludedIds);
+            case "month" -> buildMonthlyChartData(userId, startDate, endDate, yAxis, excludedIds);
+            case "account" -> buildAccountChartData(userId, startDate, endDate, yAxis, excludedIds);
+            default -> buildMonthlyChartData(userId, startDate, endDate, yAxis, excludedIds);
         };
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<SpendingActivityResponse> getSpendingActivity(Long userId, LocalDate startDate, LocalDate endDate) {
-        List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
+    private List<SpendingActivityResponse> spendingActivity(Long userId, LocalDate startDate, LocalDate endDate, List<Long> excludedIds) {
         List<Object[]> results = excludedIds.isEmpty()
                 ? transactionRepository.sumExpenseGroupedByDate(userId, startDate, endDate)
                 : transactionRepository.sumExpenseGroupedByDateExcluding(userId, startDate, endDate, excludedIds);
@@ -171,35 +240,30 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return activity;
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public TotalBalanceResponse getTotalBalance(Long userId) {
+    private TotalBalanceResponse totalBalance(Long userId, List<Long> excludedIds, LocalDate now) {
         List<Account> activeAccounts = accountRepository.findByUserIdAndIsActiveTrue(userId);
         BigDecimal totalBalance = activeAccounts.stream()
                 .map(Account::getBalance)
                 .filter(Objects::nonNull)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
-
-        LocalDate now = LocalDate.now();
         LocalDate currentMonthStart = now.withDayOfMonth(1);
         LocalDate currentMonthEnd = now;
         LocalDate prevMonthStart = currentMonthStart.minusMonths(1);
         LocalDate prevMonthEnd = currentMonthStart.minusDays(1);
 
         BigDecimal currentIncome = Optional.ofNullable(
-                sumAmount(userId, TransactionType.INCOME, currentMonthStart, currentMonthEnd, excludedIds)
+                sumAmountFiltered(userId, TransactionType.INCOME, currentMonthStart, currentMonthEnd, excludedIds, null)
         ).orElse(BigDecimal.ZERO);
         BigDecimal prevIncome = Optional.ofNullable(
-                sumAmount(userId, TransactionType.INCOME, prevMonthStart, prevMonthEnd, excludedIds)
+                sumAmountFiltered(userId, TransactionType.INCOME, prevMonthStart, prevMonthEnd, excludedIds, null)
         ).orElse(BigDecimal.ZERO);
 
         BigDecimal currentExpense = Optional.ofNullable(
-                sumAmount(userId, TransactionType.EXPENSE, currentMonthStart, currentMonthEnd, excludedIds)
+                sumAmountFiltered(userId, TransactionType.EXPENSE, currentMonthStart, currentMonthEnd, excludedIds, null)
         ).orElse(BigDecimal.ZERO);
         BigDecimal prevExpense = Optional.ofNullable(
-                sumAmount(userId, TransactionType.EXPENSE, prevMonthStart, prevMonthEnd, excludedIds)
+                sumAmountFiltered(userId, TransactionType.EXPENSE, prevMonthStart, prevMonthEnd, excludedIds, null)
         ).orElse(BigDecimal.ZERO);
 
         BigDecimal previousMonthBalance = totalBalance;
@@ -210,10 +274,7 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return new TotalBalanceResponse(totalBalance, previousMonthBalance, incomeChangePercent, expenseChangePercent);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<BudgetSummaryResponse> getBudgetSummary(Long userId) {
-        LocalDate now = LocalDate.now();
+    private List<BudgetSummaryResponse> budgetSummary(Long userId, List<Long> excludedIds, LocalDate now) {
         int month = now.getMonthValue();
         int year = now.getYear();
         LocalDate monthStart = now.withDayOfMonth(1);
@@ -225,10 +286,7 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         }
 
         // Single query: get all category-wise expense totals for the current month (excluding excluded categories)
-        List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
-        List<Object[]> categorySpend = excludedIds.isEmpty()
-                ? transactionRepository.sumAmountGroupedByCategory(userId, TransactionType.EXPENSE, monthStart, monthEnd)
-                : transactionRepository.sumAmountGroupedByCategoryExcluding(userId, TransactionType.EXPENSE, monthStart, monthEnd, excludedIds);
+        List<Object[]> categorySpend = groupByCategoryFiltered(userId, TransactionType.EXPENSE, monthStart, monthEnd, excludedIds, null);
 
         // Build categoryId -> spentAmount map
         Map<Long, BigDecimal> spendMap = new HashMap<>();
@@ -285,11 +343,8 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                 .divide(previous, 1, RoundingMode.HALF_UP);
     }
 
-    private ChartDataResponse buildCategoryChartData(Long userId, LocalDate startDate, LocalDate endDate, String yAxis) {
-        List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
-        List<Object[]> results = excludedIds.isEmpty()
-                ? transactionRepository.sumAmountGroupedByCategory(userId, TransactionType.EXPENSE, startDate, endDate)
-                : transactionRepository.sumAmountGroupedByCategoryExcluding(userId, TransactionType.EXPENSE, startDate, endDate, excludedIds);
+    private ChartDataResponse buildCategoryChartData(Long userId, LocalDate startDate, LocalDate endDate, String yAxis, List<Long> excludedIds) {
+        List<Object[]> results = groupByCategoryFiltered(userId, TransactionType.EXPENSE, startDate, endDate, excludedIds, null);
 
         List<String> labels = new ArrayList<>();
         List<Number> data = new ArrayList<>();
@@ -310,10 +365,9 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return new ChartDataResponse(labels, List.of(dataset));
     }
 
-    private ChartDataResponse buildMonthlyChartData(Long userId, LocalDate startDate, LocalDate endDate, String yAxis) {
-        List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
-        List<Object[]> incomeResults = groupByMonth(userId, TransactionType.INCOME, startDate, endDate, excludedIds);
-        List<Object[]> expenseResults = groupByMonth(userId, TransactionType.EXPENSE, startDate, endDate, excludedIds);
+    private ChartDataResponse buildMonthlyChartData(Long userId, LocalDate startDate, LocalDate endDate, String yAxis, List<Long> excludedIds) {
+        List<Object[]> incomeResults = groupByMonthFiltered(userId, TransactionType.INCOME, startDate, endDate, excludedIds, null);
+        List<Object[]> expenseResults = groupByMonthFiltered(userId, TransactionType.EXPENSE, startDate, endDate, excludedIds, null);
 
         List<String> labels = new ArrayList<>();
         Map<String, BigDecimal> incomeMap = new HashMap<>();
@@ -349,11 +403,8 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return new ChartDataResponse(labels, List.of(incomeDs, expenseDs));
     }
 
-    private ChartDataResponse buildAccountChartData(Long userId, LocalDate startDate, LocalDate endDate, String yAxis) {
-        List<Long> excludedIds = dashboardConfigService.getExcludedCategoryIds(userId);
-        List<Object[]> results = excludedIds.isEmpty()
-                ? transactionRepository.sumAmountGroupedByAccount(userId, startDate, endDate)
-                : transactionRepository.sumAmountGroupedByAccountExcluding(userId, startDate, endDate, excludedIds);
+    private ChartDataResponse buildAccountChartData(Long userId, LocalDate startDate, LocalDate endDate, String yAxis, List<Long> excludedIds) {
+        List<Object[]> results = groupByAccount(userId, startDate, endDate, excludedIds);
 
         List<String> labels = new ArrayList<>();
         List<Number> data = new ArrayList<>();
@@ -373,25 +424,134 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return new ChartDataResponse(labels, List.of(dataset));
     }
 
-    private BigDecimal sumAmount(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate, List<Long> excludedIds) {
-        return excludedIds.isEmpty()
-                ? transactionRepository.sumAmountByUserIdAndTypeAndDateBetween(userId, type, startDate, endDate)
-                : transactionRepository.sumAmountExcludingCategories(userId, type, startDate, endDate, excludedIds);
+    private BigDecimal sumAmountFiltered(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate, List<Long> excludedIds, Long accountId) {
+        List<Long> effectiveExcluded = excludedIds.isEmpty() ? List.of(-1L) : excludedIds;
+        MonthAlignedRange range = MonthAlignedRange.of(startDate, endDate);
+        BigDecimal total = BigDecimal.ZERO;
+        if (range.hasWholeMonths()) {
+            total = add(total, aggregateRepository.sumAmount(userId, type, range.fromMonth(), range.toMonth(), effectiveExcluded, accountId));
+        }
+        for (MonthAlignedRange.Span span : range.partials()) {
+            total = add(total, transactionRepository.sumAmountFiltered(userId, type, span.start(), span.end(), effectiveExcluded, accountId));
+        }
+        return total;
     }
 
-    private BigDecimal sumAmountFiltered(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate, List<Long> excludedIds, Long accountId) {
+    private Long countFiltered(Long userId, LocalDate startDate, LocalDate endDate, List<Long> excludedIds, Long accountId) {
         List<Long> effectiveExcluded = excludedIds.isEmpty() ? List.of(-1L) : excludedIds;
-        return transactionRepository.sumAmountFiltered(userId, type, startDate, endDate, effectiveExcluded, accountId);
+        MonthAlignedRange range = MonthAlignedRange.of(startDate, endDate);
+        long count = 0;
+        if (range.hasWholeMonths()) {
+            Long whole = aggregateRepository.count(userId, range.fromMonth(), range.toMonth(), effectiveExcluded, accountId);
+            count += whole != null ? whole : 0;
+        }
+        for (MonthAlignedRange.Span span : range.partials()) {
+            Long partial = transactionRepository.countFiltered(userId, span.start(), span.end(), effectiveExcluded, accountId);
+            count += partial != null ? partial : 0;
+        }
+        return count;
     }
 
-    private List<Object[]> groupByMonth(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate, List<Long> excludedIds) {
-        return excludedIds.isEmpty()
-                ? transactionRepository.sumAmountGroupedByMonth(userId, type, startDate, endDate)
-                : transactionRepository.sumAmountGroupedByMonthExcluding(userId, type, startDate, endDate, excludedIds);
+    // Object[]: categoryId, categoryName, amount, count, icon, color — ordered by amount descending
+    private List<Object[]> groupByCategoryFiltered(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate, List<Long> excludedIds, Long accountId) {
+        List<Long> effectiveExcluded = excludedIds.isEmpty() ? List.of(-1L) : excludedIds;
+        MonthAlignedRange range = MonthAlignedRange.of(startDate, endDate);
+        List<List<Object[]>> parts = new ArrayList<>();
+        if (range.hasWholeMonths()) {
+            parts.add(aggregateRepository.sumAmountGroupedByCategory(userId, type, range.fromMonth(), range.toMonth(), effectiveExcluded, accountId));
+        }
+        for (MonthAlignedRange.Span span : range.partials()) {
+            parts.add(transactionRepository.sumAmountGroupedByCategoryFiltered(userId, type, span.start(), span.end(), effectiveExcluded, accountId));
+        }
+        return sortByAmountDesc(merge(parts, r -> r[0], 2, 3));
     }
 
+    // Object[]: year, month, amount — ordered by month
     private List<Object[]> groupByMonthFiltered(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate, List<Long> excludedIds, Long accountId) {
         List<Long> effectiveExcluded = excludedIds.isEmpty() ? List.of(-1L) : excludedIds;
-        return transactionRepository.sumAmountGroupedByMonthFiltered(userId, type, startDate, endDate, effectiveExcluded, accountId);
+        MonthAlignedRange range = MonthAlignedRange.of(startDate, endDate);
+        List<Object[]> rows = new ArrayList<>();
+        if (range.hasWholeMonths()) {
+            for (Object[] r : aggregateRepository.sumAmountGroupedByMonth(userId, type, range.fromMonth(), range.toMonth(), effectiveExcluded, accountId)) {
+                int monthKey = ((Number) r[0]).intValue();
+                rows.add(new Object[]{monthKey / 100, monthKey % 100, r[1]});
+            }
+        }
+        for (MonthAlignedRange.Span span : range.partials()) {
+            rows.addAll(transactionRepository.sumAmountGroupedByMonthFiltered(userId, type, span.start(), span.end(), effectiveExcluded, accountId));
+        }
+        // Whole and partial months never overlap, so rows only need ordering
+        rows.sort(Comparator.comparingInt((Object[] r) -> ((Number) r[0]).intValue() * 100 + ((Number) r[1]).intValue()));
+        return rows;
+    }
+
+    // Object[]: accountId, accountName, amount — ordered by amount descending
+    private List<Object[]> groupByAccount(Long userId, LocalDate startDate, LocalDate endDate, List<Long> excludedIds) {
+        List<Long> effectiveExcluded = excludedIds.isEmpty() ? List.of(-1L) : excludedIds;
+        MonthAlignedRange range = MonthAlignedRange.of(startDate, endDate);
+        List<List<Object[]>> parts = new ArrayList<>();
+        if (range.hasWholeMonths()) {
+            parts.add(aggregateRepository.sumAmountGroupedByAccount(userId, range.fromMonth(), range.toMonth(), effectiveExcluded));
+        }
+        for (MonthAlignedRange.Span span : range.partials()) {
+            parts.add(transactionRepository.sumAmountGroupedByAccountExcluding(userId, span.start(), span.end(), effectiveExcluded));
+        }
+        return sortByAmountDesc(merge(parts, r -> r[0], 2));
+    }
+
+    /**
+     * Runs one dashboard widget on the analytics executor in a read-only transaction. When the executor is full the
+     * widget is computed on the calling thread instead, so a busy server answers slower rather than failing.
+     */
+    private <T> CompletableFuture<T> async(Supplier<T> widget) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Supplier<T> task = () -> readOnly.execute(status -> widget.get());
+        try {
+            return CompletableFuture.supplyAsync(task, analyticsExecutor);
+        } catch (RejectedExecutionException e) {
+            log.debug("Analytics executor full, computing dashboard widget inline");
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** Combines rows of the same group from several parts, adding up the given numeric columns. */
+    private static List<Object[]> merge(List<List<Object[]>> parts, Function<Object[], Object> groupKey, int... sumColumns) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        Map<Object, Object[]> merged = new LinkedHashMap<>();
+        for (List<Object[]> part : parts) {
+            for (Object[] row : part) {
+                merged.merge(groupKey.apply(row), row.clone(), (a, b) -> {
+                    for (int i : sumColumns) {
+                        a[i] = a[i] instanceof BigDecimal x ? x.add((BigDecimal) b[i]) : ((Number) a[i]).longValue() + ((Number) b[i]).longValue();
+                    }
+                    return a;
+                });
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private static List<Object[]> sortByAmountDesc(List<Object[]> rows) {
+        List<Object[]> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing((Object[] r) -> (BigDecimal) r[2]).reversed());
+        return sorted;
+    }
+
+    private static BigDecimal add(BigDecimal total, BigDecimal part) {
+        return part != null ? total.add(part) : total;
     }
 }
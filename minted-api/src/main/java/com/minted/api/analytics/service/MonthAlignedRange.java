@@ -0,0 +1,44 @@
+package com.minted.api.analytics.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A date range split into the whole months it covers ({@code fromMonth}..{@code toMonth} as yyyyMM, read from
+ * {@code transaction_monthly_aggregates}) and the partial months at either end (read from {@code transactions}).
+ * A range without a whole month, or with an open end, is a single partial span.
+ */
+record MonthAlignedRange(Integer fromMonth, Integer toMonth, List<Span> partials) {
+
+    record Span(LocalDate start, LocalDate end) {}
+
+    static MonthAlignedRange of(LocalDate start, LocalDate end) {
+        if (start == null || end == null || start.isAfter(end)) {
+            return new MonthAlignedRange(null, null, List.of(new Span(start, end)));
+        }
+        YearMonth first = start.getDayOfMonth() == 1 ? YearMonth.from(start) : YearMonth.from(start).plusMonths(1);
+        YearMonth last = end.equals(YearMonth.from(end).atEndOfMonth()) ? YearMonth.from(end) : YearMonth.from(end).minusMonths(1);
+        if (first.isAfter(last)) {
+            return new MonthAlignedRange(null, null, List.of(new Span(start, end)));
+        }
+
+        List<Span> partials = new ArrayList<>(2);
+        if (start.isBefore(first.atDay(1))) {
+            partials.add(new Span(start, first.atDay(1).minusDays(1)));
+        }
+        if (end.isAfter(last.atEndOfMonth())) {
+            partials.add(new Span(last.atEndOfMonth().plusDays(1), end));
+        }
+        return new MonthAlignedRange(key(first), key(last), partials);
+    }
+
+    boolean hasWholeMonths() {
+        return fromMonth != null;
+    }
+
+    private static int key(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
@@ -0,0 +1,40 @@
+package com.minted.api.auth.dto;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/**
+ * Minimal, immutable view of an authenticated user.
+ * Loaded via a column projection so the password hash never leaves the database.
+ * JwtAuthFilter stores it as the Authentication principal, so {@code authentication.getName()} still yields the username.
+ */
+public record UserPrincipal(
+        Long id,
+        String username,
+        String role,
+        Boolean isActive,
+        String currency
+) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean active() {
+        return Boolean.TRUE.equals(isActive);
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    public UserDetails toUserDetails() {
+        return new User(username, "", authorities());
+    }
+}
@@ -1,5 +1,6 @@
 package com.minted.api.auth.service;
 
+import com.minted.api.avatar.service.AvatarService;
 import com.minted.api.auth.dto.*;
 import com.minted.api.user.dto.UserResponse;
 import com.minted.api.user.entity.User;
@@ -61,6 +62,9 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private AccountTypeRepository accountTypeRepository;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
     @Value("${app.jwt.expiration}")
     private Long jwtExpiration;
 
@@ -83,8 +87,8 @@ public class AuthServiceImpl implements AuthService {
             throw new UnauthorizedException("Invalid username or password");
         }
 
-        String token = jwtUtil.generateToken(user.getUsername());
-        String refreshToken = jwtUtil.generateToken(user.getUsername()); // For simplicity, using same token
+        String token = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRole());
+        String refreshToken = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRole()); // For simplicity, using same token
 
         UserResponse userResponse = new UserResponse(
                 user.getId(),
@@ -94,7 +98,7 @@ public class AuthServiceImpl implements AuthService {
                 user.getForcePasswordChange(),
                 user.getCurrency(),
                 user.getRole(),
-                null
+                AvatarService.urlFor(user.getAvatarId(), user.getAvatarUpdatedAt())
         );
 
         log.info("Login successful for user: {}", user.getUsername());
@@ -123,8 +127,8 @@ public class AuthServiceImpl implements AuthService {
                 throw new UnauthorizedException("User account is not active");
             }
 
-            String newToken = jwtUtil.generateToken(user.getUsername());
-            String newRefreshToken = jwtUtil.generateToken(user.getUsername());
+            String newToken = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRole());
+            String newRefreshToken = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRole());
 
             UserResponse userResponse = new UserResponse(
                     user.getId(),
@@ -134,7 +138,7 @@ public class AuthServiceImpl implements AuthService {
                     user.getForcePasswordChange(),
                     user.getCurrency() != null ? user.getCurrency() : "USD",
                     user.getRole(),
-                    null
+                    AvatarService.urlFor(user.getAvatarId(), user.getAvatarUpdatedAt())
             );
 
             return new LoginResponse(
@@ -181,6 +185,7 @@ public class AuthServiceImpl implements AuthService {
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         user.setForcePasswordChange(false);
         userRepository.save(user);
+        userPrincipalCache.evict(username);
         log.info("Password changed for user: {}", username);
     }
 
@@ -221,8 +226,8 @@ public class AuthServiceImpl implements AuthService {
                 "Welcome to Minted!", "Thank you for signing up. Start managing your finances today.");
 
         // Auto-login: generate tokens and return
-        String token = jwtUtil.generateToken(savedUser.getUsername());
-        String refreshToken = jwtUtil.generateToken(savedUser.getUsername());
+        String token = jwtUtil.generateToken(savedUser.getUsername(), savedUser.getId(), savedUser.getRole());
+        String refreshToken = jwtUtil.generateToken(savedUser.getUsername(), savedUser.getId(), savedUser.getRole());
 
         UserResponse userResponse = new UserResponse(
                 savedUser.getId(),
@@ -0,0 +1,71 @@
+package com.minted.api.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minted.api.auth.dto.UserPrincipal;
+import com.minted.api.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-evicting cache of {@link UserPrincipal}s keyed by username (the JWT subject).
+ * Lets JwtAuthFilter authenticate a request without loading the full User entity.
+ *
+ * Entries must be evicted whenever role, active flag or credentials change; see {@link #evict(String)}.
+ */
+@Slf4j
+@Service
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserPrincipal> cache;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${app.auth.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${app.auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Returns the cached principal, loading it with a column projection on a miss.
+     * Unknown usernames are not cached.
+     */
+    public Optional<UserPrincipal> get(String username) {
+        return Optional.ofNullable(cache.get(username,
+                key -> userRepository.findPrincipalByUsername(key).orElse(null)));
+    }
+
+    /**
+     * Evicts the entry for the given username. When called inside a transaction the entry is
+     * evicted again after commit, so a concurrent request cannot re-cache the pre-commit state.
+     */
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(username);
+                }
+            });
+        }
+        log.debug("Evicted cached principal for user: {}", username);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
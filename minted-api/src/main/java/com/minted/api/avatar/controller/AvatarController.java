@@ -0,0 +1,75 @@
+package com.minted.api.avatar.controller;
+
+import com.minted.api.avatar.dto.AvatarMetadata;
+import com.minted.api.avatar.service.AvatarService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves avatar images. Ids are random UUIDs and content behind an id never changes,
+ * so responses are cacheable for a year and revalidation only needs the ETag.
+ * The endpoint is public because browsers load it from {@code <img>} tags without the bearer token.
+ */
+@RestController
+@RequestMapping("/api/v1/avatars")
+@RequiredArgsConstructor
+public class AvatarController {
+
+    private static final CacheControl CACHE_CONTROL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+
+    private final AvatarService avatarService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<byte[]> getAvatar(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        AvatarMetadata metadata = avatarService.getMetadata(id);
+        String etag = "\"" + metadata.checksum() + "\"";
+
+        if (matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.parseMediaType(metadata.contentType()))
+                .contentLength(metadata.fileSize())
+                .body(avatarService.getData(id));
+    }
+
+    /**
+     * Weak comparison against an {@code If-None-Match} value (RFC 9110 13.1.2): {@code *}, or a comma-separated
+     * list of entity tags, any of which may carry the {@code W/} prefix.
+     */
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.minted.api.avatar.dto;
+
+public record AvatarMetadata(
+        String id,
+        String contentType,
+        Integer fileSize,
+        String checksum
+) {
+}
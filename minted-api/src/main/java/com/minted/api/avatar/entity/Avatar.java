@@ -0,0 +1,46 @@
+package com.minted.api.avatar.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Avatar image for a user or friend. Owners only hold the avatar id, so the blob is
+ * read exclusively by the avatar endpoint. Rows are never updated: a new upload
+ * creates a new row, which keeps the content behind an id (and its URL) immutable.
+ */
+@Entity
+@Table(name = "avatars")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Avatar {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "content_type", nullable = false, length = 50)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private Integer fileSize;
+
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    @Lob
+    @Column(name = "data", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] data;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.minted.api.avatar.repository;
+
+import com.minted.api.avatar.dto.AvatarMetadata;
+import com.minted.api.avatar.entity.Avatar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AvatarRepository extends JpaRepository<Avatar, String> {
+
+    @Query("SELECT new com.minted.api.avatar.dto.AvatarMetadata(a.id, a.contentType, a.fileSize, a.checksum) " +
+           "FROM Avatar a WHERE a.id = :id")
+    Optional<AvatarMetadata> findMetadataById(@Param("id") String id);
+
+    @Query("SELECT a.data FROM Avatar a WHERE a.id = :id")
+    Optional<byte[]> findDataById(@Param("id") String id);
+}
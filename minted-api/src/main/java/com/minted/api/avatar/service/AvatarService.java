@@ -0,0 +1,36 @@
+package com.minted.api.avatar.service;
+
+import com.minted.api.avatar.dto.AvatarMetadata;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+
+public interface AvatarService {
+
+    String AVATAR_PATH = "/api/v1/avatars/";
+
+    /** Validates and stores the image, returning the id of the new avatar. */
+    String store(MultipartFile file);
+
+    void delete(String avatarId);
+
+    void deleteAll(Collection<String> avatarIds);
+
+    AvatarMetadata getMetadata(String avatarId);
+
+    byte[] getData(String avatarId);
+
+    /**
+     * Relative URL clients use to fetch an avatar; the version parameter changes on every upload.
+     * Returns null when there is no avatar.
+     */
+    static String urlFor(String avatarId, LocalDateTime updatedAt) {
+        if (avatarId == null) {
+            return null;
+        }
+        String url = AVATAR_PATH + avatarId;
+        return updatedAt != null ? url + "?v=" + updatedAt.toEpochSecond(ZoneOffset.UTC) : url;
+    }
+}
@@ -0,0 +1,105 @@
+package com.minted.api.avatar.service;
+
+import com.minted.api.avatar.dto.AvatarMetadata;
+import com.minted.api.avatar.entity.Avatar;
+import com.minted.api.avatar.repository.AvatarRepository;
+import com.minted.api.common.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvatarServiceImpl implements AvatarService {
+
+    private static final long MAX_AVATAR_SIZE = 2 * 1024 * 1024; // 2MB
+
+    // Avatars are served directly from the API origin, so scriptable formats such as SVG are rejected
+    private static final Set<String> ALLOWED_CONTENT_TYPES =
+            Set.of("image/jpeg", "image/png", "image/webp", "image/gif");
+
+    private final AvatarRepository avatarRepository;
+
+    @Override
+    @Transactional
+    public String store(MultipartFile file) {
+        if (file.getSize() > MAX_AVATAR_SIZE) {
+            throw new IllegalArgumentException("Avatar file size must not exceed 2MB");
+        }
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new IllegalArgumentException("Only image files are allowed");
+        }
+        if (!ALLOWED_CONTENT_TYPES.contains(contentType)) {
+            throw new IllegalArgumentException("Avatar must be a JPEG, PNG, WebP or GIF image");
+        }
+
+        byte[] data;
+        try {
+            data = file.getBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read avatar file", e);
+        }
+
+        Avatar avatar = new Avatar();
+        avatar.setContentType(contentType);
+        avatar.setFileSize(data.length);
+        avatar.setChecksum(sha256(data));
+        avatar.setData(data);
+        Avatar saved = avatarRepository.save(avatar);
+        log.info("Avatar stored: id={}, size={}", saved.getId(), data.length);
+        return saved.getId();
+    }
+
+    @Override
+    @Transactional
+    public void delete(String avatarId) {
+        if (avatarId == null) {
+            return;
+        }
+        avatarRepository.deleteById(avatarId);
+        log.info("Avatar deleted: id={}", avatarId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(Collection<String> avatarIds) {
+        if (avatarIds.isEmpty()) {
+            return;
+        }
+        avatarRepository.deleteAllByIdInBatch(avatarIds);
+        log.info("Avatars deleted: count={}", avatarIds.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AvatarMetadata getMetadata(String avatarId) {
+        return avatarRepository.findMetadataById(avatarId)
+                .orElseThrow(() -> new ResourceNotFoundException("Avatar not found with id: " + avatarId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] getData(String avatarId) {
+        return avatarRepository.findDataById(avatarId)
+                .orElseThrow(() -> new ResourceNotFoundException("Avatar not found with id: " + avatarId));
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -2,15 +2,12 @@ package com.minted.api.budget.controller;
 
 import com.minted.api.budget.dto.BudgetRequest;
 import com.minted.api.budget.dto.BudgetResponse;
-import com.minted.api.user.entity.User;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.budget.service.BudgetService;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,11 +19,9 @@ import java.util.Map;
 public class BudgetController {
 
     private final BudgetService budgetService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllBudgets(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getAllBudgets(@CurrentUser Long userId) {
         List<BudgetResponse> budgets = budgetService.getAllByUserId(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -38,9 +33,8 @@ public class BudgetController {
     public ResponseEntity<Map<String, Object>> getBudgetsByMonthYear(
             @PathVariable Integer month,
             @PathVariable Integer year,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<BudgetResponse> budgets = budgetService.getAllByUserIdAndMonthYear(userId, month, year);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -51,9 +45,8 @@ public class BudgetController {
     @GetMapping("/year/{year}")
     public ResponseEntity<Map<String, Object>> getBudgetsByYear(
             @PathVariable Integer year,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<BudgetResponse> budgets = budgetService.getAllByUserIdAndYear(userId, year);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -64,9 +57,8 @@ public class BudgetController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getBudgetById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         BudgetResponse budget = budgetService.getById(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -77,9 +69,8 @@ public class BudgetController {
     @PostMapping
     public ResponseEntity<Map<String, Object>> createBudget(
             @Valid @RequestBody BudgetRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         BudgetResponse budget = budgetService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "success", true,
@@ -92,9 +83,8 @@ public class BudgetController {
     public ResponseEntity<Map<String, Object>> updateBudget(
             @PathVariable Long id,
             @Valid @RequestBody BudgetRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         BudgetResponse budget = budgetService.update(id, request, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -106,20 +96,12 @@ public class BudgetController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteBudget(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         budgetService.delete(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "Budget deleted successfully"
         ));
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
@@ -4,17 +4,14 @@ import com.minted.api.bulkimport.dto.BulkImportConfirmRequest;
 import com.minted.api.bulkimport.dto.BulkImportResponse;
 import com.minted.api.bulkimport.dto.CsvUploadResponse;
 import com.minted.api.job.dto.JobExecutionResponse;
-import com.minted.api.user.entity.User;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.bulkimport.service.BulkImportService;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -27,7 +24,6 @@ import java.util.Map;
 public class BulkImportController {
 
     private final BulkImportService bulkImportService;
-    private final UserRepository userRepository;
 
     @GetMapping("/template")
     public ResponseEntity<byte[]> downloadTemplate() {
@@ -42,9 +38,8 @@ public class BulkImportController {
     public ResponseEntity<Map<String, Object>> uploadCsv(
             @RequestParam("file") MultipartFile file,
             @RequestParam("accountId") Long accountId,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         CsvUploadResponse response = bulkImportService.uploadAndValidate(file, accountId, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -55,9 +50,8 @@ public class BulkImportController {
     @PostMapping("/confirm")
     public ResponseEntity<Map<String, Object>> confirmImport(
             @Valid @RequestBody BulkImportConfirmRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         BulkImportResponse response = bulkImportService.confirmImport(request, userId);
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
                 "success", true,
@@ -67,8 +61,7 @@ public class BulkImportController {
     }
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getUserImports(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getUserImports(@CurrentUser Long userId) {
         List<BulkImportResponse> imports = bulkImportService.getUserImports(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -79,9 +72,8 @@ public class BulkImportController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getImportById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         BulkImportResponse response = bulkImportService.getImportById(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -92,20 +84,12 @@ public class BulkImportController {
     @GetMapping("/{id}/job")
     public ResponseEntity<Map<String, Object>> getImportJobDetails(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         JobExecutionResponse response = bulkImportService.getImportJobDetails(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "data", response
         ));
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
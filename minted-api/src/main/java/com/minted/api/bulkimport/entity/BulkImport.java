@@ -4,8 +4,10 @@ import com.minted.api.account.entity.Account;
 import com.minted.api.bulkimport.enums.ImportStatus;
 import com.minted.api.bulkimport.enums.ImportType;
 import com.minted.api.job.entity.JobExecution;
+import com.minted.api.payload.entity.PayloadBlob;
 import com.minted.api.user.entity.User;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -72,11 +74,19 @@ public class BulkImport {
     @JoinColumn(name = "job_execution_id")
     private JobExecution jobExecution;
 
-    @Column(name = "csv_data", columnDefinition = "LONGTEXT")
-    private String csvData;
+    // The raw upload, gzip-compressed (ImportFileStore); legacy imports hold the CSV text here as well
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "csv_data_blob_id")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PayloadBlob csvDataBlob;
 
-    @Column(name = "validation_result", columnDefinition = "JSON")
-    private String validationResult;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "validation_result_blob_id")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PayloadBlob validationResultBlob;
 
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
@@ -91,4 +101,31 @@ public class BulkImport {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Payloads live in payload_blobs and are only read when these accessors are called
+
+    public String getCsvData() {
+        return PayloadBlob.textOf(csvDataBlob);
+    }
+
+    public void setCsvData(String csvData) {
+        this.csvDataBlob = PayloadBlob.update(csvDataBlob, csvData);
+    }
+
+    public void setCsvFile(PayloadBlob csvFile) {
+        this.csvDataBlob = csvFile;
+    }
+
+    // Read without loading the blob, so the import can be re-read later outside this session
+    public Long getCsvFileId() {
+        return csvDataBlob != null ? csvDataBlob.getId() : null;
+    }
+
+    public String getValidationResult() {
+        return PayloadBlob.textOf(validationResultBlob);
+    }
+
+    public void setValidationResult(String validationResult) {
+        this.validationResultBlob = PayloadBlob.update(validationResultBlob, validationResult);
+    }
 }
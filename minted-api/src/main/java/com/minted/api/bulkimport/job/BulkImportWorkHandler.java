@@ -0,0 +1,43 @@
+package com.minted.api.bulkimport.job;
+
+import com.minted.api.bulkimport.service.BulkImportService;
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.job.dto.WorkLease;
+import com.minted.api.job.service.WorkHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs confirmed bulk imports from the work queue. The payload is the import id.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkImportWorkHandler implements WorkHandler {
+
+    public static final String QUEUE = "BULK_IMPORT";
+
+    private final BulkImportService bulkImportService;
+    @Qualifier("importExecutor")
+    private final BoundedExecutor importExecutor;
+
+    @Override
+    public String queueName() {
+        return QUEUE;
+    }
+
+    @Override
+    public BoundedExecutor executor() {
+        return importExecutor;
+    }
+
+    @Override
+    public void handle(String payload, WorkLease lease) {
+        bulkImportService.processQueuedImport(Long.valueOf(payload), lease);
+    }
+
+    @Override
+    public void onGiveUp(String payload, String reason) {
+        bulkImportService.abandonImport(Long.valueOf(payload), reason);
+    }
+}
@@ -2,9 +2,16 @@ package com.minted.api.bulkimport.repository;
 
 import com.minted.api.bulkimport.entity.BulkImport;
 import com.minted.api.bulkimport.enums.ImportStatus;
+import com.minted.api.payload.dto.PayloadRefs;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +20,19 @@ public interface BulkImportRepository extends JpaRepository<BulkImport, Long> {
     List<BulkImport> findByUserIdOrderByCreatedAtDesc(Long userId);
     Optional<BulkImport> findByIdAndUserId(Long id, Long userId);
     List<BulkImport> findByStatus(ImportStatus status);
+
+    /**
+     * Payload references of imports in the given statuses last updated before the cutoff that still hold a payload.
+     */
+    @Query("SELECT new com.minted.api.payload.dto.PayloadRefs(b.id, c.id, v.id) FROM BulkImport b " +
+           "LEFT JOIN b.csvDataBlob c LEFT JOIN b.validationResultBlob v " +
+           "WHERE b.status IN :statuses AND b.updatedAt < :cutoff " +
+           "AND (c.id IS NOT NULL OR v.id IS NOT NULL) ORDER BY b.id")
+    List<PayloadRefs> findPayloadRefs(@Param("statuses") Collection<ImportStatus> statuses,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE BulkImport b SET b.csvDataBlob = null, b.validationResultBlob = null WHERE b.id IN :ids")
+    int clearPayloads(@Param("ids") Collection<Long> ids);
 }
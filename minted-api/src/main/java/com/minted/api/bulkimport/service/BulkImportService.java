@@ -4,6 +4,7 @@ import com.minted.api.bulkimport.dto.BulkImportConfirmRequest;
 import com.minted.api.bulkimport.dto.BulkImportResponse;
 import com.minted.api.bulkimport.dto.CsvUploadResponse;
 import com.minted.api.job.dto.JobExecutionResponse;
+import com.minted.api.job.dto.WorkLease;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -15,4 +16,13 @@ public interface BulkImportService {
     List<BulkImportResponse> getUserImports(Long userId);
     BulkImportResponse getImportById(Long importId, Long userId);
     JobExecutionResponse getImportJobDetails(Long importId, Long userId);
+
+    /**
+     * Work-queue entry point: runs a confirmed import; {@code lease.attempt()} > 1 means an earlier run was
+     * interrupted. Every transaction that writes import results first checks that the lease is still held.
+     */
+    void processQueuedImport(Long importId, WorkLease lease);
+
+    /** Marks a still-IMPORTING import FAILED when the work queue gives up on it. */
+    void abandonImport(Long importId, String reason);
 }
@@ -6,9 +6,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minted.api.bulkimport.dto.*;
 import com.minted.api.job.dto.JobExecutionResponse;
 import com.minted.api.job.dto.JobStepExecutionResponse;
+import com.minted.api.job.dto.WorkLease;
 import com.minted.api.user.entity.User;
 import com.minted.api.account.entity.Account;
 import com.minted.api.bulkimport.entity.BulkImport;
+import com.minted.api.payload.entity.PayloadBlob;
+import com.minted.api.transaction.dto.TransactionDuplicateKey;
 import com.minted.api.transaction.entity.Transaction;
 import com.minted.api.transaction.entity.TransactionCategory;
 import com.minted.api.job.entity.JobExecution;
@@ -23,34 +26,45 @@ import com.minted.api.job.enums.JobTriggerType;
 import com.minted.api.common.exception.BadRequestException;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.bulkimport.repository.BulkImportRepository;
+import com.minted.api.transaction.repository.TransactionJdbcRepository;
 import com.minted.api.transaction.repository.TransactionRepository;
 import com.minted.api.transaction.repository.TransactionCategoryRepository;
+import com.minted.api.transaction.service.MonthlyAggregateDeltas;
+import com.minted.api.transaction.service.TransactionAggregateService;
 import com.minted.api.account.repository.AccountRepository;
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.account.service.BalanceDeltas;
 import com.minted.api.user.repository.UserRepository;
 import com.minted.api.job.repository.JobExecutionRepository;
 import com.minted.api.job.repository.JobScheduleConfigRepository;
 import com.minted.api.bulkimport.service.BulkImportService;
+import com.minted.api.bulkimport.job.BulkImportWorkHandler;
+import com.minted.api.job.service.WorkLeaseLostException;
+import com.minted.api.job.service.WorkQueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -58,7 +72,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BulkImportServiceImpl implements BulkImportService {
 
-    private static final int MAX_ROWS = 5000;
+    // Rows validated per duplicate lookup; bounds memory during the streaming validation passes
+    private static final int VALIDATION_CHUNK_ROWS = 5000;
+    // Rows returned in the upload preview (and stored as validation_result); half is reserved for flagged rows
+    private static final int PREVIEW_ROWS = 1000;
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final String CSV_TEMPLATE = "date,amount,type,description,categoryName,notes,tags\n" +
             "2026-01-15,1500.00,EXPENSE,Grocery shopping,Groceries,Weekly groceries,food;weekly\n" +
@@ -68,11 +85,19 @@ public class BulkImportServiceImpl implements BulkImportService {
     private final TransactionRepository transactionRepository;
     private final TransactionCategoryRepository categoryRepository;
     private final AccountRepository accountRepository;
+    private final AccountBalanceService accountBalanceService;
+    private final TransactionAggregateService transactionAggregateService;
     private final UserRepository userRepository;
     private final JobExecutionRepository jobExecutionRepository;
     private final JobScheduleConfigRepository scheduleConfigRepository;
     private final ObjectMapper objectMapper;
     private final PlatformTransactionManager transactionManager;
+    private final TransactionJdbcRepository transactionJdbcRepository;
+    private final ImportFileStore importFileStore;
+    private final WorkQueueService workQueueService;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
 
     @Override
     public byte[] getCsvTemplate() {
@@ -87,37 +112,24 @@ public class BulkImportServiceImpl implements BulkImportService {
         Account account = accountRepository.findByIdAndUserId(accountId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found with id: " + accountId));
 
-        String csvContent;
-        try {
-            csvContent = new String(file.getBytes(), StandardCharsets.UTF_8);
+        ValidationTally tally = new ValidationTally(false);
+        try (CsvRecordReader reader = new CsvRecordReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            validateCsv(reader, userId, accountId, new CategoryResolver(categoryRepository, userId), tally);
         } catch (IOException e) {
             throw new BadRequestException("Failed to read uploaded file: " + e.getMessage());
         }
 
-        List<String[]> parsedRows = parseCsv(csvContent);
-
-        if (parsedRows.isEmpty()) {
+        if (tally.total == 0) {
             throw new BadRequestException("CSV file is empty or has no data rows");
         }
-        if (parsedRows.size() > MAX_ROWS) {
-            throw new BadRequestException("CSV file exceeds maximum of " + MAX_ROWS + " rows. Found: " + parsedRows.size());
-        }
-
-        List<CsvRowPreview> previews = new ArrayList<>();
-        int validCount = 0;
-        int errorCount = 0;
-        int duplicateCount = 0;
 
-        for (int i = 0; i < parsedRows.size(); i++) {
-            String[] fields = parsedRows.get(i);
-            CsvRowPreview preview = validateRow(fields, i + 1, userId, accountId);
-            previews.add(preview);
-
-            switch (preview.status()) {
-                case "VALID" -> validCount++;
-                case "ERROR" -> errorCount++;
-                case "DUPLICATE" -> duplicateCount++;
-            }
+        // Keep the raw file, compressed, in payload_blobs so any node can run the import job
+        PayloadBlob csvFile;
+        try {
+            csvFile = importFileStore.store(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store uploaded file", e);
         }
 
         // Save BulkImport entity
@@ -127,15 +139,15 @@ public class BulkImportServiceImpl implements BulkImportService {
         bulkImport.setImportType(ImportType.CSV);
         bulkImport.setFileName(file.getOriginalFilename() != null ? file.getOriginalFilename() : "import.csv");
         bulkImport.setFileSize(file.getSize());
-        bulkImport.setTotalRows(parsedRows.size());
-        bulkImport.setValidRows(validCount);
-        bulkImport.setErrorRows(errorCount);
-        bulkImport.setDuplicateRows(duplicateCount);
+        bulkImport.setTotalRows(tally.total);
+        bulkImport.setValidRows(tally.valid);
+        bulkImport.setErrorRows(tally.error);
+        bulkImport.setDuplicateRows(tally.duplicate);
         bulkImport.setStatus(ImportStatus.VALIDATED);
-        bulkImport.setCsvData(csvContent);
+        bulkImport.setCsvFile(csvFile);
 
         try {
-            bulkImport.setValidationResult(objectMapper.writeValueAsString(previews));
+            bulkImport.setValidationResult(objectMapper.writeValueAsString(tally.preview));
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize validation result", e);
         }
@@ -144,11 +156,11 @@ public class BulkImportServiceImpl implements BulkImportService {
 
         return new CsvUploadResponse(
                 bulkImport.getId(),
-                parsedRows.size(),
-                validCount,
-                errorCount,
-                duplicateCount,
-                previews
+                tally.total,
+                tally.valid,
+                tally.error,
+                tally.duplicate,
+                tally.preview
         );
     }
 
@@ -179,21 +191,8 @@ public class BulkImportServiceImpl implements BulkImportService {
         bulkImport.setJobExecution(execution);
         bulkImport = bulkImportRepository.save(bulkImport);
 
-        // Trigger async processing AFTER transaction commits
-        // (must wait for commit so processImportAsync can load job_execution_id from DB)
-        final Long bulkImportId = bulkImport.getId();
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                java.util.concurrent.CompletableFuture.runAsync(() -> {
-                    try {
-                        processImportAsync(bulkImportId);
-                    } catch (Exception e) {
-                        log.error("Async import processing failed for import ID: {}", bulkImportId, e);
-                    }
-                });
-            }
-        });
+        // Queued in this transaction: a worker node picks it up once the IMPORTING status has committed
+        workQueueService.enqueue(BulkImportWorkHandler.QUEUE, String.valueOf(bulkImport.getId()));
 
         return BulkImportResponse.from(bulkImport);
     }
@@ -248,56 +247,42 @@ public class BulkImportServiceImpl implements BulkImportService {
                 execution.getErrorMessage(),
                 execution.getTotalSteps(),
                 execution.getCompletedSteps(),
+                execution.getLockOwner(),
+                execution.getFencingToken(),
                 stepResponses
         );
     }
 
     // ---- CSV Parsing ----
 
-    private List<String[]> parseCsv(String csvContent) {
-        List<String[]> rows = new ArrayList<>();
-        String[] lines = csvContent.split("\n");
-
-        if (lines.length <= 1) {
-            return rows; // Only header or empty
-        }
-
-        // Skip header line
-        for (int i = 1; i < lines.length; i++) {
-            String line = lines[i].trim();
-            if (line.isEmpty()) continue;
-            rows.add(parseCsvLine(line));
+    /**
+     * Streams the CSV (header skipped) through {@link #validateRows} in chunks of
+     * {@value #VALIDATION_CHUNK_ROWS} records, adding every result to the tally.
+     */
+    private void validateCsv(CsvRecordReader reader, Long userId, Long accountId, CategoryResolver categories,
+                             ValidationTally tally) throws IOException {
+        if (reader.next() == null) {
+            return;
         }
-        return rows;
-    }
-
-    private String[] parseCsvLine(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    current.append('"');
-                    i++; // skip escaped quote
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                fields.add(current.toString().trim());
-                current = new StringBuilder();
-            } else {
-                current.append(c);
+        List<String[]> chunk = new ArrayList<>();
+        String[] record;
+        while ((record = reader.next()) != null) {
+            chunk.add(record);
+            if (chunk.size() == VALIDATION_CHUNK_ROWS) {
+                validateRows(chunk, tally.total + 1, userId, accountId, categories).forEach(tally::add);
+                chunk.clear();
             }
         }
-        fields.add(current.toString().trim());
+        if (!chunk.isEmpty()) {
+            validateRows(chunk, tally.total + 1, userId, accountId, categories).forEach(tally::add);
+        }
+    }
 
-        return fields.toArray(new String[0]);
+    private CsvRecordReader openCsv(Long csvFileId) throws IOException {
+        return new CsvRecordReader(csvFileId != null ? importFileStore.open(csvFileId) : new StringReader(""));
     }
 
-    private CsvRowPreview validateRow(String[] fields, int rowNumber, Long userId, Long accountId) {
+    private CsvRowPreview validateRow(String[] fields, int rowNumber, CategoryResolver categories) {
         // Expected columns: date, amount, type, description, categoryName, notes, tags
         if (fields.length < 5) {
             return new CsvRowPreview(rowNumber,
@@ -360,8 +345,7 @@ public class BulkImportServiceImpl implements BulkImportService {
         if (categoryName.isEmpty()) {
             errors.add("Category name is required");
         } else if (parsedType != null) {
-            Optional<TransactionCategory> category = categoryRepository
-                    .findByNameIgnoreCaseAndUserIdAndType(categoryName, userId, parsedType);
+            Optional<TransactionCategory> category = categories.resolve(categoryName, parsedType);
             if (category.isPresent()) {
                 matchedCategoryId = category.get().getId();
             } else {
@@ -375,45 +359,128 @@ public class BulkImportServiceImpl implements BulkImportService {
                     String.join("; ", errors), matchedCategoryId, false);
         }
 
-        // Check for duplicates
-        boolean isDuplicate = transactionRepository
-                .existsByTransactionDateAndAmountAndDescriptionAndAccountIdAndUserId(
-                        parsedDate, parsedAmount, description, accountId, userId);
-
-        String status = isDuplicate ? "DUPLICATE" : "VALID";
+        // Duplicates are flagged afterwards for the whole file, see validateRows
         return new CsvRowPreview(rowNumber, dateStr, amountStr, typeStr, description,
-                categoryName, notes, tags, status,
-                null, matchedCategoryId, isDuplicate);
+                categoryName, notes, tags, "VALID",
+                null, matchedCategoryId, false);
+    }
+
+    /**
+     * Validates a chunk of rows, then flags duplicates with a single range query: the (date, amount, description)
+     * keys already on the account between the earliest and latest valid row date of the chunk are loaded into a
+     * set and each valid row is checked in memory. One query per chunk, not per row.
+     */
+    private List<CsvRowPreview> validateRows(List<String[]> parsedRows, int firstRowNumber, Long userId,
+                                            Long accountId, CategoryResolver categories) {
+        List<CsvRowPreview> previews = new ArrayList<>(parsedRows.size());
+        LocalDate minDate = null;
+        LocalDate maxDate = null;
+
+        for (int i = 0; i < parsedRows.size(); i++) {
+            CsvRowPreview preview = validateRow(parsedRows.get(i), firstRowNumber + i, categories);
+            previews.add(preview);
+            if ("VALID".equals(preview.status())) {
+                LocalDate date = LocalDate.parse(preview.date(), DATE_FORMAT);
+                minDate = minDate == null || date.isBefore(minDate) ? date : minDate;
+                maxDate = maxDate == null || date.isAfter(maxDate) ? date : maxDate;
+            }
+        }
+        if (minDate == null) {
+            return previews;
+        }
+
+        Set<TransactionDuplicateKey> existing = new HashSet<>(
+                transactionRepository.findDuplicateKeys(userId, accountId, minDate, maxDate));
+        if (existing.isEmpty()) {
+            return previews;
+        }
+        previews.replaceAll(p -> "VALID".equals(p.status()) && existing.contains(duplicateKey(p))
+                ? new CsvRowPreview(p.rowNumber(), p.date(), p.amount(), p.type(), p.description(),
+                        p.categoryName(), p.notes(), p.tags(), "DUPLICATE", null, p.matchedCategoryId(), true)
+                : p);
+        return previews;
+    }
+
+    private TransactionDuplicateKey duplicateKey(CsvRowPreview row) {
+        return new TransactionDuplicateKey(LocalDate.parse(row.date(), DATE_FORMAT), new BigDecimal(row.amount()), row.description());
     }
 
     // ---- Async Processing ----
 
+    @Override
+    public void processQueuedImport(Long bulkImportId, WorkLease lease) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        BulkImport bulkImport = transactionTemplate.execute(status -> findImport(bulkImportId));
+        if (bulkImport.getStatus() != ImportStatus.IMPORTING) {
+            log.info("Import {} is {}, nothing to process", bulkImportId, bulkImport.getStatus());
+            return;
+        }
+        // A redelivered import whose worker died mid-insert cannot be rerun: its committed chunks would
+        // now count as duplicates (or be inserted twice), so it is failed with what it managed to import.
+        if (lease.attempt() > 1 && bulkImport.getImportedRows() > 0) {
+            failImport(transactionTemplate, bulkImportId, new IllegalStateException(
+                    "Import was interrupted after " + bulkImport.getImportedRows() + " rows were imported; "
+                            + "the remaining rows were not imported"), lease);
+            return;
+        }
+        processImportAsync(bulkImportId, lease);
+    }
+
+    @Override
+    public void abandonImport(Long bulkImportId, String reason) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        BulkImport bulkImport = transactionTemplate.execute(status -> findImport(bulkImportId));
+        if (bulkImport.getStatus() == ImportStatus.IMPORTING) {
+            failImport(transactionTemplate, bulkImportId, new IllegalStateException(reason), null);
+        }
+    }
+
     /**
-     * Runs inside a programmatic transaction via TransactionTemplate.
-     * Cannot rely on @Transactional here because this method is called via
-     * CompletableFuture.runAsync() (self-invocation bypasses Spring AOP proxy).
+     * Runs as a sequence of programmatic transactions via TransactionTemplate.
+     * Cannot rely on @Transactional here because this method is called from
+     * processQueuedImport (self-invocation bypasses Spring AOP proxy).
+     *
+     * Steps 1-2 commit together with the (running) step 3 row; step 3 then commits once per chunk
+     * so its progress is visible in the step context while the import runs. A failure marks the
+     * import FAILED but keeps the chunks already committed (reflected in importedRows).
+     *
+     * The CSV is streamed twice and never held in memory: step 1 validates it and records the row
+     * numbers to import in a bit set, step 3 re-reads it and inserts exactly those rows. Duplicates are
+     * therefore judged against the account as it was before the import started.
+     *
+     * Every transaction confirms the work item lease as its last statement (see {@link #holdLease}). If this worker
+     * was too slow and the item was re-queued, it rolls back, stops, and leaves the import to the new owner.
      */
-    public void processImportAsync(Long bulkImportId) {
-        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
-            BulkImport bulkImport = bulkImportRepository.findById(bulkImportId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Import not found: " + bulkImportId));
-            JobExecution execution = bulkImport.getJobExecution();
+    public void processImportAsync(Long bulkImportId, WorkLease lease) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            PreparedImport prepared = transactionTemplate.execute(status -> {
+                BulkImport bulkImport = findImport(bulkImportId);
+                JobExecution execution = bulkImport.getJobExecution();
+                // Loaded fresh (categories may have changed since upload) and reused by the insert step
+                CategoryResolver categories = new CategoryResolver(categoryRepository, bulkImport.getUser().getId());
 
-            try {
                 // Step 1: Re-validate CSV
-                List<CsvRowPreview> revalidated = executeStep1Revalidate(execution, bulkImport);
+                ValidationTally tally = executeStep1Revalidate(execution, bulkImport, categories);
                 execution.setCompletedSteps(1);
-                jobExecutionRepository.save(execution);
 
                 // Step 2: Check Duplicates
-                List<CsvRowPreview> toImport = executeStep2CheckDuplicates(execution, bulkImport, revalidated);
+                executeStep2CheckDuplicates(execution, bulkImport, tally);
                 execution.setCompletedSteps(2);
+
+                createStep(execution, "Insert Transactions", 3);
                 jobExecutionRepository.save(execution);
+                holdLease(lease);
+                return new PreparedImport(bulkImport.getCsvFileId(), tally.importable, tally.importable.cardinality(), categories);
+            });
+
+            // Step 3: Insert Transactions (one transaction per chunk)
+            int[] results = executeStep3InsertTransactions(transactionTemplate, bulkImportId, prepared, lease);
 
-                // Step 3: Insert Transactions
-                int[] results = executeStep3InsertTransactions(execution, bulkImport, toImport);
+            transactionTemplate.executeWithoutResult(status -> {
+                BulkImport bulkImport = findImport(bulkImportId);
+                JobExecution execution = bulkImport.getJobExecution();
                 execution.setCompletedSteps(3);
-                jobExecutionRepository.save(execution);
 
                 // Step 4: Summary
                 executeStep4Summary(execution, bulkImport, results[0], results[1],
@@ -426,172 +493,283 @@ public class BulkImportServiceImpl implements BulkImportService {
 
                 bulkImport.setStatus(ImportStatus.COMPLETED);
                 bulkImportRepository.save(bulkImport);
+                holdLease(lease);
+            });
+        } catch (WorkLeaseLostException e) {
+            log.warn("Import {} stopped: {}; the re-queued item owns it now", bulkImportId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Import processing failed for import ID: {}", bulkImportId, e);
+            failImport(transactionTemplate, bulkImportId, e, lease);
+        }
+    }
 
-            } catch (Exception e) {
-                log.error("Import processing failed for import ID: {}", bulkImportId, e);
-                execution.setStatus(JobStatus.FAILED);
-                execution.setEndTime(java.time.LocalDateTime.now());
-                execution.setErrorMessage(e.getMessage());
-                jobExecutionRepository.save(execution);
+    /**
+     * Fencing check, called as the last statement of each import transaction. The conditional update locks the
+     * work item row, so the lease cannot expire and be re-claimed by another node before this transaction commits;
+     * running it last keeps that lock short, so heartbeats and lease expiry are not blocked behind the whole
+     * transaction. A lost lease throws, rolling back everything the transaction did.
+     */
+    private void holdLease(WorkLease lease) {
+        if (!workQueueService.confirmLease(lease)) {
+            throw new WorkLeaseLostException(lease);
+        }
+    }
 
-                bulkImport.setStatus(ImportStatus.FAILED);
-                bulkImport.setErrorMessage(e.getMessage());
-                bulkImportRepository.save(bulkImport);
+    /**
+     * Marks the import FAILED. With a {@code lease}, only while it is still held, so a stale worker cannot
+     * fail an import another node is running.
+     */
+    private void failImport(TransactionTemplate transactionTemplate, Long bulkImportId, Exception e, WorkLease lease) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (lease != null && !workQueueService.confirmLease(lease)) {
+                log.warn("Import {} not marked failed: the work item lease was lost", bulkImportId);
+                return;
             }
+            BulkImport bulkImport = findImport(bulkImportId);
+            JobExecution execution = bulkImport.getJobExecution();
+            execution.getSteps().stream()
+                    .filter(step -> step.getStatus() == JobStepStatus.RUNNING)
+                    .forEach(step -> failStep(step, e));
+            execution.setStatus(JobStatus.FAILED);
+            execution.setEndTime(java.time.LocalDateTime.now());
+            execution.setErrorMessage(e.getMessage());
+            jobExecutionRepository.save(execution);
+
+            bulkImport.setStatus(ImportStatus.FAILED);
+            bulkImport.setErrorMessage(e.getMessage());
+            bulkImportRepository.save(bulkImport);
         });
     }
 
-    private List<CsvRowPreview> executeStep1Revalidate(JobExecution execution, BulkImport bulkImport) throws Exception {
-        JobStepExecution step = createStep(execution, "Re-validate CSV Data", 1);
+    /**
+     * What the insert step needs from steps 1-2: where to re-read the CSV and which row numbers to import.
+     */
+    private record PreparedImport(Long csvFileId, BitSet importable, int rowsToImport, CategoryResolver categories) {
+    }
 
-        try {
-            List<String[]> parsedRows = parseCsv(bulkImport.getCsvData());
-            List<CsvRowPreview> previews = new ArrayList<>();
-            int validCount = 0;
-            int errorCount = 0;
-
-            for (int i = 0; i < parsedRows.size(); i++) {
-                CsvRowPreview preview = validateRow(parsedRows.get(i), i + 1,
-                        bulkImport.getUser().getId(), bulkImport.getAccount().getId());
-                previews.add(preview);
-                if ("ERROR".equals(preview.status())) errorCount++;
-                else validCount++;
+    /**
+     * Running totals of one streaming validation pass. Keeps at most {@value #PREVIEW_ROWS} rows for the
+     * preview (up to half of them VALID, so errors and duplicates further down the file still show) and
+     * the row numbers that the insert step should import.
+     */
+    private static final class ValidationTally {
+        private final List<CsvRowPreview> preview = new ArrayList<>();
+        private final BitSet importable = new BitSet();
+        private final boolean skipDuplicates;
+        private int total;
+        private int valid;
+        private int error;
+        private int duplicate;
+        private int previewedValid;
+
+        private ValidationTally(boolean skipDuplicates) {
+            this.skipDuplicates = skipDuplicates;
+        }
+
+        private void add(CsvRowPreview row) {
+            total++;
+            boolean isValid = "VALID".equals(row.status());
+            switch (row.status()) {
+                case "VALID" -> valid++;
+                case "ERROR" -> error++;
+                case "DUPLICATE" -> duplicate++;
+            }
+            if (!"ERROR".equals(row.status()) && !(row.isDuplicate() && skipDuplicates)) {
+                importable.set(row.rowNumber());
             }
+            if (preview.size() < PREVIEW_ROWS && (!isValid || previewedValid < PREVIEW_ROWS / 2)) {
+                preview.add(row);
+                previewedValid += isValid ? 1 : 0;
+            }
+        }
+    }
+
+    private BulkImport findImport(Long bulkImportId) {
+        return bulkImportRepository.findById(bulkImportId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found: " + bulkImportId));
+    }
+
+    private ValidationTally executeStep1Revalidate(JobExecution execution, BulkImport bulkImport,
+                                                   CategoryResolver categories) {
+        JobStepExecution step = createStep(execution, "Re-validate CSV Data", 1);
+
+        try (CsvRecordReader reader = openCsv(bulkImport.getCsvFileId())) {
+            ValidationTally tally = new ValidationTally(bulkImport.getSkipDuplicates());
+            validateCsv(reader, bulkImport.getUser().getId(), bulkImport.getAccount().getId(), categories, tally);
 
             java.util.Map<String, Object> context = new java.util.HashMap<>();
-            context.put("totalRows", parsedRows.size());
-            context.put("validRows", validCount);
-            context.put("errorRows", errorCount);
+            context.put("totalRows", tally.total);
+            context.put("validRows", tally.total - tally.error);
+            context.put("errorRows", tally.error);
             completeStep(step, context);
 
-            return previews;
-        } catch (Exception e) {
+            return tally;
+        } catch (IOException e) {
+            failStep(step, e);
+            throw new UncheckedIOException("Failed to read import file: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
             failStep(step, e);
             throw e;
         }
     }
 
-    private List<CsvRowPreview> executeStep2CheckDuplicates(JobExecution execution, BulkImport bulkImport,
-                                                             List<CsvRowPreview> rows) throws Exception {
+    private void executeStep2CheckDuplicates(JobExecution execution, BulkImport bulkImport, ValidationTally tally) {
         JobStepExecution step = createStep(execution, "Check Duplicates", 2);
 
         try {
-            int duplicatesFound = 0;
-            int skipped = 0;
-            List<CsvRowPreview> toImport = new ArrayList<>();
-
-            for (CsvRowPreview row : rows) {
-                if ("ERROR".equals(row.status())) continue;
-
-                if (row.isDuplicate()) {
-                    duplicatesFound++;
-                    if (bulkImport.getSkipDuplicates()) {
-                        skipped++;
-                        continue;
-                    }
-                }
-                toImport.add(row);
-            }
-
             java.util.Map<String, Object> context = new java.util.HashMap<>();
-            context.put("duplicatesFound", duplicatesFound);
-            context.put("skipped", skipped);
-            context.put("rowsToImport", toImport.size());
+            context.put("duplicatesFound", tally.duplicate);
+            context.put("skipped", bulkImport.getSkipDuplicates() ? tally.duplicate : 0);
+            context.put("rowsToImport", tally.importable.cardinality());
             completeStep(step, context);
-
-            return toImport;
         } catch (Exception e) {
             failStep(step, e);
             throw e;
         }
     }
 
-    private int[] executeStep3InsertTransactions(JobExecution execution, BulkImport bulkImport,
-                                                  List<CsvRowPreview> rows) throws Exception {
-        JobStepExecution step = createStep(execution, "Insert Transactions", 3);
-
-        int imported = 0;
-        int failed = 0;
+    /**
+     * Re-reads the CSV and inserts the rows marked importable in chunks of {@code batchSize}. Each chunk is
+     * one transaction: a JDBC batch insert, a single balance adjustment for the summed chunk delta, and a
+     * progress update on the step context and importedRows. Only the current chunk is held in memory.
+     */
+    private int[] executeStep3InsertTransactions(TransactionTemplate transactionTemplate, Long bulkImportId,
+                                                  PreparedImport prepared, WorkLease lease) {
+        int totalRows = prepared.rowsToImport();
+        int totalChunks = (totalRows + batchSize - 1) / batchSize;
+        int[] totals = new int[2]; // imported, failed
         List<Integer> failedRows = new ArrayList<>();
-
-        try {
-            User user = bulkImport.getUser();
-            Account account = accountRepository.findById(bulkImport.getAccount().getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
-
-            for (CsvRowPreview row : rows) {
-                try {
-                    LocalDate date = LocalDate.parse(row.date(), DATE_FORMAT);
-                    BigDecimal amount = new BigDecimal(row.amount());
-                    TransactionType type = TransactionType.valueOf(row.type());
-
-                    TransactionCategory category = categoryRepository.findById(row.matchedCategoryId())
-                            .orElseThrow(() -> new RuntimeException("Category not found: " + row.matchedCategoryId()));
-
-                    if (!type.equals(category.getType())) {
-                        throw new RuntimeException("Transaction type " + type + " does not match category type " + category.getType());
-                    }
-
-                    Transaction transaction = new Transaction();
-                    transaction.setAmount(amount);
-                    transaction.setType(type);
-                    transaction.setDescription(row.description());
-                    transaction.setNotes(row.notes() != null && !row.notes().isEmpty() ? row.notes() : null);
-                    transaction.setTransactionDate(date);
-                    transaction.setAccount(account);
-                    transaction.setCategory(category);
-                    transaction.setUser(user);
-                    transaction.setIsRecurring(false);
-                    transaction.setTags(row.tags() != null && !row.tags().isEmpty() ? row.tags() : null);
-
-                    transactionRepository.save(transaction);
-
-                    // Update account balance
-                    switch (type) {
-                        case INCOME -> {
-                            account.setBalance(account.getBalance().add(amount));
-                            accountRepository.save(account);
-                        }
-                        case EXPENSE -> {
-                            account.setBalance(account.getBalance().subtract(amount));
-                            accountRepository.save(account);
-                        }
-                        case TRANSFER -> {
-                            // For bulk import, transfers only debit the source account
-                            account.setBalance(account.getBalance().subtract(amount));
-                            accountRepository.save(account);
-                        }
-                    }
-
-                    imported++;
-                } catch (Exception ex) {
-                    log.error("Failed to import row {}: {}", row.rowNumber(), ex.getMessage());
-                    failed++;
-                    failedRows.add(row.rowNumber());
+        List<CsvRowPreview> chunkRows = new ArrayList<>(batchSize);
+        int chunksCompleted = 0;
+
+        try (CsvRecordReader reader = openCsv(prepared.csvFileId())) {
+            reader.next(); // header
+            int rowNumber = 0;
+            String[] record;
+            while ((record = reader.next()) != null) {
+                rowNumber++;
+                if (!prepared.importable().get(rowNumber)) {
+                    continue;
+                }
+                chunkRows.add(validateRow(record, rowNumber, prepared.categories()));
+                if (chunkRows.size() == batchSize) {
+                    commitChunk(transactionTemplate, lease, bulkImportId, chunkRows, prepared.categories(),
+                            totals, failedRows, totalRows, ++chunksCompleted, totalChunks);
+                    chunkRows.clear();
                 }
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import file: " + e.getMessage(), e);
+        }
+        if (!chunkRows.isEmpty()) {
+            commitChunk(transactionTemplate, lease, bulkImportId, chunkRows, prepared.categories(),
+                    totals, failedRows, totalRows, ++chunksCompleted, totalChunks);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            BulkImport bulkImport = findImport(bulkImportId);
+            JobStepExecution step = findStep(bulkImport.getJobExecution(), 3);
 
-            bulkImport.setImportedRows(imported);
-            bulkImport.setErrorRows(bulkImport.getErrorRows() + failed);
+            bulkImport.setImportedRows(totals[0]);
+            bulkImport.setErrorRows(bulkImport.getErrorRows() + totals[1]);
             bulkImportRepository.save(bulkImport);
+            completeStep(step, insertProgress(totals, failedRows, totalRows, totalChunks, totalChunks));
+            holdLease(lease);
+        });
 
-            java.util.Map<String, Object> context = new java.util.HashMap<>();
-            context.put("imported", imported);
-            context.put("failed", failed);
-            if (!failedRows.isEmpty()) {
-                context.put("failedRows", failedRows);
+        return totals;
+    }
+
+    private void commitChunk(TransactionTemplate transactionTemplate, WorkLease lease, Long bulkImportId,
+                             List<CsvRowPreview> chunkRows, CategoryResolver categories, int[] totals,
+                             List<Integer> failedRows, int totalRows, int chunksCompleted, int totalChunks) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BulkImport bulkImport = findImport(bulkImportId);
+            JobStepExecution step = findStep(bulkImport.getJobExecution(), 3);
+
+            int imported = insertChunk(bulkImport, chunkRows, failedRows, categories);
+            totals[0] += imported;
+            totals[1] += chunkRows.size() - imported;
+
+            bulkImport.setImportedRows(totals[0]);
+            bulkImportRepository.save(bulkImport);
+            updateStepContext(step, insertProgress(totals, failedRows, totalRows, chunksCompleted, totalChunks));
+            holdLease(lease);
+        });
+        log.debug("Import {}: chunk {}/{} committed, imported={}", bulkImportId, chunksCompleted, totalChunks, totals[0]);
+    }
+
+    /**
+     * Builds and batch-inserts the valid rows of one chunk, then applies their summed balance change
+     * to the import account in one statement. Rows that fail to map are recorded in failedRows.
+     */
+    private int insertChunk(BulkImport bulkImport, List<CsvRowPreview> chunkRows, List<Integer> failedRows,
+                            CategoryResolver categories) {
+        User user = bulkImport.getUser();
+        Account account = bulkImport.getAccount();
+
+        List<Transaction> transactions = new ArrayList<>(chunkRows.size());
+        BigDecimal balanceDelta = BigDecimal.ZERO;
+
+        for (CsvRowPreview row : chunkRows) {
+            try {
+                LocalDate date = LocalDate.parse(row.date(), DATE_FORMAT);
+                BigDecimal amount = new BigDecimal(row.amount());
+                TransactionType type = TransactionType.valueOf(row.type());
+
+                // Only the category id and type are used; the JDBC insert does not need a managed entity
+                TransactionCategory category = categories.resolve(row.categoryName(), type)
+                        .orElseThrow(() -> new RuntimeException("Category not found: " + row.categoryName()));
+                if (!type.equals(category.getType())) {
+                    throw new RuntimeException("Transaction type " + type + " does not match category type " + category.getType());
+                }
+
+                Transaction transaction = new Transaction();
+                transaction.setAmount(amount);
+                transaction.setType(type);
+                transaction.setDescription(row.description());
+                transaction.setNotes(row.notes() != null && !row.notes().isEmpty() ? row.notes() : null);
+                transaction.setTransactionDate(date);
+                transaction.setAccount(account);
+                transaction.setCategory(category);
+                transaction.setUser(user);
+                transaction.setIsRecurring(false);
+                transaction.setTags(row.tags() != null && !row.tags().isEmpty() ? row.tags() : null);
+                transactions.add(transaction);
+
+                // For bulk import, transfers only debit the source account
+                balanceDelta = type == TransactionType.INCOME ? balanceDelta.add(amount) : balanceDelta.subtract(amount);
+            } catch (Exception ex) {
+                log.error("Failed to import row {}: {}", row.rowNumber(), ex.getMessage());
+                failedRows.add(row.rowNumber());
             }
-            completeStep(step, context);
+        }
 
-            return new int[]{imported, failed};
-        } catch (Exception e) {
-            failStep(step, e);
-            throw e;
+        int inserted = transactionJdbcRepository.batchInsert(transactions);
+        accountBalanceService.apply(new BalanceDeltas().add(account.getId(), balanceDelta));
+        MonthlyAggregateDeltas aggregateDeltas = new MonthlyAggregateDeltas();
+        transactions.forEach(aggregateDeltas::add);
+        transactionAggregateService.apply(aggregateDeltas);
+        return inserted;
+    }
+
+    private java.util.Map<String, Object> insertProgress(int[] totals, List<Integer> failedRows, int totalRows,
+                                                         int chunksCompleted, int totalChunks) {
+        java.util.Map<String, Object> context = new java.util.HashMap<>();
+        context.put("imported", totals[0]);
+        context.put("failed", totals[1]);
+        context.put("totalRows", totalRows);
+        context.put("chunksCompleted", chunksCompleted);
+        context.put("totalChunks", totalChunks);
+        if (!failedRows.isEmpty()) {
+            context.put("failedRows", failedRows);
         }
+        return context;
     }
 
     private void executeStep4Summary(JobExecution execution, BulkImport bulkImport,
-                                      int totalImported, int totalFailed, int totalSkipped) throws Exception {
+                                      int totalImported, int totalFailed, int totalSkipped) {
         JobStepExecution step = createStep(execution, "Summary", 4);
 
         try {
@@ -621,14 +799,30 @@ public class BulkImportServiceImpl implements BulkImportService {
         return step;
     }
 
-    private void completeStep(JobStepExecution step, java.util.Map<String, Object> context) throws JsonProcessingException {
+    private void completeStep(JobStepExecution step, java.util.Map<String, Object> context) {
         step.setStatus(JobStepStatus.COMPLETED);
         step.setEndTime(java.time.LocalDateTime.now());
-        if (context != null) {
+        updateStepContext(step, context);
+    }
+
+    private void updateStepContext(JobStepExecution step, java.util.Map<String, Object> context) {
+        if (context == null) {
+            return;
+        }
+        try {
             step.setContextJson(objectMapper.writeValueAsString(context));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize step context for step: {}", step.getStepName(), e);
         }
     }
 
+    private JobStepExecution findStep(JobExecution execution, int order) {
+        return execution.getSteps().stream()
+                .filter(step -> step.getStepOrder() == order)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Step " + order + " not found for job execution " + execution.getId()));
+    }
+
     private void failStep(JobStepExecution step, Exception e) {
         step.setStatus(JobStepStatus.FAILED);
         step.setEndTime(java.time.LocalDateTime.now());
@@ -0,0 +1,47 @@
+package com.minted.api.bulkimport.service;
+
+import com.minted.api.transaction.entity.TransactionCategory;
+import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.transaction.repository.TransactionCategoryRepository;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-import, case-insensitive {@code (name, type) -> TransactionCategory} lookup.
+ * Each type's active categories are loaded once, on first use, so resolving every row of a file costs
+ * at most one query per transaction type instead of one per row. Not thread-safe; create one per import.
+ */
+class CategoryResolver {
+
+    private final TransactionCategoryRepository categoryRepository;
+    private final Long userId;
+    private final Map<TransactionType, Map<String, TransactionCategory>> byType = new EnumMap<>(TransactionType.class);
+
+    CategoryResolver(TransactionCategoryRepository categoryRepository, Long userId) {
+        this.categoryRepository = categoryRepository;
+        this.userId = userId;
+    }
+
+    Optional<TransactionCategory> resolve(String name, TransactionType type) {
+        if (name == null || type == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byType.computeIfAbsent(type, this::load).get(key(name)));
+    }
+
+    private Map<String, TransactionCategory> load(TransactionType type) {
+        Map<String, TransactionCategory> byName = new HashMap<>();
+        for (TransactionCategory category : categoryRepository.findByUserIdAndTypeAndIsActiveTrue(userId, type)) {
+            byName.putIfAbsent(key(category.getName()), category);
+        }
+        return byName;
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
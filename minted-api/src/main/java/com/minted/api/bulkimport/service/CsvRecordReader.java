@@ -0,0 +1,109 @@
+package com.minted.api.bulkimport.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: returns one record per {@link #next()} call and reads the underlying
+ * Reader through a fixed buffer, so memory does not grow with the file.
+ * Quoted fields may contain commas, doubled quotes ({@code ""}) and line breaks; records end at LF,
+ * CRLF or CR outside quotes. Fields are trimmed and blank lines are skipped. Not thread-safe.
+ */
+class CsvRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the next non-blank record, or null at end of input.
+     */
+    String[] next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean inQuotes = false;
+        boolean started = false;
+        int c;
+
+        while ((c = read()) != -1) {
+            started = true;
+            if (inQuotes) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    read();
+                    field.append('"');
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                endField(fields);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                endField(fields);
+                if (!isBlank(fields)) {
+                    return fields.toArray(new String[0]);
+                }
+                fields.clear();
+                started = false;
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (!started) {
+            return null;
+        }
+        endField(fields);
+        return isBlank(fields) ? null : fields.toArray(new String[0]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void endField(List<String> fields) {
+        fields.add(field.toString().trim());
+        field.setLength(0);
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.size() == 1 && fields.get(0).isEmpty();
+    }
+
+    private int read() throws IOException {
+        return fill() ? buffer[position++] : -1;
+    }
+
+    private int peek() throws IOException {
+        return fill() ? buffer[position] : -1;
+    }
+
+    private boolean fill() throws IOException {
+        while (position >= limit) {
+            int read = reader.read(buffer, 0, BUFFER_SIZE);
+            if (read == -1) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+        }
+        return true;
+    }
+}
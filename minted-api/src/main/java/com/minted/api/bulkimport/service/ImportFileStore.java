@@ -0,0 +1,43 @@
+package com.minted.api.bulkimport.service;
+
+import com.minted.api.payload.entity.PayloadBlob;
+import com.minted.api.payload.repository.PayloadBlobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * Keeps uploaded import files, gzip-compressed, in {@code payload_blobs} (referenced by
+ * {@code bulk_imports.csv_data_blob_id}), so whichever node claims the queued import can read them.
+ * The upload is compressed while it is read and never held in memory uncompressed.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportFileStore {
+
+    private final PayloadBlobRepository payloadBlobRepository;
+
+    /**
+     * Compresses the upload into a new, unsaved blob; it is persisted with the import that owns it.
+     */
+    public PayloadBlob store(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return PayloadBlob.compress(in);
+        }
+    }
+
+    /**
+     * Opens a stored upload for reading. Works outside a transaction.
+     */
+    public Reader open(Long blobId) throws IOException {
+        PayloadBlob blob = payloadBlobRepository.findById(blobId)
+                .orElseThrow(() -> new NoSuchFileException("Import file blob " + blobId));
+        return new BufferedReader(blob.reader());
+    }
+}
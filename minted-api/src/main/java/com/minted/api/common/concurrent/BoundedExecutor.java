@@ -0,0 +1,154 @@
+package com.minted.api.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named executor for one class of background work, with a fixed number of threads and a bounded queue.
+ * When both are full, {@link #execute} throws {@link RejectedExecutionException} instead of queueing
+ * without limit; callers decide how to fail the work they could not hand off.
+ * Exceptions thrown by tasks are logged and counted, never propagated to the worker thread.
+ * Threads are virtual when requested and the running JDK supports them (21+), platform threads otherwise.
+ */
+@Slf4j
+public class BoundedExecutor implements Executor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final String name;
+    private final int queueCapacity;
+    private final boolean virtualThreads;
+    private final ThreadPoolExecutor pool;
+
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder finished = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder runNanos = new LongAdder();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    public BoundedExecutor(String name, int poolSize, int queueCapacity, boolean virtualThreads) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        ThreadFactory virtualFactory = virtualThreads ? virtualThreadFactory(name) : null;
+        this.virtualThreads = virtualFactory != null;
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                virtualFactory != null ? virtualFactory : platformThreadFactory(name),
+                (task, executor) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException(
+                            "Executor '" + name + "' is at capacity (" + poolSize + " threads, "
+                                    + queueCapacity + " queued); try again later");
+                });
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submittedAt = System.nanoTime();
+        pool.execute(() -> {
+            long startedAt = System.nanoTime();
+            queueWaitNanos.add(startedAt - submittedAt);
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                failed.increment();
+                log.error("Task failed on executor {}", name, e);
+            } finally {
+                long elapsed = System.nanoTime() - startedAt;
+                runNanos.add(elapsed);
+                maxRunNanos.accumulateAndGet(elapsed, Math::max);
+                finished.increment();
+            }
+        });
+    }
+
+    /**
+     * Threads free to start a task right now, net of tasks already waiting in the queue.
+     */
+    public int idleThreads() {
+        return Math.max(0, pool.getMaximumPoolSize() - pool.getActiveCount() - pool.getQueue().size());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ExecutorStats stats() {
+        long count = finished.sum();
+        return new ExecutorStats(
+                name,
+                virtualThreads,
+                pool.getPoolSize(),
+                pool.getMaximumPoolSize(),
+                pool.getActiveCount(),
+                pool.getQueue().size(),
+                queueCapacity,
+                count,
+                failed.sum(),
+                rejected.sum(),
+                count == 0 ? 0 : toMillis(queueWaitNanos.sum()) / count,
+                count == 0 ? 0 : toMillis(runNanos.sum()) / count,
+                toMillis(maxRunNanos.get())
+        );
+    }
+
+    /**
+     * Stops accepting work and waits for queued and running tasks to finish.
+     */
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Executor {} did not drain within {}s; {} tasks abandoned",
+                        name, SHUTDOWN_TIMEOUT_SECONDS, pool.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static ThreadFactory platformThreadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Builds {@code Thread.ofVirtual().name(name + "-", 1).factory()} reflectively, since the project
+     * compiles against Java 17. Returns null when the running JDK has no virtual threads.
+     */
+    private static ThreadFactory virtualThreadFactory(String name) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method naming = builderType.getMethod("name", String.class, long.class);
+            builder = naming.invoke(builder, name + "-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads requested for executor {} but not supported by Java {}; using platform threads",
+                    name, Runtime.version().feature());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.minted.api.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Consecutive-failure circuit breaker for one remote dependency. After {@code failureThreshold} failures in a row the
+ * circuit opens and {@link #allowRequest()} refuses calls for {@code openDuration}; the first call after that is a
+ * trial (half-open) whose outcome closes or re-opens the circuit. Other calls are refused while the trial runs; a
+ * trial that records no outcome within {@code openDuration} is given up and the next call becomes a new trial.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private Instant trialStartedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Clock clock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public synchronized boolean allowRequest() {
+        Instant now = clock.instant();
+        if (state == State.OPEN && !now.isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            trialStartedAt = now;
+            log.info("Circuit {} half-open, allowing a trial call", name);
+            return true;
+        }
+        if (state == State.HALF_OPEN && !now.isBefore(trialStartedAt.plus(openDuration))) {
+            trialStartedAt = now;
+            log.info("Circuit {} trial call did not report back, allowing another", name);
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuit {} closed", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            log.warn("Circuit {} opened after {} consecutive failures; refusing calls for {}s",
+                    name, consecutiveFailures, openDuration.toSeconds());
+        }
+    }
+
+    /**
+     * Time until an open circuit allows a trial call; zero when closed or already due.
+     */
+    public synchronized Duration retryAfter() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(clock.instant(), openedAt.plus(openDuration));
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
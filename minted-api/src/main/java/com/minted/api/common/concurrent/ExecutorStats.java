@@ -0,0 +1,22 @@
+package com.minted.api.common.concurrent;
+
+/**
+ * Point-in-time view of a {@link BoundedExecutor}. Latencies are averages since startup;
+ * queue wait is measured from submission to the start of execution.
+ */
+public record ExecutorStats(
+        String name,
+        boolean virtualThreads,
+        int poolSize,
+        int maxPoolSize,
+        int activeCount,
+        int queueDepth,
+        int queueCapacity,
+        long completedTasks,
+        long failedTasks,
+        long rejectedTasks,
+        double avgQueueWaitMs,
+        double avgRunMs,
+        double maxRunMs
+) {
+}
@@ -0,0 +1,56 @@
+package com.minted.api.common.config;
+
+import com.minted.api.common.concurrent.BoundedExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One bounded executor per class of background work, so slow imports, LLM calls and manually triggered
+ * jobs cannot starve each other or {@code ForkJoinPool.commonPool()}. Sizes are set in
+ * {@code app.executors.*}. Inject with {@code @Qualifier("importExecutor")}, {@code "llmExecutor"},
+ * {@code "llmChunkExecutor"}, {@code "jobExecutor"}, {@code "recurringExecutor"} or {@code "analyticsExecutor"};
+ * lombok.config copies the qualifier onto generated constructors.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${app.executors.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor importExecutor(@Value("${app.executors.imports.pool-size:2}") int poolSize,
+                                          @Value("${app.executors.imports.queue-capacity:20}") int queueCapacity) {
+        return new BoundedExecutor("imports", poolSize, queueCapacity, virtualThreads);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor llmExecutor(@Value("${app.executors.llm.pool-size:4}") int poolSize,
+                                       @Value("${app.executors.llm.queue-capacity:50}") int queueCapacity) {
+        return new BoundedExecutor("llm", poolSize, queueCapacity, virtualThreads);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor llmChunkExecutor(@Value("${app.executors.llm-chunks.pool-size:8}") int poolSize,
+                                            @Value("${app.executors.llm-chunks.queue-capacity:32}") int queueCapacity) {
+        return new BoundedExecutor("llm-chunks", poolSize, queueCapacity, virtualThreads);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor jobExecutor(@Value("${app.executors.jobs.pool-size:2}") int poolSize,
+                                       @Value("${app.executors.jobs.queue-capacity:10}") int queueCapacity) {
+        return new BoundedExecutor("jobs", poolSize, queueCapacity, virtualThreads);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor recurringExecutor(@Value("${app.executors.recurring.pool-size:4}") int poolSize,
+                                             @Value("${app.executors.recurring.queue-capacity:8}") int queueCapacity) {
+        return new BoundedExecutor("recurring", poolSize, queueCapacity, virtualThreads);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedExecutor analyticsExecutor(@Value("${app.executors.analytics.pool-size:4}") int poolSize,
+                                             @Value("${app.executors.analytics.queue-capacity:32}") int queueCapacity) {
+        return new BoundedExecutor("analytics", poolSize, queueCapacity, virtualThreads);
+    }
+}
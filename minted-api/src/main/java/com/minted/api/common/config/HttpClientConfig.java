@@ -0,0 +1,24 @@
+package com.minted.api.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Shared JDK HTTP clients. One client per remote dependency keeps its connection pool (and TLS sessions) alive
+ * across calls; read timeouts are set per request by the caller.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public HttpClient llmHttpClient(@Value("${app.llm.http.connect-timeout-ms:5000}") long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+}
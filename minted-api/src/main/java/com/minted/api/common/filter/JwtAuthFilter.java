@@ -1,7 +1,9 @@
 package com.minted.api.common.filter;
 
-import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.dto.UserPrincipal;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.util.JwtUtil;
+import com.minted.api.common.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +11,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,7 +26,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private CustomUserDetailsService userDetailsService;
+    private UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -33,27 +34,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        // Verify the token once; claims come back as an immutable VerifiedToken
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            VerifiedToken token = jwtUtil.verify(authorizationHeader.substring(7)).orElse(null);
 
-        // Extract JWT from Authorization header
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (Exception e) {
-                logger.error("JWT token extraction failed", e);
-            }
-        }
-
-        // Validate token and set authentication
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // Principal comes from cache, not a full User load
+            UserPrincipal principal = token != null
+                    ? userPrincipalCache.get(token.username()).orElse(null)
+                    : null;
 
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                MDC.put("userId", username);
+            if (principal != null && principal.active() && isIssuedFor(token, principal)) {
+                MDC.put("userId", token.username());
                 UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
@@ -61,4 +55,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Rejects tokens whose user id claim points at a different account row than the current
+     * holder of the username (e.g. a user deleted and re-created). Legacy tokens without the claim pass.
+     */
+    private boolean isIssuedFor(VerifiedToken token, UserPrincipal principal) {
+        return token.userId() == null || token.userId().equals(principal.id());
+    }
 }
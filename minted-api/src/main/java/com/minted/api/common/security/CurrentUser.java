@@ -0,0 +1,19 @@
+package com.minted.api.common.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds the authenticated user to a controller method parameter.
+ * Supported parameter types: {@code Long} (the user id) and {@link com.minted.api.auth.dto.UserPrincipal}.
+ *
+ * Resolved by {@link CurrentUserArgumentResolver} from the security context, without a database lookup.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
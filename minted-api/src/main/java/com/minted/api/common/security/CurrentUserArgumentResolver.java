@@ -0,0 +1,51 @@
+package com.minted.api.common.security;
+
+import com.minted.api.auth.dto.UserPrincipal;
+import com.minted.api.auth.service.UserPrincipalCache;
+import com.minted.api.common.exception.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters from the {@link UserPrincipal} that JwtAuthFilter
+ * places in the security context. Falls back to the principal cache when the authentication
+ * was created elsewhere (e.g. {@code @WithMockUser} in tests).
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserPrincipalCache userPrincipalCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (Long.class.equals(type) || UserPrincipal.class.equals(type));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        UserPrincipal principal = resolvePrincipal(SecurityContextHolder.getContext().getAuthentication());
+        return Long.class.equals(parameter.getParameterType()) ? principal.id() : principal;
+    }
+
+    private UserPrincipal resolvePrincipal(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return userPrincipalCache.get(authentication.getName())
+                .orElseThrow(() -> new UnauthorizedException("User not found"));
+    }
+}
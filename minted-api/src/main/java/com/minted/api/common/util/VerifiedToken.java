@@ -0,0 +1,18 @@
+package com.minted.api.common.util;
+
+import java.util.Date;
+
+/**
+ * Immutable result of verifying a JWT once: signature checked, not expired at verification time.
+ * {@code userId} and {@code role} are null for legacy tokens issued before those claims existed.
+ */
+public record VerifiedToken(
+        String username,
+        Long userId,
+        String role,
+        Date expiration
+) {
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
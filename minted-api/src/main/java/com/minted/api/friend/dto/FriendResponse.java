@@ -1,9 +1,9 @@
 package com.minted.api.friend.dto;
 
+import com.minted.api.avatar.service.AvatarService;
 import com.minted.api.friend.entity.Friend;
 
 import java.time.LocalDateTime;
-import java.util.Base64;
 
 public record FriendResponse(
         Long id,
@@ -11,7 +11,7 @@ public record FriendResponse(
         String email,
         String phone,
         String avatarColor,
-        String avatarBase64,
+        String avatarUrl,
         Boolean isActive,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
@@ -21,18 +21,16 @@ public record FriendResponse(
     }
 
     public static FriendResponse from(Friend friend, boolean includeAvatar) {
-        String avatarBase64 = null;
-        if (includeAvatar && friend.getAvatarData() != null && friend.getAvatarContentType() != null) {
-            avatarBase64 = "data:" + friend.getAvatarContentType() + ";base64,"
-                    + Base64.getEncoder().encodeToString(friend.getAvatarData());
-        }
+        String avatarUrl = includeAvatar
+                ? AvatarService.urlFor(friend.getAvatarId(), friend.getAvatarUpdatedAt())
+                : null;
         return new FriendResponse(
                 friend.getId(),
                 friend.getName(),
                 friend.getEmail(),
                 friend.getPhone(),
                 friend.getAvatarColor(),
-                avatarBase64,
+                avatarUrl,
                 friend.getIsActive(),
                 friend.getCreatedAt(),
                 friend.getUpdatedAt()
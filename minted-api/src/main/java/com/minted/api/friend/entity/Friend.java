@@ -39,15 +39,8 @@ public class Friend {
     @Column(name = "avatar_color", length = 7)
     private String avatarColor = "#6366f1";
 
-    @Lob
-    @Column(name = "avatar_data", columnDefinition = "LONGBLOB")
-    private byte[] avatarData;
-
-    @Column(name = "avatar_content_type", length = 50)
-    private String avatarContentType;
-
-    @Column(name = "avatar_file_size")
-    private Integer avatarFileSize;
+    @Column(name = "avatar_id", length = 36)
+    private String avatarId;
 
     @Column(name = "avatar_updated_at")
     private LocalDateTime avatarUpdatedAt;
@@ -2,6 +2,8 @@ package com.minted.api.friend.repository;
 
 import com.minted.api.friend.entity.Friend;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,7 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
     boolean existsByNameAndUserIdAndIsActiveTrue(String name, Long userId);
 
     Optional<Friend> findByNameAndUserIdAndIsActiveFalse(String name, Long userId);
+
+    @Query("SELECT f.avatarId FROM Friend f WHERE f.user.id = :userId AND f.avatarId IS NOT NULL")
+    List<String> findAvatarIdsByUserId(@Param("userId") Long userId);
 }
@@ -1,5 +1,6 @@
 package com.minted.api.friend.service;
 
+import com.minted.api.avatar.service.AvatarService;
 import com.minted.api.common.exception.DuplicateResourceException;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.friend.dto.FriendRequest;
@@ -14,7 +15,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -27,6 +27,7 @@ public class FriendServiceImpl implements FriendService {
 
     private final FriendRepository friendRepository;
     private final UserRepository userRepository;
+    private final AvatarService avatarService;
 
     @Override
     @Transactional(readOnly = true)
@@ -123,36 +124,24 @@ public class FriendServiceImpl implements FriendService {
     public FriendResponse uploadAvatar(Long id, Long userId, MultipartFile file) {
         Friend friend = findFriendByIdAndUserId(id, userId);
 
-        if (file.getSize() > 2 * 1024 * 1024) {
-            throw new IllegalArgumentException("Avatar file size must not exceed 2MB");
-        }
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new IllegalArgumentException("Only image files are allowed");
-        }
-
-        try {
-            friend.setAvatarData(file.getBytes());
-            friend.setAvatarContentType(contentType);
-            friend.setAvatarFileSize((int) file.getSize());
-            friend.setAvatarUpdatedAt(LocalDateTime.now());
-            Friend saved = friendRepository.save(friend);
-            log.info("Avatar uploaded for friend id={}", id);
-            return FriendResponse.from(saved);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read avatar file", e);
-        }
+        String previousAvatarId = friend.getAvatarId();
+        friend.setAvatarId(avatarService.store(file));
+        friend.setAvatarUpdatedAt(LocalDateTime.now());
+        Friend saved = friendRepository.save(friend);
+        avatarService.delete(previousAvatarId);
+        log.info("Avatar uploaded for friend id={}", id);
+        return FriendResponse.from(saved);
     }
 
     @Override
     @Transactional
     public FriendResponse deleteAvatar(Long id, Long userId) {
         Friend friend = findFriendByIdAndUserId(id, userId);
-        friend.setAvatarData(null);
-        friend.setAvatarContentType(null);
-        friend.setAvatarFileSize(null);
+        String previousAvatarId = friend.getAvatarId();
+        friend.setAvatarId(null);
         friend.setAvatarUpdatedAt(null);
         Friend saved = friendRepository.save(friend);
+        avatarService.delete(previousAvatarId);
         log.info("Avatar deleted for friend id={}", id);
         return FriendResponse.from(saved);
     }
@@ -16,6 +16,8 @@ public record JobExecutionResponse(
         String errorMessage,
         Integer totalSteps,
         Integer completedSteps,
+        String lockOwner,
+        Long fencingToken,
         List<JobStepExecutionResponse> steps
 ) {
 }
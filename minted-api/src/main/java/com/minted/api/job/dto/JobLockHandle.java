@@ -0,0 +1,7 @@
+package com.minted.api.job.dto;
+
+/**
+ * A held job lock. {@code fencingToken} increases with every acquisition of the same job's lock.
+ */
+public record JobLockHandle(String jobName, String owner, Long fencingToken) {
+}
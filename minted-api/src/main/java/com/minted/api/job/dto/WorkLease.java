@@ -0,0 +1,8 @@
+package com.minted.api.job.dto;
+
+/**
+ * A claimed work item's lease. {@code attempt} increases with every claim of the item, so it also fences off an
+ * earlier attempt by the same node.
+ */
+public record WorkLease(Long itemId, String owner, int attempt) {
+}
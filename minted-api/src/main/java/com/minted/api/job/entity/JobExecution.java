@@ -2,6 +2,7 @@ package com.minted.api.job.entity;
 
 import com.minted.api.job.enums.JobStatus;
 import com.minted.api.job.enums.JobTriggerType;
+import com.minted.api.job.service.JobLockContext;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -60,6 +61,13 @@ public class JobExecution {
     @Column(name = "completed_steps", nullable = false)
     private Integer completedSteps = 0;
 
+    /** Node that held the job lock for this run (or, for a SKIPPED run, the node holding it instead). */
+    @Column(name = "lock_owner", length = 100)
+    private String lockOwner;
+
+    @Column(name = "fencing_token")
+    private Long fencingToken;
+
     @OneToMany(mappedBy = "jobExecution", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("stepOrder ASC")
     private List<JobStepExecution> steps = new ArrayList<>();
@@ -71,4 +79,16 @@ public class JobExecution {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @PrePersist
+    void recordJobLock() {
+        if (lockOwner == null) {
+            JobLockContext.current()
+                    .filter(lock -> lock.jobName().equals(jobName))
+                    .ifPresent(lock -> {
+                        lockOwner = lock.owner();
+                        fencingToken = lock.fencingToken();
+                    });
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.minted.api.job.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide lock of one job. Held while {@code lockedUntil} is in the future; every acquisition
+ * increments {@code fencingToken}, so a holder whose lock expired can tell it has been superseded.
+ */
+@Entity
+@Table(name = "job_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLock {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "locked_by", nullable = false, length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken;
+}
@@ -0,0 +1,73 @@
+package com.minted.api.job.entity;
+
+import com.minted.api.job.enums.WorkItemStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+/**
+ * One unit of background work in the durable queue. A worker node claims it (status RUNNING with a lease),
+ * keeps the lease alive while running and marks it COMPLETED or FAILED; an expired lease puts it back
+ * to PENDING for another node.
+ */
+@Entity
+@Table(name = "work_items")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "queue_name", nullable = false, length = 50)
+    private String queueName;
+
+    @Column(nullable = false, length = 500)
+    private String payload;
+
+    /** Unique when set: enqueueing the same key twice (e.g. one cron firing on every node) creates one item. */
+    @Column(name = "dedup_key", unique = true, length = 150)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(Types.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private WorkItemStatus status = WorkItemStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "max_attempts", nullable = false)
+    private Integer maxAttempts = 3;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
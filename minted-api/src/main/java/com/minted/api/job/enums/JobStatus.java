@@ -3,5 +3,6 @@ package com.minted.api.job.enums;
 public enum JobStatus {
     RUNNING,
     COMPLETED,
-    FAILED
+    FAILED,
+    SKIPPED
 }
@@ -0,0 +1,8 @@
+package com.minted.api.job.enums;
+
+public enum WorkItemStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
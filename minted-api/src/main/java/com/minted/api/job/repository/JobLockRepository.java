@@ -0,0 +1,50 @@
+package com.minted.api.job.repository;
+
+import com.minted.api.job.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * Takes the lock if it is free (expired or released) and bumps the fencing token. Atomic per row,
+     * so of several nodes racing for the same lock exactly one gets an update count of 1.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobLock l SET l.lockedBy = :owner, l.lockedAt = :now, l.lockedUntil = :until, " +
+           "l.fencingToken = l.fencingToken + 1 WHERE l.jobName = :jobName AND l.lockedUntil <= :now")
+    int acquireIfFree(@Param("jobName") String jobName,
+                      @Param("owner") String owner,
+                      @Param("now") LocalDateTime now,
+                      @Param("until") LocalDateTime until);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobLock l SET l.lockedUntil = :until WHERE l.jobName = :jobName AND l.lockedBy = :owner " +
+           "AND l.fencingToken = :token AND l.lockedUntil > :now")
+    int extend(@Param("jobName") String jobName,
+               @Param("owner") String owner,
+               @Param("token") Long token,
+               @Param("now") LocalDateTime now,
+               @Param("until") LocalDateTime until);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobLock l SET l.lockedUntil = :now WHERE l.jobName = :jobName AND l.lockedBy = :owner " +
+           "AND l.fencingToken = :token")
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("token") Long token,
+                @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(l) > 0 FROM JobLock l WHERE l.jobName = :jobName AND l.lockedBy = :owner " +
+           "AND l.fencingToken = :token AND l.lockedUntil > :now")
+    boolean isHeld(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("token") Long token,
+                   @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,81 @@
+package com.minted.api.job.repository;
+
+import com.minted.api.job.entity.WorkItem;
+import com.minted.api.job.enums.WorkItemStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkItemRepository extends JpaRepository<WorkItem, Long> {
+
+    /**
+     * Locks up to {@code limit} due PENDING items of a queue. Rows already locked by another node's claim
+     * are skipped rather than waited on, so concurrent workers never block each other or claim the same item.
+     */
+    @Query(value = "SELECT * FROM work_items WHERE queue_name = :queueName AND status = 'PENDING' " +
+                   "AND available_at <= :now ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<WorkItem> lockClaimable(@Param("queueName") String queueName,
+                                 @Param("now") LocalDateTime now,
+                                 @Param("limit") int limit);
+
+    /**
+     * Puts RUNNING items whose lease ran out (their node died or stalled) back to PENDING.
+     */
+    @Modifying
+    @Query("UPDATE WorkItem w SET w.status = com.minted.api.job.enums.WorkItemStatus.PENDING, " +
+           "w.leaseOwner = null, w.leaseExpiresAt = null, w.availableAt = :now, " +
+           "w.lastError = 'Lease expired', w.updatedAt = :now " +
+           "WHERE w.status = com.minted.api.job.enums.WorkItemStatus.RUNNING AND w.leaseExpiresAt < :now")
+    int releaseExpiredLeases(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE WorkItem w SET w.leaseExpiresAt = :until, w.updatedAt = :now " +
+           "WHERE w.id IN :ids AND w.leaseOwner = :owner " +
+           "AND w.status = com.minted.api.job.enums.WorkItemStatus.RUNNING")
+    int extendLeases(@Param("ids") Collection<Long> ids,
+                     @Param("owner") String owner,
+                     @Param("until") LocalDateTime until,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Touches an item only while this attempt still holds its unexpired lease. Run in the transaction whose work
+     * it guards: the row lock it takes keeps the lease from being released and re-claimed until that commits.
+     */
+    @Modifying
+    @Query("UPDATE WorkItem w SET w.updatedAt = :now WHERE w.id = :id AND w.leaseOwner = :owner " +
+           "AND w.attempts = :attempt AND w.leaseExpiresAt > :now " +
+           "AND w.status = com.minted.api.job.enums.WorkItemStatus.RUNNING")
+    int confirmLease(@Param("id") Long id,
+                     @Param("owner") String owner,
+                     @Param("attempt") int attempt,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * Moves an item this node still holds to its next state. Matches nothing when the lease was lost
+     * (expired and claimed elsewhere), so a stale worker cannot overwrite the new owner's state.
+     */
+    @Modifying
+    @Query("UPDATE WorkItem w SET w.status = :status, w.leaseOwner = null, w.leaseExpiresAt = null, " +
+           "w.availableAt = :availableAt, w.lastError = :error, w.updatedAt = :now " +
+           "WHERE w.id = :id AND w.leaseOwner = :owner " +
+           "AND w.status = com.minted.api.job.enums.WorkItemStatus.RUNNING")
+    int finish(@Param("id") Long id,
+               @Param("owner") String owner,
+               @Param("status") WorkItemStatus status,
+               @Param("availableAt") LocalDateTime availableAt,
+               @Param("error") String error,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM WorkItem w WHERE w.status IN (com.minted.api.job.enums.WorkItemStatus.COMPLETED, " +
+           "com.minted.api.job.enums.WorkItemStatus.FAILED) AND w.updatedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
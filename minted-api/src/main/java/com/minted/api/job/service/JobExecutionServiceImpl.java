@@ -124,6 +124,8 @@ public class JobExecutionServiceImpl implements JobExecutionService {
                 execution.getErrorMessage(),
                 execution.getTotalSteps(),
                 execution.getCompletedSteps(),
+                execution.getLockOwner(),
+                execution.getFencingToken(),
                 stepResponses
         );
     }
@@ -0,0 +1,30 @@
+package com.minted.api.job.service;
+
+import com.minted.api.job.dto.JobLockHandle;
+
+import java.util.Optional;
+
+/**
+ * The job lock held by the current thread while {@link JobLockService#runLocked} runs a job. Lets
+ * {@code JobExecution} record the lock it ran under, and lets a job re-check its fencing token
+ * ({@link JobLockService#isHeld}) before committing work.
+ */
+public final class JobLockContext {
+
+    private static final ThreadLocal<JobLockHandle> CURRENT = new ThreadLocal<>();
+
+    private JobLockContext() {
+    }
+
+    public static Optional<JobLockHandle> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void set(JobLockHandle handle) {
+        CURRENT.set(handle);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
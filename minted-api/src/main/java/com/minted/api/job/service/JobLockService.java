@@ -0,0 +1,25 @@
+package com.minted.api.job.service;
+
+import com.minted.api.job.dto.JobLockHandle;
+import com.minted.api.job.enums.JobTriggerType;
+
+import java.util.Optional;
+
+public interface JobLockService {
+
+    Optional<JobLockHandle> tryAcquire(String jobName);
+
+    /** True while the lock is still held under this handle's fencing token (not expired, not taken over). */
+    boolean isHeld(JobLockHandle handle);
+
+    void release(JobLockHandle handle);
+
+    /**
+     * Runs {@code job} only if this node gets the job's lock, extending the lock while the job runs. When the
+     * lock is held elsewhere a SKIPPED {@code JobExecution} with {@code triggerType} records who holds it and the
+     * job does not run.
+     *
+     * @return true if the job ran
+     */
+    boolean runLocked(String jobName, JobTriggerType triggerType, Runnable job);
+}
@@ -0,0 +1,149 @@
+package com.minted.api.job.service;
+
+import com.minted.api.job.dto.JobLockHandle;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.entity.JobLock;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.enums.JobTriggerType;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobLockRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Table-based job locks ({@code job_locks}), one row per job name. Each acquire, extend and release is a
+ * single conditional UPDATE in its own transaction, so the database row arbitrates between nodes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobLockServiceImpl implements JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final JobScheduleConfigRepository scheduleConfigRepository;
+    private final NodeIdentity nodeIdentity;
+    private final TaskScheduler taskScheduler;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.jobs.lock.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Override
+    public Optional<JobLockHandle> tryAcquire(String jobName) {
+        String owner = nodeIdentity.getNodeId();
+        TransactionTemplate tx = requiresNew();
+        try {
+            return tx.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime until = now.plusSeconds(leaseSeconds);
+                if (jobLockRepository.acquireIfFree(jobName, owner, now, until) == 1) {
+                    return jobLockRepository.findById(jobName)
+                            .map(lock -> new JobLockHandle(jobName, owner, lock.getFencingToken()));
+                }
+                if (jobLockRepository.existsById(jobName)) {
+                    return Optional.empty();
+                }
+                jobLockRepository.saveAndFlush(new JobLock(jobName, owner, now, until, 1L));
+                return Optional.of(new JobLockHandle(jobName, owner, 1L));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node inserted the first lock row for this job at the same moment
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean isHeld(JobLockHandle handle) {
+        return Boolean.TRUE.equals(requiresNew().execute(status -> jobLockRepository.isHeld(
+                handle.jobName(), handle.owner(), handle.fencingToken(), LocalDateTime.now())));
+    }
+
+    @Override
+    public void release(JobLockHandle handle) {
+        requiresNew().executeWithoutResult(status -> jobLockRepository.release(
+                handle.jobName(), handle.owner(), handle.fencingToken(), LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean runLocked(String jobName, JobTriggerType triggerType, Runnable job) {
+        Optional<JobLockHandle> acquired = tryAcquire(jobName);
+        if (acquired.isEmpty()) {
+            recordSkipped(jobName, triggerType);
+            return false;
+        }
+
+        JobLockHandle handle = acquired.get();
+        log.debug("Acquired lock for job {} (fencing token {})", jobName, handle.fencingToken());
+        Duration heartbeat = Duration.ofSeconds(Math.max(1, leaseSeconds / 3));
+        ScheduledFuture<?> renewal = taskScheduler.scheduleAtFixedRate(() -> extend(handle),
+                Instant.now().plus(heartbeat), heartbeat);
+        JobLockContext.set(handle);
+        try {
+            job.run();
+            return true;
+        } finally {
+            JobLockContext.clear();
+            renewal.cancel(false);
+            release(handle);
+        }
+    }
+
+    private void extend(JobLockHandle handle) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int extended = requiresNew().execute(status -> jobLockRepository.extend(handle.jobName(), handle.owner(),
+                    handle.fencingToken(), now, now.plusSeconds(leaseSeconds)));
+            if (extended == 0) {
+                log.error("Lost lock for job {} (fencing token {}); another node may now run it",
+                        handle.jobName(), handle.fencingToken());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to extend lock for job {}", handle.jobName(), e);
+        }
+    }
+
+    private void recordSkipped(String jobName, JobTriggerType triggerType) {
+        requiresNew().executeWithoutResult(status -> {
+            Optional<JobLock> holder = jobLockRepository.findById(jobName);
+            JobExecution execution = new JobExecution();
+            execution.setJobName(jobName);
+            execution.setScheduleConfig(scheduleConfigRepository.findByJobName(jobName).orElse(null));
+            execution.setStatus(JobStatus.SKIPPED);
+            execution.setTriggerType(triggerType);
+            execution.setStartTime(LocalDateTime.now());
+            execution.setEndTime(LocalDateTime.now());
+            execution.setTotalSteps(0);
+            holder.ifPresent(lock -> {
+                execution.setLockOwner(lock.getLockedBy());
+                execution.setFencingToken(lock.getFencingToken());
+            });
+            execution.setErrorMessage(holder
+                    .map(lock -> "Skipped: lock held by " + lock.getLockedBy() + " until " + lock.getLockedUntil()
+                            + " (fencing token " + lock.getFencingToken() + ")")
+                    .orElse("Skipped: lock not available"));
+            jobExecutionRepository.save(execution);
+            log.info("Job {} skipped on {}: {}", jobName, nodeIdentity.getNodeId(), execution.getErrorMessage());
+        });
+    }
+
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tx;
+    }
+}
@@ -1,5 +1,9 @@
 package com.minted.api.job.service;
 
+import com.minted.api.job.enums.JobTriggerType;
+
+import java.util.Optional;
+
 public interface JobSchedulerService {
 
     void registerJob(String jobName, Runnable task, String cronExpression, boolean enabled);
@@ -7,4 +11,10 @@ public interface JobSchedulerService {
     void rescheduleJob(String jobName, String cronExpression, boolean enabled);
 
     void triggerJob(String jobName);
+
+    /**
+     * The registered job, wrapped so that it runs under the job's lock; a skipped run is recorded with
+     * {@code triggerType}.
+     */
+    Optional<Runnable> findJob(String jobName, JobTriggerType triggerType);
 }
@@ -1,22 +1,34 @@
 package com.minted.api.job.service;
 
-import com.minted.api.job.service.JobSchedulerService;
+import com.minted.api.job.enums.JobTriggerType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 
+/**
+ * Keeps the cron schedule of each registered job. Neither a cron firing nor a manual trigger runs the job
+ * directly: both enqueue a {@link ScheduledJobWorkHandler#QUEUE} work item, which exactly one node runs.
+ * Every node fires the same crons, so scheduled runs are enqueued with a key of job name plus fire minute
+ * and only the first node's insert succeeds. Registered tasks are wrapped in {@link JobLockService#runLocked},
+ * so even a manual trigger or a redelivered item cannot run a job while another node is running it.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobSchedulerServiceImpl implements JobSchedulerService {
 
     private final TaskScheduler taskScheduler;
+    private final WorkQueueService workQueueService;
+    private final JobLockService jobLockService;
     private final Map<String, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
     private final Map<String, Runnable> registeredTasks = new ConcurrentHashMap<>();
 
@@ -26,7 +38,7 @@ public class JobSchedulerServiceImpl implements JobSchedulerService {
         registeredTasks.put(jobName, task);
 
         if (enabled) {
-            scheduleTask(jobName, task, cronExpression);
+            scheduleTask(jobName, cronExpression);
         }
     }
 
@@ -44,9 +56,8 @@ public class JobSchedulerServiceImpl implements JobSchedulerService {
 
         // Schedule anew if enabled
         if (enabled) {
-            Runnable task = registeredTasks.get(jobName);
-            if (task != null) {
-                scheduleTask(jobName, task, cronExpression);
+            if (registeredTasks.containsKey(jobName)) {
+                scheduleTask(jobName, cronExpression);
             } else {
                 log.warn("Cannot reschedule job {}: No runnable task registered", jobName);
             }
@@ -55,29 +66,39 @@ public class JobSchedulerServiceImpl implements JobSchedulerService {
 
     @Override
     public void triggerJob(String jobName) {
-        Runnable task = registeredTasks.get(jobName);
-        if (task != null) {
+        if (registeredTasks.containsKey(jobName)) {
             log.info("Manually executing job: {}", jobName);
-            // Execute immediately in a different thread to avoid blocking the HTTP request
-            new Thread(() -> {
-                try {
-                    task.run();
-                } catch (Exception e) {
-                    log.error("Error during manual execution of job {}", jobName, e);
-                }
-            }, "Manual-Trigger-" + jobName).start();
+            // Queued in the caller's transaction; a worker node runs it shortly after commit
+            workQueueService.enqueue(ScheduledJobWorkHandler.QUEUE,
+                    ScheduledJobWorkHandler.payload(jobName, JobTriggerType.MANUAL));
         } else {
             throw new IllegalArgumentException("No registered task for job: " + jobName);
         }
     }
 
-    private void scheduleTask(String jobName, Runnable task, String cronExpression) {
+    @Override
+    public Optional<Runnable> findJob(String jobName, JobTriggerType triggerType) {
+        return Optional.ofNullable(registeredTasks.get(jobName))
+                .map(task -> () -> jobLockService.runLocked(jobName, triggerType, task));
+    }
+
+    private void scheduleTask(String jobName, String cronExpression) {
         try {
-            ScheduledFuture<?> scheduledTask = taskScheduler.schedule(task, new CronTrigger(cronExpression));
+            ScheduledFuture<?> scheduledTask = taskScheduler.schedule(() -> enqueueScheduledRun(jobName),
+                    new CronTrigger(cronExpression));
             scheduledTasks.put(jobName, scheduledTask);
             log.info("Successfully scheduled job {}", jobName);
         } catch (IllegalArgumentException e) {
             log.error("Invalid cron expression for job {}: {}", jobName, cronExpression, e);
         }
     }
+
+    private void enqueueScheduledRun(String jobName) {
+        // Rounded to the nearest minute so nodes whose clocks differ by a few seconds agree on the key
+        LocalDateTime fireMinute = LocalDateTime.now().plusSeconds(30).truncatedTo(ChronoUnit.MINUTES);
+        String payload = ScheduledJobWorkHandler.payload(jobName, JobTriggerType.SCHEDULED);
+        if (!workQueueService.enqueueOnce(ScheduledJobWorkHandler.QUEUE, payload, jobName + "@" + fireMinute)) {
+            log.debug("Scheduled run of {} at {} already enqueued by another node", jobName, fireMinute);
+        }
+    }
 }
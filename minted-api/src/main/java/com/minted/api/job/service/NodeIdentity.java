@@ -0,0 +1,37 @@
+package com.minted.api.job.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * Name of this API node, used as the owner of work-item leases and job locks ({@code app.node-id},
+ * default hostname plus a random suffix so two processes on one host never share it).
+ */
+@Slf4j
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    public NodeIdentity(@Value("${app.node-id:}") String nodeId) {
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        log.info("Node id: {}", this.nodeId);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
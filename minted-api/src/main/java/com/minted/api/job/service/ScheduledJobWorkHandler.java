@@ -0,0 +1,53 @@
+package com.minted.api.job.service;
+
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.job.dto.WorkLease;
+import com.minted.api.job.enums.JobTriggerType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs scheduled and manually triggered jobs from the work queue. The payload is the job name and how the run was
+ * triggered, e.g. {@code PAYLOAD_RETENTION:MANUAL}; a bare job name (queued by an older version) is SCHEDULED.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobWorkHandler implements WorkHandler {
+
+    public static final String QUEUE = "SCHEDULED_JOB";
+
+    private final JobSchedulerService jobSchedulerService;
+    @Qualifier("jobExecutor")
+    private final BoundedExecutor jobExecutor;
+
+    @Override
+    public String queueName() {
+        return QUEUE;
+    }
+
+    @Override
+    public BoundedExecutor executor() {
+        return jobExecutor;
+    }
+
+    public static String payload(String jobName, JobTriggerType triggerType) {
+        return jobName + ":" + triggerType;
+    }
+
+    @Override
+    public void handle(String payload, WorkLease lease) {
+        int separator = payload.lastIndexOf(':');
+        String jobName = separator < 0 ? payload : payload.substring(0, separator);
+        JobTriggerType triggerType = separator < 0
+                ? JobTriggerType.SCHEDULED : JobTriggerType.valueOf(payload.substring(separator + 1));
+        Runnable job = jobSchedulerService.findJob(jobName, triggerType)
+                .orElseThrow(() -> new IllegalStateException("No registered task for job: " + jobName));
+        if (lease.attempt() > 1) {
+            log.warn("Re-running job {} (attempt {}) after an interrupted run", jobName, lease.attempt());
+        }
+        job.run();
+    }
+}
@@ -0,0 +1,27 @@
+package com.minted.api.job.service;
+
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.job.dto.WorkLease;
+
+/**
+ * Runs the items of one work-queue queue. Implementations are Spring beans picked up by {@link WorkQueueWorker}.
+ */
+public interface WorkHandler {
+
+    String queueName();
+
+    /** Executor the items run on; the worker only claims as many items as it has idle threads. */
+    BoundedExecutor executor();
+
+    /**
+     * Processes one item. {@code lease.attempt()} is 1 on first delivery and higher when a previous attempt failed
+     * or its node died mid-run, so handlers must not repeat side effects that already committed. A slow attempt
+     * can outlive its lease while the item runs again elsewhere; handlers with side effects check
+     * {@link WorkQueueService#confirmLease} in each transaction that commits them.
+     */
+    void handle(String payload, WorkLease lease) throws Exception;
+
+    /** Called once when the item is given up on, so the owning record does not stay "in progress" forever. */
+    default void onGiveUp(String payload, String reason) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.minted.api.job.service;
+
+import com.minted.api.job.dto.WorkLease;
+
+/**
+ * Thrown by a handler that finds its work item lease gone before committing work: the item was re-queued and
+ * may already run elsewhere, so this attempt must stop without touching the item's records.
+ */
+public class WorkLeaseLostException extends IllegalStateException {
+
+    public WorkLeaseLostException(WorkLease lease) {
+        super("Lost the lease on work item " + lease.itemId() + " (attempt " + lease.attempt() + ")");
+    }
+}
@@ -0,0 +1,41 @@
+package com.minted.api.job.service;
+
+import com.minted.api.job.dto.WorkLease;
+import com.minted.api.job.entity.WorkItem;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface WorkQueueService {
+
+    /** Adds an item in the caller's transaction, so it only becomes visible if the caller commits. */
+    void enqueue(String queueName, String payload);
+
+    /**
+     * Adds an item in its own transaction unless one with the same key already exists.
+     *
+     * @return false when the key was already enqueued (e.g. by another node)
+     */
+    boolean enqueueOnce(String queueName, String payload, String dedupKey);
+
+    /** Claims up to {@code limit} due items for {@code owner}, leasing them and incrementing their attempts. */
+    List<WorkItem> claim(String queueName, int limit, String owner);
+
+    void extendLeases(Collection<Long> ids, String owner);
+
+    int releaseExpiredLeases();
+
+    /**
+     * Fencing check for handlers: true while {@code lease} is still current. Must run inside the transaction
+     * that commits the guarded work, as its last statement, which then holds the item row lock until it commits.
+     */
+    boolean confirmLease(WorkLease lease);
+
+    void complete(Long id, String owner);
+
+    /** Returns the item to PENDING after a backoff, or marks it FAILED when its attempts are used up. */
+    void fail(WorkItem item, String owner, String error, boolean retry);
+
+    int deleteFinishedBefore(LocalDateTime cutoff);
+}
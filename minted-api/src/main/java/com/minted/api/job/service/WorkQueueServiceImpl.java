@@ -0,0 +1,138 @@
+package com.minted.api.job.service;
+
+import com.minted.api.job.dto.WorkLease;
+import com.minted.api.job.entity.WorkItem;
+import com.minted.api.job.enums.WorkItemStatus;
+import com.minted.api.job.repository.WorkItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkQueueServiceImpl implements WorkQueueService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final WorkItemRepository workItemRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.work-queue.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${app.work-queue.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.work-queue.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    @Override
+    @Transactional
+    public void enqueue(String queueName, String payload) {
+        workItemRepository.save(newItem(queueName, payload, null));
+    }
+
+    @Override
+    public boolean enqueueOnce(String queueName, String payload, String dedupKey) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    workItemRepository.saveAndFlush(newItem(queueName, payload, dedupKey)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Work item {} already enqueued", dedupKey);
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<WorkItem> claim(String queueName, int limit, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        List<WorkItem> items = workItemRepository.lockClaimable(queueName, now, limit);
+        for (WorkItem item : items) {
+            item.setStatus(WorkItemStatus.RUNNING);
+            item.setLeaseOwner(owner);
+            item.setLeaseExpiresAt(now.plusSeconds(leaseSeconds));
+            item.setAttempts(item.getAttempts() + 1);
+        }
+        return items;
+    }
+
+    @Override
+    @Transactional
+    public void extendLeases(Collection<Long> ids, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        workItemRepository.extendLeases(ids, owner, now.plusSeconds(leaseSeconds), now);
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredLeases() {
+        int released = workItemRepository.releaseExpiredLeases(LocalDateTime.now());
+        if (released > 0) {
+            log.warn("Re-queued {} work items whose lease expired", released);
+        }
+        return released;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean confirmLease(WorkLease lease) {
+        return workItemRepository.confirmLease(lease.itemId(), lease.owner(), lease.attempt(), LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void complete(Long id, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        if (workItemRepository.finish(id, owner, WorkItemStatus.COMPLETED, now, null, now) == 0) {
+            log.warn("Work item {} finished after its lease was lost; completion not recorded", id);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void fail(WorkItem item, String owner, String error, boolean retry) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean again = retry && item.getAttempts() < item.getMaxAttempts();
+        WorkItemStatus status = again ? WorkItemStatus.PENDING : WorkItemStatus.FAILED;
+        LocalDateTime availableAt = again ? now.plusSeconds(retryBackoffSeconds * item.getAttempts()) : now;
+        if (workItemRepository.finish(item.getId(), owner, status, availableAt, truncate(error), now) == 0) {
+            log.warn("Work item {} failed after its lease was lost; failure not recorded", item.getId());
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteFinishedBefore(LocalDateTime cutoff) {
+        return workItemRepository.deleteFinishedBefore(cutoff);
+    }
+
+    private WorkItem newItem(String queueName, String payload, String dedupKey) {
+        WorkItem item = new WorkItem();
+        item.setQueueName(queueName);
+        item.setPayload(payload);
+        item.setDedupKey(dedupKey);
+        item.setMaxAttempts(maxAttempts);
+        item.setAvailableAt(LocalDateTime.now());
+        return item;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
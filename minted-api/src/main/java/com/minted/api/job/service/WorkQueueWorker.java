@@ -0,0 +1,114 @@
+package com.minted.api.job.service;
+
+import com.minted.api.job.dto.WorkLease;
+import com.minted.api.job.entity.WorkItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs on every API node. Each poll re-queues items whose lease expired, then claims as many items per
+ * queue as the queue's executor has idle threads, so work spreads across nodes instead of piling up on
+ * the first one. Leases of running items are extended by a heartbeat; if the node dies they expire and
+ * another node picks the items up.
+ */
+@Slf4j
+@Component
+public class WorkQueueWorker {
+
+    private final WorkQueueService workQueueService;
+    private final List<WorkHandler> handlers;
+    private final String nodeId;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public WorkQueueWorker(WorkQueueService workQueueService, List<WorkHandler> handlers, NodeIdentity nodeIdentity) {
+        this.workQueueService = workQueueService;
+        this.handlers = handlers;
+        this.nodeId = nodeIdentity.getNodeId();
+        log.info("Work queue worker {} serving queues {}", this.nodeId,
+                handlers.stream().map(WorkHandler::queueName).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${app.work-queue.poll-interval-ms:2000}")
+    public void poll() {
+        try {
+            workQueueService.releaseExpiredLeases();
+        } catch (RuntimeException e) {
+            log.error("Failed to release expired work item leases", e);
+        }
+
+        for (WorkHandler handler : handlers) {
+            int idle = handler.executor().idleThreads();
+            if (idle == 0) {
+                continue;
+            }
+            try {
+                for (WorkItem item : workQueueService.claim(handler.queueName(), idle, nodeId)) {
+                    dispatch(handler, item);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to claim work items from queue {}", handler.queueName(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.work-queue.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        if (!inFlight.isEmpty()) {
+            workQueueService.extendLeases(Set.copyOf(inFlight), nodeId);
+        }
+    }
+
+    private void dispatch(WorkHandler handler, WorkItem item) {
+        inFlight.add(item.getId());
+        try {
+            handler.executor().execute(() -> run(handler, item));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(item.getId());
+            log.warn("Work item {} ({}) rejected by its executor on attempt {}", item.getId(), handler.queueName(),
+                    item.getAttempts());
+            failAttempt(handler, item, e.getMessage());
+        }
+    }
+
+    void run(WorkHandler handler, WorkItem item) {
+        try {
+            if (item.getAttempts() > item.getMaxAttempts()) {
+                // Every earlier attempt lost its lease: the item keeps taking its node down or stalling
+                giveUp(handler, item, "Abandoned after " + item.getMaxAttempts() + " interrupted attempts");
+                return;
+            }
+            handler.handle(item.getPayload(), new WorkLease(item.getId(), nodeId, item.getAttempts()));
+            workQueueService.complete(item.getId(), nodeId);
+        } catch (Exception e) {
+            log.error("Work item {} ({}) failed on attempt {}", item.getId(), handler.queueName(), item.getAttempts(), e);
+            failAttempt(handler, item, e.getMessage());
+        } finally {
+            inFlight.remove(item.getId());
+        }
+    }
+
+    /**
+     * Retries the item, or gives up on it when this was its last attempt.
+     */
+    private void failAttempt(WorkHandler handler, WorkItem item, String reason) {
+        if (item.getAttempts() < item.getMaxAttempts()) {
+            workQueueService.fail(item, nodeId, reason, true);
+        } else {
+            giveUp(handler, item, reason);
+        }
+    }
+
+    private void giveUp(WorkHandler handler, WorkItem item, String reason) {
+        try {
+            handler.onGiveUp(item.getPayload(), reason);
+        } finally {
+            workQueueService.fail(item, nodeId, reason, false);
+        }
+    }
+}
@@ -1,17 +1,14 @@
 package com.minted.api.llm.controller;
 
 import com.minted.api.llm.dto.*;
-import com.minted.api.user.entity.User;
-import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.llm.repository.LlmModelRepository;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.llm.service.LlmConfigService;
 import com.minted.api.llm.service.MerchantMappingService;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -26,11 +23,9 @@ public class LlmConfigController {
     private final LlmConfigService llmConfigService;
     private final MerchantMappingService merchantMappingService;
     private final LlmModelRepository modelRepository;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getConfig(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getConfig(@CurrentUser Long userId) {
         LlmConfigResponse config = llmConfigService.getConfig(userId);
         return ResponseEntity.ok(Map.of("success", true, "data", config));
     }
@@ -38,9 +33,8 @@ public class LlmConfigController {
     @PutMapping
     public ResponseEntity<Map<String, Object>> saveConfig(
             @RequestBody LlmConfigRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         LlmConfigResponse config = llmConfigService.saveConfig(request, userId);
         return ResponseEntity.ok(Map.of("success", true, "data", config));
     }
@@ -54,8 +48,7 @@ public class LlmConfigController {
     }
 
     @GetMapping("/mappings")
-    public ResponseEntity<Map<String, Object>> getMappings(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getMappings(@CurrentUser Long userId) {
         List<MerchantMappingResponse> mappings = merchantMappingService.getMappings(userId);
         return ResponseEntity.ok(Map.of("success", true, "data", mappings));
     }
@@ -63,9 +56,8 @@ public class LlmConfigController {
     @PostMapping("/mappings")
     public ResponseEntity<Map<String, Object>> createMapping(
             @Valid @RequestBody MerchantMappingRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         MerchantMappingResponse mapping = merchantMappingService.createMapping(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("success", true, "data", mapping));
     }
@@ -74,9 +66,8 @@ public class LlmConfigController {
     public ResponseEntity<Map<String, Object>> updateMapping(
             @PathVariable Long id,
             @Valid @RequestBody MerchantMappingRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         MerchantMappingResponse mapping = merchantMappingService.updateMapping(id, request, userId);
         return ResponseEntity.ok(Map.of("success", true, "data", mapping));
     }
@@ -84,17 +75,9 @@ public class LlmConfigController {
     @DeleteMapping("/mappings/{id}")
     public ResponseEntity<Void> deleteMapping(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         merchantMappingService.deleteMapping(id, userId);
         return ResponseEntity.noContent().build();
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
@@ -0,0 +1,71 @@
+package com.minted.api.llm.entity;
+
+import com.minted.api.payload.entity.PayloadBlob;
+import com.minted.api.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rows returned by an earlier statement parse, keyed by a hash of the parse input (see {@code LlmResultCacheService}).
+ * The rows JSON lives in {@code payload_blobs}.
+ */
+@Entity
+@Table(name = "llm_result_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+public class LlmResultCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_key", nullable = false, unique = true, length = 64)
+    private String cacheKey;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "provider", nullable = false, length = 50)
+    private String provider;
+
+    @Column(name = "model_key", nullable = false, length = 200)
+    private String modelKey;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "rows_blob_id", nullable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PayloadBlob rowsBlob;
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount = 0;
+
+    @Column(name = "hit_count", nullable = false)
+    private Integer hitCount = 0;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_used_at", nullable = false)
+    private LocalDateTime lastUsedAt;
+
+    public String getRowsJson() {
+        return PayloadBlob.textOf(rowsBlob);
+    }
+
+    public void setRowsJson(String rowsJson) {
+        this.rowsBlob = PayloadBlob.update(rowsBlob, rowsJson);
+    }
+}
@@ -0,0 +1,50 @@
+package com.minted.api.llm.repository;
+
+import com.minted.api.llm.entity.LlmResultCacheEntry;
+import com.minted.api.payload.dto.PayloadRefs;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LlmResultCacheRepository extends JpaRepository<LlmResultCacheEntry, Long> {
+
+    Optional<LlmResultCacheEntry> findByCacheKey(String cacheKey);
+
+    @Modifying
+    @Query("UPDATE LlmResultCacheEntry e SET e.hitCount = e.hitCount + 1, e.lastUsedAt = :now WHERE e.id = :id")
+    int recordHit(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Payload references of entries created before the cutoff.
+     */
+    @Query("SELECT new com.minted.api.payload.dto.PayloadRefs(e.id, b.id, null) FROM LlmResultCacheEntry e " +
+           "JOIN e.rowsBlob b WHERE e.createdAt < :cutoff ORDER BY e.id")
+    List<PayloadRefs> findExpiredRefs(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Payload references of all entries, least recently used first.
+     */
+    @Query("SELECT new com.minted.api.payload.dto.PayloadRefs(e.id, b.id, null) FROM LlmResultCacheEntry e " +
+           "JOIN e.rowsBlob b ORDER BY e.lastUsedAt, e.id")
+    List<PayloadRefs> findLeastRecentlyUsedRefs(Pageable pageable);
+
+    /**
+     * Payload references of all entries of a user.
+     */
+    @Query("SELECT new com.minted.api.payload.dto.PayloadRefs(e.id, b.id, null) FROM LlmResultCacheEntry e " +
+           "JOIN e.rowsBlob b WHERE e.user.id = :userId ORDER BY e.id")
+    List<PayloadRefs> findRefsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM LlmResultCacheEntry e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
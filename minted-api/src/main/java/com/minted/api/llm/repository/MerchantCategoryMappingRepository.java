@@ -1,6 +1,7 @@
 package com.minted.api.llm.repository;
 
 import com.minted.api.llm.entity.MerchantCategoryMapping;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +11,8 @@ import java.util.Optional;
 @Repository
 public interface MerchantCategoryMappingRepository extends JpaRepository<MerchantCategoryMapping, Long> {
 
+    // Category is read while building LLM prompts, possibly on chunk worker threads without a session
+    @EntityGraph(attributePaths = "category")
     List<MerchantCategoryMapping> findByUserIdOrderByCreatedAtAsc(Long userId);
 
     Optional<MerchantCategoryMapping> findByIdAndUserId(Long id, Long userId);
@@ -1,5 +1,6 @@
 package com.minted.api.llm.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,13 +10,16 @@ import com.minted.api.common.exception.BadRequestException;
 import com.minted.api.llm.service.LlmService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,8 +28,16 @@ import java.util.stream.Collectors;
 public class GeminiLlmService implements LlmService {
 
     private static final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/{model}:generateContent?key={apiKey}";
+    private static final String GEMINI_STREAM_URL = "https://generativelanguage.googleapis.com/v1beta/models/{model}:streamGenerateContent?alt=sse&key={apiKey}";
 
     private final ObjectMapper objectMapper;
+    private final LlmHttpClient llmHttpClient;
+
+    @Value("${app.llm.gemini.read-timeout-ms:120000}")
+    private long readTimeoutMs;
+
+    @Value("${app.llm.gemini.streaming:true}")
+    private boolean streaming;
 
     @Override
     public String getProviderName() {
@@ -37,28 +49,18 @@ public class GeminiLlmService implements LlmService {
                                                       List<MerchantCategoryMapping> merchantMappings,
                                                       List<String> availableCategories,
                                                       String apiKey, String modelKey) {
-        String prompt = buildPrompt(extractedText, merchantMappings, availableCategories);
-
+        if (streaming) {
+            return parseStatementStreaming(extractedText, userId, statementId, merchantMappings,
+                    availableCategories, apiKey, modelKey, row -> { });
+        }
         String url = GEMINI_API_URL
                 .replace("{model}", modelKey)
                 .replace("{apiKey}", apiKey);
-
-        Map<String, Object> requestBody = Map.of(
-                "contents", List.of(
-                        Map.of("parts", List.of(
-                                Map.of("text", prompt)
-                        ))
-                )
-        );
+        Map<String, Object> requestBody = requestBody(buildPrompt(extractedText, merchantMappings, availableCategories));
 
         try {
-            RestClient restClient = RestClient.create();
-            String responseBody = restClient.post()
-                    .uri(url)
-                    .header("Content-Type", "application/json")
-                    .body(requestBody)
-                    .retrieve()
-                    .body(String.class);
+            String responseBody = llmHttpClient.postJson(
+                    getProviderName(), url, requestBody, Duration.ofMillis(readTimeoutMs));
 
             log.debug("Gemini raw response for statement {}: {}", statementId, responseBody);
 
@@ -83,21 +85,7 @@ public class GeminiLlmService implements LlmService {
             llmText = llmText.trim();
 
             List<ParsedTransactionRow> rows = objectMapper.readValue(llmText, new TypeReference<>() {});
-
-            // Assign tempIds and ensure amounts are positive
-            for (ParsedTransactionRow row : rows) {
-                row.setTempId(UUID.randomUUID().toString());
-                if (row.getAmount() != null && row.getAmount().compareTo(BigDecimal.ZERO) < 0) {
-                    row.setAmount(row.getAmount().abs());
-                }
-                if (row.getNotes() == null) {
-                    row.setNotes("");
-                }
-                if (row.getTags() == null) {
-                    row.setTags("");
-                }
-            }
-
+            rows.forEach(GeminiLlmService::normalize);
             return rows;
 
         } catch (BadRequestException e) {
@@ -108,6 +96,91 @@ public class GeminiLlmService implements LlmService {
         }
     }
 
+    /**
+     * Calls {@code streamGenerateContent} with server-sent events and feeds the text of each event to a
+     * {@link JsonArrayStreamParser}, so every row reaches {@code onRow} as soon as the model has written it.
+     */
+    @Override
+    public List<ParsedTransactionRow> parseStatementStreaming(String extractedText, Long userId, Long statementId,
+                                                               List<MerchantCategoryMapping> merchantMappings,
+                                                               List<String> availableCategories,
+                                                               String apiKey, String modelKey,
+                                                               Consumer<ParsedTransactionRow> onRow) {
+        if (!streaming) {
+            return LlmService.super.parseStatementStreaming(extractedText, userId, statementId, merchantMappings,
+                    availableCategories, apiKey, modelKey, onRow);
+        }
+        String url = GEMINI_STREAM_URL
+                .replace("{model}", modelKey)
+                .replace("{apiKey}", apiKey);
+        Map<String, Object> requestBody = requestBody(buildPrompt(extractedText, merchantMappings, availableCategories));
+
+        JsonArrayStreamParser rowParser = new JsonArrayStreamParser(objectMapper);
+        List<ParsedTransactionRow> rows = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        llmHttpClient.postJsonStreaming(getProviderName(), url, requestBody, Duration.ofMillis(readTimeoutMs), line -> {
+            if (!line.startsWith("data:")) {
+                return;
+            }
+            for (ParsedTransactionRow row : rowParser.feed(eventText(line.substring(5).trim()))) {
+                normalize(row);
+                if (rows.isEmpty()) {
+                    log.debug("Gemini first row for statement {} after {} ms",
+                            statementId, (System.nanoTime() - startedAt) / 1_000_000);
+                }
+                rows.add(row);
+                onRow.accept(row);
+            }
+        });
+
+        if (!rowParser.isComplete()) {
+            throw new BadRequestException(rows.isEmpty()
+                    ? "LLM returned empty response. Please try again."
+                    : "LLM response ended before all transactions were returned. Please try again.");
+        }
+        return rows;
+    }
+
+    /** Concatenated text parts of one streamed {@code GenerateContentResponse}. */
+    String eventText(String eventJson) {
+        if (eventJson.isEmpty()) {
+            return "";
+        }
+        try {
+            StringBuilder text = new StringBuilder();
+            for (JsonNode part : objectMapper.readTree(eventJson).path("candidates").path(0).path("content").path("parts")) {
+                text.append(part.path("text").asText(""));
+            }
+            return text.toString();
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("LLM returned unparseable response. Please try again. Error: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> requestBody(String prompt) {
+        return Map.of(
+                "contents", List.of(
+                        Map.of("parts", List.of(
+                                Map.of("text", prompt)
+                        ))
+                )
+        );
+    }
+
+    // Assign tempIds and ensure amounts are positive
+    private static void normalize(ParsedTransactionRow row) {
+        row.setTempId(UUID.randomUUID().toString());
+        if (row.getAmount() != null && row.getAmount().compareTo(BigDecimal.ZERO) < 0) {
+            row.setAmount(row.getAmount().abs());
+        }
+        if (row.getNotes() == null) {
+            row.setNotes("");
+        }
+        if (row.getTags() == null) {
+            row.setTags("");
+        }
+    }
+
     String buildPrompt(String extractedText, List<MerchantCategoryMapping> merchantMappings, List<String> availableCategories) {
         StringBuilder sb = new StringBuilder();
         sb.append("You are a financial data extraction expert. Extract all transactions from the following credit card statement text.\n\n");
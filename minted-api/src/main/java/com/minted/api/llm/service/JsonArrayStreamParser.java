@@ -0,0 +1,104 @@
+package com.minted.api.llm.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.minted.api.common.exception.BadRequestException;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental parser for the JSON array of rows an LLM writes, fed text fragments as they stream in. Uses Jackson's
+ * non-blocking parser and returns each row as soon as its closing brace arrives. Anything before the opening
+ * {@code [} (such as a {@code ```json} fence) and after the closing {@code ]} is ignored. Not thread-safe.
+ */
+public class JsonArrayStreamParser {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean started;
+    private boolean finished;
+    private int depth;
+    private TokenBuffer current;
+
+    public JsonArrayStreamParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create streaming JSON parser", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Feeds the next fragment and returns the rows it completed, in order.
+     */
+    public List<ParsedTransactionRow> feed(String fragment) {
+        if (finished || fragment == null || fragment.isEmpty()) {
+            return List.of();
+        }
+        if (!started) {
+            int start = fragment.indexOf('[');
+            if (start < 0) {
+                return List.of();
+            }
+            started = true;
+            fragment = fragment.substring(start);
+        }
+        byte[] bytes = fragment.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            return drain();
+        } catch (IOException e) {
+            throw new BadRequestException("LLM returned unparseable response. Please try again. Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Whether the closing {@code ]} of the array has been read.
+     */
+    public boolean isComplete() {
+        return finished;
+    }
+
+    private List<ParsedTransactionRow> drain() throws IOException {
+        List<ParsedTransactionRow> rows = new ArrayList<>();
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+            if (depth == 0) {
+                // Always START_ARRAY: input is only fed from the first '['
+                depth = 1;
+            } else if (depth == 1) {
+                if (token == JsonToken.END_ARRAY) {
+                    finished = true;
+                } else if (token == JsonToken.START_OBJECT) {
+                    current = new TokenBuffer(objectMapper, false);
+                    current.forceUseOfBigDecimal(true);
+                    current.copyCurrentEvent(parser);
+                    depth = 2;
+                }
+                // Stray scalars between rows are skipped
+            } else {
+                current.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd() && --depth == 1) {
+                    try (JsonParser rowParser = current.asParser()) {
+                        rows.add(objectMapper.readValue(rowParser, ParsedTransactionRow.class));
+                    }
+                    current = null;
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -11,5 +11,9 @@ public interface LlmConfigService {
 
     EffectiveLlmConfig getEffectiveConfig(Long userId);
 
-    record EffectiveLlmConfig(String apiKey, String modelKey) {}
+    /**
+     * Key and model to parse statements with; {@code provider} is the model's provider and selects the
+     * {@link LlmService} (see {@link LlmProviderRegistry}).
+     */
+    record EffectiveLlmConfig(String provider, String apiKey, String modelKey) {}
 }
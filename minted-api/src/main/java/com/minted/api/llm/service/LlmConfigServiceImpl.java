@@ -27,6 +27,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class LlmConfigServiceImpl implements LlmConfigService {
 
+    private static final String DEFAULT_PROVIDER = "GEMINI";
+
     private final LlmConfigurationRepository configRepository;
     private final LlmModelRepository modelRepository;
     private final UserRepository userRepository;
@@ -84,8 +86,7 @@ public class LlmConfigServiceImpl implements LlmConfigService {
         LlmConfiguration userConfig = configRepository.findByUserId(userId).orElse(null);
 
         if (userConfig != null && userConfig.getApiKey() != null && !userConfig.getApiKey().isBlank()) {
-            String modelKey = resolveModelKey(userConfig);
-            return new EffectiveLlmConfig(userConfig.getApiKey(), modelKey);
+            return effective(userConfig.getApiKey(), resolveModel(userConfig));
         }
 
         // 2. Check if admin key is shared
@@ -107,13 +108,10 @@ public class LlmConfigServiceImpl implements LlmConfigService {
                 LlmConfiguration adminConfig = configRepository.findByUserId(admin.getId()).orElse(null);
                 if (adminConfig != null && adminConfig.getApiKey() != null && !adminConfig.getApiKey().isBlank()) {
                     // Use admin key, but prefer user's model selection if available
-                    String modelKey;
-                    if (userConfig != null && userConfig.getModel() != null) {
-                        modelKey = userConfig.getModel().getModelKey();
-                    } else {
-                        modelKey = resolveModelKey(adminConfig);
-                    }
-                    return new EffectiveLlmConfig(adminConfig.getApiKey(), modelKey);
+                    LlmModel model = userConfig != null && userConfig.getModel() != null
+                            ? userConfig.getModel()
+                            : resolveModel(adminConfig);
+                    return effective(adminConfig.getApiKey(), model);
                 }
             }
         }
@@ -122,15 +120,24 @@ public class LlmConfigServiceImpl implements LlmConfigService {
         throw new BadRequestException("No LLM key configured. Please add your Gemini API key in Settings.");
     }
 
-    private String resolveModelKey(LlmConfiguration config) {
+    private LlmModel resolveModel(LlmConfiguration config) {
         if (config.getModel() != null) {
-            return config.getModel().getModelKey();
+            return config.getModel();
         }
         // Fall back to default model
         return modelRepository.findByIsActiveTrueOrderByIsDefaultDescNameAsc().stream()
                 .filter(m -> Boolean.TRUE.equals(m.getIsDefault()))
                 .findFirst()
-                .map(LlmModel::getModelKey)
-                .orElse("gemini-2.0-flash");
+                .orElse(null);
+    }
+
+    private static EffectiveLlmConfig effective(String apiKey, LlmModel model) {
+        if (model == null) {
+            return new EffectiveLlmConfig(DEFAULT_PROVIDER, apiKey, "gemini-2.0-flash");
+        }
+        String provider = model.getProvider() != null && !model.getProvider().isBlank()
+                ? model.getProvider()
+                : DEFAULT_PROVIDER;
+        return new EffectiveLlmConfig(provider, apiKey, model.getModelKey());
     }
 }
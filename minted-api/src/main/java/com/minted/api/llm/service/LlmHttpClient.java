@@ -0,0 +1,338 @@
+package com.minted.api.llm.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.common.concurrent.CircuitBreaker;
+import com.minted.api.common.exception.BadRequestException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Calls LLM providers over the shared, pooled {@code llmHttpClient}. Each call gets the provider's read timeout;
+ * timeouts, connection failures, HTTP 429 and 5xx are retried up to {@code max-attempts} times with jittered
+ * exponential backoff (honouring {@code Retry-After}). Every provider has its own {@link CircuitBreaker}: after
+ * repeated failed attempts further calls fail fast with {@link BadRequestException} until the circuit half-opens.
+ * Streaming calls ({@link #postJsonStreaming}) are only retried while no line has been received, so a consumer never
+ * sees the same output twice, and a watchdog closes a stream whose body stalls. Request URLs are never logged, since
+ * some providers take the API key as a query parameter.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmHttpClient {
+
+    @Qualifier("llmHttpClient")
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.llm.http.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.llm.http.backoff-base-ms:500}")
+    private long backoffBaseMs;
+
+    @Value("${app.llm.http.backoff-max-ms:8000}")
+    private long backoffMaxMs;
+
+    @Value("${app.llm.circuit.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${app.llm.circuit.open-seconds:30}")
+    private long circuitOpenSeconds;
+
+    @Value("${app.llm.http.stream-max-seconds:600}")
+    private long streamMaxSeconds;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService streamWatchdog = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "llm-stream-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** A failure worth retrying: the provider may answer on the next attempt. */
+    public static class RetryableException extends RuntimeException {
+
+        private final Duration retryAfter;
+
+        public RetryableException(String message, Duration retryAfter) {
+            super(message);
+            this.retryAfter = retryAfter;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+    }
+
+    /** The provider answered with a 4xx other than 429: it is up, but refused this request. */
+    public static class RejectedException extends BadRequestException {
+
+        public RejectedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * POSTs {@code body} as JSON and returns the response body of the first 2xx answer.
+     */
+    public String postJson(String provider, String url, Object body, Duration readTimeout) {
+        HttpRequest request = jsonPost(provider, url, body, readTimeout);
+        return execute(provider, () -> send(provider, request));
+    }
+
+    /**
+     * POSTs {@code body} as JSON and hands each line of the response (e.g. server-sent events) to {@code onLine} as
+     * it arrives. {@code readTimeout} bounds the wait for the response headers and for each further line, and the
+     * whole body must arrive within {@code stream-max-seconds}; past either the stream is closed and the call fails
+     * like a timeout.
+     */
+    public void postJsonStreaming(String provider, String url, Object body, Duration readTimeout, Consumer<String> onLine) {
+        HttpRequest request = jsonPost(provider, url, body, readTimeout);
+        execute(provider, () -> {
+            streamLines(provider, request, readTimeout, onLine);
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code call} under the provider's retry policy and circuit breaker. The call signals a transient failure
+     * by throwing {@link RetryableException}; any other exception is returned to the caller at once. Only a
+     * {@link RejectedException} counts as the provider being healthy; other exceptions leave the breaker as it is.
+     */
+    public <T> T execute(String provider, Supplier<T> call) {
+        CircuitBreaker breaker = breakers.computeIfAbsent(provider, p -> new CircuitBreaker(
+                "llm-" + p, circuitFailureThreshold, Duration.ofSeconds(circuitOpenSeconds), Clock.systemUTC()));
+        for (int attempt = 1; ; attempt++) {
+            if (!breaker.allowRequest()) {
+                throw new BadRequestException("LLM provider " + provider + " is temporarily unavailable after repeated failures. "
+                        + "Please try again in " + Math.max(1, breaker.retryAfter().toSeconds()) + "s.");
+            }
+            try {
+                T result = call.get();
+                breaker.recordSuccess();
+                return result;
+            } catch (RetryableException e) {
+                breaker.recordFailure();
+                if (attempt >= maxAttempts) {
+                    throw new BadRequestException("LLM provider " + provider + " failed after " + attempt
+                            + " attempts: " + e.getMessage());
+                }
+                long delay = backoffMillis(attempt, e.getRetryAfter());
+                log.warn("LLM provider {} attempt {}/{} failed ({}), retrying in {} ms",
+                        provider, attempt, maxAttempts, e.getMessage(), delay);
+                sleep(delay);
+            } catch (RejectedException e) {
+                // The provider answered; the request itself was rejected
+                breaker.recordSuccess();
+                throw e;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamWatchdog.shutdownNow();
+    }
+
+    public CircuitBreaker.State circuitState(String provider) {
+        CircuitBreaker breaker = breakers.get(provider);
+        return breaker != null ? breaker.getState() : CircuitBreaker.State.CLOSED;
+    }
+
+    private HttpRequest jsonPost(String provider, String url, Object body, Duration readTimeout) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize " + provider + " request", e);
+        }
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private void streamLines(String provider, HttpRequest request, Duration idleTimeout, Consumer<String> onLine) {
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (HttpTimeoutException e) {
+            throw new RetryableException(provider + " timed out", null);
+        } catch (IOException e) {
+            throw new RetryableException(provider + " connection failed: " + e.getMessage(), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + provider, e);
+        }
+
+        boolean received = false;
+        try (InputStream body = response.body();
+             BodyDeadline deadline = new BodyDeadline(body, idleTimeout, Duration.ofSeconds(streamMaxSeconds))) {
+            try {
+                if (response.statusCode() >= 400) {
+                    String error = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                    checkStatus(provider, response.statusCode(), deadline.expired() ? null : error, retryAfter(response));
+                }
+                BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    deadline.touch();
+                    received = true;
+                    onLine.accept(line);
+                    deadline.touch();
+                }
+            } catch (IOException e) {
+                if (!deadline.expired()) {
+                    if (!received) {
+                        throw new RetryableException(provider + " stream failed: " + e.getMessage(), null);
+                    }
+                    throw new BadRequestException("LLM provider " + provider + " stream was interrupted. Please try again.");
+                }
+            }
+            // The watchdog closes a stalled body, which then reads as ended (or failed)
+            if (deadline.expired()) {
+                if (!received) {
+                    throw new RetryableException(provider + " timed out", null);
+                }
+                throw new BadRequestException("LLM provider " + provider + " stopped responding mid-stream. Please try again.");
+            }
+        } catch (IOException e) {
+            log.debug("Failed to close {} response stream: {}", provider, e.getMessage());
+        }
+    }
+
+    private String send(String provider, HttpRequest request) {
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (HttpTimeoutException e) {
+            throw new RetryableException(provider + " timed out", null);
+        } catch (IOException e) {
+            throw new RetryableException(provider + " connection failed: " + e.getMessage(), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + provider, e);
+        }
+
+        checkStatus(provider, response.statusCode(), response.body(), retryAfter(response));
+        return response.body();
+    }
+
+    private static void checkStatus(String provider, int status, String body, Duration retryAfter) {
+        if (status == 429 || status >= 500) {
+            throw new RetryableException(provider + " returned HTTP " + status, retryAfter);
+        }
+        if (status >= 400) {
+            String text = body != null ? body : "";
+            throw new RejectedException("LLM provider " + provider + " rejected the request (HTTP " + status + "): "
+                    + (text.length() > 300 ? text.substring(0, 300) + "…" : text));
+        }
+    }
+
+    /** Equal jitter: half of the exponential step, plus a random share of the other half. */
+    long backoffMillis(int attempt, Duration retryAfter) {
+        long step = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt - 1, 20));
+        long delay = step / 2 + ThreadLocalRandom.current().nextLong(step / 2 + 1);
+        if (retryAfter != null) {
+            delay = Math.max(delay, Math.min(retryAfter.toMillis(), backoffMaxMs));
+        }
+        return delay;
+    }
+
+    private static Duration retryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Duration.ofSeconds(Long.parseLong(value.trim()));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during LLM retry backoff", e);
+        }
+    }
+
+    /**
+     * Closes {@code body} once no line arrived for {@code idle}, or {@code total} has passed since the stream opened.
+     * Checked on {@code streamWatchdog} a few times per idle period.
+     */
+    private final class BodyDeadline implements AutoCloseable {
+
+        private final InputStream body;
+        private final long idleNanos;
+        private final long endNanos;
+        private final ScheduledFuture<?> check;
+        private volatile long lastActivity = System.nanoTime();
+        private volatile boolean expired;
+
+        private BodyDeadline(InputStream body, Duration idle, Duration total) {
+            this.body = body;
+            this.idleNanos = idle.toNanos();
+            this.endNanos = lastActivity + total.toNanos();
+            long periodMs = Math.max(10, Math.min(1000, idle.toMillis() / 4));
+            this.check = streamWatchdog.scheduleWithFixedDelay(this::check, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        }
+
+        void touch() {
+            lastActivity = System.nanoTime();
+        }
+
+        boolean expired() {
+            return expired;
+        }
+
+        private void check() {
+            long now = System.nanoTime();
+            if (now - lastActivity > idleNanos || now - endNanos > 0) {
+                expired = true;
+                check.cancel(false);
+                try {
+                    body.close();
+                } catch (IOException e) {
+                    log.debug("Failed to close stalled LLM stream: {}", e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            check.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.minted.api.llm.service;
+
+import com.minted.api.common.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Finds the {@link LlmService} for an LLM model's {@code provider} ({@code GEMINI}, {@code STUB}, ...).
+ */
+@Component
+@RequiredArgsConstructor
+public class LlmProviderRegistry {
+
+    private final List<LlmService> services;
+
+    public LlmService forProvider(String provider) {
+        return services.stream()
+                .filter(s -> s.getProviderName().equalsIgnoreCase(provider))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unsupported LLM provider: " + provider));
+    }
+}
@@ -0,0 +1,40 @@
+package com.minted.api.llm.service;
+
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Content-addressed cache of statement parse results, so parsing the same text again with the same model,
+ * categories and merchant rules does not call the LLM.
+ */
+public interface LlmResultCacheService {
+
+    /**
+     * SHA-256 (hex) of everything that shapes the prompt: user, provider, model, the statement text with line
+     * endings and trailing whitespace normalised, the category names sorted, and the merchant rules in prompt order.
+     */
+    String keyFor(Long userId, LlmConfigService.EffectiveLlmConfig llmConfig, String text,
+                  List<String> availableCategories, List<MerchantCategoryMapping> merchantMappings);
+
+    /**
+     * Cached rows for the key, each with a fresh tempId; empty when missing, expired or caching is disabled.
+     */
+    Optional<List<ParsedTransactionRow>> get(String cacheKey);
+
+    /**
+     * Stores rows under the key in its own transaction and evicts expired and least recently used entries.
+     * Never throws: a failed write only costs a future cache miss.
+     */
+    void put(String cacheKey, Long userId, LlmConfigService.EffectiveLlmConfig llmConfig, List<ParsedTransactionRow> rows);
+
+    void evict(String cacheKey);
+
+    /**
+     * Deletes all entries of a user together with their blobs. Run before the user is deleted: the
+     * {@code ON DELETE CASCADE} on {@code llm_result_cache.user_id} would leave the blobs behind.
+     */
+    void evictUser(Long userId);
+}
@@ -0,0 +1,201 @@
+package com.minted.api.llm.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.llm.entity.LlmResultCacheEntry;
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+import com.minted.api.llm.repository.LlmResultCacheRepository;
+import com.minted.api.payload.dto.PayloadRefs;
+import com.minted.api.payload.repository.PayloadBlobRepository;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+import com.minted.api.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmResultCacheServiceImpl implements LlmResultCacheService {
+
+    private static final int EVICTION_PAGE_SIZE = 200;
+
+    private final LlmResultCacheRepository cacheRepository;
+    private final PayloadBlobRepository payloadBlobRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.llm.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.llm.cache.max-age-days:30}")
+    private int maxAgeDays;
+
+    @Value("${app.llm.cache.max-entries:2000}")
+    private int maxEntries;
+
+    @Override
+    public String keyFor(Long userId, LlmConfigService.EffectiveLlmConfig llmConfig, String text,
+                         List<String> availableCategories, List<MerchantCategoryMapping> merchantMappings) {
+        MessageDigest digest = sha256();
+        // Parts are separated by a zero byte so no part can run into the next
+        update(digest, String.valueOf(userId));
+        update(digest, llmConfig.provider());
+        update(digest, llmConfig.modelKey());
+        update(digest, normalize(text));
+        update(digest, String.join("\n", availableCategories.stream().sorted().toList()));
+        for (MerchantCategoryMapping mapping : merchantMappings) {
+            update(digest, mapping.getSnippets() + "=>" + mapping.getCategory().getName());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    @Transactional
+    public Optional<List<ParsedTransactionRow>> get(String cacheKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        LlmResultCacheEntry entry = cacheRepository.findByCacheKey(cacheKey).orElse(null);
+        if (entry == null || entry.getCreatedAt().isBefore(LocalDateTime.now().minusDays(maxAgeDays))) {
+            return Optional.empty();
+        }
+        try {
+            List<ParsedTransactionRow> rows = objectMapper.readValue(entry.getRowsJson(), new TypeReference<>() {});
+            rows.forEach(row -> row.setTempId(UUID.randomUUID().toString()));
+            cacheRepository.recordHit(entry.getId(), LocalDateTime.now());
+            return Optional.of(rows);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable LLM cache entry {}: {}", entry.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String cacheKey, Long userId, LlmConfigService.EffectiveLlmConfig llmConfig,
+                    List<ParsedTransactionRow> rows) {
+        if (!enabled) {
+            return;
+        }
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                LlmResultCacheEntry entry = new LlmResultCacheEntry();
+                entry.setCacheKey(cacheKey);
+                entry.setUser(userRepository.getReferenceById(userId));
+                entry.setProvider(llmConfig.provider());
+                entry.setModelKey(llmConfig.modelKey());
+                entry.setRowsJson(writeRows(rows));
+                entry.setRowCount(rows.size());
+                entry.setLastUsedAt(LocalDateTime.now());
+                cacheRepository.saveAndFlush(entry);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent parse of the same input stored it first
+            log.debug("LLM cache entry {} already stored", cacheKey);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Failed to store LLM cache entry: {}", e.getMessage());
+            return;
+        }
+        try {
+            requiresNew.executeWithoutResult(status -> evictExpiredAndExcess());
+        } catch (RuntimeException e) {
+            log.warn("LLM cache eviction failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void evict(String cacheKey) {
+        cacheRepository.findByCacheKey(cacheKey).ifPresent(entry -> {
+            cacheRepository.delete(entry);
+            log.debug("Evicted LLM cache entry {}", entry.getId());
+        });
+    }
+
+    @Override
+    @Transactional
+    public void evictUser(Long userId) {
+        List<PayloadRefs> refs = cacheRepository.findRefsByUserId(userId);
+        if (!refs.isEmpty()) {
+            delete(refs);
+            log.info("LLM result cache: evicted {} entries of userId={}", refs.size(), userId);
+        }
+    }
+
+    private void evictExpiredAndExcess() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        int expired = 0;
+        List<PayloadRefs> page;
+        while (!(page = cacheRepository.findExpiredRefs(cutoff, PageRequest.of(0, EVICTION_PAGE_SIZE))).isEmpty()) {
+            delete(page);
+            expired += page.size();
+        }
+        int excess = (int) Math.min(Integer.MAX_VALUE, cacheRepository.count() - maxEntries);
+        if (excess > 0) {
+            delete(cacheRepository.findLeastRecentlyUsedRefs(PageRequest.of(0, excess)));
+        }
+        if (expired > 0 || excess > 0) {
+            log.info("LLM result cache: evicted {} expired and {} least recently used entries", expired, Math.max(0, excess));
+        }
+    }
+
+    private void delete(List<PayloadRefs> refs) {
+        // Entries reference their blobs, so entries go first
+        cacheRepository.deleteByIdIn(refs.stream().map(PayloadRefs::ownerId).toList());
+        payloadBlobRepository.deleteAllByIdInBatch(refs.stream().flatMap(r -> r.blobIds().stream()).toList());
+    }
+
+    private String writeRows(List<ParsedTransactionRow> rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize parsed rows", e);
+        }
+    }
+
+    /**
+     * Line endings unified and trailing whitespace dropped, so re-extracted or re-pasted text hashes the same.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\r\n", "\n").replace('\r', '\n')
+                .replaceAll("[ \\t]+\n", "\n")
+                .strip();
+    }
+
+    private static void update(MessageDigest digest, String part) {
+        digest.update((part != null ? part : "").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
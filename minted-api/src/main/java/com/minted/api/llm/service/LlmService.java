@@ -4,6 +4,7 @@ import com.minted.api.statement.dto.ParsedTransactionRow;
 import com.minted.api.llm.entity.MerchantCategoryMapping;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface LlmService {
 
@@ -13,4 +14,19 @@ public interface LlmService {
                                                List<MerchantCategoryMapping> merchantMappings,
                                                List<String> availableCategories,
                                                String apiKey, String modelKey);
+
+    /**
+     * Like {@link #parseStatement} but hands each row to {@code onRow} as soon as it is available, on the calling
+     * thread. Providers without a streaming API emit all rows once the response is complete.
+     */
+    default List<ParsedTransactionRow> parseStatementStreaming(String extractedText, Long userId, Long statementId,
+                                                                List<MerchantCategoryMapping> merchantMappings,
+                                                                List<String> availableCategories,
+                                                                String apiKey, String modelKey,
+                                                                Consumer<ParsedTransactionRow> onRow) {
+        List<ParsedTransactionRow> rows = parseStatement(extractedText, userId, statementId,
+                merchantMappings, availableCategories, apiKey, modelKey);
+        rows.forEach(onRow);
+        return rows;
+    }
 }
@@ -26,6 +26,7 @@ public class MerchantMappingServiceImpl implements MerchantMappingService {
     private final MerchantCategoryMappingRepository mappingRepository;
     private final TransactionCategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final MerchantMatcherCache merchantMatcherCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -49,6 +50,7 @@ public class MerchantMappingServiceImpl implements MerchantMappingService {
         mapping.setCategory(category);
 
         mapping = mappingRepository.save(mapping);
+        merchantMatcherCache.evict(userId);
         log.info("MerchantMapping created: id={}", mapping.getId());
         return MerchantMappingResponse.from(mapping);
     }
@@ -65,6 +67,7 @@ public class MerchantMappingServiceImpl implements MerchantMappingService {
         mapping.setCategory(category);
 
         mapping = mappingRepository.save(mapping);
+        merchantMatcherCache.evict(userId);
         log.info("MerchantMapping updated: id={}", mapping.getId());
         return MerchantMappingResponse.from(mapping);
     }
@@ -74,6 +77,7 @@ public class MerchantMappingServiceImpl implements MerchantMappingService {
     public void deleteMapping(Long id, Long userId) {
         MerchantCategoryMapping mapping = mappingRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Mapping not found with id: " + id));
+        merchantMatcherCache.evict(userId);
         mappingRepository.delete(mapping);
         log.info("MerchantMapping deleted: id={}", id);
     }
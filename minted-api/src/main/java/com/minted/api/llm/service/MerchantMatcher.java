@@ -0,0 +1,170 @@
+package com.minted.api.llm.service;
+
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over the snippets of a user's merchant mapping rules. {@link #match(String)} finds the rule
+ * that applies to a description in one pass over its characters, instead of testing every snippet of every rule with
+ * {@code contains}. Matching is case-insensitive and gives the same answer as the ordered loop it replaces: the first
+ * rule, in list order, with any snippet occurring in the description.
+ *
+ * Immutable once compiled, so one instance can be shared by concurrent parses (see {@link MerchantMatcherCache}).
+ * {@link #fingerprint()} identifies the rules it was compiled from.
+ */
+public final class MerchantMatcher {
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final String fingerprint;
+    private final Long[] mappingIds;
+    // Outgoing transitions per state: sorted labels and their target states
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    // Lowest rule index whose snippet ends at this state or at any suffix of it reachable through failure links
+    private final int[] firstRule;
+
+    private MerchantMatcher(String fingerprint, Long[] mappingIds, char[][] labels, int[][] targets, int[] fail,
+                            int[] firstRule) {
+        this.fingerprint = fingerprint;
+        this.mappingIds = mappingIds;
+        this.labels = labels;
+        this.targets = targets;
+        this.fail = fail;
+        this.firstRule = firstRule;
+    }
+
+    /**
+     * @param mappings rules in priority order, as returned by {@code findByUserIdOrderByCreatedAtAsc}
+     */
+    public static MerchantMatcher compile(List<MerchantCategoryMapping> mappings) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> rules = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        rules.add(NO_MATCH);
+
+        Long[] mappingIds = new Long[mappings.size()];
+        for (int rule = 0; rule < mappings.size(); rule++) {
+            mappingIds[rule] = mappings.get(rule).getId();
+            for (String snippet : mappings.get(rule).getSnippetList()) {
+                int state = 0;
+                for (int i = 0; i < snippet.length(); i++) {
+                    char c = fold(snippet.charAt(i));
+                    Integer next = trie.get(state).get(c);
+                    if (next == null) {
+                        next = trie.size();
+                        trie.add(new TreeMap<>());
+                        rules.add(NO_MATCH);
+                        trie.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                rules.set(state, Math.min(rules.get(state), rule));
+            }
+        }
+
+        int size = trie.size();
+        char[][] labels = new char[size][];
+        int[][] targets = new int[size][];
+        int[] firstRule = new int[size];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edges = trie.get(state);
+            labels[state] = new char[edges.size()];
+            targets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[state][i] = edge.getKey();
+                targets[state][i] = edge.getValue();
+                i++;
+            }
+            firstRule[state] = rules.get(state);
+        }
+
+        // Breadth-first, so the failure state of every node is final before its children are visited
+        int[] fail = new int[size];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                int fallback = fail[state];
+                int next;
+                while ((next = step(labels, targets, fallback, labels[state][i])) < 0 && fallback != 0) {
+                    fallback = fail[fallback];
+                }
+                fail[child] = Math.max(next, 0);
+                firstRule[child] = Math.min(firstRule[child], firstRule[fail[child]]);
+                queue.add(child);
+            }
+        }
+        return new MerchantMatcher(fingerprint(mappings), mappingIds, labels, targets, fail, firstRule);
+    }
+
+    /**
+     * Id, last update and snippets of every rule, in order. Two rule lists with the same fingerprint compile to the
+     * same matcher.
+     */
+    public static String fingerprint(List<MerchantCategoryMapping> mappings) {
+        StringBuilder sb = new StringBuilder();
+        for (MerchantCategoryMapping mapping : mappings) {
+            sb.append(mapping.getId()).append('\u0001')
+                    .append(mapping.getUpdatedAt()).append('\u0001')
+                    .append(mapping.getSnippets()).append('\u0000');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Id of the first rule with a snippet contained in {@code description}, or {@code null} when none applies.
+     */
+    public Long match(String description) {
+        if (description == null || mappingIds.length == 0) {
+            return null;
+        }
+        int best = NO_MATCH;
+        int state = 0;
+        for (int i = 0; i < description.length(); i++) {
+            char c = fold(description.charAt(i));
+            int next;
+            while ((next = step(labels, targets, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = Math.max(next, 0);
+            if (firstRule[state] < best) {
+                best = firstRule[state];
+                if (best == 0) {
+                    break;
+                }
+            }
+        }
+        return best == NO_MATCH ? null : mappingIds[best];
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public int ruleCount() {
+        return mappingIds.length;
+    }
+
+    private static int step(char[][] labels, int[][] targets, int state, char c) {
+        int i = Arrays.binarySearch(labels[state], c);
+        return i >= 0 ? targets[state][i] : -1;
+    }
+
+    private static char fold(char c) {
+        return Character.toUpperCase(c);
+    }
+}
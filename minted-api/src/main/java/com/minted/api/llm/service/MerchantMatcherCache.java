@@ -0,0 +1,71 @@
+package com.minted.api.llm.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Compiled {@link MerchantMatcher} per user, so a statement parse does not rebuild the automaton.
+ *
+ * The cache is local to each node, so an entry is only reused while its {@link MerchantMatcher#fingerprint()} matches
+ * the rules the caller just loaded; a rule changed through another node is picked up on the next parse. Evicting on
+ * local changes (see {@link #evict(Long)}) just frees the stale entry early.
+ */
+@Slf4j
+@Service
+public class MerchantMatcherCache {
+
+    private final Cache<Long, MerchantMatcher> cache;
+
+    public MerchantMatcherCache(@Value("${app.llm.merchant-matcher.cache-max-size:1000}") long maxSize,
+                                @Value("${app.llm.merchant-matcher.cache-ttl-seconds:3600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Returns the matcher for {@code mappings}, the user's current rules in priority order (as returned by
+     * {@code getRawMappings}). The cached matcher is used when it was compiled from the same rules, otherwise the
+     * rules are compiled and replace it.
+     */
+    public MerchantMatcher get(Long userId, List<MerchantCategoryMapping> mappings) {
+        String fingerprint = MerchantMatcher.fingerprint(mappings);
+        MerchantMatcher cached = cache.getIfPresent(userId);
+        if (cached != null && cached.fingerprint().equals(fingerprint)) {
+            return cached;
+        }
+        MerchantMatcher matcher = MerchantMatcher.compile(mappings);
+        cache.put(userId, matcher);
+        log.debug("Compiled merchant matcher for userId={} ({} rules)", userId, matcher.ruleCount());
+        return matcher;
+    }
+
+    /**
+     * Evicts the user's matcher. When called inside a transaction it is evicted again after commit, so a concurrent
+     * parse cannot keep the rules as they were before the commit cached.
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.minted.api.llm.service;
+
+import com.minted.api.common.exception.BadRequestException;
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Offline provider for load tests and local development: no network call, rows are read from lines shaped like
+ * {@code <date> <description> <amount> [CR]}. Latency and a transient failure rate are configurable, and calls run
+ * through {@link LlmHttpClient#execute} so retries and the circuit breaker behave as they would for a real provider.
+ * Selected by giving an LLM model the provider {@code STUB}; refuses to run unless {@code app.llm.stub.enabled}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StubLlmService implements LlmService {
+
+    // 2026-03-12 or 12/03/2026, description, amount, optional CR marker for credits
+    private static final Pattern ROW = Pattern.compile(
+            "^\\s*(\\d{4}-\\d{2}-\\d{2}|\\d{1,2}/\\d{1,2}/\\d{4})\\s+(.+?)\\s+(-?[\\d,]+\\.\\d{2})(\\s*CR)?\\s*$");
+    private static final DateTimeFormatter DAY_FIRST = DateTimeFormatter.ofPattern("d/M/yyyy");
+
+    private final LlmHttpClient llmHttpClient;
+
+    @Value("${app.llm.stub.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.llm.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${app.llm.stub.failure-rate:0}")
+    private double failureRate;
+
+    @Override
+    public String getProviderName() {
+        return "STUB";
+    }
+
+    @Override
+    public List<ParsedTransactionRow> parseStatement(String extractedText, Long userId, Long statementId,
+                                                      List<MerchantCategoryMapping> merchantMappings,
+                                                      List<String> availableCategories,
+                                                      String apiKey, String modelKey) {
+        if (!enabled) {
+            throw new BadRequestException("The STUB LLM provider is disabled on this server.");
+        }
+        return llmHttpClient.execute(getProviderName(), () -> {
+            simulateLatency();
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                throw new LlmHttpClient.RetryableException("simulated provider failure", null);
+            }
+            List<ParsedTransactionRow> rows = extractRows(extractedText, availableCategories);
+            log.debug("Stub LLM returned {} rows for statement {}", rows.size(), statementId);
+            return rows;
+        });
+    }
+
+    static List<ParsedTransactionRow> extractRows(String text, List<String> availableCategories) {
+        String category = availableCategories.stream()
+                .filter(c -> c.equalsIgnoreCase("Other"))
+                .findFirst()
+                .orElse(availableCategories.isEmpty() ? null : availableCategories.get(0));
+        List<ParsedTransactionRow> rows = new ArrayList<>();
+        for (String line : (text != null ? text : "").split("\n")) {
+            Matcher m = ROW.matcher(line);
+            if (!m.matches()) {
+                continue;
+            }
+            String date = isoDate(m.group(1));
+            if (date == null) {
+                continue;
+            }
+            ParsedTransactionRow row = new ParsedTransactionRow();
+            row.setTempId(UUID.randomUUID().toString());
+            row.setTransactionDate(date);
+            row.setDescription(m.group(2).trim());
+            row.setAmount(new BigDecimal(m.group(3).replace(",", "")).abs());
+            row.setType(m.group(4) != null ? "INCOME" : "EXPENSE");
+            row.setCategoryName(category);
+            row.setNotes("");
+            row.setTags("");
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static String isoDate(String value) {
+        try {
+            return value.contains("/") ? LocalDate.parse(value, DAY_FIRST).toString() : LocalDate.parse(value).toString();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void simulateLatency() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during simulated LLM latency", e);
+        }
+    }
+}
@@ -1,16 +1,13 @@
 package com.minted.api.notification.controller;
 
 import com.minted.api.notification.dto.NotificationResponse;
-import com.minted.api.user.entity.User;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.notification.service.NotificationService;
+import com.minted.api.common.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -21,15 +18,13 @@ import java.util.Map;
 public class NotificationController {
 
     private final NotificationService notificationService;
-    private final UserRepository userRepository;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> getNotifications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         Pageable pageable = PageRequest.of(page, size);
         Page<NotificationResponse> notifications = notificationService.getNotifications(userId, pageable);
         return ResponseEntity.ok(Map.of(
@@ -39,8 +34,7 @@ public class NotificationController {
     }
 
     @GetMapping("/unread-count")
-    public ResponseEntity<Map<String, Object>> getUnreadCount(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getUnreadCount(@CurrentUser Long userId) {
         long count = notificationService.getUnreadCount(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -51,9 +45,8 @@ public class NotificationController {
     @PutMapping("/{id}/read")
     public ResponseEntity<Map<String, Object>> markAsRead(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         NotificationResponse notification = notificationService.markAsRead(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -62,8 +55,7 @@ public class NotificationController {
     }
 
     @PutMapping("/read-all")
-    public ResponseEntity<Map<String, Object>> markAllAsRead(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> markAllAsRead(@CurrentUser Long userId) {
         int count = notificationService.markAllAsRead(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -74,27 +66,18 @@ public class NotificationController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> dismiss(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         notificationService.dismiss(id, userId);
         return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/read")
-    public ResponseEntity<Map<String, Object>> dismissAllRead(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> dismissAllRead(@CurrentUser Long userId) {
         int count = notificationService.dismissAllRead(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", count + " read notifications cleared"
         ));
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
@@ -0,0 +1,21 @@
+package com.minted.api.payload.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Payload references of one owner row (bulk import, statement or LLM result cache entry), selected for
+ * purging without loading the payloads themselves.
+ */
+public record PayloadRefs(
+        Long ownerId,
+        Long firstBlobId,
+        Long secondBlobId
+) {
+    public List<Long> blobIds() {
+        List<Long> ids = new ArrayList<>(2);
+        if (firstBlobId != null) ids.add(firstBlobId);
+        if (secondBlobId != null) ids.add(secondBlobId);
+        return ids;
+    }
+}
@@ -0,0 +1,123 @@
+package com.minted.api.payload.entity;
+
+import com.minted.api.payload.enums.PayloadEncoding;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-compressed text payload kept in {@code payload_blobs}, away from the row that owns it.
+ * Owners map it as a lazy one-to-one and expose the text through plain getters/setters
+ * (see {@link #textOf} and {@link #update}), so listing queries never read the content column.
+ */
+@Entity
+@Table(name = "payload_blobs")
+@Getter
+@NoArgsConstructor
+public class PayloadBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(Types.VARCHAR)
+    @Column(name = "encoding", nullable = false, length = 10)
+    private PayloadEncoding encoding;
+
+    @Column(name = "content", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] content;
+
+    // Uncompressed UTF-8 size in bytes
+    @Column(name = "original_size", nullable = false)
+    private Long originalSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static String textOf(PayloadBlob blob) {
+        return blob != null ? blob.text() : null;
+    }
+
+    /**
+     * Returns the blob to store for {@code text}: null when text is null (the owner's orphan removal
+     * deletes the old row), otherwise the existing blob rewritten in place or a new one.
+     */
+    public static PayloadBlob update(PayloadBlob blob, String text) {
+        if (text == null) {
+            return null;
+        }
+        PayloadBlob target = blob != null ? blob : new PayloadBlob();
+        target.write(text);
+        return target;
+    }
+
+    /**
+     * Returns a new blob holding {@code in}, compressed as it is read, so the uncompressed payload is never held
+     * in memory.
+     */
+    public static PayloadBlob compress(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        long size;
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            size = in.transferTo(out);
+        }
+        PayloadBlob blob = new PayloadBlob();
+        blob.encoding = PayloadEncoding.GZIP;
+        blob.content = buffer.toByteArray();
+        blob.originalSize = size;
+        return blob;
+    }
+
+    /**
+     * Streams the text, decompressing as it is read. Malformed UTF-8 is replaced rather than rejected.
+     */
+    public Reader reader() throws IOException {
+        InputStream in = new ByteArrayInputStream(content);
+        if (encoding != PayloadEncoding.NONE) {
+            in = new GZIPInputStream(in);
+        }
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+
+    public String text() {
+        if (encoding == PayloadEncoding.NONE) {
+            return new String(content, StandardCharsets.UTF_8);
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt payload blob " + id, e);
+        }
+    }
+
+    private void write(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress payload", e);
+        }
+        this.encoding = PayloadEncoding.GZIP;
+        this.content = buffer.toByteArray();
+        this.originalSize = (long) bytes.length;
+    }
+}
@@ -0,0 +1,6 @@
+package com.minted.api.payload.enums;
+
+public enum PayloadEncoding {
+    GZIP,
+    NONE // payloads copied from the old inline columns by V0_0_44
+}
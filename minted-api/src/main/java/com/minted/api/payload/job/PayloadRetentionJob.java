@@ -0,0 +1,225 @@
+package com.minted.api.payload.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.bulkimport.enums.ImportStatus;
+import com.minted.api.bulkimport.repository.BulkImportRepository;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.entity.JobScheduleConfig;
+import com.minted.api.job.entity.JobStepExecution;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.enums.JobStepStatus;
+import com.minted.api.job.enums.JobTriggerType;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.JobSchedulerService;
+import com.minted.api.job.service.WorkQueueService;
+import com.minted.api.payload.dto.PayloadRefs;
+import com.minted.api.payload.repository.PayloadBlobRepository;
+import com.minted.api.statement.enums.StatementStatus;
+import com.minted.api.statement.repository.CreditCardStatementRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Purges the payloads (raw CSV, validation preview, extracted statement text, LLM response) of bulk imports
+ * and statements that reached COMPLETED or FAILED more than {@code app.payload.retention-days} ago.
+ * Rows themselves, counts and job history are kept. Works in pages, one transaction per page: clear the
+ * owner references, then delete the blobs. Finished work-queue items older than the same cutoff are
+ * deleted too.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayloadRetentionJob implements Runnable {
+
+    public static final String JOB_NAME = "PAYLOAD_RETENTION";
+
+    private static final int PAGE_SIZE = 200;
+    private static final List<ImportStatus> IMPORT_STATUSES = List.of(ImportStatus.COMPLETED, ImportStatus.FAILED);
+    private static final List<StatementStatus> STATEMENT_STATUSES = List.of(StatementStatus.COMPLETED, StatementStatus.FAILED);
+
+    private final BulkImportRepository bulkImportRepository;
+    private final CreditCardStatementRepository statementRepository;
+    private final PayloadBlobRepository payloadBlobRepository;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final JobScheduleConfigRepository scheduleConfigRepository;
+    private final JobSchedulerService jobSchedulerService;
+    private final WorkQueueService workQueueService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.payload.retention-days:90}")
+    private int retentionDays;
+
+    @PostConstruct
+    public void init() {
+        scheduleConfigRepository.findByJobName(JOB_NAME).ifPresent(config -> {
+            jobSchedulerService.registerJob(JOB_NAME, this, config.getCronExpression(), config.getEnabled());
+        });
+    }
+
+    @Override
+    public void run() {
+        log.info("Starting PayloadRetentionJob execution...");
+
+        JobScheduleConfig config = scheduleConfigRepository.findByJobName(JOB_NAME).orElse(null);
+        JobExecution execution = new JobExecution();
+        execution.setJobName(JOB_NAME);
+        execution.setScheduleConfig(config);
+        execution.setStatus(JobStatus.RUNNING);
+        execution.setTriggerType(JobTriggerType.SCHEDULED);
+        execution.setStartTime(LocalDateTime.now());
+        execution.setTotalSteps(4);
+        execution = jobExecutionRepository.save(execution);
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        try {
+            // Step 1: Bulk import payloads
+            executeStep(execution, "Purge Import Payloads", 1, cutoff, () -> purge(transactionTemplate,
+                    page -> bulkImportRepository.findPayloadRefs(IMPORT_STATUSES, cutoff, page),
+                    bulkImportRepository::clearPayloads));
+            execution.setCompletedSteps(1);
+            jobExecutionRepository.save(execution);
+
+            // Step 2: Statement payloads
+            executeStep(execution, "Purge Statement Payloads", 2, cutoff, () -> purge(transactionTemplate,
+                    page -> statementRepository.findPayloadRefs(STATEMENT_STATUSES, cutoff, page),
+                    statementRepository::clearPayloads));
+            execution.setCompletedSteps(2);
+            jobExecutionRepository.save(execution);
+
+            // Step 3: Finished work items
+            JobStepExecution purgeStep = createStep(execution, "Purge Finished Work Items", 3);
+            try {
+                Map<String, Object> purgeContext = new HashMap<>();
+                purgeContext.put("workItemsDeleted", workQueueService.deleteFinishedBefore(cutoff));
+                purgeContext.put("cutoff", cutoff.toString());
+                completeStep(purgeStep, purgeContext);
+            } catch (RuntimeException e) {
+                failStep(purgeStep, e);
+                throw e;
+            }
+            execution.setCompletedSteps(3);
+            jobExecutionRepository.save(execution);
+
+            // Step 4: Update Config
+            JobStepExecution step = createStep(execution, "Update Schedule Configuration", 4);
+            if (config != null) {
+                config.setLastRunAt(LocalDateTime.now());
+                scheduleConfigRepository.save(config);
+            }
+            Map<String, Object> context = new HashMap<>();
+            context.put("configUpdated", config != null);
+            completeStep(step, context);
+            execution.setCompletedSteps(4);
+
+            execution.setStatus(JobStatus.COMPLETED);
+            execution.setEndTime(LocalDateTime.now());
+            jobExecutionRepository.save(execution);
+
+            log.info("PayloadRetentionJob completed successfully.");
+        } catch (Exception e) {
+            log.error("PayloadRetentionJob failed", e);
+            execution.setStatus(JobStatus.FAILED);
+            execution.setEndTime(LocalDateTime.now());
+            execution.setErrorMessage(e.getMessage());
+            jobExecutionRepository.save(execution);
+        }
+    }
+
+    private void executeStep(JobExecution execution, String name, int order, LocalDateTime cutoff,
+                             Supplier<int[]> purge) {
+        JobStepExecution step = createStep(execution, name, order);
+
+        try {
+            int[] purged = purge.get();
+
+            Map<String, Object> context = new HashMap<>();
+            context.put("rowsPurged", purged[0]);
+            context.put("blobsDeleted", purged[1]);
+            context.put("cutoff", cutoff.toString());
+            completeStep(step, context);
+        } catch (RuntimeException e) {
+            failStep(step, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Repeatedly takes the first page of owners still holding payloads, clears their references and deletes
+     * the blobs in one transaction. Cleared rows drop out of the query, so the next page is again page 0.
+     *
+     * @return {rows purged, blobs deleted}
+     */
+    private int[] purge(TransactionTemplate transactionTemplate,
+                        Function<Pageable, List<PayloadRefs>> findPage,
+                        Function<List<Long>, Integer> clearOwners) {
+        int[] totals = new int[2];
+        Pageable firstPage = PageRequest.of(0, PAGE_SIZE);
+
+        while (true) {
+            List<PayloadRefs> page = transactionTemplate.execute(status -> {
+                List<PayloadRefs> refs = findPage.apply(firstPage);
+                if (refs.isEmpty()) {
+                    return refs;
+                }
+                List<Long> blobIds = refs.stream().flatMap(r -> r.blobIds().stream()).toList();
+                clearOwners.apply(refs.stream().map(PayloadRefs::ownerId).toList());
+                if (!blobIds.isEmpty()) {
+                    payloadBlobRepository.deleteAllByIdInBatch(blobIds);
+                }
+                totals[1] += blobIds.size();
+                return refs;
+            });
+            if (page == null || page.isEmpty()) {
+                return totals;
+            }
+            totals[0] += page.size();
+            log.debug("Purged payloads of {} rows", page.size());
+        }
+    }
+
+    private JobStepExecution createStep(JobExecution jobExecution, String name, int order) {
+        JobStepExecution step = new JobStepExecution();
+        step.setJobExecution(jobExecution);
+        step.setStepName(name);
+        step.setStepOrder(order);
+        step.setStatus(JobStepStatus.RUNNING);
+        step.setStartTime(LocalDateTime.now());
+        jobExecution.getSteps().add(step);
+        return step;
+    }
+
+    private void completeStep(JobStepExecution step, Map<String, Object> context) {
+        step.setStatus(JobStepStatus.COMPLETED);
+        step.setEndTime(LocalDateTime.now());
+        try {
+            step.setContextJson(objectMapper.writeValueAsString(context));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize step context for step: {}", step.getStepName(), e);
+        }
+    }
+
+    private void failStep(JobStepExecution step, Exception e) {
+        step.setStatus(JobStepStatus.FAILED);
+        step.setEndTime(LocalDateTime.now());
+        step.setErrorMessage(e.getMessage());
+    }
+}
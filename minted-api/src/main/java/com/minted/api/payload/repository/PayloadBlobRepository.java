@@ -0,0 +1,9 @@
+package com.minted.api.payload.repository;
+
+import com.minted.api.payload.entity.PayloadBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PayloadBlobRepository extends JpaRepository<PayloadBlob, Long> {
+}
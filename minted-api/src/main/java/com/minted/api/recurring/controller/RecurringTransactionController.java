@@ -3,15 +3,12 @@ package com.minted.api.recurring.controller;
 import com.minted.api.recurring.dto.RecurringTransactionRequest;
 import com.minted.api.recurring.dto.RecurringTransactionResponse;
 import com.minted.api.recurring.dto.RecurringSummaryResponse;
-import com.minted.api.user.entity.User;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.recurring.service.RecurringTransactionService;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,11 +20,9 @@ import java.util.Map;
 public class RecurringTransactionController {
 
     private final RecurringTransactionService recurringService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAll(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getAll(@CurrentUser Long userId) {
         List<RecurringTransactionResponse> list = recurringService.getAllByUserId(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -38,9 +33,8 @@ public class RecurringTransactionController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         RecurringTransactionResponse response = recurringService.getById(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -51,9 +45,8 @@ public class RecurringTransactionController {
     @PostMapping
     public ResponseEntity<Map<String, Object>> create(
             @Valid @RequestBody RecurringTransactionRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         RecurringTransactionResponse response = recurringService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "success", true,
@@ -66,9 +59,8 @@ public class RecurringTransactionController {
     public ResponseEntity<Map<String, Object>> update(
             @PathVariable Long id,
             @Valid @RequestBody RecurringTransactionRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         RecurringTransactionResponse response = recurringService.update(id, request, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -80,9 +72,8 @@ public class RecurringTransactionController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> delete(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         recurringService.delete(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -93,9 +84,8 @@ public class RecurringTransactionController {
     @PatchMapping("/{id}/toggle")
     public ResponseEntity<Map<String, Object>> toggleStatus(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         recurringService.toggleStatus(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -104,8 +94,7 @@ public class RecurringTransactionController {
     }
 
     @GetMapping("/summary")
-    public ResponseEntity<Map<String, Object>> getSummary(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getSummary(@CurrentUser Long userId) {
         RecurringSummaryResponse summary = recurringService.getSummary(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -116,20 +105,12 @@ public class RecurringTransactionController {
     @GetMapping("/search")
     public ResponseEntity<Map<String, Object>> search(
             @RequestParam String q,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<RecurringTransactionResponse> results = recurringService.search(userId, q);
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "data", results
         ));
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
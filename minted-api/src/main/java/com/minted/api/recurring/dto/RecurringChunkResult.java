@@ -0,0 +1,30 @@
+package com.minted.api.recurring.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of processing one partition of due recurring transactions.
+ *
+ * @param processed  recurring transactions advanced
+ * @param created    transactions generated (one per occurrence)
+ * @param duplicates occurrences skipped because they were already recorded
+ * @param failedIds  recurring transactions left untouched after an error
+ */
+public record RecurringChunkResult(
+        int processed,
+        int created,
+        int duplicates,
+        List<Long> failedIds
+) {
+    public static RecurringChunkResult empty() {
+        return new RecurringChunkResult(0, 0, 0, List.of());
+    }
+
+    public RecurringChunkResult plus(RecurringChunkResult other) {
+        List<Long> failed = new ArrayList<>(failedIds);
+        failed.addAll(other.failedIds);
+        return new RecurringChunkResult(processed + other.processed, created + other.created,
+                duplicates + other.duplicates, failed);
+    }
+}
@@ -0,0 +1,14 @@
+package com.minted.api.recurring.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A due recurring transaction as selected by the recurring job's keyset scan: enough to advance the
+ * cursor and to partition the chunk by user, without loading the entity.
+ */
+public record RecurringDueRef(
+        Long id,
+        Long userId,
+        LocalDate nextExecutionDate
+) {
+}
@@ -0,0 +1,12 @@
+package com.minted.api.recurring.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Idempotency key of one generated occurrence: a recurring transaction and the date it fell due.
+ */
+public record RecurringOccurrenceKey(
+        Long recurringId,
+        LocalDate occurrenceDate
+) {
+}
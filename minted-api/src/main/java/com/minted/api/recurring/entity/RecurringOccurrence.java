@@ -0,0 +1,54 @@
+package com.minted.api.recurring.entity;
+
+import com.minted.api.transaction.entity.Transaction;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Ledger of occurrences generated by the recurring job. Unique per recurring transaction and date, so each
+ * occurrence produces at most one transaction. The row outlives a user-deleted transaction ({@code transaction}
+ * becomes null) to keep the job from recreating it.
+ */
+@Entity
+@Table(name = "recurring_occurrences", uniqueConstraints = @UniqueConstraint(
+        name = "uk_recurring_occurrence", columnNames = {"recurring_transaction_id", "occurrence_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecurringOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recurring_transaction_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private RecurringTransaction recurringTransaction;
+
+    @Column(name = "occurrence_date", nullable = false)
+    private LocalDate occurrenceDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "transaction_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Transaction transaction;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public RecurringOccurrence(RecurringTransaction recurringTransaction, LocalDate occurrenceDate, Transaction transaction) {
+        this.recurringTransaction = recurringTransaction;
+        this.occurrenceDate = occurrenceDate;
+        this.transaction = transaction;
+    }
+}
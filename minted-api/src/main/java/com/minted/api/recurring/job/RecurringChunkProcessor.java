@@ -0,0 +1,125 @@
+package com.minted.api.recurring.job;
+
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.account.service.BalanceDeltas;
+import com.minted.api.recurring.dto.RecurringChunkResult;
+import com.minted.api.recurring.dto.RecurringOccurrenceKey;
+import com.minted.api.recurring.entity.RecurringOccurrence;
+import com.minted.api.recurring.entity.RecurringTransaction;
+import com.minted.api.recurring.enums.RecurringStatus;
+import com.minted.api.recurring.repository.RecurringOccurrenceRepository;
+import com.minted.api.recurring.repository.RecurringTransactionRepository;
+import com.minted.api.recurring.service.RecurringTransactionService;
+import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.transaction.repository.TransactionRepository;
+import com.minted.api.transaction.service.MonthlyAggregateDeltas;
+import com.minted.api.transaction.service.TransactionAggregateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates the due occurrences of one partition of recurring transactions in a single transaction.
+ * Every missed period up to today is caught up, each occurrence is recorded in {@code recurring_occurrences}
+ * (already recorded ones are skipped), and account balances and monthly aggregates are adjusted once per key
+ * through {@link AccountBalanceService} and {@link TransactionAggregateService}. If the partition fails, its
+ * recurring transactions are retried one per transaction so a single bad row cannot hold back the rest.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecurringChunkProcessor {
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final RecurringOccurrenceRepository occurrenceRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountBalanceService accountBalanceService;
+    private final TransactionAggregateService transactionAggregateService;
+    private final PlatformTransactionManager transactionManager;
+
+    public RecurringChunkResult process(List<Long> recurringIds, LocalDate today) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> generate(recurringIds, today));
+        } catch (RuntimeException e) {
+            if (recurringIds.size() == 1) {
+                log.error("Failed to process recurring transaction ID: {}", recurringIds.get(0), e);
+                return new RecurringChunkResult(0, 0, 0, List.copyOf(recurringIds));
+            }
+            log.warn("Recurring partition of {} failed, retrying one by one: {}", recurringIds.size(), e.getMessage());
+            RecurringChunkResult result = RecurringChunkResult.empty();
+            for (Long id : recurringIds) {
+                result = result.plus(process(List.of(id), today));
+            }
+            return result;
+        }
+    }
+
+    private RecurringChunkResult generate(Collection<Long> recurringIds, LocalDate today) {
+        List<RecurringTransaction> due = recurringTransactionRepository.findAllById(recurringIds).stream()
+                .filter(rt -> rt.getStatus() == RecurringStatus.ACTIVE)
+                .filter(rt -> rt.getNextExecutionDate() != null && !rt.getNextExecutionDate().isAfter(today))
+                .toList();
+        if (due.isEmpty()) {
+            return RecurringChunkResult.empty();
+        }
+
+        LocalDate earliest = due.stream().map(RecurringTransaction::getNextExecutionDate).min(LocalDate::compareTo).get();
+        Set<RecurringOccurrenceKey> recorded = new HashSet<>(occurrenceRepository.findKeys(
+                due.stream().map(RecurringTransaction::getId).toList(), earliest));
+
+        List<Transaction> transactions = new ArrayList<>();
+        List<RecurringOccurrence> occurrences = new ArrayList<>();
+        BalanceDeltas balanceDeltas = new BalanceDeltas();
+        MonthlyAggregateDeltas aggregateDeltas = new MonthlyAggregateDeltas();
+        int duplicates = 0;
+
+        for (RecurringTransaction rt : due) {
+            LocalDate date = rt.getNextExecutionDate();
+            while (!date.isAfter(today) && (rt.getEndDate() == null || !date.isAfter(rt.getEndDate()))) {
+                if (recorded.add(new RecurringOccurrenceKey(rt.getId(), date))) {
+                    Transaction tx = toTransaction(rt, date);
+                    transactions.add(tx);
+                    occurrences.add(new RecurringOccurrence(rt, date, tx));
+                    balanceDeltas.add(rt.getType(), rt.getAmount(), rt.getAccount().getId(), null);
+                    aggregateDeltas.add(tx);
+                } else {
+                    duplicates++;
+                }
+                date = RecurringTransactionService.occurrenceAfter(date, rt.getDayOfMonth());
+            }
+            rt.setNextExecutionDate(date);
+        }
+
+        transactionRepository.saveAll(transactions);
+        occurrenceRepository.saveAll(occurrences);
+        recurringTransactionRepository.saveAll(due);
+
+        accountBalanceService.apply(balanceDeltas);
+        transactionAggregateService.apply(aggregateDeltas);
+
+        return new RecurringChunkResult(due.size(), transactions.size(), duplicates, List.of());
+    }
+
+    private Transaction toTransaction(RecurringTransaction rt, LocalDate date) {
+        Transaction tx = new Transaction();
+        tx.setAmount(rt.getAmount());
+        tx.setType(rt.getType());
+        tx.setDescription(rt.getName() + " (Auto-generated)");
+        tx.setTransactionDate(date);
+        tx.setAccount(rt.getAccount());
+        tx.setCategory(rt.getCategory());
+        tx.setUser(rt.getUser());
+        tx.setIsRecurring(true);
+        return tx;
+    }
+}
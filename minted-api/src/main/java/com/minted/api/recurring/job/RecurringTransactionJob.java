@@ -1,8 +1,9 @@
 package com.minted.api.recurring.job;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.minted.api.recurring.entity.RecurringTransaction;
-import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.recurring.dto.RecurringChunkResult;
+import com.minted.api.recurring.dto.RecurringDueRef;
 import com.minted.api.job.entity.JobExecution;
 import com.minted.api.job.entity.JobScheduleConfig;
 import com.minted.api.job.entity.JobStepExecution;
@@ -13,14 +14,16 @@ import com.minted.api.recurring.enums.RecurringStatus;
 import com.minted.api.job.repository.JobExecutionRepository;
 import com.minted.api.job.repository.JobScheduleConfigRepository;
 import com.minted.api.recurring.repository.RecurringTransactionRepository;
-import com.minted.api.transaction.repository.TransactionRepository;
+import com.minted.api.job.service.JobLockContext;
+import com.minted.api.job.service.JobLockService;
 import com.minted.api.job.service.JobSchedulerService;
-import com.minted.api.recurring.service.RecurringTransactionServiceImpl;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -28,7 +31,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+/**
+ * Generates the transactions of due recurring transactions, catching up every period missed since
+ * {@code nextExecutionDate}. Due rows are scanned in keyset order of (nextExecutionDate, id),
+ * {@code app.recurring.chunk-size} at a time. Each chunk is split by user into up to
+ * {@code app.executors.recurring.pool-size} partitions that {@link RecurringChunkProcessor} runs in parallel,
+ * one transaction each, on the {@code recurringExecutor}; a user's rows (and so their accounts) always land in
+ * one partition. Before each chunk the job re-checks it still holds its job lock, so a node that lost the lock
+ * stops writing.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -37,12 +51,20 @@ public class RecurringTransactionJob implements Runnable {
     public static final String JOB_NAME = "RECURRING_TRANSACTION_PROCESSOR";
 
     private final RecurringTransactionRepository recurringTransactionRepository;
-    private final TransactionRepository transactionRepository;
+    private final RecurringChunkProcessor chunkProcessor;
     private final JobExecutionRepository jobExecutionRepository;
     private final JobScheduleConfigRepository scheduleConfigRepository;
     private final JobSchedulerService jobSchedulerService;
+    private final JobLockService jobLockService;
     private final ObjectMapper objectMapper;
-    private final RecurringTransactionServiceImpl recurringTransactionService; // for next execution date logic
+    @Qualifier("recurringExecutor")
+    private final BoundedExecutor recurringExecutor;
+
+    @Value("${app.recurring.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.executors.recurring.pool-size:4}")
+    private int parallelism;
 
     @PostConstruct
     public void init() {
@@ -52,7 +74,6 @@ public class RecurringTransactionJob implements Runnable {
     }
 
     @Override
-    @Transactional
     public void run() {
         log.info("Starting RecurringTransactionJob execution...");
         
@@ -70,13 +91,15 @@ public class RecurringTransactionJob implements Runnable {
         execution = jobExecutionRepository.save(execution);
 
         try {
-            // Step 1: Fetch
-            List<RecurringTransaction> dueTransactions = executeStep1Fetch(execution);
+            LocalDate today = LocalDate.now();
+
+            // Step 1: Count
+            executeStep1Fetch(execution, today);
             execution.setCompletedSteps(1);
             jobExecutionRepository.save(execution);
 
             // Step 2: Process
-            executeStep2Process(execution, dueTransactions);
+            executeStep2Process(execution, today);
             execution.setCompletedSteps(2);
             jobExecutionRepository.save(execution);
 
@@ -100,72 +123,59 @@ public class RecurringTransactionJob implements Runnable {
         }
     }
 
-    private List<RecurringTransaction> executeStep1Fetch(JobExecution execution) throws Exception {
+    private void executeStep1Fetch(JobExecution execution, LocalDate today) throws Exception {
         JobStepExecution step = createStep(execution, "Fetch Due Recurring Transactions", 1);
         
         try {
-            LocalDate today = LocalDate.now();
-            List<RecurringTransaction> dueTransactions = recurringTransactionRepository
-                    .findByStatusAndNextExecutionDateLessThanEqual(RecurringStatus.ACTIVE, today);
+            long dueCount = recurringTransactionRepository.countDue(RecurringStatus.ACTIVE, today);
             
             Map<String, Object> context = new HashMap<>();
-            context.put("dueCount", dueTransactions.size());
+            context.put("dueCount", dueCount);
             context.put("targetDate", today.toString());
             
             completeStep(step, context);
-            return dueTransactions;
         } catch (Exception e) {
             failStep(step, e);
             throw e;
         }
     }
 
-    private void executeStep2Process(JobExecution execution, List<RecurringTransaction> dueTransactions) throws Exception {
+    private void executeStep2Process(JobExecution execution, LocalDate today) throws Exception {
         JobStepExecution step = createStep(execution, "Process Transactions", 2);
         
-        int created = 0;
-        int failed = 0;
-        List<Long> failedIds = new ArrayList<>();
+        RecurringChunkResult total = RecurringChunkResult.empty();
+        int chunks = 0;
+        LocalDate afterDate = LocalDate.EPOCH;
+        long afterId = 0L;
         
         try {
-            for (RecurringTransaction rt : dueTransactions) {
-                try {
-                    // Create transaction
-                    Transaction tx = new Transaction();
-                    tx.setAmount(rt.getAmount());
-                    tx.setType(rt.getType());
-                    tx.setDescription(rt.getName() + " (Auto-generated)");
-                    tx.setTransactionDate(rt.getNextExecutionDate());
-                    tx.setAccount(rt.getAccount());
-                    tx.setCategory(rt.getCategory());
-                    tx.setUser(rt.getUser());
-                    tx.setIsRecurring(true);
-                    
-                    transactionRepository.save(tx);
-                    
-                    // Update next execution date
-                    LocalDate nextDate = recurringTransactionService.calculateNextExecutionDate(
-                            rt.getNextExecutionDate().plusDays(1), rt.getDayOfMonth());
-                    rt.setNextExecutionDate(nextDate);
-                    recurringTransactionRepository.save(rt);
-                    
-                    created++;
-                } catch (Exception ex) {
-                    log.error("Failed to process recurring transaction ID: {}", rt.getId(), ex);
-                    failed++;
-                    failedIds.add(rt.getId());
+            while (true) {
+                ensureLockHeld();
+                List<RecurringDueRef> chunk = recurringTransactionRepository.findDueAfter(
+                        RecurringStatus.ACTIVE, today, afterDate, afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
                 }
+                // Rows that fail keep their date; the cursor moves past them so they are retried next run
+                RecurringDueRef last = chunk.get(chunk.size() - 1);
+                afterDate = last.nextExecutionDate();
+                afterId = last.id();
+                
+                total = total.plus(processChunk(chunk, today));
+                chunks++;
             }
             
             Map<String, Object> context = new HashMap<>();
-            context.put("processed", dueTransactions.size());
-            context.put("created", created);
-            context.put("failed", failed);
-            if (!failedIds.isEmpty()) {
-                context.put("failedIds", failedIds);
+            context.put("processed", total.processed());
+            context.put("created", total.created());
+            context.put("duplicatesSkipped", total.duplicates());
+            context.put("failed", total.failedIds().size());
+            context.put("chunks", chunks);
+            if (!total.failedIds().isEmpty()) {
+                context.put("failedIds", total.failedIds());
             }
             
-            if (failed > 0 && created == 0 && !dueTransactions.isEmpty()) {
+            if (!total.failedIds().isEmpty() && total.processed() == 0) {
                 throw new RuntimeException("All transactions failed to process");
             }
             
@@ -176,6 +186,29 @@ public class RecurringTransactionJob implements Runnable {
         }
     }
 
+    /** Runs the chunk's user partitions in parallel and waits for all of them. */
+    private RecurringChunkResult processChunk(List<RecurringDueRef> chunk, LocalDate today) {
+        Map<Integer, List<Long>> partitions = chunk.stream().collect(Collectors.groupingBy(
+                ref -> Math.floorMod(ref.userId().hashCode(), Math.max(parallelism, 1)),
+                Collectors.mapping(RecurringDueRef::id, Collectors.toList())));
+        
+        List<CompletableFuture<RecurringChunkResult>> futures = new ArrayList<>();
+        for (List<Long> ids : partitions.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> chunkProcessor.process(ids, today), recurringExecutor));
+        }
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .reduce(RecurringChunkResult.empty(), RecurringChunkResult::plus);
+    }
+
+    private void ensureLockHeld() {
+        JobLockContext.current().ifPresent(handle -> {
+            if (!jobLockService.isHeld(handle)) {
+                throw new IllegalStateException("Job lock lost (fencing token " + handle.fencingToken() + "), stopping");
+            }
+        });
+    }
+
     private void executeStep3UpdateConfig(JobExecution execution, JobScheduleConfig config) throws Exception {
         JobStepExecution step = createStep(execution, "Update Schedule Configuration", 3);
         
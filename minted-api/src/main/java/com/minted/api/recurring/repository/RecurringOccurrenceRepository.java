@@ -0,0 +1,21 @@
+package com.minted.api.recurring.repository;
+
+import com.minted.api.recurring.dto.RecurringOccurrenceKey;
+import com.minted.api.recurring.entity.RecurringOccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecurringOccurrenceRepository extends JpaRepository<RecurringOccurrence, Long> {
+
+    @Query("SELECT new com.minted.api.recurring.dto.RecurringOccurrenceKey(o.recurringTransaction.id, o.occurrenceDate) " +
+            "FROM RecurringOccurrence o WHERE o.recurringTransaction.id IN :recurringIds AND o.occurrenceDate >= :from")
+    List<RecurringOccurrenceKey> findKeys(@Param("recurringIds") Collection<Long> recurringIds,
+                                          @Param("from") LocalDate from);
+}
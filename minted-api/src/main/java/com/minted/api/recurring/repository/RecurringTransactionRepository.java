@@ -1,15 +1,18 @@
 package com.minted.api.recurring.repository;
 
+import com.minted.api.recurring.dto.RecurringDueRef;
 import com.minted.api.recurring.entity.RecurringTransaction;
 import com.minted.api.recurring.enums.RecurringStatus;
 import com.minted.api.transaction.enums.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,10 +49,21 @@ public interface RecurringTransactionRepository extends JpaRepository<RecurringT
             @Param("search") String search
     );
 
-    List<RecurringTransaction> findByStatusAndNextExecutionDateLessThanEqual(
-            RecurringStatus status,
-            java.time.LocalDate date
-    );
+    // Due rows (on or before :today, within their end date) after the (nextExecutionDate, id) keyset cursor
+    @Query("SELECT new com.minted.api.recurring.dto.RecurringDueRef(r.id, r.user.id, r.nextExecutionDate) " +
+            "FROM RecurringTransaction r WHERE r.status = :status AND r.nextExecutionDate <= :today " +
+            "AND (r.endDate IS NULL OR r.nextExecutionDate <= r.endDate) " +
+            "AND (r.nextExecutionDate > :afterDate OR (r.nextExecutionDate = :afterDate AND r.id > :afterId)) " +
+            "ORDER BY r.nextExecutionDate ASC, r.id ASC")
+    List<RecurringDueRef> findDueAfter(@Param("status") RecurringStatus status,
+                                       @Param("today") LocalDate today,
+                                       @Param("afterDate") LocalDate afterDate,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM RecurringTransaction r WHERE r.status = :status AND r.nextExecutionDate <= :today " +
+            "AND (r.endDate IS NULL OR r.nextExecutionDate <= r.endDate)")
+    long countDue(@Param("status") RecurringStatus status, @Param("today") LocalDate today);
 
     // Spring Data derived query for pagination
     Page<RecurringTransaction> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
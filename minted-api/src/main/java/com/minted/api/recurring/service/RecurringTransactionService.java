@@ -4,6 +4,7 @@ import com.minted.api.recurring.dto.RecurringTransactionRequest;
 import com.minted.api.recurring.dto.RecurringTransactionResponse;
 import com.minted.api.recurring.dto.RecurringSummaryResponse;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface RecurringTransactionService {
@@ -23,4 +24,12 @@ public interface RecurringTransactionService {
     RecurringSummaryResponse getSummary(Long userId);
 
     List<RecurringTransactionResponse> search(Long userId, String query);
+
+    /**
+     * The monthly occurrence following {@code date}: {@code dayOfMonth} of the next month, clamped to its length.
+     */
+    static LocalDate occurrenceAfter(LocalDate date, int dayOfMonth) {
+        LocalDate nextMonth = date.plusMonths(1);
+        return nextMonth.withDayOfMonth(Math.min(dayOfMonth, nextMonth.lengthOfMonth()));
+    }
 }
@@ -1,15 +1,12 @@
 package com.minted.api.split.controller;
 
-import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.split.dto.*;
 import com.minted.api.split.service.SplitService;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,11 +18,9 @@ import java.util.Map;
 public class SplitTransactionController {
 
     private final SplitService splitService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllSplits(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getAllSplits(@CurrentUser Long userId) {
         List<SplitTransactionResponse> splits = splitService.getAllByUserId(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -36,9 +31,8 @@ public class SplitTransactionController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getSplitById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         SplitTransactionResponse split = splitService.getById(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -49,9 +43,8 @@ public class SplitTransactionController {
     @PostMapping
     public ResponseEntity<Map<String, Object>> createSplit(
             @Valid @RequestBody SplitTransactionRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         SplitTransactionResponse split = splitService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "success", true,
@@ -64,9 +57,8 @@ public class SplitTransactionController {
     public ResponseEntity<Map<String, Object>> updateSplit(
             @PathVariable Long id,
             @Valid @RequestBody SplitTransactionRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         SplitTransactionResponse split = splitService.update(id, request, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -78,9 +70,8 @@ public class SplitTransactionController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteSplit(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         splitService.delete(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -89,8 +80,7 @@ public class SplitTransactionController {
     }
 
     @GetMapping("/summary")
-    public ResponseEntity<Map<String, Object>> getBalanceSummary(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getBalanceSummary(@CurrentUser Long userId) {
         SplitBalanceSummaryResponse summary = splitService.getBalanceSummary(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -99,8 +89,7 @@ public class SplitTransactionController {
     }
 
     @GetMapping("/balances")
-    public ResponseEntity<Map<String, Object>> getFriendBalances(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getFriendBalances(@CurrentUser Long userId) {
         List<FriendBalanceResponse> balances = splitService.getFriendBalances(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -111,9 +100,8 @@ public class SplitTransactionController {
     @PostMapping("/settle")
     public ResponseEntity<Map<String, Object>> settleFriend(
             @Valid @RequestBody SettleRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         splitService.settleFriend(request, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -124,20 +112,12 @@ public class SplitTransactionController {
     @GetMapping("/friend/{friendId}/shares")
     public ResponseEntity<Map<String, Object>> getSharesByFriend(
             @PathVariable Long friendId,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<SplitShareResponse> shares = splitService.getSharesByFriend(friendId, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "data", shares
         ));
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
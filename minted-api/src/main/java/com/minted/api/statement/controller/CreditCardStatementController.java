@@ -3,15 +3,12 @@ package com.minted.api.statement.controller;
 import com.minted.api.statement.dto.StatementResponse;
 import com.minted.api.statement.dto.ConfirmStatementRequest;
 import com.minted.api.statement.dto.ParsedTransactionRow;
-import com.minted.api.user.entity.User;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.statement.service.CreditCardStatementService;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,16 +21,14 @@ import java.util.Map;
 public class CreditCardStatementController {
 
     private final CreditCardStatementService statementService;
-    private final UserRepository userRepository;
 
     @PostMapping("/upload")
     public ResponseEntity<Map<String, Object>> upload(
             @RequestParam("file") MultipartFile file,
             @RequestParam("accountId") Long accountId,
             @RequestParam(value = "pdfPassword", required = false) String pdfPassword,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         StatementResponse response = statementService.uploadAndExtract(file, accountId, pdfPassword, userId);
         return ResponseEntity.ok(Map.of("success", true, "data", response));
     }
@@ -42,11 +37,11 @@ public class CreditCardStatementController {
     public ResponseEntity<Map<String, Object>> triggerParse(
             @PathVariable Long id,
             @RequestBody(required = false) Map<String, String> body,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         String editedText = body != null ? body.get("extractedText") : null;
-        StatementResponse response = statementService.triggerLlmParse(id, userId, editedText);
+        boolean forceReparse = body != null && "true".equalsIgnoreCase(body.get("forceReparse"));
+        StatementResponse response = statementService.triggerLlmParse(id, userId, editedText, forceReparse);
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
                 "success", true,
                 "data", response,
@@ -57,9 +52,8 @@ public class CreditCardStatementController {
     @GetMapping("/{id}/parsed-rows")
     public ResponseEntity<Map<String, Object>> getParsedRows(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<ParsedTransactionRow> rows = statementService.getParsedRows(id, userId);
         return ResponseEntity.ok(Map.of("success", true, "data", rows));
     }
@@ -67,16 +61,14 @@ public class CreditCardStatementController {
     @PostMapping("/confirm")
     public ResponseEntity<Map<String, Object>> confirmImport(
             @Valid @RequestBody ConfirmStatementRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         statementService.confirmImport(request, userId);
         return ResponseEntity.ok(Map.of("success", true, "message", "Transactions imported successfully"));
     }
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getUserStatements(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getUserStatements(@CurrentUser Long userId) {
         List<StatementResponse> statements = statementService.getUserStatements(userId);
         return ResponseEntity.ok(Map.of("success", true, "data", statements));
     }
@@ -84,9 +76,8 @@ public class CreditCardStatementController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteStatement(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         statementService.deleteStatement(id, userId);
         return ResponseEntity.ok(Map.of("success", true, "message", "Statement deleted successfully"));
     }
@@ -94,17 +85,9 @@ public class CreditCardStatementController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getStatementById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         StatementResponse response = statementService.getStatementById(id, userId);
         return ResponseEntity.ok(Map.of("success", true, "data", response));
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
@@ -24,13 +24,18 @@ public record StatementResponse(
         LocalDateTime updatedAt
 ) {
     public static StatementResponse from(CreditCardStatement statement) {
+        return from(statement, true);
+    }
+
+    /**
+     * @param includeText false for listings, so the extracted-text payload is not loaded at all
+     */
+    public static StatementResponse from(CreditCardStatement statement, boolean includeText) {
         // Suppress extractedText for statuses beyond TEXT_EXTRACTED to avoid bloating responses
-        String text = statement.getExtractedText();
         StatementStatus status = statement.getStatus();
-        if (status == StatementStatus.SENT_FOR_AI_PARSING || status == StatementStatus.LLM_PARSED
-                || status == StatementStatus.CONFIRMING || status == StatementStatus.COMPLETED) {
-            text = null;
-        }
+        boolean textSuppressed = status == StatementStatus.SENT_FOR_AI_PARSING || status == StatementStatus.LLM_PARSED
+                || status == StatementStatus.CONFIRMING || status == StatementStatus.COMPLETED;
+        String text = includeText && !textSuppressed ? statement.getExtractedText() : null;
 
         return new StatementResponse(
                 statement.getId(),
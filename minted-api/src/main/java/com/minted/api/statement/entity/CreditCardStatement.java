@@ -2,9 +2,11 @@ package com.minted.api.statement.entity;
 
 import com.minted.api.account.entity.Account;
 import com.minted.api.job.entity.JobExecution;
+import com.minted.api.payload.entity.PayloadBlob;
 import com.minted.api.statement.enums.StatementStatus;
 import com.minted.api.user.entity.User;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -50,11 +52,17 @@ public class CreditCardStatement {
     @Column(name = "current_step", nullable = false)
     private Integer currentStep = 1;
 
-    @Column(name = "extracted_text", columnDefinition = "LONGTEXT")
-    private String extractedText;
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "extracted_text_blob_id")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PayloadBlob extractedTextBlob;
 
-    @Column(name = "llm_response_json", columnDefinition = "LONGTEXT")
-    private String llmResponseJson;
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "llm_response_json_blob_id")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PayloadBlob llmResponseJsonBlob;
 
     @Column(name = "parsed_count")
     private Integer parsedCount = 0;
@@ -78,6 +86,10 @@ public class CreditCardStatement {
     @Column(name = "file_type", length = 10)
     private String fileType = "PDF";
 
+    // SHA-256 (hex) of the uploaded bytes; cleared when the user edits the extracted text
+    @Column(name = "file_hash", length = 64)
+    private String fileHash;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -85,4 +97,22 @@ public class CreditCardStatement {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Payloads live in payload_blobs and are only read when these accessors are called
+
+    public String getExtractedText() {
+        return PayloadBlob.textOf(extractedTextBlob);
+    }
+
+    public void setExtractedText(String extractedText) {
+        this.extractedTextBlob = PayloadBlob.update(extractedTextBlob, extractedText);
+    }
+
+    public String getLlmResponseJson() {
+        return PayloadBlob.textOf(llmResponseJsonBlob);
+    }
+
+    public void setLlmResponseJson(String llmResponseJson) {
+        this.llmResponseJsonBlob = PayloadBlob.update(llmResponseJsonBlob, llmResponseJson);
+    }
 }
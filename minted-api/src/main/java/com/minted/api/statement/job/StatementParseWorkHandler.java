@@ -0,0 +1,43 @@
+package com.minted.api.statement.job;
+
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.job.dto.WorkLease;
+import com.minted.api.job.service.WorkHandler;
+import com.minted.api.statement.service.CreditCardStatementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs credit card statement LLM parses from the work queue. The payload is the statement id.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatementParseWorkHandler implements WorkHandler {
+
+    public static final String QUEUE = "STATEMENT_PARSE";
+
+    private final CreditCardStatementService statementService;
+    @Qualifier("llmExecutor")
+    private final BoundedExecutor llmExecutor;
+
+    @Override
+    public String queueName() {
+        return QUEUE;
+    }
+
+    @Override
+    public BoundedExecutor executor() {
+        return llmExecutor;
+    }
+
+    @Override
+    public void handle(String payload, WorkLease lease) {
+        statementService.processQueuedParse(Long.valueOf(payload));
+    }
+
+    @Override
+    public void onGiveUp(String payload, String reason) {
+        statementService.abandonParse(Long.valueOf(payload), reason);
+    }
+}
@@ -1,11 +1,18 @@
 package com.minted.api.statement.repository;
 
+import com.minted.api.payload.dto.PayloadRefs;
 import com.minted.api.statement.entity.CreditCardStatement;
+import com.minted.api.statement.enums.StatementStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +24,29 @@ public interface CreditCardStatementRepository extends JpaRepository<CreditCardS
     Optional<CreditCardStatement> findByIdAndUserId(Long id, Long userId);
 
     Page<CreditCardStatement> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    /** Latest statement of the user uploaded from the same file whose extracted text has not been purged. */
+    Optional<CreditCardStatement> findFirstByUserIdAndFileHashAndExtractedTextBlobIsNotNullOrderByIdDesc(
+            Long userId, String fileHash);
+
+    /**
+     * Payload references of statements in the given statuses last updated before the cutoff that still hold a payload.
+     */
+    @Query("SELECT new com.minted.api.payload.dto.PayloadRefs(s.id, t.id, j.id) FROM CreditCardStatement s " +
+           "LEFT JOIN s.extractedTextBlob t LEFT JOIN s.llmResponseJsonBlob j " +
+           "WHERE s.status IN :statuses AND s.updatedAt < :cutoff " +
+           "AND (t.id IS NOT NULL OR j.id IS NOT NULL) ORDER BY s.id")
+    List<PayloadRefs> findPayloadRefs(@Param("statuses") Collection<StatementStatus> statuses,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      Pageable pageable);
+
+    /** Running row count of a parse in progress; a no-op once the parse has finished. */
+    @Modifying
+    @Query("UPDATE CreditCardStatement s SET s.parsedCount = :count " +
+           "WHERE s.id = :id AND s.status = com.minted.api.statement.enums.StatementStatus.SENT_FOR_AI_PARSING")
+    int updateParsingProgress(@Param("id") Long id, @Param("count") int count);
+
+    @Modifying
+    @Query("UPDATE CreditCardStatement s SET s.extractedTextBlob = null, s.llmResponseJsonBlob = null WHERE s.id IN :ids")
+    int clearPayloads(@Param("ids") Collection<Long> ids);
 }
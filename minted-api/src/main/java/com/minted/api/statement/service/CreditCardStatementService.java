@@ -11,7 +11,11 @@ public interface CreditCardStatementService {
 
     StatementResponse uploadAndExtract(MultipartFile file, Long accountId, String pdfPassword, Long userId);
 
-    StatementResponse triggerLlmParse(Long statementId, Long userId, String editedText);
+    /**
+     * Queues the LLM parse. Results are served from the LLM result cache when the same text was parsed before with
+     * the same model, categories and merchant rules; {@code forceReparse} evicts that entry first.
+     */
+    StatementResponse triggerLlmParse(Long statementId, Long userId, String editedText, boolean forceReparse);
 
     void confirmImport(ConfirmStatementRequest request, Long userId);
 
@@ -22,4 +26,10 @@ public interface CreditCardStatementService {
     List<ParsedTransactionRow> getParsedRows(Long statementId, Long userId);
 
     void deleteStatement(Long statementId, Long userId);
+
+    /** Work-queue entry point: runs the LLM parse of a statement in SENT_FOR_AI_PARSING. */
+    void processQueuedParse(Long statementId);
+
+    /** Marks a statement still awaiting its parse FAILED when the work queue gives up on it. */
+    void abandonParse(Long statementId, String reason);
 }
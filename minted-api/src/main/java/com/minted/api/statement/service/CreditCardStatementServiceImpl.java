@@ -26,35 +26,49 @@ import com.minted.api.statement.repository.CreditCardStatementRepository;
 import com.minted.api.transaction.repository.TransactionRepository;
 import com.minted.api.transaction.repository.TransactionCategoryRepository;
 import com.minted.api.account.repository.AccountRepository;
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.account.service.BalanceDeltas;
 import com.minted.api.user.repository.UserRepository;
 import com.minted.api.job.repository.JobExecutionRepository;
 import com.minted.api.job.repository.JobScheduleConfigRepository;
 import com.minted.api.statement.service.StatementParserService;
-import com.minted.api.llm.service.LlmService;
 import com.minted.api.llm.service.LlmConfigService;
+import com.minted.api.llm.service.LlmResultCacheService;
 import com.minted.api.llm.service.MerchantMappingService;
+import com.minted.api.llm.service.MerchantMatcher;
+import com.minted.api.llm.service.MerchantMatcherCache;
+import com.minted.api.transaction.service.MonthlyAggregateDeltas;
+import com.minted.api.transaction.service.TransactionAggregateService;
 import com.minted.api.transaction.service.TransactionCategoryService;
 import com.minted.api.admin.service.SystemSettingService;
 import com.minted.api.notification.service.NotificationHelper;
+import com.minted.api.job.service.WorkQueueService;
+import com.minted.api.statement.job.StatementParseWorkHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -68,18 +82,26 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
     private final TransactionRepository transactionRepository;
     private final TransactionCategoryRepository categoryRepository;
     private final AccountRepository accountRepository;
+    private final AccountBalanceService accountBalanceService;
+    private final TransactionAggregateService transactionAggregateService;
     private final UserRepository userRepository;
     private final JobExecutionRepository jobExecutionRepository;
     private final JobScheduleConfigRepository scheduleConfigRepository;
     private final StatementParserService statementParserService;
-    private final LlmService llmService;
+    private final StatementChunkParser statementChunkParser;
     private final LlmConfigService llmConfigService;
+    private final LlmResultCacheService llmResultCacheService;
     private final MerchantMappingService merchantMappingService;
+    private final MerchantMatcherCache merchantMatcherCache;
     private final TransactionCategoryService transactionCategoryService;
     private final SystemSettingService systemSettingService;
     private final NotificationHelper notificationHelper;
     private final ObjectMapper objectMapper;
     private final PlatformTransactionManager transactionManager;
+    private final WorkQueueService workQueueService;
+
+    @Value("${app.statement.llm.progress-interval-ms:1000}")
+    private long progressIntervalMs;
 
     @Override
     @Transactional
@@ -108,6 +130,14 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
         Account account = accountRepository.findByIdAndUserId(accountId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found with id: " + accountId));
 
+        byte[] bytes;
+        try {
+            bytes = file.getBytes();
+        } catch (IOException e) {
+            throw new BadRequestException("Failed to read uploaded file: " + e.getMessage());
+        }
+        String fileHash = sha256Hex(bytes);
+
         // Create statement record
         CreditCardStatement statement = new CreditCardStatement();
         statement.setUser(user);
@@ -115,25 +145,32 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
         statement.setFileName(originalFilename);
         statement.setFileSize(file.getSize());
         statement.setFileType(fileType);
+        statement.setFileHash(fileHash);
         statement.setStatus(StatementStatus.UPLOADED);
         statement.setCurrentStep(1);
         if (pdfPassword != null && !pdfPassword.isBlank()) {
             statement.setPdfPasswordHint(pdfPassword.length() > 20 ? pdfPassword.substring(0, 20) : pdfPassword);
         }
 
+        // A byte-identical file uploaded before still holds its text: reuse it instead of extracting again
+        String previousText = statementRepository
+                .findFirstByUserIdAndFileHashAndExtractedTextBlobIsNotNullOrderByIdDesc(userId, fileHash)
+                .map(CreditCardStatement::getExtractedText)
+                .orElse(null);
+
         statement = statementRepository.save(statement);
 
         // Extract text based on file type
         try {
             String extractedText;
-            if ("CSV".equals(fileType) || "TXT".equals(fileType)) {
-                extractedText = new String(file.getBytes(), StandardCharsets.UTF_8);
-                if (extractedText.length() > 100_000) {
-                    extractedText = extractedText.substring(0, 100_000)
-                            + "\n[Note: File text truncated at 100,000 characters for LLM processing]";
-                }
+            if (previousText != null) {
+                log.info("Statement {} matches an earlier upload (sha256 {}), reusing its extracted text",
+                        statement.getId(), fileHash);
+                extractedText = previousText;
+            } else if ("CSV".equals(fileType) || "TXT".equals(fileType)) {
+                extractedText = new String(bytes, StandardCharsets.UTF_8);
             } else {
-                extractedText = statementParserService.extractText(file.getBytes(), pdfPassword);
+                extractedText = statementParserService.extractText(bytes, pdfPassword);
             }
             statement.setExtractedText(extractedText);
             statement.setStatus(StatementStatus.TEXT_EXTRACTED);
@@ -161,7 +198,7 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
 
     @Override
     @Transactional
-    public StatementResponse triggerLlmParse(Long statementId, Long userId, String editedText) {
+    public StatementResponse triggerLlmParse(Long statementId, Long userId, String editedText, boolean forceReparse) {
         checkFeatureEnabled();
 
         CreditCardStatement statement = statementRepository.findByIdAndUserId(statementId, userId)
@@ -171,13 +208,19 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
             throw new BadRequestException("Statement is not ready for parsing. Current status: " + statement.getStatus());
         }
 
-        // If edited text provided, overwrite stored text
-        if (editedText != null && !editedText.isBlank()) {
+        // If edited text provided, overwrite stored text. The text no longer matches the file, so the statement
+        // drops its hash and is not offered for reuse when the same file is uploaded again
+        if (editedText != null && !editedText.isBlank() && !editedText.equals(statement.getExtractedText())) {
             statement.setExtractedText(editedText);
+            statement.setFileHash(null);
         }
 
-        // Resolve LLM config
-        LlmConfigService.EffectiveLlmConfig effectiveConfig = llmConfigService.getEffectiveConfig(userId);
+        // Fail fast without a usable LLM config; the worker resolves it again when the parse runs
+        LlmConfigService.EffectiveLlmConfig llmConfig = llmConfigService.getEffectiveConfig(userId);
+        if (forceReparse) {
+            llmResultCacheService.evict(llmResultCacheService.keyFor(userId, llmConfig, statement.getExtractedText(),
+                    activeCategoryNames(userId), merchantMappingService.getRawMappings(userId)));
+        }
 
         // Create JobExecution
         JobExecution execution = new JobExecution();
@@ -192,27 +235,40 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
         statement.setStatus(StatementStatus.SENT_FOR_AI_PARSING);
         statement = statementRepository.save(statement);
 
-        // Trigger async processing after commit
-        final Long stmtId = statement.getId();
-        final String apiKey = effectiveConfig.apiKey();
-        final String modelKey = effectiveConfig.modelKey();
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                CompletableFuture.runAsync(() -> {
-                    try {
-                        processLlmParseAsync(stmtId, userId, apiKey, modelKey);
-                    } catch (Exception e) {
-                        log.error("Async LLM parse failed for statement {}: {}", stmtId, e.getMessage(), e);
-                    }
-                });
-            }
-        });
+        // Queued in this transaction: a worker node picks it up once SENT_FOR_AI_PARSING has committed
+        workQueueService.enqueue(StatementParseWorkHandler.QUEUE, String.valueOf(statement.getId()));
 
         return StatementResponse.from(statement);
     }
 
-    public void processLlmParseAsync(Long statementId, Long userId, String apiKey, String modelKey) {
+    @Override
+    public void processQueuedParse(Long statementId) {
+        // The parse runs in a single transaction, so an interrupted attempt left nothing behind and is simply rerun
+        Long userId = new TransactionTemplate(transactionManager).execute(status -> {
+            CreditCardStatement statement = statementRepository.findById(statementId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Statement not found: " + statementId));
+            return statement.getStatus() == StatementStatus.SENT_FOR_AI_PARSING ? statement.getUser().getId() : null;
+        });
+        if (userId == null) {
+            log.info("Statement {} is no longer awaiting AI parsing, nothing to process", statementId);
+            return;
+        }
+        LlmConfigService.EffectiveLlmConfig effectiveConfig = llmConfigService.getEffectiveConfig(userId);
+        processLlmParseAsync(statementId, userId, effectiveConfig);
+    }
+
+    @Override
+    public void abandonParse(Long statementId, String reason) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            CreditCardStatement statement = statementRepository.findById(statementId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Statement not found: " + statementId));
+            if (statement.getStatus() == StatementStatus.SENT_FOR_AI_PARSING) {
+                failLlmParse(statement, statement.getUser().getId(), new IllegalStateException(reason));
+            }
+        });
+    }
+
+    public void processLlmParseAsync(Long statementId, Long userId, LlmConfigService.EffectiveLlmConfig llmConfig) {
         new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
             CreditCardStatement statement = statementRepository.findById(statementId)
                     .orElseThrow(() -> new ResourceNotFoundException("Statement not found: " + statementId));
@@ -222,28 +278,46 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
                 // Step 1: LLM Parse
                 JobStepExecution step1 = createStep(execution, "LLM Parse", 1);
                 List<MerchantCategoryMapping> mappings = merchantMappingService.getRawMappings(userId);
-                List<String> categoryNames = transactionCategoryService.getAllActiveByUserId(userId).stream()
-                        .map(c -> c.name())
-                        .collect(Collectors.toList());
-                List<ParsedTransactionRow> rows = llmService.parseStatement(
-                        statement.getExtractedText(), userId, statementId, mappings, categoryNames, apiKey, modelKey);
-                completeStep(step1, null);
+                MerchantMatcher matcher = merchantMatcherCache.get(userId, mappings);
+                Map<Long, MerchantCategoryMapping> mappingsById = mappings.stream()
+                        .collect(Collectors.toMap(MerchantCategoryMapping::getId, mapping -> mapping));
+                List<String> categoryNames = activeCategoryNames(userId);
+                String text = statement.getExtractedText();
+                String cacheKey = llmResultCacheService.keyFor(userId, llmConfig, text, categoryNames, mappings);
+                Long accountId = statement.getAccount().getId();
+                List<ParsedTransactionRow> rows;
+                Map<String, Object> parseContext = new HashMap<>();
+                List<ParsedTransactionRow> cached = llmResultCacheService.get(cacheKey).orElse(null);
+                if (cached != null) {
+                    log.info("Statement {} parsed from the LLM result cache ({} rows)", statementId, cached.size());
+                    rows = cached;
+                    rows.forEach(row -> prepareRow(row, matcher, mappingsById, accountId));
+                    parseContext.put("cacheHit", true);
+                    parseContext.put("rows", rows.size());
+                } else {
+                    // Merchant mapping and duplicate detection run on each row as the LLM streams it
+                    ParseProgress progress = new ParseProgress(statementId);
+                    StatementChunkParser.Result parsed = statementChunkParser.parse(
+                            text, userId, statementId, mappings, categoryNames, llmConfig, row -> {
+                                prepareRow(row, matcher, mappingsById, accountId);
+                                progress.rowParsed();
+                            });
+                    rows = parsed.rows();
+                    llmResultCacheService.put(cacheKey, userId, llmConfig, rows);
+                    parseContext.put("cacheHit", false);
+                    parseContext.put("chunks", parsed.timings().size());
+                    parseContext.put("rows", rows.size());
+                    parseContext.put("firstRowMillis", progress.firstRowMillis());
+                    parseContext.put("overlapDuplicatesDropped", parsed.overlapDuplicatesDropped());
+                    parseContext.put("chunkTimings", parsed.timings());
+                }
+                completeStep(step1, objectMapper.writeValueAsString(parseContext));
                 execution.setCompletedSteps(1);
                 jobExecutionRepository.save(execution);
 
-                // Pre-pass: apply merchant mapping rules
-                rows = applyMerchantMappings(rows, mappings);
-
-                // Step 2: Duplicate Detection
+                // Step 2: Duplicate Detection (rows were checked as they arrived; this tallies the result)
                 JobStepExecution step2 = createStep(execution, "Duplicate Detection", 2);
-                int duplicateCount = 0;
-                for (ParsedTransactionRow row : rows) {
-                    if (isDuplicate(row, statement.getAccount().getId())) {
-                        row.setIsDuplicate(true);
-                        row.setDuplicateReason("Similar transaction found within ±1 day");
-                        duplicateCount++;
-                    }
-                }
+                int duplicateCount = (int) rows.stream().filter(ParsedTransactionRow::getIsDuplicate).count();
                 completeStep(step2, null);
                 execution.setCompletedSteps(2);
 
@@ -265,22 +339,27 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
 
             } catch (Exception e) {
                 log.error("LLM parse failed for statement {}: {}", statementId, e.getMessage(), e);
-                execution.setStatus(JobStatus.FAILED);
-                execution.setEndTime(LocalDateTime.now());
-                execution.setErrorMessage(e.getMessage());
-                jobExecutionRepository.save(execution);
-
-                statement.setStatus(StatementStatus.FAILED);
-                statement.setErrorMessage("AI parsing failed: " + e.getMessage());
-                statementRepository.save(statement);
-
-                notificationHelper.notify(userId, NotificationType.ERROR,
-                        "AI Parsing Failed",
-                        "Failed to parse statement: " + e.getMessage());
+                failLlmParse(statement, userId, e);
             }
         });
     }
 
+    private void failLlmParse(CreditCardStatement statement, Long userId, Exception e) {
+        JobExecution execution = statement.getJobExecution();
+        execution.setStatus(JobStatus.FAILED);
+        execution.setEndTime(LocalDateTime.now());
+        execution.setErrorMessage(e.getMessage());
+        jobExecutionRepository.save(execution);
+
+        statement.setStatus(StatementStatus.FAILED);
+        statement.setErrorMessage("AI parsing failed: " + e.getMessage());
+        statementRepository.save(statement);
+
+        notificationHelper.notify(userId, NotificationType.ERROR,
+                "AI Parsing Failed",
+                "Failed to parse statement: " + e.getMessage());
+    }
+
     @Override
     @Transactional
     public void confirmImport(ConfirmStatementRequest request, Long userId) {
@@ -314,6 +393,8 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
                 .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
 
         int importedCount = 0;
+        BalanceDeltas balanceDeltas = new BalanceDeltas();
+        MonthlyAggregateDeltas aggregateDeltas = new MonthlyAggregateDeltas();
         for (ParsedTransactionRow row : rows) {
             try {
                 TransactionType type = TransactionType.valueOf(row.getType());
@@ -351,12 +432,11 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
                 transaction.setTags(row.getTags() != null && !row.getTags().isBlank() ? row.getTags() : null);
 
                 transactionRepository.save(transaction);
+                aggregateDeltas.add(transaction);
 
                 // Update account balance
-                switch (type) {
-                    case INCOME -> account.setBalance(account.getBalance().add(row.getAmount()));
-                    case EXPENSE -> account.setBalance(account.getBalance().subtract(row.getAmount()));
-                    default -> {} // TRANSFER not expected from credit card statements
+                if (type != TransactionType.TRANSFER) { // TRANSFER not expected from credit card statements
+                    balanceDeltas.add(type, row.getAmount(), account.getId(), null);
                 }
 
                 importedCount++;
@@ -365,7 +445,8 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
             }
         }
 
-        accountRepository.save(account);
+        accountBalanceService.apply(balanceDeltas);
+        transactionAggregateService.apply(aggregateDeltas);
 
         statement.setImportedCount(importedCount);
         statement.setStatus(StatementStatus.COMPLETED);
@@ -381,7 +462,7 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
     @Transactional(readOnly = true)
     public List<StatementResponse> getUserStatements(Long userId) {
         return statementRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
-                .map(StatementResponse::from)
+                .map(statement -> StatementResponse.from(statement, false))
                 .collect(Collectors.toList());
     }
 
@@ -441,25 +522,22 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
         }
     }
 
-    private List<ParsedTransactionRow> applyMerchantMappings(List<ParsedTransactionRow> rows,
-                                                              List<MerchantCategoryMapping> mappings) {
-        if (mappings == null || mappings.isEmpty()) return rows;
-
-        for (ParsedTransactionRow row : rows) {
-            for (MerchantCategoryMapping mapping : mappings) {
-                boolean matches = mapping.getSnippetList().stream()
-                        .anyMatch(snippet ->
-                                row.getDescription() != null &&
-                                        row.getDescription().toUpperCase().contains(snippet.toUpperCase()));
-                if (matches) {
-                    row.setCategoryName(mapping.getCategory().getName());
-                    row.setMatchedCategoryId(mapping.getCategory().getId());
-                    row.setMappedByRule(true);
-                    break; // first match wins
-                }
-            }
+    /**
+     * Per-row stage of the parse: applies the first matching merchant mapping rule and flags likely duplicates.
+     * Safe to call from several chunk threads at once; it only touches the row and runs read-only queries.
+     */
+    private void prepareRow(ParsedTransactionRow row, MerchantMatcher matcher,
+                            Map<Long, MerchantCategoryMapping> mappingsById, Long accountId) {
+        // First match wins; a rule the cached matcher still knows but the current list lacks is ignored
+        MerchantCategoryMapping mapping = mappingsById.get(matcher.match(row.getDescription()));
+        if (mapping != null) {
+            row.setCategoryName(mapping.getCategory().getName());
+            row.setMatchedCategoryId(mapping.getCategory().getId());
+            row.setMappedByRule(true);
         }
-        return rows;
+        boolean duplicate = isDuplicate(row, accountId);
+        row.setIsDuplicate(duplicate);
+        row.setDuplicateReason(duplicate ? "Similar transaction found within ±1 day" : null);
     }
 
     private boolean isDuplicate(ParsedTransactionRow row, Long accountId) {
@@ -514,4 +592,62 @@ public class CreditCardStatementServiceImpl implements CreditCardStatementServic
         }
         return null;
     }
+
+    private List<String> activeCategoryNames(Long userId) {
+        return transactionCategoryService.getAllActiveByUserId(userId).stream()
+                .map(c -> c.name())
+                .collect(Collectors.toList());
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Publishes the running row count of a parse to {@code credit_card_statements.parsed_count} in its own
+     * transaction, so the polling UI sees progress while the parse transaction is still open. Writes the first row
+     * immediately, then at most once per {@code app.statement.llm.progress-interval-ms}. Called from chunk threads.
+     */
+    private final class ParseProgress {
+
+        private final Long statementId;
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger rows = new AtomicInteger();
+        private volatile long firstRowAt;
+        private long lastPublishedAt;
+
+        ParseProgress(Long statementId) {
+            this.statementId = statementId;
+        }
+
+        void rowParsed() {
+            int count = rows.incrementAndGet();
+            long now = System.nanoTime();
+            if (count == 1) {
+                firstRowAt = now;
+            }
+            synchronized (this) {
+                if (count > 1 && now - lastPublishedAt < TimeUnit.MILLISECONDS.toNanos(progressIntervalMs)) {
+                    return;
+                }
+                lastPublishedAt = now;
+            }
+            try {
+                TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+                requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                requiresNew.executeWithoutResult(status ->
+                        statementRepository.updateParsingProgress(statementId, rows.get()));
+            } catch (RuntimeException e) {
+                log.debug("Could not publish parse progress of statement {}: {}", statementId, e.getMessage());
+            }
+        }
+
+        Long firstRowMillis() {
+            return firstRowAt == 0 ? null : TimeUnit.NANOSECONDS.toMillis(firstRowAt - startedAt);
+        }
+    }
 }
@@ -0,0 +1,279 @@
+package com.minted.api.statement.service;
+
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+import com.minted.api.llm.service.LlmConfigService;
+import com.minted.api.llm.service.LlmProviderRegistry;
+import com.minted.api.llm.service.LlmService;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Sends long statement text to the configured provider's {@link LlmService} in chunks instead of one prompt. Text is split on page
+ * breaks ({@code \f}, see {@link StatementParserServiceImpl}) and, inside oversized pages, before lines that start a
+ * transaction row; each chunk repeats the last few lines of the previous one so a row cut at the boundary is whole
+ * in at least one chunk. Chunks run on the {@code llmChunkExecutor}, at most {@code max-parallel-chunks} per
+ * statement, and their rows are merged in order with rows repeated by the overlap dropped. Rows are also handed to
+ * the caller's {@code onRow} as the provider streams them, before the merge.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementChunkParser {
+
+    // 12/03/2025, 2025-03-12, 12-03, 12.03.25, 12 Mar
+    private static final Pattern ROW_START = Pattern.compile(
+            "^\\s*(\\d{1,4}[/.-]\\d{1,2}([/.-]\\d{2,4})?|\\d{1,2}\\s+[A-Za-z]{3})\\b.*");
+
+    private final LlmProviderRegistry llmProviderRegistry;
+    @Qualifier("llmChunkExecutor")
+    private final BoundedExecutor llmChunkExecutor;
+
+    @Value("${app.statement.llm.chunk-max-chars:12000}")
+    private int maxChunkChars;
+
+    @Value("${app.statement.llm.chunk-overlap-lines:3}")
+    private int overlapLines;
+
+    @Value("${app.statement.llm.max-parallel-chunks:4}")
+    private int maxParallelChunks;
+
+    public record ChunkTiming(int index, int chars, int rows, long millis) {}
+
+    public record Result(List<ParsedTransactionRow> rows, int overlapDuplicatesDropped, List<ChunkTiming> timings) {}
+
+    /**
+     * @param onRow called for every row as it arrives, concurrently from the chunk threads, so it must be
+     *              thread-safe. It also sees rows the merge later drops as overlap repeats.
+     */
+    public Result parse(String text, Long userId, Long statementId,
+                        List<MerchantCategoryMapping> merchantMappings, List<String> availableCategories,
+                        LlmConfigService.EffectiveLlmConfig llmConfig, Consumer<ParsedTransactionRow> onRow) {
+        LlmService llmService = llmProviderRegistry.forProvider(llmConfig.provider());
+        List<String> chunks = split(text, maxChunkChars, overlapLines);
+        log.info("Parsing statement {} in {} chunk(s) of up to {} chars", statementId, chunks.size(), maxChunkChars);
+
+        Semaphore permits = new Semaphore(Math.max(1, maxParallelChunks));
+        List<CompletableFuture<ChunkOutcome>> futures = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                break;
+            }
+            acquire(permits);
+            int index = i;
+            String chunk = chunks.get(i);
+            Supplier<ChunkOutcome> task = () -> {
+                try {
+                    long startedAt = System.nanoTime();
+                    List<ParsedTransactionRow> rows = llmService.parseStatementStreaming(
+                            chunk, userId, statementId, merchantMappings, availableCategories,
+                            llmConfig.apiKey(), llmConfig.modelKey(), onRow);
+                    long millis = (System.nanoTime() - startedAt) / 1_000_000;
+                    log.debug("Statement {} chunk {}/{}: {} chars, {} rows in {} ms",
+                            statementId, index + 1, chunks.size(), chunk.length(), rows.size(), millis);
+                    return new ChunkOutcome(rows, new ChunkTiming(index, chunk.length(), rows.size(), millis));
+                } finally {
+                    permits.release();
+                }
+            };
+            futures.add(submit(task));
+        }
+
+        List<ChunkOutcome> outcomes = futures.stream().map(StatementChunkParser::join).toList();
+        List<ParsedTransactionRow> merged = new ArrayList<>();
+        List<ParsedTransactionRow> previous = List.of();
+        int dropped = 0;
+        for (ChunkOutcome outcome : outcomes) {
+            List<ParsedTransactionRow> kept = dropOverlap(previous, outcome.rows(), overlapLines);
+            dropped += outcome.rows().size() - kept.size();
+            merged.addAll(kept);
+            previous = outcome.rows();
+        }
+        return new Result(merged, dropped, outcomes.stream().map(ChunkOutcome::timing).toList());
+    }
+
+    private CompletableFuture<ChunkOutcome> submit(Supplier<ChunkOutcome> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, llmChunkExecutor);
+        } catch (RejectedExecutionException e) {
+            // Executor saturated by other statements: parse this chunk on the worker thread
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException failure) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a chunk slot", e);
+        }
+    }
+
+    private static ChunkOutcome join(CompletableFuture<ChunkOutcome> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Rows of {@code current} that the previous chunk already returned from the overlap. The overlap is at most
+     * {@code overlapRows} lines, so only that many rows at the end of {@code previous} can cancel rows among the
+     * first {@code overlapRows} of {@code current}, each at most one equal row. Genuine repeats elsewhere in either
+     * chunk are kept.
+     */
+    static List<ParsedTransactionRow> dropOverlap(List<ParsedTransactionRow> previous, List<ParsedTransactionRow> current,
+                                                  int overlapRows) {
+        if (previous.isEmpty() || overlapRows <= 0) {
+            return current;
+        }
+        Map<String, Integer> seen = new HashMap<>();
+        for (ParsedTransactionRow row : previous.subList(Math.max(0, previous.size() - overlapRows), previous.size())) {
+            seen.merge(rowKey(row), 1, Integer::sum);
+        }
+        List<ParsedTransactionRow> kept = new ArrayList<>(current.size());
+        for (int i = 0; i < current.size(); i++) {
+            ParsedTransactionRow row = current.get(i);
+            String key = rowKey(row);
+            Integer count = i < overlapRows ? seen.get(key) : null;
+            if (count != null && count > 0) {
+                seen.put(key, count - 1);
+            } else {
+                kept.add(row);
+            }
+        }
+        return kept;
+    }
+
+    private static String rowKey(ParsedTransactionRow row) {
+        BigDecimal amount = row.getAmount() != null ? row.getAmount().stripTrailingZeros() : null;
+        String description = row.getDescription() != null
+                ? row.getDescription().trim().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT)
+                : "";
+        return row.getTransactionDate() + "|" + (amount != null ? amount.toPlainString() : "") + "|"
+                + row.getType() + "|" + description;
+    }
+
+    /**
+     * Splits statement text into chunks of about {@code maxChars}. Whole pages are packed together while they fit;
+     * a page that does not fit is cut before its last transaction row that fits, or at a line end when no row start
+     * is found. Every chunk after the first begins with the last {@code overlapLines} non-blank lines of the one
+     * before it.
+     */
+    static List<String> split(String text, int maxChars, int overlapLines) {
+        if (text == null || text.length() <= maxChars) {
+            return List.of(text != null ? text : "");
+        }
+        List<String> units = new ArrayList<>();
+        for (String page : text.split("\f")) {
+            if (page.isBlank()) {
+                continue;
+            }
+            if (page.length() <= maxChars) {
+                units.add(page);
+            } else {
+                units.addAll(splitPage(page, maxChars));
+            }
+        }
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int carried = 0;
+        for (String unit : units) {
+            if (current.length() > carried && current.length() + unit.length() > maxChars) {
+                chunks.add(current.toString());
+                String overlap = lastLines(current.toString(), overlapLines);
+                current = new StringBuilder(overlap);
+                carried = overlap.length();
+            }
+            current.append(unit);
+            if (!unit.endsWith("\n")) {
+                current.append('\n');
+            }
+        }
+        if (current.length() > carried) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    private static List<String> splitPage(String page, int maxChars) {
+        List<String> blocks = new ArrayList<>();
+        List<String> block = new ArrayList<>();
+        int blockLength = 0;
+        int lastRowStart = -1;
+        for (String line : page.split("\n")) {
+            while (line.length() + 1 > maxChars) {
+                // A single line longer than a chunk: nothing to align with, cut it
+                if (!block.isEmpty()) {
+                    blocks.add(String.join("\n", block) + "\n");
+                    block.clear();
+                    blockLength = 0;
+                    lastRowStart = -1;
+                }
+                blocks.add(line.substring(0, maxChars - 1) + "\n");
+                line = line.substring(maxChars - 1);
+            }
+            while (blockLength + line.length() + 1 > maxChars && !block.isEmpty()) {
+                int cut = lastRowStart > 0 ? lastRowStart : block.size();
+                blocks.add(String.join("\n", block.subList(0, cut)) + "\n");
+                block = new ArrayList<>(block.subList(cut, block.size()));
+                blockLength = block.stream().mapToInt(l -> l.length() + 1).sum();
+                lastRowStart = -1;
+                for (int i = 1; i < block.size(); i++) {
+                    if (ROW_START.matcher(block.get(i)).matches()) {
+                        lastRowStart = i;
+                    }
+                }
+            }
+            if (ROW_START.matcher(line).matches()) {
+                lastRowStart = block.size();
+            }
+            block.add(line);
+            blockLength += line.length() + 1;
+        }
+        if (!block.isEmpty()) {
+            blocks.add(String.join("\n", block) + "\n");
+        }
+        return blocks;
+    }
+
+    private static String lastLines(String chunk, int count) {
+        if (count <= 0) {
+            return "";
+        }
+        List<String> lines = Arrays.stream(chunk.split("\n")).filter(l -> !l.isBlank()).toList();
+        List<String> tail = lines.subList(Math.max(0, lines.size() - count), lines.size());
+        return tail.isEmpty() ? "" : String.join("\n", tail) + "\n";
+    }
+
+    private record ChunkOutcome(List<ParsedTransactionRow> rows, ChunkTiming timing) {}
+}
@@ -10,11 +10,15 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 
+/**
+ * Extracts the full text of a PDF statement, pages separated by a form feed ({@code \f}) so
+ * {@link StatementChunkParser} can split long statements on page boundaries.
+ */
 @Slf4j
 @Service
 public class StatementParserServiceImpl implements StatementParserService {
 
-    private static final int MAX_TEXT_LENGTH = 100_000;
+    static final String PAGE_BREAK = "\f";
 
     @Override
     public String extractText(byte[] pdfBytes, String password) throws IOException {
@@ -22,14 +26,8 @@ public class StatementParserServiceImpl implements StatementParserService {
         try {
             doc = Loader.loadPDF(pdfBytes, password != null && !password.isBlank() ? password : "");
             PDFTextStripper stripper = new PDFTextStripper();
-            String text = stripper.getText(doc);
-
-            if (text.length() > MAX_TEXT_LENGTH) {
-                text = text.substring(0, MAX_TEXT_LENGTH)
-                        + "\n[Note: Statement text truncated at 100,000 characters for LLM processing]";
-            }
-
-            return text;
+            stripper.setPageEnd(PAGE_BREAK);
+            return stripper.getText(doc);
         } catch (org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException e) {
             throw new BadRequestException("Invalid PDF password. Please check and try again.");
         } finally {
@@ -2,16 +2,13 @@ package com.minted.api.transaction.controller;
 
 import com.minted.api.transaction.dto.TransactionCategoryRequest;
 import com.minted.api.transaction.dto.TransactionCategoryResponse;
-import com.minted.api.user.entity.User;
 import com.minted.api.transaction.enums.TransactionType;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.transaction.service.TransactionCategoryService;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,11 +20,9 @@ import java.util.Map;
 public class TransactionCategoryController {
 
     private final TransactionCategoryService categoryService;
-    private final UserRepository userRepository;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllCategories(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getAllCategories(@CurrentUser Long userId) {
         List<TransactionCategoryResponse> categories = categoryService.getAllByUserId(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -36,8 +31,7 @@ public class TransactionCategoryController {
     }
 
     @GetMapping("/active")
-    public ResponseEntity<Map<String, Object>> getAllActiveCategories(Authentication authentication) {
-        Long userId = getUserId(authentication);
+    public ResponseEntity<Map<String, Object>> getAllActiveCategories(@CurrentUser Long userId) {
         List<TransactionCategoryResponse> categories = categoryService.getAllActiveByUserId(userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -48,9 +42,8 @@ public class TransactionCategoryController {
     @GetMapping("/type/{type}")
     public ResponseEntity<Map<String, Object>> getCategoriesByType(
             @PathVariable TransactionType type,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<TransactionCategoryResponse> categories = categoryService.getAllByUserIdAndType(userId, type);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -61,9 +54,8 @@ public class TransactionCategoryController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getCategoryById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         TransactionCategoryResponse category = categoryService.getById(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -74,9 +66,8 @@ public class TransactionCategoryController {
     @PostMapping
     public ResponseEntity<Map<String, Object>> createCategory(
             @Valid @RequestBody TransactionCategoryRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         TransactionCategoryResponse category = categoryService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "success", true,
@@ -89,9 +80,8 @@ public class TransactionCategoryController {
     public ResponseEntity<Map<String, Object>> updateCategory(
             @PathVariable Long id,
             @Valid @RequestBody TransactionCategoryRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         TransactionCategoryResponse category = categoryService.update(id, request, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -103,9 +93,8 @@ public class TransactionCategoryController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteCategory(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         categoryService.delete(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -116,20 +105,12 @@ public class TransactionCategoryController {
     @PatchMapping("/{id}/toggle")
     public ResponseEntity<Map<String, Object>> toggleCategory(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         categoryService.toggleActive(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "Category status toggled successfully"
         ));
     }
-
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
-    }
 }
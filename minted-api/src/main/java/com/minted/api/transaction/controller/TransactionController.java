@@ -1,20 +1,25 @@
 package com.minted.api.transaction.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.transaction.dto.BulkOperationResult;
+import com.minted.api.transaction.dto.TransactionFilter;
+import com.minted.api.transaction.dto.TransactionPage;
 import com.minted.api.transaction.dto.TransactionRequest;
 import com.minted.api.transaction.dto.TransactionResponse;
-import com.minted.api.user.entity.User;
 import com.minted.api.transaction.enums.TransactionType;
-import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.user.repository.UserRepository;
 import com.minted.api.transaction.service.TransactionService;
+import com.minted.api.common.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -24,33 +29,54 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TransactionController {
 
+    private static final int NDJSON_FLUSH_INTERVAL = 500;
+
     private final TransactionService transactionService;
-    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllTransactions(Authentication authentication) {
-        Long userId = getUserId(authentication);
-        List<TransactionResponse> transactions = transactionService.getAllByUserId(userId);
+    public ResponseEntity<Map<String, Object>> getAllTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @CurrentUser Long userId
+    ) {
+        TransactionPage page = transactionService.getPage(userId, TransactionFilter.all(), cursor, limit);
         return ResponseEntity.ok(Map.of(
                 "success", true,
-                "data", transactions
+                "data", page
         ));
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTransactions(@CurrentUser Long userId) {
+        return ndjson(userId, TransactionFilter.all());
+    }
+
     @GetMapping("/date-range")
     public ResponseEntity<Map<String, Object>> getTransactionsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            Authentication authentication
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
-        List<TransactionResponse> transactions = transactionService.getAllByUserIdAndDateRange(userId, startDate, endDate);
+        TransactionPage page = transactionService.getPage(
+                userId, TransactionFilter.dateRange(startDate, endDate), cursor, limit);
         return ResponseEntity.ok(Map.of(
                 "success", true,
-                "data", transactions
+                "data", page
         ));
     }
 
+    @GetMapping(value = "/date-range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactionsByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @CurrentUser Long userId
+    ) {
+        return ndjson(userId, TransactionFilter.dateRange(startDate, endDate));
+    }
+
     @GetMapping("/filter")
     public ResponseEntity<Map<String, Object>> getTransactionsByFilters(
             @RequestParam(required = false) Long accountId,
@@ -58,24 +84,35 @@ public class TransactionController {
             @RequestParam(required = false) TransactionType type,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            Authentication authentication
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
-        List<TransactionResponse> transactions = transactionService.getAllByFilters(
-                userId, accountId, categoryId, type, startDate, endDate
-        );
+        TransactionPage page = transactionService.getPage(
+                userId, new TransactionFilter(accountId, categoryId, type, startDate, endDate), cursor, limit);
         return ResponseEntity.ok(Map.of(
                 "success", true,
-                "data", transactions
+                "data", page
         ));
     }
 
+    @GetMapping(value = "/filter", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactionsByFilters(
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @CurrentUser Long userId
+    ) {
+        return ndjson(userId, new TransactionFilter(accountId, categoryId, type, startDate, endDate));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getTransactionById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         TransactionResponse transaction = transactionService.getById(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -86,9 +123,8 @@ public class TransactionController {
     @PostMapping
     public ResponseEntity<Map<String, Object>> createTransaction(
             @Valid @RequestBody TransactionRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         TransactionResponse transaction = transactionService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "success", true,
@@ -101,9 +137,8 @@ public class TransactionController {
     public ResponseEntity<Map<String, Object>> updateTransaction(
             @PathVariable Long id,
             @Valid @RequestBody TransactionRequest request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         TransactionResponse transaction = transactionService.update(id, request, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -115,9 +150,8 @@ public class TransactionController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, Object>> deleteTransaction(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         transactionService.delete(id, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -128,13 +162,13 @@ public class TransactionController {
     @DeleteMapping("/bulk")
     public ResponseEntity<Map<String, Object>> bulkDeleteTransactions(
             @RequestBody Map<String, List<Long>> request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         List<Long> ids = request.get("ids");
-        transactionService.bulkDelete(ids, userId);
+        BulkOperationResult result = transactionService.bulkDelete(ids, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
+                "data", result,
                 "message", "Transactions deleted successfully"
         ));
     }
@@ -142,23 +176,41 @@ public class TransactionController {
     @PutMapping("/bulk/category")
     public ResponseEntity<Map<String, Object>> bulkUpdateCategory(
             @RequestBody Map<String, Object> request,
-            Authentication authentication
+            @CurrentUser Long userId
     ) {
-        Long userId = getUserId(authentication);
         @SuppressWarnings("unchecked")
         List<Long> ids = ((List<Number>) request.get("ids")).stream().map(Number::longValue).toList();
         Long categoryId = ((Number) request.get("categoryId")).longValue();
-        transactionService.bulkUpdateCategory(ids, categoryId, userId);
+        BulkOperationResult result = transactionService.bulkUpdateCategory(ids, categoryId, userId);
         return ResponseEntity.ok(Map.of(
                 "success", true,
+                "data", result,
                 "message", "Transaction categories updated successfully"
         ));
     }
 
-    private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        return user.getId();
+    /**
+     * Writes one JSON object per line as rows come off the database cursor,
+     * for clients that need the full result set without paging.
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(Long userId, TransactionFilter filter) {
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            transactionService.streamAll(userId, filter, transaction -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(transaction));
+                    out.write('\n');
+                    if (++written[0] % NDJSON_FLUSH_INTERVAL == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 }
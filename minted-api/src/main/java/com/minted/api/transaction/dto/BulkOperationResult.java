@@ -0,0 +1,18 @@
+package com.minted.api.transaction.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk transaction operation. Ids that were not processed (unknown or owned by
+ * another user) are reported in {@code failures}; the rest of the batch still applies.
+ */
+public record BulkOperationResult(
+        int succeeded,
+        List<Failure> failures
+) {
+    public record Failure(
+            Long id,
+            String reason
+    ) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.minted.api.transaction.dto;
+
+import com.minted.api.transaction.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/** Sum and count of a set of transactions for one account, category, type and month (yyyyMM). */
+public record MonthlyAggregateRow(
+        Long accountId,
+        Long categoryId,
+        TransactionType type,
+        Integer monthKey,
+        BigDecimal amount,
+        Long count
+) {
+    public MonthlyAggregateRow withCategoryId(Long newCategoryId) {
+        return new MonthlyAggregateRow(accountId, newCategoryId, type, monthKey, amount, count);
+    }
+}
@@ -0,0 +1,15 @@
+package com.minted.api.transaction.dto;
+
+import com.minted.api.transaction.enums.TransactionType;
+
+import java.math.BigDecimal;
+
+/** The columns needed to reverse a transaction's effect on account balances, loaded without the entity. */
+public record TransactionBalanceEntry(
+        Long id,
+        TransactionType type,
+        BigDecimal amount,
+        Long accountId,
+        Long toAccountId
+) {
+}
@@ -0,0 +1,36 @@
+package com.minted.api.transaction.dto;
+
+import com.minted.api.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (transaction_date DESC, id DESC) ordering.
+ * Clients only ever see the opaque {@link #encode()}d form.
+ */
+public record TransactionCursor(LocalDate transactionDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /** Position before the first row of a listing that ends at {@code endDate}. */
+    public static TransactionCursor start(LocalDate endDate) {
+        return new TransactionCursor(endDate, Long.MAX_VALUE);
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            return new TransactionCursor(LocalDate.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,22 @@
+package com.minted.api.transaction.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * The fields that identify an imported row as a duplicate of an existing transaction on the same account.
+ * Normalised on construction so keys built from CSV text and from database rows compare equal:
+ * amounts ignore scale ("1500" == "1500.00") and descriptions are trimmed and case-folded, matching
+ * the case-insensitive comparison MySQL's default collation applied to the previous per-row query.
+ */
+public record TransactionDuplicateKey(
+        LocalDate transactionDate,
+        BigDecimal amount,
+        String description
+) {
+    public TransactionDuplicateKey {
+        amount = amount != null ? amount.stripTrailingZeros() : null;
+        description = description != null ? description.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
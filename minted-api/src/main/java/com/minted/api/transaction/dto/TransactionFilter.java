@@ -0,0 +1,28 @@
+package com.minted.api.transaction.dto;
+
+import com.minted.api.transaction.enums.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * Criteria shared by the transaction listing endpoints. Null ids/type mean "any";
+ * an unbounded listing uses the full DATE range supported by MySQL.
+ */
+public record TransactionFilter(
+        Long accountId,
+        Long categoryId,
+        TransactionType type,
+        LocalDate startDate,
+        LocalDate endDate
+) {
+    public static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    public static TransactionFilter all() {
+        return new TransactionFilter(null, null, null, MIN_DATE, MAX_DATE);
+    }
+
+    public static TransactionFilter dateRange(LocalDate startDate, LocalDate endDate) {
+        return new TransactionFilter(null, null, null, startDate, endDate);
+    }
+}
@@ -0,0 +1,10 @@
+package com.minted.api.transaction.dto;
+
+import java.util.List;
+
+public record TransactionPage(
+        List<TransactionResponse> content,
+        String nextCursor,
+        boolean hasMore
+) {
+}
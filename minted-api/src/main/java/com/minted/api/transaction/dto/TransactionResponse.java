@@ -29,7 +29,7 @@ public record TransactionResponse(
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
-    public static TransactionResponse from(Transaction transaction, boolean isSplit) {
+    public static TransactionResponse from(Transaction transaction) {
         return new TransactionResponse(
                 transaction.getId(),
                 transaction.getAmount(),
@@ -47,7 +47,7 @@ public record TransactionResponse(
                 transaction.getCategory().getColor(),
                 transaction.getIsRecurring(),
                 transaction.getTags(),
-                isSplit,
+                Boolean.TRUE.equals(transaction.getIsSplit()),
                 transaction.getExcludeFromAnalysis(),
                 transaction.getCreatedAt(),
                 transaction.getUpdatedAt()
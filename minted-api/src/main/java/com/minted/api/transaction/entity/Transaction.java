@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -134,6 +135,12 @@ public class Transaction {
     @Column(name = "tags", length = 500)
     private String tags;
 
+    // Computed in the select that loads the row; served by idx_split_transactions_user_source.
+    // Read-only: null on a transaction that has not been loaded from the database yet.
+    @Formula("(CASE WHEN EXISTS (SELECT 1 FROM split_transactions st " +
+             "WHERE st.user_id = user_id AND st.source_transaction_id = id) THEN 1 ELSE 0 END)")
+    private Boolean isSplit;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,59 @@
+package com.minted.api.transaction.entity;
+
+import com.minted.api.account.entity.Account;
+import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.user.entity.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+
+/**
+ * Sum and count of a user's transactions per account, category, type and month ({@code monthKey} = yyyyMM).
+ * Written only through {@code TransactionAggregateService}, read by analytics for month-aligned ranges.
+ */
+@Entity
+@Table(name = "transaction_monthly_aggregates", uniqueConstraints = @UniqueConstraint(
+        name = "uk_transaction_monthly_aggregate",
+        columnNames = {"user_id", "month_key", "account_id", "category_id", "type"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class TransactionMonthlyAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Account account;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private TransactionCategory category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private TransactionType type;
+
+    @Column(name = "month_key", nullable = false)
+    private Integer monthKey;
+
+    @Column(name = "total_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "txn_count", nullable = false)
+    private Long txnCount = 0L;
+}
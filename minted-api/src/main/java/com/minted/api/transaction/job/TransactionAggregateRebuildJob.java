@@ -0,0 +1,163 @@
+package com.minted.api.transaction.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.entity.JobScheduleConfig;
+import com.minted.api.job.entity.JobStepExecution;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.enums.JobStepStatus;
+import com.minted.api.job.enums.JobTriggerType;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.JobLockContext;
+import com.minted.api.job.service.JobLockService;
+import com.minted.api.job.service.JobSchedulerService;
+import com.minted.api.transaction.service.TransactionAggregateService;
+import com.minted.api.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recomputes {@code transaction_monthly_aggregates} from {@code transactions}, one user per database transaction.
+ * The aggregates are kept current by every write path and backfilled by V0_0_49, so this is a repair tool:
+ * seeded disabled, run on demand after manual data fixes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionAggregateRebuildJob implements Runnable {
+
+    public static final String JOB_NAME = "TRANSACTION_AGGREGATE_REBUILD";
+
+    private final TransactionAggregateService transactionAggregateService;
+    private final UserRepository userRepository;
+    private final JobExecutionRepository jobExecutionRepository;
+    private final JobScheduleConfigRepository scheduleConfigRepository;
+    private final JobSchedulerService jobSchedulerService;
+    private final JobLockService jobLockService;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void init() {
+        scheduleConfigRepository.findByJobName(JOB_NAME).ifPresent(config -> {
+            jobSchedulerService.registerJob(JOB_NAME, this, config.getCronExpression(), config.getEnabled());
+        });
+    }
+
+    @Override
+    public void run() {
+        log.info("Starting TransactionAggregateRebuildJob execution...");
+
+        JobScheduleConfig config = scheduleConfigRepository.findByJobName(JOB_NAME).orElse(null);
+        JobExecution execution = new JobExecution();
+        execution.setJobName(JOB_NAME);
+        execution.setScheduleConfig(config);
+        execution.setStatus(JobStatus.RUNNING);
+        execution.setTriggerType(JobTriggerType.SCHEDULED);
+        execution.setStartTime(LocalDateTime.now());
+        execution.setTotalSteps(2);
+        execution = jobExecutionRepository.save(execution);
+
+        try {
+            // Step 1: Rebuild
+            JobStepExecution rebuildStep = createStep(execution, "Rebuild Monthly Aggregates", 1);
+            List<Long> failedUsers = new ArrayList<>();
+            int users = 0;
+            int rows = 0;
+            try {
+                for (Long userId : userRepository.findAllIds()) {
+                    ensureLockHeld();
+                    try {
+                        rows += transactionAggregateService.rebuild(userId);
+                        users++;
+                    } catch (RuntimeException e) {
+                        log.error("Failed to rebuild monthly aggregates for userId={}", userId, e);
+                        failedUsers.add(userId);
+                    }
+                }
+                Map<String, Object> context = new HashMap<>();
+                context.put("usersRebuilt", users);
+                context.put("rowsWritten", rows);
+                if (!failedUsers.isEmpty()) {
+                    context.put("failedUsers", failedUsers);
+                }
+                completeStep(rebuildStep, context);
+            } catch (RuntimeException e) {
+                failStep(rebuildStep, e);
+                throw e;
+            }
+            execution.setCompletedSteps(1);
+            jobExecutionRepository.save(execution);
+
+            // Step 2: Update Config
+            JobStepExecution step = createStep(execution, "Update Schedule Configuration", 2);
+            if (config != null) {
+                config.setLastRunAt(LocalDateTime.now());
+                scheduleConfigRepository.save(config);
+            }
+            Map<String, Object> context = new HashMap<>();
+            context.put("configUpdated", config != null);
+            completeStep(step, context);
+            execution.setCompletedSteps(2);
+
+            execution.setStatus(failedUsers.isEmpty() ? JobStatus.COMPLETED : JobStatus.FAILED);
+            if (!failedUsers.isEmpty()) {
+                execution.setErrorMessage("Failed to rebuild aggregates for " + failedUsers.size() + " users");
+            }
+            execution.setEndTime(LocalDateTime.now());
+            jobExecutionRepository.save(execution);
+
+            log.info("TransactionAggregateRebuildJob completed: {} users, {} rows, {} failed", users, rows, failedUsers.size());
+        } catch (Exception e) {
+            log.error("TransactionAggregateRebuildJob failed", e);
+            execution.setStatus(JobStatus.FAILED);
+            execution.setEndTime(LocalDateTime.now());
+            execution.setErrorMessage(e.getMessage());
+            jobExecutionRepository.save(execution);
+        }
+    }
+
+    private void ensureLockHeld() {
+        JobLockContext.current().ifPresent(handle -> {
+            if (!jobLockService.isHeld(handle)) {
+                throw new IllegalStateException("Job lock lost (fencing token " + handle.fencingToken() + "), stopping");
+            }
+        });
+    }
+
+    private JobStepExecution createStep(JobExecution jobExecution, String name, int order) {
+        JobStepExecution step = new JobStepExecution();
+        step.setJobExecution(jobExecution);
+        step.setStepName(name);
+        step.setStepOrder(order);
+        step.setStatus(JobStepStatus.RUNNING);
+        step.setStartTime(LocalDateTime.now());
+        jobExecution.getSteps().add(step);
+        return step;
+    }
+
+    private void completeStep(JobStepExecution step, Map<String, Object> context) {
+        step.setStatus(JobStepStatus.COMPLETED);
+        step.setEndTime(LocalDateTime.now());
+        try {
+            step.setContextJson(objectMapper.writeValueAsString(context));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize step context for step: {}", step.getStepName(), e);
+        }
+    }
+
+    private void failStep(JobStepExecution step, Exception e) {
+        step.setStatus(JobStepStatus.FAILED);
+        step.setEndTime(LocalDateTime.now());
+        step.setErrorMessage(e.getMessage());
+    }
+}
@@ -0,0 +1,61 @@
+package com.minted.api.transaction.repository;
+
+import com.minted.api.transaction.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch writes for transactions. {@link Transaction} uses IDENTITY ids, which disables Hibernate
+ * insert batching, so high-volume paths (bulk import) insert through here instead of {@code save()}.
+ * With {@code rewriteBatchedStatements=true} on the MySQL URL each batch is sent as one multi-row INSERT.
+ *
+ * Only the foreign-key ids of account, toAccount, category and user are read; the rows are not attached
+ * to the persistence context and their ids are not populated.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transactions (amount, type, description, notes, transaction_date, account_id, to_account_id, " +
+            "category_id, user_id, is_recurring, exclude_from_analysis, tags, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Inserts all rows in a single JDBC batch and returns the number of rows written. */
+    public int batchInsert(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, transactions.size(), (ps, t) -> {
+            ps.setBigDecimal(1, t.getAmount());
+            ps.setString(2, t.getType().name());
+            ps.setString(3, t.getDescription());
+            ps.setString(4, t.getNotes());
+            ps.setDate(5, Date.valueOf(t.getTransactionDate()));
+            ps.setLong(6, t.getAccount().getId());
+            if (t.getToAccount() != null) {
+                ps.setLong(7, t.getToAccount().getId());
+            } else {
+                ps.setNull(7, Types.BIGINT);
+            }
+            ps.setLong(8, t.getCategory().getId());
+            ps.setLong(9, t.getUser().getId());
+            ps.setBoolean(10, Boolean.TRUE.equals(t.getIsRecurring()));
+            ps.setBoolean(11, Boolean.TRUE.equals(t.getExcludeFromAnalysis()));
+            ps.setString(12, t.getTags());
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+        });
+        return transactions.size();
+    }
+}
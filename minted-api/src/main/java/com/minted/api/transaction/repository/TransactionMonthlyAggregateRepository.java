@@ -0,0 +1,124 @@
+package com.minted.api.transaction.repository;
+
+import com.minted.api.transaction.entity.TransactionMonthlyAggregate;
+import com.minted.api.transaction.enums.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface TransactionMonthlyAggregateRepository extends JpaRepository<TransactionMonthlyAggregate, Long> {
+
+    // Atomic increment of one aggregate row, inserting it on first use. Served by uk_transaction_monthly_aggregate.
+    @Modifying
+    @Query(value = "INSERT INTO transaction_monthly_aggregates " +
+                   "(user_id, account_id, category_id, type, month_key, total_amount, txn_count) " +
+                   "VALUES (:userId, :accountId, :categoryId, :type, :monthKey, :amount, :count) " +
+                   "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), " +
+                   "txn_count = txn_count + VALUES(txn_count)", nativeQuery = true)
+    int upsert(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") String type,
+            @Param("monthKey") Integer monthKey,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM transaction_monthly_aggregates WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO transaction_monthly_aggregates " +
+                   "(user_id, account_id, category_id, type, month_key, total_amount, txn_count) " +
+                   "SELECT user_id, account_id, category_id, type, YEAR(transaction_date) * 100 + MONTH(transaction_date), " +
+                   "SUM(amount), COUNT(*) FROM transactions " +
+                   "WHERE user_id = :userId AND (exclude_from_analysis = FALSE OR exclude_from_analysis IS NULL) " +
+                   "GROUP BY user_id, account_id, category_id, type, YEAR(transaction_date) * 100 + MONTH(transaction_date)",
+           nativeQuery = true)
+    int insertFromTransactions(@Param("userId") Long userId);
+
+    // Month-aligned analytics: same result shapes as the TransactionRepository queries they replace.
+    // Ranges are inclusive yyyyMM keys; accountId is optional; rows emptied by deletes (count 0) are skipped.
+
+    @Query("SELECT SUM(a.totalAmount) FROM TransactionMonthlyAggregate a WHERE a.user.id = :userId " +
+           "AND a.type = :type AND a.monthKey BETWEEN :fromMonth AND :toMonth " +
+           "AND (:accountId IS NULL OR a.account.id = :accountId) " +
+           "AND a.category.id NOT IN :excludedCategoryIds")
+    BigDecimal sumAmount(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("fromMonth") Integer fromMonth,
+            @Param("toMonth") Integer toMonth,
+            @Param("excludedCategoryIds") List<Long> excludedCategoryIds,
+            @Param("accountId") Long accountId
+    );
+
+    @Query("SELECT SUM(a.txnCount) FROM TransactionMonthlyAggregate a WHERE a.user.id = :userId " +
+           "AND a.monthKey BETWEEN :fromMonth AND :toMonth " +
+           "AND (:accountId IS NULL OR a.account.id = :accountId) " +
+           "AND a.category.id NOT IN :excludedCategoryIds")
+    Long count(
+            @Param("userId") Long userId,
+            @Param("fromMonth") Integer fromMonth,
+            @Param("toMonth") Integer toMonth,
+            @Param("excludedCategoryIds") List<Long> excludedCategoryIds,
+            @Param("accountId") Long accountId
+    );
+
+    @Query("SELECT a.category.id, a.category.name, SUM(a.totalAmount), SUM(a.txnCount), a.category.icon, a.category.color " +
+           "FROM TransactionMonthlyAggregate a WHERE a.user.id = :userId " +
+           "AND a.type = :type AND a.monthKey BETWEEN :fromMonth AND :toMonth " +
+           "AND (:accountId IS NULL OR a.account.id = :accountId) " +
+           "AND a.category.id NOT IN :excludedCategoryIds " +
+           "GROUP BY a.category.id, a.category.name, a.category.icon, a.category.color " +
+           "HAVING SUM(a.txnCount) > 0 " +
+           "ORDER BY SUM(a.totalAmount) DESC")
+    List<Object[]> sumAmountGroupedByCategory(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("fromMonth") Integer fromMonth,
+            @Param("toMonth") Integer toMonth,
+            @Param("excludedCategoryIds") List<Long> excludedCategoryIds,
+            @Param("accountId") Long accountId
+    );
+
+    // Returns monthKey, SUM — callers split the key into year and month
+    @Query("SELECT a.monthKey, SUM(a.totalAmount) " +
+           "FROM TransactionMonthlyAggregate a WHERE a.user.id = :userId " +
+           "AND a.type = :type AND a.monthKey BETWEEN :fromMonth AND :toMonth " +
+           "AND (:accountId IS NULL OR a.account.id = :accountId) " +
+           "AND a.category.id NOT IN :excludedCategoryIds " +
+           "GROUP BY a.monthKey " +
+           "HAVING SUM(a.txnCount) > 0 " +
+           "ORDER BY a.monthKey")
+    List<Object[]> sumAmountGroupedByMonth(
+            @Param("userId") Long userId,
+            @Param("type") TransactionType type,
+            @Param("fromMonth") Integer fromMonth,
+            @Param("toMonth") Integer toMonth,
+            @Param("excludedCategoryIds") List<Long> excludedCategoryIds,
+            @Param("accountId") Long accountId
+    );
+
+    @Query("SELECT a.account.id, a.account.name, SUM(a.totalAmount) " +
+           "FROM TransactionMonthlyAggregate a WHERE a.user.id = :userId " +
+           "AND a.monthKey BETWEEN :fromMonth AND :toMonth " +
+           "AND a.category.id NOT IN :excludedCategoryIds " +
+           "GROUP BY a.account.id, a.account.name " +
+           "HAVING SUM(a.txnCount) > 0 " +
+           "ORDER BY SUM(a.totalAmount) DESC")
+    List<Object[]> sumAmountGroupedByAccount(
+            @Param("userId") Long userId,
+            @Param("fromMonth") Integer fromMonth,
+            @Param("toMonth") Integer toMonth,
+            @Param("excludedCategoryIds") List<Long> excludedCategoryIds
+    );
+}
@@ -1,22 +1,37 @@
 package com.minted.api.transaction.repository;
 
+import com.minted.api.transaction.dto.MonthlyAggregateRow;
+import com.minted.api.transaction.dto.TransactionBalanceEntry;
+import com.minted.api.transaction.dto.TransactionDuplicateKey;
 import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.transaction.entity.TransactionCategory;
 import com.minted.api.transaction.enums.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     List<Transaction> findByUserId(Long userId);
 
+    @EntityGraph(attributePaths = {"account", "toAccount", "category"})
     Optional<Transaction> findByIdAndUserId(Long id, Long userId);
 
     List<Transaction> findByUserIdAndTransactionDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
@@ -90,9 +105,110 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     boolean existsByTransactionDateAndAmountAndDescriptionAndAccountIdAndUserId(
             LocalDate transactionDate, BigDecimal amount, String description, Long accountId, Long userId);
 
+    // Duplicate keys for bulk import: one range read per file instead of one exists() per row.
+    // Served by idx_user_account_date (user_id, account_id, transaction_date).
+    @Query("SELECT new com.minted.api.transaction.dto.TransactionDuplicateKey(t.transactionDate, t.amount, t.description) " +
+           "FROM Transaction t WHERE t.user.id = :userId AND t.account.id = :accountId " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    List<TransactionDuplicateKey> findDuplicateKeys(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     boolean existsByAccountIdAndAmountAndTransactionDateBetweenAndDescriptionContainingIgnoreCase(
             Long accountId, BigDecimal amount, LocalDate startDate, LocalDate endDate, String description);
 
+    // Keyset-paginated listing ordered by (transactionDate DESC, id DESC).
+    // The first page passes cursorDate = endDate and cursorId = Long.MAX_VALUE.
+    // Served by idx_user_date: InnoDB secondary indexes carry the primary key, so the index is (user_id, transaction_date, id).
+    // The entity graph loads everything TransactionResponse reads in the same statement (no per-row selects).
+
+    @EntityGraph(attributePaths = {"account", "toAccount", "category"})
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
+           "AND (:accountId IS NULL OR t.account.id = :accountId) " +
+           "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
+           "AND (:type IS NULL OR t.type = :type) " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "AND t.transactionDate <= :cursorDate " +
+           "AND (t.transactionDate < :cursorDate OR t.id < :cursorId) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findPageByFilters(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    // Must be consumed inside a transaction. On MySQL the fetch size only takes effect with useCursorFetch=true.
+    @EntityGraph(attributePaths = {"account", "toAccount", "category"})
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
+           "AND (:accountId IS NULL OR t.account.id = :accountId) " +
+           "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
+           "AND (:type IS NULL OR t.type = :type) " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    Stream<Transaction> streamByFilters(
+            @Param("userId") Long userId,
+            @Param("accountId") Long accountId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // Set-based bulk operations. Every statement is scoped to the owner, so ids belonging to
+    // other users are simply not matched. Callers pass ids in chunks to keep IN lists bounded.
+
+    @Query("SELECT new com.minted.api.transaction.dto.TransactionBalanceEntry(t.id, t.type, t.amount, t.account.id, ta.id) " +
+           "FROM Transaction t LEFT JOIN t.toAccount ta WHERE t.user.id = :userId AND t.id IN :ids")
+    List<TransactionBalanceEntry> findBalanceEntriesByIdInAndUserId(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId
+    );
+
+    // Monthly aggregate contribution of the given transactions, read before they are deleted or recategorised
+    @Query("SELECT new com.minted.api.transaction.dto.MonthlyAggregateRow(t.account.id, t.category.id, t.type, " +
+           "YEAR(t.transactionDate) * 100 + MONTH(t.transactionDate), SUM(t.amount), COUNT(t)) " +
+           "FROM Transaction t WHERE t.user.id = :userId AND t.id IN :ids " +
+           "AND (t.excludeFromAnalysis = false OR t.excludeFromAnalysis IS NULL) " +
+           "GROUP BY t.account.id, t.category.id, t.type, YEAR(t.transactionDate) * 100 + MONTH(t.transactionDate)")
+    List<MonthlyAggregateRow> sumMonthlyAggregatesByIdInAndUserId(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId
+    );
+
+    @Query("SELECT t.id FROM Transaction t WHERE t.user.id = :userId AND t.id IN :ids")
+    List<Long> findIdsByIdInAndUserId(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId
+    );
+
+    @Modifying
+    @Query("DELETE FROM Transaction t WHERE t.user.id = :userId AND t.id IN :ids")
+    int deleteByIdInAndUserId(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId
+    );
+
+    // Bulk JPQL bypasses @UpdateTimestamp, so updatedAt is set explicitly
+    @Modifying
+    @Query("UPDATE Transaction t SET t.category = :category, t.updatedAt = :updatedAt " +
+           "WHERE t.user.id = :userId AND t.id IN :ids")
+    int updateCategoryByIdInAndUserId(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId,
+            @Param("category") TransactionCategory category,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
     // Category-exclusion-aware analytics queries
 
     @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.user.id = :userId " +
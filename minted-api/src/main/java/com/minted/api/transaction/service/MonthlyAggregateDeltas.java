@@ -0,0 +1,91 @@
+package com.minted.api.transaction.service;
+
+import com.minted.api.transaction.dto.MonthlyAggregateRow;
+import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.transaction.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Net change per monthly aggregate row, accumulated before being applied by {@link TransactionAggregateService}.
+ * Kept in key order so concurrent writers lock aggregate rows in the same order. Transactions excluded from
+ * analysis are not aggregated and are ignored here.
+ */
+public final class MonthlyAggregateDeltas {
+
+    public record Key(Long userId, Integer monthKey, Long accountId, Long categoryId, TransactionType type) {}
+
+    public record Delta(BigDecimal amount, long count) {
+        Delta plus(Delta other) {
+            return new Delta(amount.add(other.amount), count + other.count);
+        }
+
+        public boolean isZero() {
+            return amount.signum() == 0 && count == 0;
+        }
+    }
+
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::userId)
+            .thenComparing(Key::monthKey)
+            .thenComparing(Key::accountId)
+            .thenComparing(Key::categoryId)
+            .thenComparing(Key::type);
+
+    private final Map<Key, Delta> deltas = new TreeMap<>(KEY_ORDER);
+
+    public static int monthKey(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    /** Adds a new or edited transaction as it is now. */
+    public MonthlyAggregateDeltas add(Transaction transaction) {
+        return add(transaction, 1);
+    }
+
+    /** Removes a deleted transaction, or an edited one as it was before the edit. */
+    public MonthlyAggregateDeltas reverse(Transaction transaction) {
+        return add(transaction, -1);
+    }
+
+    /** Adds a group of transactions read with {@code TransactionRepository.sumMonthlyAggregates}. */
+    public MonthlyAggregateDeltas add(Long userId, MonthlyAggregateRow row) {
+        return add(new Key(userId, row.monthKey(), row.accountId(), row.categoryId(), row.type()),
+                new Delta(row.amount(), row.count()));
+    }
+
+    public MonthlyAggregateDeltas reverse(Long userId, MonthlyAggregateRow row) {
+        return add(new Key(userId, row.monthKey(), row.accountId(), row.categoryId(), row.type()),
+                new Delta(row.amount().negate(), -row.count()));
+    }
+
+    public boolean isEmpty() {
+        return deltas.values().stream().allMatch(Delta::isZero);
+    }
+
+    public int size() {
+        return deltas.size();
+    }
+
+    public Map<Key, Delta> asMap() {
+        return Collections.unmodifiableMap(deltas);
+    }
+
+    private MonthlyAggregateDeltas add(Transaction t, int sign) {
+        if (Boolean.TRUE.equals(t.getExcludeFromAnalysis())) {
+            return this;
+        }
+        BigDecimal amount = sign > 0 ? t.getAmount() : t.getAmount().negate();
+        return add(new Key(t.getUser().getId(), monthKey(t.getTransactionDate()), t.getAccount().getId(),
+                t.getCategory().getId(), t.getType()), new Delta(amount, sign));
+    }
+
+    private MonthlyAggregateDeltas add(Key key, Delta delta) {
+        deltas.merge(key, delta, Delta::plus);
+        return this;
+    }
+}
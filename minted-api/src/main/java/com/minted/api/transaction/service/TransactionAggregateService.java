@@ -0,0 +1,15 @@
+package com.minted.api.transaction.service;
+
+/**
+ * The only writer of {@code transaction_monthly_aggregates}. Every path that creates, edits, recategorises
+ * or deletes transactions passes its {@link MonthlyAggregateDeltas} here in the same database transaction,
+ * so the aggregates always agree with the committed transactions.
+ */
+public interface TransactionAggregateService {
+
+    /** Applies each non-zero delta as one atomic upsert, in key order. Joins the caller's transaction. */
+    void apply(MonthlyAggregateDeltas deltas);
+
+    /** Replaces a user's aggregates with ones recomputed from their transactions. Returns the number of rows written. */
+    int rebuild(Long userId);
+}
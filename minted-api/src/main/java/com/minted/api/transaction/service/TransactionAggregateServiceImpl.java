@@ -0,0 +1,35 @@
+package com.minted.api.transaction.service;
+
+import com.minted.api.transaction.repository.TransactionMonthlyAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionAggregateServiceImpl implements TransactionAggregateService {
+
+    private final TransactionMonthlyAggregateRepository aggregateRepository;
+
+    @Override
+    @Transactional
+    public void apply(MonthlyAggregateDeltas deltas) {
+        deltas.asMap().forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                aggregateRepository.upsert(key.userId(), key.accountId(), key.categoryId(), key.type().name(),
+                        key.monthKey(), delta.amount(), delta.count());
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(Long userId) {
+        int removed = aggregateRepository.deleteByUserId(userId);
+        int written = aggregateRepository.insertFromTransactions(userId);
+        log.debug("Rebuilt monthly aggregates: userId={}, removed={}, written={}", userId, removed, written);
+        return written;
+    }
+}
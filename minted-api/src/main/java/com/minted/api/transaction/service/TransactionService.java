@@ -1,20 +1,27 @@
 package com.minted.api.transaction.service;
 
+import com.minted.api.transaction.dto.BulkOperationResult;
+import com.minted.api.transaction.dto.TransactionFilter;
+import com.minted.api.transaction.dto.TransactionPage;
 import com.minted.api.transaction.dto.TransactionRequest;
 import com.minted.api.transaction.dto.TransactionResponse;
-import com.minted.api.transaction.enums.TransactionType;
 
-import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TransactionService {
 
-    List<TransactionResponse> getAllByUserId(Long userId);
+    int DEFAULT_PAGE_SIZE = 100;
+    int MAX_PAGE_SIZE = 500;
 
-    List<TransactionResponse> getAllByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
+    /**
+     * Returns one page of transactions newest first. {@code cursor} is the opaque token from the
+     * previous page (null for the first page); {@code limit} is capped at {@link #MAX_PAGE_SIZE}.
+     */
+    TransactionPage getPage(Long userId, TransactionFilter filter, String cursor, Integer limit);
 
-    List<TransactionResponse> getAllByFilters(Long userId, Long accountId, Long categoryId,
-                                              TransactionType type, LocalDate startDate, LocalDate endDate);
+    /** Streams every matching transaction newest first without buffering the full result. */
+    void streamAll(Long userId, TransactionFilter filter, Consumer<TransactionResponse> consumer);
 
     TransactionResponse getById(Long id, Long userId);
 
@@ -24,7 +31,12 @@ public interface TransactionService {
 
     void delete(Long id, Long userId);
 
-    void bulkDelete(List<Long> ids, Long userId);
+    /**
+     * Deletes the given transactions with a fixed number of statements per chunk of ids and
+     * reverses their balance effect once per affected account. Unknown ids are reported, not thrown.
+     */
+    BulkOperationResult bulkDelete(List<Long> ids, Long userId);
 
-    void bulkUpdateCategory(List<Long> ids, Long categoryId, Long userId);
+    /** Moves the given transactions to {@code categoryId} with one UPDATE per chunk of ids. */
+    BulkOperationResult bulkUpdateCategory(List<Long> ids, Long categoryId, Long userId);
 }
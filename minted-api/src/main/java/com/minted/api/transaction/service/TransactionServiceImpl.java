@@ -1,5 +1,11 @@
 package com.minted.api.transaction.service;
 
+import com.minted.api.transaction.dto.BulkOperationResult;
+import com.minted.api.transaction.dto.MonthlyAggregateRow;
+import com.minted.api.transaction.dto.TransactionBalanceEntry;
+import com.minted.api.transaction.dto.TransactionCursor;
+import com.minted.api.transaction.dto.TransactionFilter;
+import com.minted.api.transaction.dto.TransactionPage;
 import com.minted.api.transaction.dto.TransactionRequest;
 import com.minted.api.transaction.dto.TransactionResponse;
 import com.minted.api.account.entity.Account;
@@ -10,21 +16,28 @@ import com.minted.api.transaction.enums.TransactionType;
 import com.minted.api.common.exception.BadRequestException;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.account.repository.AccountRepository;
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.account.service.BalanceDeltas;
 import com.minted.api.transaction.repository.TransactionCategoryRepository;
 import com.minted.api.transaction.repository.TransactionRepository;
 import com.minted.api.user.repository.UserRepository;
-import com.minted.api.split.repository.SplitTransactionRepository;
 import com.minted.api.transaction.service.TransactionService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -35,42 +48,57 @@ public class TransactionServiceImpl implements TransactionService {
     private final AccountRepository accountRepository;
     private final TransactionCategoryRepository categoryRepository;
     private final UserRepository userRepository;
-    private final SplitTransactionRepository splitTransactionRepository;
+    private final AccountBalanceService accountBalanceService;
+    private final TransactionAggregateService transactionAggregateService;
+    private final EntityManager entityManager;
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<TransactionResponse> getAllByUserId(Long userId) {
-        Set<Long> splitIds = new HashSet<>(splitTransactionRepository.findSourceTransactionIdsByUserId(userId));
-        return transactionRepository.findByUserId(userId).stream()
-                .map(t -> TransactionResponse.from(t, splitIds.contains(t.getId())))
-                .collect(Collectors.toList());
-    }
+    private static final int BULK_CHUNK_SIZE = 500;
 
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getAllByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-        Set<Long> splitIds = new HashSet<>(splitTransactionRepository.findSourceTransactionIdsByUserId(userId));
-        return transactionRepository.findByUserIdAndDateRangeOrderByDateDesc(userId, startDate, endDate).stream()
-                .map(t -> TransactionResponse.from(t, splitIds.contains(t.getId())))
+    public TransactionPage getPage(Long userId, TransactionFilter filter, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        TransactionCursor position = cursor != null ? TransactionCursor.decode(cursor) : TransactionCursor.start(filter.endDate());
+
+        // Fetch one extra row to learn whether another page exists
+        List<Transaction> rows = transactionRepository.findPageByFilters(
+                userId, filter.accountId(), filter.categoryId(), filter.type(),
+                filter.startDate(), filter.endDate(),
+                position.transactionDate(), position.id(), Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Transaction> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<TransactionResponse> content = page.stream()
+                .map(TransactionResponse::from)
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasMore) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+        return new TransactionPage(content, nextCursor, hasMore);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getAllByFilters(Long userId, Long accountId, Long categoryId,
-                                                     TransactionType type, LocalDate startDate, LocalDate endDate) {
-        Set<Long> splitIds = new HashSet<>(splitTransactionRepository.findSourceTransactionIdsByUserId(userId));
-        return transactionRepository.findByFilters(userId, accountId, categoryId, type, startDate, endDate).stream()
-                .map(t -> TransactionResponse.from(t, splitIds.contains(t.getId())))
-                .collect(Collectors.toList());
+    public void streamAll(Long userId, TransactionFilter filter, Consumer<TransactionResponse> consumer) {
+        try (Stream<Transaction> rows = transactionRepository.streamByFilters(
+                userId, filter.accountId(), filter.categoryId(), filter.type(),
+                filter.startDate(), filter.endDate())) {
+            rows.forEach(t -> {
+                consumer.accept(TransactionResponse.from(t));
+                // Keep the persistence context from growing with the result set
+                entityManager.detach(t);
+            });
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public TransactionResponse getById(Long id, Long userId) {
-        Set<Long> splitIds = new HashSet<>(splitTransactionRepository.findSourceTransactionIdsByUserId(userId));
-        Transaction transaction = findTransactionByIdAndUserId(id, userId);
-        return TransactionResponse.from(transaction, splitIds.contains(transaction.getId()));
+        return TransactionResponse.from(findTransactionByIdAndUserId(id, userId));
     }
 
     @Override
@@ -113,10 +141,12 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction saved = transactionRepository.save(transaction);
 
         // Update account balances
-        updateAccountBalancesForCreate(account, toAccount, request.type(), request.amount());
+        accountBalanceService.apply(new BalanceDeltas().add(request.type(), request.amount(),
+                account.getId(), toAccount != null ? toAccount.getId() : null));
+        transactionAggregateService.apply(new MonthlyAggregateDeltas().add(saved));
 
         log.info("Transaction created: id={}, type={}, amount={}", saved.getId(), saved.getType(), saved.getAmount());
-        return TransactionResponse.from(saved, false);
+        return TransactionResponse.from(saved);
     }
 
     @Override
@@ -124,8 +154,9 @@ public class TransactionServiceImpl implements TransactionService {
     public TransactionResponse update(Long id, TransactionRequest request, Long userId) {
         Transaction transaction = findTransactionByIdAndUserId(id, userId);
 
-        // Revert old balance changes
-        reverseAccountBalances(transaction);
+        // Revert old balance changes (applied together with the new ones below)
+        BalanceDeltas balanceDeltas = reversal(transaction);
+        MonthlyAggregateDeltas aggregateDeltas = new MonthlyAggregateDeltas().reverse(transaction);
 
         Account account = findAccountByIdAndUserId(request.accountId(), userId);
         TransactionCategory category = findCategoryByIdAndUserId(request.categoryId(), userId);
@@ -160,11 +191,12 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction updated = transactionRepository.save(transaction);
 
         // Apply new balance changes
-        updateAccountBalancesForCreate(account, toAccount, request.type(), request.amount());
+        balanceDeltas.add(request.type(), request.amount(), account.getId(), toAccount != null ? toAccount.getId() : null);
+        accountBalanceService.apply(balanceDeltas);
+        transactionAggregateService.apply(aggregateDeltas.add(updated));
 
         log.info("Transaction updated: id={}", updated.getId());
-        Set<Long> splitIds = new HashSet<>(splitTransactionRepository.findSourceTransactionIdsByUserId(userId));
-        return TransactionResponse.from(updated, splitIds.contains(updated.getId()));
+        return TransactionResponse.from(updated);
     }
 
     @Override
@@ -173,7 +205,8 @@ public class TransactionServiceImpl implements TransactionService {
         Transaction transaction = findTransactionByIdAndUserId(id, userId);
 
         // Revert balance changes
-        reverseAccountBalances(transaction);
+        accountBalanceService.apply(reversal(transaction));
+        transactionAggregateService.apply(new MonthlyAggregateDeltas().reverse(transaction));
 
         transactionRepository.delete(transaction);
         log.info("Transaction deleted: id={}", id);
@@ -181,73 +214,98 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     @Transactional
-    public void bulkDelete(List<Long> ids, Long userId) {
-        if (ids == null || ids.isEmpty()) {
-            throw new BadRequestException("No transaction IDs provided");
-        }
-        for (Long id : ids) {
-            Transaction transaction = findTransactionByIdAndUserId(id, userId);
-            reverseAccountBalances(transaction);
-            transactionRepository.delete(transaction);
+    public BulkOperationResult bulkDelete(List<Long> ids, Long userId) {
+        Set<Long> requested = requireIds(ids);
+        BalanceDeltas balanceDeltas = new BalanceDeltas();
+        MonthlyAggregateDeltas aggregateDeltas = new MonthlyAggregateDeltas();
+        Set<Long> deleted = new HashSet<>();
+
+        for (List<Long> chunk : chunks(requested)) {
+            List<TransactionBalanceEntry> entries = transactionRepository.findBalanceEntriesByIdInAndUserId(chunk, userId);
+            if (entries.isEmpty()) {
+                continue;
+            }
+            List<Long> owned = new ArrayList<>(entries.size());
+            for (TransactionBalanceEntry entry : entries) {
+                balanceDeltas.reverse(entry.type(), entry.amount(), entry.accountId(), entry.toAccountId());
+                owned.add(entry.id());
+            }
+            for (MonthlyAggregateRow row : transactionRepository.sumMonthlyAggregatesByIdInAndUserId(owned, userId)) {
+                aggregateDeltas.reverse(userId, row);
+            }
+            transactionRepository.deleteByIdInAndUserId(owned, userId);
+            deleted.addAll(owned);
         }
-        log.info("Bulk deleted {} transactions for userId={}", ids.size(), userId);
+
+        accountBalanceService.apply(balanceDeltas);
+        transactionAggregateService.apply(aggregateDeltas);
+        log.info("Bulk deleted {} of {} transactions for userId={}, accounts adjusted={}",
+                deleted.size(), requested.size(), userId, balanceDeltas.size());
+        return toResult(requested, deleted);
     }
 
     @Override
     @Transactional
-    public void bulkUpdateCategory(List<Long> ids, Long categoryId, Long userId) {
+    public BulkOperationResult bulkUpdateCategory(List<Long> ids, Long categoryId, Long userId) {
+        Set<Long> requested = requireIds(ids);
+        TransactionCategory category = findCategoryByIdAndUserId(categoryId, userId);
+        LocalDateTime now = LocalDateTime.now();
+        MonthlyAggregateDeltas aggregateDeltas = new MonthlyAggregateDeltas();
+        Set<Long> updated = new HashSet<>();
+
+        for (List<Long> chunk : chunks(requested)) {
+            List<Long> owned = transactionRepository.findIdsByIdInAndUserId(chunk, userId);
+            if (owned.isEmpty()) {
+                continue;
+            }
+            // Move the transactions' totals from their old categories to the new one
+            for (MonthlyAggregateRow row : transactionRepository.sumMonthlyAggregatesByIdInAndUserId(owned, userId)) {
+                aggregateDeltas.reverse(userId, row).add(userId, row.withCategoryId(category.getId()));
+            }
+            transactionRepository.updateCategoryByIdInAndUserId(owned, userId, category, now);
+            updated.addAll(owned);
+        }
+
+        transactionAggregateService.apply(aggregateDeltas);
+        log.info("Bulk updated category to {} for {} of {} transactions, userId={}",
+                categoryId, updated.size(), requested.size(), userId);
+        return toResult(requested, updated);
+    }
+
+    private Set<Long> requireIds(List<Long> ids) {
         if (ids == null || ids.isEmpty()) {
             throw new BadRequestException("No transaction IDs provided");
         }
-        TransactionCategory category = findCategoryByIdAndUserId(categoryId, userId);
-        for (Long id : ids) {
-            Transaction transaction = findTransactionByIdAndUserId(id, userId);
-            transaction.setCategory(category);
-            transactionRepository.save(transaction);
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.isEmpty()) {
+            throw new BadRequestException("No transaction IDs provided");
         }
-        log.info("Bulk updated category to {} for {} transactions, userId={}", categoryId, ids.size(), userId);
+        return requested;
     }
 
-    private void updateAccountBalancesForCreate(Account account, Account toAccount,
-                                               TransactionType type, java.math.BigDecimal amount) {
-        switch (type) {
-            case INCOME:
-                account.setBalance(account.getBalance().add(amount));
-                accountRepository.save(account);
-                break;
-            case EXPENSE:
-                account.setBalance(account.getBalance().subtract(amount));
-                accountRepository.save(account);
-                break;
-            case TRANSFER:
-                account.setBalance(account.getBalance().subtract(amount));
-                toAccount.setBalance(toAccount.getBalance().add(amount));
-                accountRepository.save(account);
-                accountRepository.save(toAccount);
-                break;
+    private List<List<Long>> chunks(Set<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += BULK_CHUNK_SIZE) {
+            chunks.add(all.subList(i, Math.min(i + BULK_CHUNK_SIZE, all.size())));
         }
+        return chunks;
     }
 
-    private void reverseAccountBalances(Transaction transaction) {
-        Account account = transaction.getAccount();
-        Account toAccount = transaction.getToAccount();
-
-        switch (transaction.getType()) {
-            case INCOME:
-                account.setBalance(account.getBalance().subtract(transaction.getAmount()));
-                accountRepository.save(account);
-                break;
-            case EXPENSE:
-                account.setBalance(account.getBalance().add(transaction.getAmount()));
-                accountRepository.save(account);
-                break;
-            case TRANSFER:
-                account.setBalance(account.getBalance().add(transaction.getAmount()));
-                toAccount.setBalance(toAccount.getBalance().subtract(transaction.getAmount()));
-                accountRepository.save(account);
-                accountRepository.save(toAccount);
-                break;
-        }
+    private BulkOperationResult toResult(Set<Long> requested, Set<Long> processed) {
+        List<BulkOperationResult.Failure> failures = requested.stream()
+                .filter(id -> !processed.contains(id))
+                .map(id -> new BulkOperationResult.Failure(id, "Transaction not found with id: " + id))
+                .collect(Collectors.toList());
+        return new BulkOperationResult(processed.size(), failures);
+    }
+
+    /** The balance change that removing this transaction's current effect implies. */
+    private BalanceDeltas reversal(Transaction transaction) {
+        return new BalanceDeltas().reverse(transaction.getType(), transaction.getAmount(),
+                transaction.getAccount().getId(),
+                transaction.getToAccount() != null ? transaction.getToAccount().getId() : null);
     }
 
     private Transaction findTransactionByIdAndUserId(Long id, Long userId) {
@@ -8,6 +8,6 @@ public record UserResponse(
         Boolean forcePasswordChange,
         String currency,
         String role,
-        String avatarBase64
+        String avatarUrl
 ) {
 }
@@ -46,15 +46,8 @@ public class User {
     @Column(length = 20, nullable = false)
     private String role = "USER";
 
-    @Lob
-    @Column(name = "avatar_data", columnDefinition = "LONGBLOB")
-    private byte[] avatarData;
-
-    @Column(name = "avatar_content_type", length = 50)
-    private String avatarContentType;
-
-    @Column(name = "avatar_file_size")
-    private Integer avatarFileSize;
+    @Column(name = "avatar_id", length = 36)
+    private String avatarId;
 
     @Column(name = "avatar_updated_at")
     private LocalDateTime avatarUpdatedAt;
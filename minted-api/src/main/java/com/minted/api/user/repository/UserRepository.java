@@ -1,9 +1,13 @@
 package com.minted.api.user.repository;
 
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    @Query("SELECT new com.minted.api.auth.dto.UserPrincipal(u.id, u.username, u.role, u.isActive, u.currency) " +
+           "FROM User u WHERE u.username = :username")
+    Optional<UserPrincipal> findPrincipalByUsername(@Param("username") String username);
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
 }
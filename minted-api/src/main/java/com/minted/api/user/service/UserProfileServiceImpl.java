@@ -1,5 +1,7 @@
 package com.minted.api.user.service;
 
+import com.minted.api.auth.service.UserPrincipalCache;
+import com.minted.api.avatar.service.AvatarService;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.user.dto.UserProfileUpdateRequest;
 import com.minted.api.user.dto.UserResponse;
@@ -11,18 +13,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Base64;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserProfileServiceImpl implements UserProfileService {
 
-    private static final long MAX_AVATAR_SIZE = 2 * 1024 * 1024; // 2MB
-
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final AvatarService avatarService;
 
     @Override
     public UserResponse getProfile(String username) {
@@ -48,6 +48,7 @@ public class UserProfileServiceImpl implements UserProfileService {
         }
 
         userRepository.save(user);
+        userPrincipalCache.evict(username);
         log.info("Profile updated for user: {}", username);
         return toResponse(user);
     }
@@ -58,26 +59,13 @@ public class UserProfileServiceImpl implements UserProfileService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        if (file.getSize() > MAX_AVATAR_SIZE) {
-            throw new IllegalArgumentException("Avatar file size must not exceed 2MB");
-        }
-
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new IllegalArgumentException("Only image files are allowed");
-        }
-
-        try {
-            user.setAvatarData(file.getBytes());
-            user.setAvatarContentType(contentType);
-            user.setAvatarFileSize((int) file.getSize());
-            user.setAvatarUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
-            log.info("Avatar uploaded for user: {}", username);
-            return toResponse(user);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to read avatar file", e);
-        }
+        String previousAvatarId = user.getAvatarId();
+        user.setAvatarId(avatarService.store(file));
+        user.setAvatarUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+        avatarService.delete(previousAvatarId);
+        log.info("Avatar uploaded for user: {}", username);
+        return toResponse(user);
     }
 
     @Override
@@ -86,21 +74,16 @@ public class UserProfileServiceImpl implements UserProfileService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        user.setAvatarData(null);
-        user.setAvatarContentType(null);
-        user.setAvatarFileSize(null);
+        String previousAvatarId = user.getAvatarId();
+        user.setAvatarId(null);
         user.setAvatarUpdatedAt(null);
         userRepository.save(user);
+        avatarService.delete(previousAvatarId);
         log.info("Avatar deleted for user: {}", username);
         return toResponse(user);
     }
 
     private UserResponse toResponse(User user) {
-        String avatarBase64 = null;
-        if (user.getAvatarData() != null && user.getAvatarContentType() != null) {
-            avatarBase64 = "data:" + user.getAvatarContentType() + ";base64,"
-                    + Base64.getEncoder().encodeToString(user.getAvatarData());
-        }
         return new UserResponse(
                 user.getId(),
                 user.getUsername(),
@@ -109,7 +92,7 @@ public class UserProfileServiceImpl implements UserProfileService {
                 user.getForcePasswordChange(),
                 user.getCurrency(),
                 user.getRole(),
-                avatarBase64
+                AvatarService.urlFor(user.getAvatarId(), user.getAvatarUpdatedAt())
         );
     }
 }
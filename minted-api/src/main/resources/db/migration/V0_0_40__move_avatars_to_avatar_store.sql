@@ -0,0 +1,45 @@
+-- Move avatar images out of users/friends into a dedicated store so that loading
+-- a user or a friend list never drags the image blobs along.
+-- Each upload gets a fresh id, so the content behind an id never changes.
+CREATE TABLE avatars (
+    id VARCHAR(36) PRIMARY KEY,
+    content_type VARCHAR(50) NOT NULL,
+    file_size INT NOT NULL,
+    checksum VARCHAR(64) NOT NULL COMMENT 'SHA-256 of data, used as the HTTP ETag',
+    data LONGBLOB NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Users
+ALTER TABLE users ADD COLUMN avatar_id VARCHAR(36) NULL;
+
+UPDATE users SET avatar_id = UUID()
+WHERE avatar_data IS NOT NULL AND avatar_content_type IS NOT NULL;
+
+INSERT INTO avatars (id, content_type, file_size, checksum, data, created_at)
+SELECT avatar_id, avatar_content_type, COALESCE(avatar_file_size, LENGTH(avatar_data)),
+       SHA2(avatar_data, 256), avatar_data, COALESCE(avatar_updated_at, CURRENT_TIMESTAMP)
+FROM users
+WHERE avatar_id IS NOT NULL;
+
+ALTER TABLE users
+  DROP COLUMN avatar_data,
+  DROP COLUMN avatar_content_type,
+  DROP COLUMN avatar_file_size;
+
+-- Friends
+ALTER TABLE friends ADD COLUMN avatar_id VARCHAR(36) NULL;
+
+UPDATE friends SET avatar_id = UUID()
+WHERE avatar_data IS NOT NULL AND avatar_content_type IS NOT NULL;
+
+INSERT INTO avatars (id, content_type, file_size, checksum, data, created_at)
+SELECT avatar_id, avatar_content_type, COALESCE(avatar_file_size, LENGTH(avatar_data)),
+       SHA2(avatar_data, 256), avatar_data, COALESCE(avatar_updated_at, CURRENT_TIMESTAMP)
+FROM friends
+WHERE avatar_id IS NOT NULL;
+
+ALTER TABLE friends
+  DROP COLUMN avatar_data,
+  DROP COLUMN avatar_content_type,
+  DROP COLUMN avatar_file_size;
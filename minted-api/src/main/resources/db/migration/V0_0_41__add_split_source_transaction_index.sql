@@ -0,0 +1,2 @@
+-- Serves the Transaction.isSplit EXISTS subquery (one index lookup per transaction row)
+CREATE INDEX idx_split_transactions_user_source ON split_transactions(user_id, source_transaction_id);
@@ -0,0 +1,4 @@
+-- Serves the bulk-import duplicate lookup (one range read per file over account + date window).
+-- idx_user_account is a prefix of the new index and becomes redundant.
+CREATE INDEX idx_user_account_date ON transactions(user_id, account_id, transaction_date);
+DROP INDEX idx_user_account ON transactions;
@@ -0,0 +1,62 @@
+-- Large payload columns move to a side table referenced by id, so loading bulk_imports or
+-- credit_card_statements rows (e.g. listing pages) no longer reads them. The application
+-- writes gzip-compressed content; payloads copied here keep their original bytes (encoding NONE).
+CREATE TABLE payload_blobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    encoding VARCHAR(10) NOT NULL,
+    content LONGBLOB NOT NULL,
+    original_size BIGINT NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    migrated_from VARCHAR(64) NULL,
+    INDEX idx_payload_blobs_migrated_from (migrated_from)
+);
+
+ALTER TABLE bulk_imports
+    ADD COLUMN csv_data_blob_id BIGINT NULL,
+    ADD COLUMN validation_result_blob_id BIGINT NULL,
+    ADD CONSTRAINT fk_import_csv_data_blob FOREIGN KEY (csv_data_blob_id) REFERENCES payload_blobs(id),
+    ADD CONSTRAINT fk_import_validation_result_blob FOREIGN KEY (validation_result_blob_id) REFERENCES payload_blobs(id);
+
+ALTER TABLE credit_card_statements
+    ADD COLUMN extracted_text_blob_id BIGINT NULL,
+    ADD COLUMN llm_response_json_blob_id BIGINT NULL,
+    ADD CONSTRAINT fk_statement_extracted_text_blob FOREIGN KEY (extracted_text_blob_id) REFERENCES payload_blobs(id),
+    ADD CONSTRAINT fk_statement_llm_response_blob FOREIGN KEY (llm_response_json_blob_id) REFERENCES payload_blobs(id);
+
+-- bulk_imports.csv_data
+INSERT INTO payload_blobs (encoding, content, original_size, migrated_from)
+SELECT 'NONE', CAST(csv_data AS BINARY), LENGTH(csv_data), CONCAT('bulk_imports.csv_data:', id)
+FROM bulk_imports WHERE csv_data IS NOT NULL;
+UPDATE bulk_imports b JOIN payload_blobs p ON p.migrated_from = CONCAT('bulk_imports.csv_data:', b.id)
+SET b.csv_data_blob_id = p.id;
+
+-- bulk_imports.validation_result (JSON)
+INSERT INTO payload_blobs (encoding, content, original_size, migrated_from)
+SELECT 'NONE', CAST(CAST(validation_result AS CHAR) AS BINARY), LENGTH(CAST(validation_result AS CHAR)),
+       CONCAT('bulk_imports.validation_result:', id)
+FROM bulk_imports WHERE validation_result IS NOT NULL;
+UPDATE bulk_imports b JOIN payload_blobs p ON p.migrated_from = CONCAT('bulk_imports.validation_result:', b.id)
+SET b.validation_result_blob_id = p.id;
+
+-- credit_card_statements.extracted_text
+INSERT INTO payload_blobs (encoding, content, original_size, migrated_from)
+SELECT 'NONE', CAST(extracted_text AS BINARY), LENGTH(extracted_text), CONCAT('credit_card_statements.extracted_text:', id)
+FROM credit_card_statements WHERE extracted_text IS NOT NULL;
+UPDATE credit_card_statements s JOIN payload_blobs p ON p.migrated_from = CONCAT('credit_card_statements.extracted_text:', s.id)
+SET s.extracted_text_blob_id = p.id;
+
+-- credit_card_statements.llm_response_json
+INSERT INTO payload_blobs (encoding, content, original_size, migrated_from)
+SELECT 'NONE', CAST(llm_response_json AS BINARY), LENGTH(llm_response_json), CONCAT('credit_card_statements.llm_response_json:', id)
+FROM credit_card_statements WHERE llm_response_json IS NOT NULL;
+UPDATE credit_card_statements s JOIN payload_blobs p ON p.migrated_from = CONCAT('credit_card_statements.llm_response_json:', s.id)
+SET s.llm_response_json_blob_id = p.id;
+
+ALTER TABLE payload_blobs DROP INDEX idx_payload_blobs_migrated_from, DROP COLUMN migrated_from;
+ALTER TABLE bulk_imports DROP COLUMN csv_data, DROP COLUMN validation_result;
+ALTER TABLE credit_card_statements DROP COLUMN extracted_text, DROP COLUMN llm_response_json;
+
+-- Purges payloads of COMPLETED/FAILED imports and statements older than app.payload.retention-days
+INSERT INTO job_schedule_configs (job_name, cron_expression, enabled, description)
+VALUES ('PAYLOAD_RETENTION', '0 30 2 * * ?', TRUE,
+        'Deletes stored CSV, validation, statement text and LLM response payloads of finished imports and statements older than the retention period.');
@@ -0,0 +1,21 @@
+-- Durable work queue for background work (bulk imports, statement parsing, scheduled jobs).
+-- Workers on every API node claim due PENDING rows with SELECT ... FOR UPDATE SKIP LOCKED,
+-- hold a lease while running and extend it by heartbeat; expired leases return rows to PENDING.
+CREATE TABLE work_items (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    queue_name VARCHAR(50) NOT NULL,
+    payload VARCHAR(500) NOT NULL,
+    dedup_key VARCHAR(150) NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    max_attempts INT NOT NULL DEFAULT 3,
+    available_at DATETIME NOT NULL,
+    lease_owner VARCHAR(100) NULL,
+    lease_expires_at DATETIME NULL,
+    last_error VARCHAR(1000) NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT uk_work_items_dedup_key UNIQUE (dedup_key),
+    INDEX idx_work_items_claim (queue_name, status, available_at),
+    INDEX idx_work_items_lease (status, lease_expires_at)
+);
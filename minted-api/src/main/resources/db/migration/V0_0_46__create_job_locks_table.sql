@@ -0,0 +1,14 @@
+-- Cluster-wide lock per job name. A node holds a job's lock while locked_until is in the future;
+-- each acquisition increments fencing_token. job_executions records the lock each run held (or,
+-- for SKIPPED runs, the lock holder that caused the skip).
+CREATE TABLE job_locks (
+    job_name VARCHAR(100) PRIMARY KEY,
+    locked_by VARCHAR(100) NOT NULL,
+    locked_at DATETIME NOT NULL,
+    locked_until DATETIME NOT NULL,
+    fencing_token BIGINT NOT NULL
+);
+
+ALTER TABLE job_executions
+    ADD COLUMN lock_owner VARCHAR(100) NULL,
+    ADD COLUMN fencing_token BIGINT NULL;
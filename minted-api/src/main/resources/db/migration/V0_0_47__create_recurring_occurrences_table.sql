@@ -0,0 +1,18 @@
+-- One row per generated occurrence of a recurring transaction. The unique key makes the recurring job
+-- idempotent: an occurrence already recorded is never generated again, even if the job is rerun,
+-- runs concurrently after a lost lock, or the generated transaction was deleted by the user.
+CREATE TABLE recurring_occurrences (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recurring_transaction_id BIGINT NOT NULL,
+    occurrence_date DATE NOT NULL,
+    transaction_id BIGINT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_recurring_occurrence UNIQUE (recurring_transaction_id, occurrence_date),
+    CONSTRAINT fk_recurring_occurrence_recurring FOREIGN KEY (recurring_transaction_id)
+        REFERENCES recurring_transactions(id) ON DELETE CASCADE,
+    CONSTRAINT fk_recurring_occurrence_transaction FOREIGN KEY (transaction_id)
+        REFERENCES transactions(id) ON DELETE SET NULL
+);
+
+-- Keyset iteration over due rows: WHERE status = ? AND (next_execution_date, id) > (?, ?) ORDER BY next_execution_date, id
+CREATE INDEX idx_recurring_due ON recurring_transactions (status, next_execution_date, id);
@@ -0,0 +1,17 @@
+-- Balance before any recorded transaction, so accounts.balance can be recomputed from transactions
+-- (balance = opening_balance + income - expenses - outgoing transfers + incoming transfers).
+-- Existing accounts take today's balance as correct and derive their opening balance from it.
+ALTER TABLE accounts ADD COLUMN opening_balance DECIMAL(15,2) NOT NULL DEFAULT 0;
+
+UPDATE accounts SET balance = 0 WHERE balance IS NULL;
+
+UPDATE accounts a SET opening_balance = a.balance
+    - COALESCE((SELECT SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE -t.amount END)
+                FROM transactions t WHERE t.account_id = a.id), 0)
+    - COALESCE((SELECT SUM(t.amount)
+                FROM transactions t WHERE t.to_account_id = a.id AND t.type = 'TRANSFER'), 0);
+
+-- Recomputes balances from transactions and reports drift (set app.balance.reconciliation.auto-correct to fix it)
+INSERT INTO job_schedule_configs (job_name, cron_expression, enabled, description)
+VALUES ('BALANCE_RECONCILIATION', '0 0 3 * * ?', TRUE,
+        'Recomputes every account balance from its opening balance and transactions and reports accounts that drifted.');
@@ -0,0 +1,30 @@
+-- Per-month totals of transactions, maintained incrementally by every transaction write so analytics
+-- over whole months read a handful of rows instead of the user's full history.
+-- month_key is yyyyMM (YEAR_MONTH is a reserved word in MySQL). Rows only count transactions that are
+-- not excluded from analysis, matching the filter of the analytics queries.
+CREATE TABLE transaction_monthly_aggregates (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    type ENUM('INCOME', 'EXPENSE', 'TRANSFER') NOT NULL,
+    month_key INT NOT NULL,
+    total_amount DECIMAL(15,2) NOT NULL DEFAULT 0,
+    txn_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_transaction_monthly_aggregate UNIQUE (user_id, month_key, account_id, category_id, type),
+    CONSTRAINT fk_txn_aggregate_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_txn_aggregate_account FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE,
+    CONSTRAINT fk_txn_aggregate_category FOREIGN KEY (category_id) REFERENCES transaction_categories(id) ON DELETE CASCADE
+);
+
+-- Backfill from existing transactions
+INSERT INTO transaction_monthly_aggregates (user_id, account_id, category_id, type, month_key, total_amount, txn_count)
+SELECT user_id, account_id, category_id, type, YEAR(transaction_date) * 100 + MONTH(transaction_date), SUM(amount), COUNT(*)
+FROM transactions
+WHERE exclude_from_analysis = FALSE OR exclude_from_analysis IS NULL
+GROUP BY user_id, account_id, category_id, type, YEAR(transaction_date) * 100 + MONTH(transaction_date);
+
+-- Rebuilds the aggregates from transactions; disabled by default, run it from the admin page after manual data fixes
+INSERT INTO job_schedule_configs (job_name, cron_expression, enabled, description)
+VALUES ('TRANSACTION_AGGREGATE_REBUILD', '0 0 4 ? * SUN', FALSE,
+        'Rebuilds the monthly transaction aggregates used by analytics from the transactions table.');
@@ -0,0 +1,27 @@
+-- Parsed rows of earlier LLM statement parses, keyed by a SHA-256 of everything that shapes the prompt
+-- (user, provider, model, normalised statement text, sorted category names, merchant rules). A repeat parse
+-- of the same input is served from here instead of calling the LLM again. Rows are stored gzip-compressed
+-- in payload_blobs; entries expire after app.llm.cache.max-age-days and the least recently used are evicted
+-- beyond app.llm.cache.max-entries.
+CREATE TABLE llm_result_cache (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_key CHAR(64) NOT NULL,
+    user_id BIGINT NOT NULL,
+    provider VARCHAR(50) NOT NULL,
+    model_key VARCHAR(200) NOT NULL,
+    rows_blob_id BIGINT NOT NULL,
+    row_count INT NOT NULL,
+    hit_count INT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_used_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_llm_result_cache_key UNIQUE (cache_key),
+    CONSTRAINT fk_llm_result_cache_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_llm_result_cache_blob FOREIGN KEY (rows_blob_id) REFERENCES payload_blobs(id),
+    INDEX idx_llm_result_cache_created (created_at),
+    INDEX idx_llm_result_cache_last_used (last_used_at)
+);
+
+-- SHA-256 of the uploaded file, so a byte-identical re-upload reuses the earlier extracted text
+ALTER TABLE credit_card_statements
+    ADD COLUMN file_hash CHAR(64) NULL,
+    ADD INDEX idx_statements_user_file_hash (user_id, file_hash);
@@ -4,13 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minted.api.account.dto.AccountRequest;
 import com.minted.api.account.dto.AccountResponse;
 import com.minted.api.account.service.AccountService;
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
 import com.minted.api.support.TestSecurityConfig;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,7 +42,7 @@ class AccountControllerTest {
     @Autowired ObjectMapper objectMapper;
 
     @MockBean AccountService accountService;
-    @MockBean UserRepository userRepository;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
@@ -57,10 +57,8 @@ class AccountControllerTest {
         doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("alice");
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userPrincipalCache.get("alice"))
+                .thenReturn(Optional.of(new UserPrincipal(1L, "alice", "USER", true, "INR")));
 
         sampleResponse = new AccountResponse(1L, "Savings", 1L, "Bank", BigDecimal.ZERO, "INR", null, null, true, null, null);
     }
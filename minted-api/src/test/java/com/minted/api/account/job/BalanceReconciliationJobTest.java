@@ -0,0 +1,92 @@
+package com.minted.api.account.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.account.dto.BalanceDrift;
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.JobSchedulerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceReconciliationJobTest {
+
+    @Mock private AccountBalanceService accountBalanceService;
+    @Mock private JobExecutionRepository jobExecutionRepository;
+    @Mock private JobScheduleConfigRepository scheduleConfigRepository;
+    @Mock private JobSchedulerService jobSchedulerService;
+
+    private BalanceReconciliationJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new BalanceReconciliationJob(accountBalanceService, jobExecutionRepository,
+                scheduleConfigRepository, jobSchedulerService, new ObjectMapper());
+        when(scheduleConfigRepository.findByJobName(BalanceReconciliationJob.JOB_NAME)).thenReturn(Optional.empty());
+        when(jobExecutionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void run_driftDetected_reportsWithoutCorrecting() {
+        when(accountBalanceService.findDrift()).thenReturn(List.of(
+                new BalanceDrift(1L, 10L, new BigDecimal("125"), new BigDecimal("120"))));
+
+        job.run();
+
+        verify(accountBalanceService, never()).apply(any());
+        JobExecution execution = lastSavedExecution();
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(execution.getSteps().get(0).getContextJson()).contains("\"driftedAccounts\":1");
+        assertThat(execution.getSteps().get(1).getContextJson()).contains("\"corrected\":0");
+    }
+
+    @Test
+    void run_autoCorrect_appliesNegatedDrift() {
+        ReflectionTestUtils.setField(job, "autoCorrect", true);
+        when(accountBalanceService.findDrift()).thenReturn(List.of(
+                new BalanceDrift(1L, 10L, new BigDecimal("125"), new BigDecimal("120")),
+                new BalanceDrift(2L, 10L, new BigDecimal("0"), new BigDecimal("30"))));
+
+        job.run();
+
+        verify(accountBalanceService).apply(argThat(d -> d.size() == 2
+                && d.get(1L).compareTo(new BigDecimal("-5")) == 0
+                && d.get(2L).compareTo(new BigDecimal("30")) == 0));
+        assertThat(lastSavedExecution().getSteps().get(1).getContextJson()).contains("\"corrected\":2");
+    }
+
+    @Test
+    void run_detectionFails_marksExecutionFailed() {
+        when(accountBalanceService.findDrift()).thenThrow(new IllegalStateException("db down"));
+
+        job.run();
+
+        JobExecution execution = lastSavedExecution();
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(execution.getErrorMessage()).isEqualTo("db down");
+    }
+
+    // helpers
+
+    private JobExecution lastSavedExecution() {
+        ArgumentCaptor<JobExecution> captor = ArgumentCaptor.forClass(JobExecution.class);
+        verify(jobExecutionRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+}
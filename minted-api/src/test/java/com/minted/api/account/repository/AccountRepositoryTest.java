@@ -11,6 +11,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -103,6 +104,18 @@ class AccountRepositoryTest {
         assertThat(result.get(2).getName()).isEqualTo("Low");
     }
 
+    @Test
+    void adjustBalance_appliesSignedDelta() {
+        Account account = em.persist(buildAccount("Savings", user1, accountType, true));
+        em.flush();
+
+        accountRepository.adjustBalance(account.getId(), BigDecimal.valueOf(150), LocalDateTime.now());
+        accountRepository.adjustBalance(account.getId(), BigDecimal.valueOf(-40), LocalDateTime.now());
+        em.clear();
+
+        assertThat(em.find(Account.class, account.getId()).getBalance()).isEqualByComparingTo("110");
+    }
+
     // helpers
 
     private User buildUser(String username) {
@@ -0,0 +1,209 @@
+package com.minted.api.account.service;
+
+import com.minted.api.account.dto.BalanceDrift;
+import com.minted.api.account.entity.Account;
+import com.minted.api.account.entity.AccountType;
+import com.minted.api.account.repository.AccountRepository;
+import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.transaction.entity.TransactionCategory;
+import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AccountBalanceServiceImpl.class)
+class AccountBalanceServiceImplTest {
+
+    private static final int THREADS = 32;
+    private static final int UPDATES_PER_THREAD = 50;
+
+    @Autowired TestEntityManager em;
+    @Autowired AccountRepository accountRepository;
+    @Autowired AccountBalanceService accountBalanceService;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void apply_addsDeltasToStoredBalances() {
+        User user = em.persist(buildUser("alice"));
+        AccountType type = em.persist(buildAccountType(user));
+        Account first = em.persist(buildAccount(user, type, "First", "100"));
+        Account second = em.persist(buildAccount(user, type, "Second", "0"));
+        em.flush();
+
+        accountBalanceService.apply(new BalanceDeltas()
+                .add(TransactionType.TRANSFER, new BigDecimal("40"), first.getId(), second.getId())
+                .add(TransactionType.EXPENSE, new BigDecimal("10"), first.getId(), null));
+        em.clear();
+
+        assertThat(accountRepository.findById(first.getId()).orElseThrow().getBalance()).isEqualByComparingTo("50");
+        assertThat(accountRepository.findById(second.getId()).orElseThrow().getBalance()).isEqualByComparingTo("40");
+    }
+
+    @Test
+    void setBalance_shiftsOpeningBalanceByTheCorrection() {
+        User user = em.persist(buildUser("alice"));
+        AccountType type = em.persist(buildAccountType(user));
+        Account account = em.persist(buildAccount(user, type, "Savings", "100"));
+        account.setOpeningBalance(new BigDecimal("70"));
+        em.flush();
+
+        accountBalanceService.setBalance(account.getId(), new BigDecimal("130"));
+        em.clear();
+
+        Account reloaded = accountRepository.findById(account.getId()).orElseThrow();
+        assertThat(reloaded.getBalance()).isEqualByComparingTo("130");
+        assertThat(reloaded.getOpeningBalance()).isEqualByComparingTo("100");
+    }
+
+    @Test
+    void findDrift_reportsOnlyAccountsWhoseBalanceDisagreesWithTransactions() {
+        User user = em.persist(buildUser("alice"));
+        AccountType type = em.persist(buildAccountType(user));
+        TransactionCategory category = em.persist(buildCategory(user));
+        Account drifted = em.persist(buildAccount(user, type, "Drifted", "125"));
+        drifted.setOpeningBalance(new BigDecimal("100"));
+        Account consistent = em.persist(buildAccount(user, type, "Consistent", "10"));
+        em.persist(buildTx(user, drifted, null, category, "50", TransactionType.INCOME));
+        em.persist(buildTx(user, drifted, null, category, "20", TransactionType.EXPENSE));
+        em.persist(buildTx(user, drifted, consistent, category, "10", TransactionType.TRANSFER));
+        em.flush();
+
+        List<BalanceDrift> drifts = accountBalanceService.findDrift();
+
+        // Drifted: 100 + 50 - 20 - 10 = 120, stored 125; Consistent: 0 + 10 = 10
+        assertThat(drifts).hasSize(1);
+        assertThat(drifts.get(0).accountId()).isEqualTo(drifted.getId());
+        assertThat(drifts.get(0).computedBalance()).isEqualByComparingTo("120");
+        assertThat(drifts.get(0).drift()).isEqualByComparingTo("5");
+    }
+
+    // ── concurrency ───────────────────────────────────────────────────────────
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void apply_32ThreadsOnOneAccount_losesNoUpdate() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Long[] ids = tx.execute(status -> {
+            EntityManager entityManager = em.getEntityManager();
+            User user = buildUser("stress");
+            entityManager.persist(user);
+            AccountType type = buildAccountType(user);
+            entityManager.persist(type);
+            Account account = buildAccount(user, type, "Hot", "0");
+            entityManager.persist(account);
+            return new Long[]{user.getId(), type.getId(), account.getId()};
+        });
+        Long accountId = ids[2];
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                        // +3 then -1: every update matters, so a lost one changes the total
+                        BigDecimal delta = i % 2 == 0 ? new BigDecimal("3") : new BigDecimal("-1");
+                        accountBalanceService.apply(new BalanceDeltas().add(accountId, delta));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+
+            BigDecimal expected = BigDecimal.valueOf((long) THREADS * (UPDATES_PER_THREAD / 2) * (3 - 1));
+            assertThat(accountRepository.findById(accountId).orElseThrow().getBalance()).isEqualByComparingTo(expected);
+        } finally {
+            pool.shutdownNow();
+            tx.executeWithoutResult(status -> {
+                EntityManager entityManager = em.getEntityManager();
+                entityManager.remove(entityManager.find(Account.class, accountId));
+                entityManager.remove(entityManager.find(AccountType.class, ids[1]));
+                entityManager.remove(entityManager.find(User.class, ids[0]));
+            });
+        }
+    }
+
+    // helpers
+
+    private User buildUser(String username) {
+        User u = new User();
+        u.setUsername(username);
+        u.setPassword("hashed");
+        u.setIsActive(true);
+        u.setForcePasswordChange(false);
+        u.setRole("USER");
+        return u;
+    }
+
+    private AccountType buildAccountType(User user) {
+        AccountType at = new AccountType();
+        at.setName("Bank");
+        at.setUser(user);
+        at.setIsActive(true);
+        at.setIsDefault(false);
+        return at;
+    }
+
+    private Account buildAccount(User user, AccountType type, String name, String balance) {
+        Account a = new Account();
+        a.setName(name);
+        a.setUser(user);
+        a.setAccountType(type);
+        a.setIsActive(true);
+        a.setBalance(new BigDecimal(balance));
+        a.setCurrency("INR");
+        return a;
+    }
+
+    private TransactionCategory buildCategory(User user) {
+        TransactionCategory c = new TransactionCategory();
+        c.setName("General");
+        c.setType(TransactionType.EXPENSE);
+        c.setIsActive(true);
+        c.setIsDefault(false);
+        c.setUser(user);
+        return c;
+    }
+
+    private Transaction buildTx(User user, Account account, Account toAccount, TransactionCategory category,
+                                String amount, TransactionType type) {
+        Transaction t = new Transaction();
+        t.setUser(user);
+        t.setAccount(account);
+        t.setToAccount(toAccount);
+        t.setCategory(category);
+        t.setAmount(new BigDecimal(amount));
+        t.setType(type);
+        t.setTransactionDate(LocalDate.now());
+        t.setExcludeFromAnalysis(false);
+        return t;
+    }
+}
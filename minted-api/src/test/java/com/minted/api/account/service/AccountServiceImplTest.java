@@ -32,6 +32,7 @@ class AccountServiceImplTest {
     @Mock private AccountRepository accountRepository;
     @Mock private AccountTypeRepository accountTypeRepository;
     @Mock private UserRepository userRepository;
+    @Mock private AccountBalanceService accountBalanceService;
 
     @InjectMocks
     private AccountServiceImpl accountService;
@@ -54,6 +55,7 @@ class AccountServiceImplTest {
         assertThat(response.name()).isEqualTo("Savings");
         assertThat(softDeleted.getIsActive()).isTrue();
         verify(accountRepository).save(softDeleted);
+        verify(accountBalanceService).setBalance(1L, BigDecimal.TEN);
     }
 
     @Test
@@ -116,6 +118,8 @@ class AccountServiceImplTest {
         accountService.update(1L, request, 1L);
 
         verify(accountRepository, never()).existsByNameAndUserId(anyString(), anyLong());
+        verify(accountBalanceService).setBalance(1L, BigDecimal.TEN);
+        assertThat(existing.getBalance()).isEqualByComparingTo("10");
     }
 
     @Test
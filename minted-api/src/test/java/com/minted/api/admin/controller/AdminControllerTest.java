@@ -6,6 +6,9 @@ import com.minted.api.admin.service.DefaultListsService;
 import com.minted.api.admin.service.SystemSettingService;
 import com.minted.api.admin.service.UserManagementService;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.common.concurrent.ExecutorStats;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
@@ -46,7 +49,9 @@ class AdminControllerTest {
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtUtil jwtUtil;
+    @MockBean BoundedExecutor importExecutor;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -56,6 +61,21 @@ class AdminControllerTest {
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
     }
 
+    // ── executors ─────────────────────────────────────────────────────────────
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getExecutorStats_returnsStatsPerExecutor() throws Exception {
+        when(importExecutor.stats()).thenReturn(
+                new ExecutorStats("imports", false, 1, 2, 1, 3, 20, 10, 1, 2, 5.0, 120.0, 900.0));
+
+        mockMvc.perform(get("/api/v1/admin/executors"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("imports"))
+                .andExpect(jsonPath("$[0].queueDepth").value(3))
+                .andExpect(jsonPath("$[0].rejectedTasks").value(2));
+    }
+
     // ── default categories ────────────────────────────────────────────────────
 
     @Test
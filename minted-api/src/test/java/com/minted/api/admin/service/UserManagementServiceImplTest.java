@@ -7,8 +7,14 @@ import com.minted.api.admin.dto.CreateUserRequest;
 import com.minted.api.admin.dto.ResetPasswordRequest;
 import com.minted.api.admin.repository.DefaultAccountTypeRepository;
 import com.minted.api.admin.repository.DefaultCategoryRepository;
+import com.minted.api.auth.service.UserPrincipalCache;
+import com.minted.api.avatar.service.AvatarService;
+import com.minted.api.friend.repository.FriendRepository;
+import com.minted.api.llm.service.LlmResultCacheService;
 import com.minted.api.budget.repository.BudgetRepository;
 import com.minted.api.bulkimport.repository.BulkImportRepository;
+import com.minted.api.statement.entity.CreditCardStatement;
+import com.minted.api.statement.repository.CreditCardStatementRepository;
 import com.minted.api.common.exception.BadRequestException;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.dashboard.repository.DashboardCardRepository;
@@ -47,8 +53,13 @@ class UserManagementServiceImplTest {
     @Mock private BudgetRepository budgetRepository;
     @Mock private RecurringTransactionRepository recurringTransactionRepository;
     @Mock private BulkImportRepository bulkImportRepository;
+    @Mock private CreditCardStatementRepository statementRepository;
     @Mock private DashboardCardRepository dashboardCardRepository;
     @Mock private NotificationHelper notificationHelper;
+    @Mock private UserPrincipalCache userPrincipalCache;
+    @Mock private FriendRepository friendRepository;
+    @Mock private AvatarService avatarService;
+    @Mock private LlmResultCacheService llmResultCacheService;
 
     @InjectMocks
     private UserManagementServiceImpl userManagementService;
@@ -144,6 +155,7 @@ class UserManagementServiceImplTest {
         AdminUserResponse response = userManagementService.toggleUserActive(1L, "alice");
 
         assertThat(user.getIsActive()).isFalse();
+        verify(userPrincipalCache).evict("bob");
     }
 
     // ── deleteUser ────────────────────────────────────────────────────────────
@@ -169,11 +181,19 @@ class UserManagementServiceImplTest {
         when(accountTypeRepository.findByUserId(2L)).thenReturn(List.of());
         when(transactionCategoryRepository.findByUserId(2L)).thenReturn(List.of());
         when(bulkImportRepository.findByUserIdOrderByCreatedAtDesc(2L)).thenReturn(List.of());
+        List<CreditCardStatement> statements = List.of(new CreditCardStatement());
+        when(statementRepository.findByUserIdOrderByCreatedAtDesc(2L)).thenReturn(statements);
         when(dashboardCardRepository.findByUserIdOrderByPositionOrderAsc(2L)).thenReturn(List.of());
+        when(friendRepository.findAvatarIdsByUserId(2L)).thenReturn(List.of("friend-avatar"));
+        user.setAvatarId("user-avatar");
 
         userManagementService.deleteUser(2L, "alice");
 
+        verify(avatarService).deleteAll(List.of("friend-avatar", "user-avatar"));
+        verify(llmResultCacheService).evictUser(2L);
+        verify(statementRepository).deleteAll(statements);
         verify(userRepository).delete(user);
+        verify(userPrincipalCache).evict("bob");
     }
 
     // ── resetPassword ─────────────────────────────────────────────────────────
@@ -197,6 +217,7 @@ class UserManagementServiceImplTest {
 
         assertThat(user.getForcePasswordChange()).isTrue();
         verify(userRepository).save(user);
+        verify(userPrincipalCache).evict("alice");
     }
 
     // helpers
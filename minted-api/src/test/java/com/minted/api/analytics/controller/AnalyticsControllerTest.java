@@ -3,17 +3,19 @@ package com.minted.api.analytics.controller;
 import com.minted.api.analytics.dto.AnalyticsSummaryResponse;
 import com.minted.api.analytics.dto.BudgetSummaryResponse;
 import com.minted.api.analytics.dto.CategoryWiseResponse;
+import com.minted.api.analytics.dto.DashboardResponse;
 import com.minted.api.analytics.dto.SpendingActivityResponse;
 import com.minted.api.analytics.dto.TotalBalanceResponse;
 import com.minted.api.analytics.dto.TrendResponse;
 import com.minted.api.analytics.service.AnalyticsService;
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
+import com.minted.api.dashboard.dto.ChartDataResponse;
 import com.minted.api.support.TestSecurityConfig;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,7 +45,7 @@ class AnalyticsControllerTest {
     @Autowired MockMvc mockMvc;
 
     @MockBean AnalyticsService analyticsService;
-    @MockBean UserRepository userRepository;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
@@ -56,10 +58,8 @@ class AnalyticsControllerTest {
         doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("alice");
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userPrincipalCache.get("alice"))
+                .thenReturn(Optional.of(new UserPrincipal(1L, "alice", "USER", true, "INR")));
     }
 
     // ── GET /api/v1/analytics/summary ─────────────────────────────────────────
@@ -154,4 +154,27 @@ class AnalyticsControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].budgetName").value("Food Budget"));
     }
+
+    // ── GET /api/v1/analytics/dashboard ───────────────────────────────────────
+
+    @Test
+    @WithMockUser(username = "alice")
+    void getDashboard_returns200() throws Exception {
+        DashboardResponse dashboard = new DashboardResponse(
+                new AnalyticsSummaryResponse(BigDecimal.valueOf(5000), BigDecimal.valueOf(2000), BigDecimal.valueOf(3000), 10L),
+                List.of(), List.of(), List.of(), null, List.of(),
+                List.of(new DashboardResponse.CardData(4L, "By Account", new ChartDataResponse(List.of("Savings"), List.of())))
+        );
+        when(analyticsService.getDashboard(eq(1L), any(), any(), eq(2L), eq(12))).thenReturn(dashboard);
+
+        mockMvc.perform(get("/api/v1/analytics/dashboard")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-01-31")
+                        .param("accountId", "2")
+                        .param("trendMonths", "12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.summary.transactionCount").value(10))
+                .andExpect(jsonPath("$.data.cards[0].cardId").value(4))
+                .andExpect(jsonPath("$.data.cards[0].data.labels[0]").value("Savings"));
+    }
 }
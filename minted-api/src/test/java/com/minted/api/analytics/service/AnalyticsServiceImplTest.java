@@ -3,6 +3,7 @@ package com.minted.api.analytics.service;
 import com.minted.api.analytics.dto.AnalyticsSummaryResponse;
 import com.minted.api.analytics.dto.BudgetSummaryResponse;
 import com.minted.api.analytics.dto.CategoryWiseResponse;
+import com.minted.api.analytics.dto.DashboardResponse;
 import com.minted.api.analytics.dto.SpendingActivityResponse;
 import com.minted.api.analytics.dto.TotalBalanceResponse;
 import com.minted.api.analytics.dto.TrendResponse;
@@ -10,15 +11,20 @@ import com.minted.api.account.entity.Account;
 import com.minted.api.account.repository.AccountRepository;
 import com.minted.api.budget.entity.Budget;
 import com.minted.api.budget.repository.BudgetRepository;
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.dashboard.entity.DashboardCard;
 import com.minted.api.dashboard.repository.DashboardCardRepository;
 import com.minted.api.dashboardconfig.service.DashboardConfigService;
 import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.transaction.repository.TransactionMonthlyAggregateRepository;
 import com.minted.api.transaction.repository.TransactionRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -26,6 +32,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -33,10 +40,13 @@ import static org.mockito.Mockito.*;
 class AnalyticsServiceImplTest {
 
     @Mock private TransactionRepository transactionRepository;
+    @Mock private TransactionMonthlyAggregateRepository aggregateRepository;
     @Mock private DashboardCardRepository dashboardCardRepository;
     @Mock private AccountRepository accountRepository;
     @Mock private BudgetRepository budgetRepository;
     @Mock private DashboardConfigService dashboardConfigService;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Spy private BoundedExecutor analyticsExecutor = new BoundedExecutor("analytics-test", 2, 16, false);
 
     @InjectMocks
     private AnalyticsServiceImpl analyticsService;
@@ -49,11 +59,11 @@ class AnalyticsServiceImplTest {
         LocalDate end = LocalDate.of(2025, 1, 31);
 
         when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
-        when(transactionRepository.sumAmountFiltered(eq(1L), eq(TransactionType.INCOME), eq(start), eq(end), anyList(), isNull()))
+        when(aggregateRepository.sumAmount(eq(1L), eq(TransactionType.INCOME), eq(202501), eq(202501), anyList(), isNull()))
                 .thenReturn(BigDecimal.valueOf(5000));
-        when(transactionRepository.sumAmountFiltered(eq(1L), eq(TransactionType.EXPENSE), eq(start), eq(end), anyList(), isNull()))
+        when(aggregateRepository.sumAmount(eq(1L), eq(TransactionType.EXPENSE), eq(202501), eq(202501), anyList(), isNull()))
                 .thenReturn(BigDecimal.valueOf(2000));
-        when(transactionRepository.countFiltered(eq(1L), eq(start), eq(end), anyList(), isNull()))
+        when(aggregateRepository.count(eq(1L), eq(202501), eq(202501), anyList(), isNull()))
                 .thenReturn(10L);
 
         AnalyticsSummaryResponse result = analyticsService.getSummary(1L, start, end, null);
@@ -62,6 +72,32 @@ class AnalyticsServiceImplTest {
         assertThat(result.totalExpense()).isEqualByComparingTo("2000");
         assertThat(result.netBalance()).isEqualByComparingTo("3000");
         assertThat(result.transactionCount()).isEqualTo(10L);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void getSummary_partialMonths_addsAggregatesAndRawEnds() {
+        LocalDate start = LocalDate.of(2025, 1, 15);
+        LocalDate end = LocalDate.of(2025, 3, 10);
+
+        when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
+        // February from the aggregates, Jan 15–31 and Mar 1–10 from transactions
+        when(aggregateRepository.sumAmount(eq(1L), eq(TransactionType.INCOME), eq(202502), eq(202502), anyList(), isNull()))
+                .thenReturn(BigDecimal.valueOf(1000));
+        when(transactionRepository.sumAmountFiltered(eq(1L), eq(TransactionType.INCOME),
+                eq(LocalDate.of(2025, 1, 15)), eq(LocalDate.of(2025, 1, 31)), anyList(), isNull()))
+                .thenReturn(BigDecimal.valueOf(200));
+        when(transactionRepository.sumAmountFiltered(eq(1L), eq(TransactionType.INCOME),
+                eq(LocalDate.of(2025, 3, 1)), eq(LocalDate.of(2025, 3, 10)), anyList(), isNull()))
+                .thenReturn(null);
+        when(aggregateRepository.count(eq(1L), eq(202502), eq(202502), anyList(), isNull())).thenReturn(4L);
+        when(transactionRepository.countFiltered(eq(1L), any(), any(), anyList(), isNull())).thenReturn(1L);
+
+        AnalyticsSummaryResponse result = analyticsService.getSummary(1L, start, end, null);
+
+        assertThat(result.totalIncome()).isEqualByComparingTo("1200");
+        assertThat(result.totalExpense()).isEqualByComparingTo("0");
+        assertThat(result.transactionCount()).isEqualTo(6L);
     }
 
     @Test
@@ -70,12 +106,12 @@ class AnalyticsServiceImplTest {
         LocalDate end = LocalDate.of(2025, 1, 31);
 
         when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
-        when(transactionRepository.sumAmountFiltered(eq(1L), eq(TransactionType.INCOME), eq(start), eq(end), anyList(), isNull()))
+        when(aggregateRepository.sumAmount(eq(1L), eq(TransactionType.INCOME), eq(202501), eq(202501), anyList(), isNull()))
+                .thenReturn(null);
+        when(aggregateRepository.sumAmount(eq(1L), eq(TransactionType.EXPENSE), eq(202501), eq(202501), anyList(), isNull()))
                 .thenReturn(null);
-        when(transactionRepository.sumAmountFiltered(eq(1L), eq(TransactionType.EXPENSE), eq(start), eq(end), anyList(), isNull()))
+        when(aggregateRepository.count(eq(1L), eq(202501), eq(202501), anyList(), isNull()))
                 .thenReturn(null);
-        when(transactionRepository.countFiltered(eq(1L), eq(start), eq(end), anyList(), isNull()))
-                .thenReturn(0L);
 
         AnalyticsSummaryResponse result = analyticsService.getSummary(1L, start, end, null);
 
@@ -96,7 +132,7 @@ class AnalyticsServiceImplTest {
         rows.add(new Object[]{1L, "Food", BigDecimal.valueOf(1000), 5L, "pi-food", "#ff0000"});
 
         when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
-        when(transactionRepository.sumAmountGroupedByCategoryFiltered(eq(1L), eq(TransactionType.EXPENSE), eq(start), eq(end), anyList(), isNull()))
+        when(aggregateRepository.sumAmountGroupedByCategory(eq(1L), eq(TransactionType.EXPENSE), eq(202501), eq(202501), anyList(), isNull()))
                 .thenReturn(rows);
 
         List<CategoryWiseResponse> result = analyticsService.getCategoryWise(1L, start, end, TransactionType.EXPENSE, null);
@@ -113,7 +149,7 @@ class AnalyticsServiceImplTest {
         LocalDate end = LocalDate.of(2025, 1, 31);
 
         when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
-        when(transactionRepository.sumAmountGroupedByCategoryFiltered(any(), any(), any(), any(), anyList(), any()))
+        when(aggregateRepository.sumAmountGroupedByCategory(any(), any(), any(), any(), anyList(), any()))
                 .thenReturn(List.of());
 
         List<CategoryWiseResponse> result = analyticsService.getCategoryWise(1L, start, end, TransactionType.EXPENSE, null);
@@ -121,12 +157,42 @@ class AnalyticsServiceImplTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getCategoryWise_partialMonths_mergesCategoriesAndReorders() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 2, 14);
+
+        List<Object[]> wholeMonths = new ArrayList<>();
+        wholeMonths.add(new Object[]{1L, "Food", BigDecimal.valueOf(300), 3L, "pi-food", "#ff0000"});
+        wholeMonths.add(new Object[]{2L, "Rent", BigDecimal.valueOf(200), 1L, "pi-home", "#00ff00"});
+        List<Object[]> partial = new ArrayList<>();
+        partial.add(new Object[]{2L, "Rent", BigDecimal.valueOf(200), 1L, "pi-home", "#00ff00"});
+
+        when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
+        when(aggregateRepository.sumAmountGroupedByCategory(eq(1L), eq(TransactionType.EXPENSE), eq(202501), eq(202501), anyList(), isNull()))
+                .thenReturn(wholeMonths);
+        when(transactionRepository.sumAmountGroupedByCategoryFiltered(eq(1L), eq(TransactionType.EXPENSE),
+                eq(LocalDate.of(2025, 2, 1)), eq(end), anyList(), isNull()))
+                .thenReturn(partial);
+
+        List<CategoryWiseResponse> result = analyticsService.getCategoryWise(1L, start, end, TransactionType.EXPENSE, null);
+
+        assertThat(result).extracting(CategoryWiseResponse::categoryName).containsExactly("Rent", "Food");
+        assertThat(result.get(0).totalAmount()).isEqualByComparingTo("400");
+        assertThat(result.get(0).transactionCount()).isEqualTo(2L);
+        // the aggregate rows themselves are left untouched
+        assertThat((BigDecimal) wholeMonths.get(1)[2]).isEqualByComparingTo("200");
+    }
+
     // ── getTrend ──────────────────────────────────────────────────────────────
 
     @Test
     void getTrend_noData_returnsZeroFilledMonths() {
         when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
-        when(transactionRepository.sumAmountGroupedByMonthFiltered(any(), any(), any(), any(), anyList(), any()))
+        when(aggregateRepository.sumAmountGroupedByMonth(any(), any(), any(), any(), anyList(), any()))
+                .thenReturn(List.of());
+        // the current month is partial unless today is its last day
+        lenient().when(transactionRepository.sumAmountGroupedByMonthFiltered(any(), any(), any(), any(), anyList(), any()))
                 .thenReturn(List.of());
 
         List<TrendResponse> result = analyticsService.getTrend(1L, 3, null);
@@ -167,7 +233,10 @@ class AnalyticsServiceImplTest {
 
         when(accountRepository.findByUserIdAndIsActiveTrue(1L)).thenReturn(List.of(a1, a2));
         when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
-        when(transactionRepository.sumAmountByUserIdAndTypeAndDateBetween(eq(1L), any(TransactionType.class), any(), any()))
+        // previous month comes from the aggregates, the current one from transactions unless it is complete
+        when(aggregateRepository.sumAmount(eq(1L), any(TransactionType.class), any(), any(), anyList(), isNull()))
+                .thenReturn(BigDecimal.ZERO);
+        lenient().when(transactionRepository.sumAmountFiltered(eq(1L), any(TransactionType.class), any(), any(), anyList(), isNull()))
                 .thenReturn(BigDecimal.ZERO);
 
         TotalBalanceResponse result = analyticsService.getTotalBalance(1L);
@@ -185,7 +254,7 @@ class AnalyticsServiceImplTest {
         List<BudgetSummaryResponse> result = analyticsService.getBudgetSummary(1L);
 
         assertThat(result).isEmpty();
-        verifyNoInteractions(transactionRepository);
+        verifyNoInteractions(transactionRepository, aggregateRepository);
     }
 
     @Test
@@ -202,7 +271,7 @@ class AnalyticsServiceImplTest {
         // Object[]: categoryId, categoryName, amount, count, icon, color
         List<Object[]> catRows = new ArrayList<>();
         catRows.add(new Object[]{1L, "Food", BigDecimal.valueOf(2500), 10L, null, null});
-        when(transactionRepository.sumAmountGroupedByCategory(eq(1L), eq(TransactionType.EXPENSE), any(), any()))
+        when(aggregateRepository.sumAmountGroupedByCategory(eq(1L), eq(TransactionType.EXPENSE), any(), any(), anyList(), isNull()))
                 .thenReturn(catRows);
 
         List<BudgetSummaryResponse> result = analyticsService.getBudgetSummary(1L);
@@ -212,4 +281,55 @@ class AnalyticsServiceImplTest {
         assertThat(result.get(0).spentAmount()).isEqualByComparingTo("2500");
         assertThat(result.get(0).utilizationPercent()).isEqualTo(50.0);
     }
+
+    // ── getDashboard ──────────────────────────────────────────────────────────
+
+    @Test
+    void getDashboard_resolvesExclusionsOnceAndReturnsEveryWidget() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 1, 31);
+        when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of(7L));
+        when(dashboardCardRepository.findByUserIdAndIsActiveTrueOrderByPositionOrderAsc(1L)).thenReturn(List.of(
+                buildCard(10L, "account", "amount"),
+                buildCard(11L, "month", "amount"),
+                buildCard(12L, "account", "amount")));
+        List<Object[]> accountRows = new ArrayList<>();
+        accountRows.add(new Object[]{3L, "Savings", BigDecimal.valueOf(900)});
+        when(aggregateRepository.sumAmountGroupedByAccount(eq(1L), eq(202501), eq(202501), eq(List.of(7L))))
+                .thenReturn(accountRows);
+
+        DashboardResponse result = analyticsService.getDashboard(1L, start, end, null, 6);
+
+        verify(dashboardConfigService, times(1)).getExcludedCategoryIds(1L);
+        // Both account cards share one computation
+        verify(aggregateRepository, times(1)).sumAmountGroupedByAccount(anyLong(), any(), any(), anyList());
+        assertThat(result.summary().transactionCount()).isZero();
+        assertThat(result.trend()).hasSize(6);
+        assertThat(result.spendingActivity()).hasSize(31);
+        assertThat(result.budgetSummary()).isEmpty();
+        assertThat(result.cards()).extracting(DashboardResponse.CardData::cardId).containsExactly(10L, 11L, 12L);
+        assertThat(result.cards().get(0).data().labels()).containsExactly("Savings");
+        assertThat(result.cards().get(2).data()).isSameAs(result.cards().get(0).data());
+    }
+
+    @Test
+    void getDashboard_widgetFails_rethrowsCause() {
+        when(dashboardConfigService.getExcludedCategoryIds(1L)).thenReturn(List.of());
+        when(accountRepository.findByUserIdAndIsActiveTrue(1L)).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> analyticsService.getDashboard(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), null, 6))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+    }
+
+    // helpers
+
+    private DashboardCard buildCard(Long id, String xAxis, String yAxis) {
+        DashboardCard card = new DashboardCard();
+        card.setId(id);
+        card.setTitle("Card " + id);
+        card.setXAxisMeasure(xAxis);
+        card.setYAxisMeasure(yAxis);
+        return card;
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minted.api.auth.dto.*;
 import com.minted.api.auth.service.AuthService;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
@@ -40,6 +41,7 @@ class AuthControllerTest {
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtUtil jwtUtil;
 
     private LoginResponse sampleLoginResponse;
@@ -41,6 +41,7 @@ class AuthServiceImplTest {
     @Mock private DefaultAccountTypeRepository defaultAccountTypeRepository;
     @Mock private TransactionCategoryRepository transactionCategoryRepository;
     @Mock private AccountTypeRepository accountTypeRepository;
+    @Mock private UserPrincipalCache userPrincipalCache;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -57,7 +58,7 @@ class AuthServiceImplTest {
         User user = buildActiveUser();
         when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("Password1", user.getPassword())).thenReturn(true);
-        when(jwtUtil.generateToken("alice")).thenReturn("token");
+        when(jwtUtil.generateToken("alice", 1L, "USER")).thenReturn("token");
 
         LoginResponse response = authService.login(new LoginRequest("alice", "Password1"));
 
@@ -102,7 +103,7 @@ class AuthServiceImplTest {
         when(jwtUtil.extractUsername("old-token")).thenReturn("alice");
         when(jwtUtil.validateToken("old-token")).thenReturn(true);
         when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
-        when(jwtUtil.generateToken("alice")).thenReturn("new-token");
+        when(jwtUtil.generateToken("alice", 1L, "USER")).thenReturn("new-token");
 
         LoginResponse response = authService.refreshToken(new RefreshTokenRequest("old-token"));
 
@@ -141,6 +142,7 @@ class AuthServiceImplTest {
         verify(userRepository).save(user);
         assertThat(user.getPassword()).isEqualTo("new-hashed");
         assertThat(user.getForcePasswordChange()).isFalse();
+        verify(userPrincipalCache).evict("alice");
     }
 
     @Test
@@ -248,7 +250,7 @@ class AuthServiceImplTest {
         User savedUser = buildActiveUser();
         savedUser.setId(1L);
         when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        when(jwtUtil.generateToken("alice")).thenReturn("token");
+        when(jwtUtil.generateToken("alice", 1L, "USER")).thenReturn("token");
 
         LoginResponse response = authService.signup(
                 new SignupRequest("alice", "Password1", "Password1", "Alice", "a@b.com"));
@@ -0,0 +1,76 @@
+package com.minted.api.auth.service;
+
+import com.minted.api.auth.dto.UserPrincipal;
+import com.minted.api.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    @Mock private UserRepository userRepository;
+
+    private UserPrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserPrincipalCache(userRepository, 100, 300);
+    }
+
+    @Test
+    void get_repeatedLookups_hitDatabaseOnce() {
+        when(userRepository.findPrincipalByUsername("alice")).thenReturn(Optional.of(buildPrincipal(true)));
+
+        cache.get("alice");
+        cache.get("alice");
+        Optional<UserPrincipal> result = cache.get("alice");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().id()).isEqualTo(1L);
+        verify(userRepository, times(1)).findPrincipalByUsername("alice");
+    }
+
+    @Test
+    void get_unknownUser_returnsEmptyAndIsNotCached() {
+        when(userRepository.findPrincipalByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertThat(cache.get("ghost")).isEmpty();
+        assertThat(cache.get("ghost")).isEmpty();
+
+        verify(userRepository, times(2)).findPrincipalByUsername("ghost");
+    }
+
+    @Test
+    void evict_forcesReload() {
+        when(userRepository.findPrincipalByUsername("alice"))
+                .thenReturn(Optional.of(buildPrincipal(true)))
+                .thenReturn(Optional.of(buildPrincipal(false)));
+
+        assertThat(cache.get("alice").get().active()).isTrue();
+        cache.evict("alice");
+
+        assertThat(cache.get("alice").get().active()).isFalse();
+        verify(userRepository, times(2)).findPrincipalByUsername("alice");
+    }
+
+    @Test
+    void toUserDetails_mapsRoleToAuthority() {
+        UserDetails details = buildPrincipal(true).toUserDetails();
+
+        assertThat(details.getUsername()).isEqualTo("alice");
+        assertThat(details.getAuthorities()).anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    private UserPrincipal buildPrincipal(boolean active) {
+        return new UserPrincipal(1L, "alice", "ADMIN", active, "INR");
+    }
+}
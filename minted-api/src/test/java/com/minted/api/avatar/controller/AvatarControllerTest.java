@@ -0,0 +1,103 @@
+package com.minted.api.avatar.controller;
+
+import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
+import com.minted.api.avatar.dto.AvatarMetadata;
+import com.minted.api.avatar.service.AvatarService;
+import com.minted.api.common.exception.ResourceNotFoundException;
+import com.minted.api.common.filter.JwtAuthFilter;
+import com.minted.api.common.filter.MdcFilter;
+import com.minted.api.common.util.JwtUtil;
+import com.minted.api.support.TestSecurityConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AvatarController.class)
+@Import(TestSecurityConfig.class)
+class AvatarControllerTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @MockBean AvatarService avatarService;
+    @MockBean UserPrincipalCache userPrincipalCache;
+    @MockBean JwtAuthFilter jwtAuthFilter;
+    @MockBean MdcFilter mdcFilter;
+    @MockBean CustomUserDetailsService customUserDetailsService;
+    @MockBean JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
+                .when(jwtAuthFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
+        doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
+                .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
+
+        when(avatarService.getMetadata("avatar-1"))
+                .thenReturn(new AvatarMetadata("avatar-1", "image/png", 3, "abc123"));
+    }
+
+    @Test
+    void getAvatar_returnsImageWithCacheHeaders() throws Exception {
+        when(avatarService.getData("avatar-1")).thenReturn(new byte[]{1, 2, 3});
+
+        mockMvc.perform(get("/api/v1/avatars/avatar-1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}))
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string("Cache-Control", "max-age=31536000, private, immutable"));
+    }
+
+    @Test
+    void getAvatar_matchingEtag_returns304WithoutLoadingData() throws Exception {
+        mockMvc.perform(get("/api/v1/avatars/avatar-1").header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc123\""));
+
+        verify(avatarService, never()).getData(any());
+    }
+
+    @Test
+    void getAvatar_weakEtagInList_returns304() throws Exception {
+        // A proxy that compresses the response weakens the ETag, and caches may send several
+        mockMvc.perform(get("/api/v1/avatars/avatar-1").header("If-None-Match", "\"old\", W/\"abc123\""))
+                .andExpect(status().isNotModified());
+
+        verify(avatarService, never()).getData(any());
+    }
+
+    @Test
+    void getAvatar_wildcard_returns304() throws Exception {
+        mockMvc.perform(get("/api/v1/avatars/avatar-1").header("If-None-Match", "*"))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getAvatar_staleEtag_returnsImage() throws Exception {
+        when(avatarService.getData("avatar-1")).thenReturn(new byte[]{1, 2, 3});
+
+        mockMvc.perform(get("/api/v1/avatars/avatar-1").header("If-None-Match", "\"old\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAvatar_notFound_returns404() throws Exception {
+        when(avatarService.getMetadata("missing")).thenThrow(new ResourceNotFoundException("Avatar not found"));
+
+        mockMvc.perform(get("/api/v1/avatars/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,64 @@
+package com.minted.api.avatar.repository;
+
+import com.minted.api.avatar.dto.AvatarMetadata;
+import com.minted.api.avatar.entity.Avatar;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class AvatarRepositoryTest {
+
+    @Autowired TestEntityManager em;
+    @Autowired AvatarRepository avatarRepository;
+
+    @Test
+    void save_generatesUuidId() {
+        Avatar saved = avatarRepository.saveAndFlush(buildAvatar(new byte[]{1, 2, 3}));
+
+        assertThat(saved.getId()).hasSize(36);
+    }
+
+    @Test
+    void findMetadataById_returnsProjectionWithoutData() {
+        Avatar avatar = em.persistAndFlush(buildAvatar(new byte[]{1, 2, 3}));
+        em.clear();
+
+        Optional<AvatarMetadata> result = avatarRepository.findMetadataById(avatar.getId());
+
+        assertThat(result).isPresent();
+        assertThat(result.get().contentType()).isEqualTo("image/png");
+        assertThat(result.get().fileSize()).isEqualTo(3);
+        assertThat(result.get().checksum()).isEqualTo("abc123");
+    }
+
+    @Test
+    void findDataById_returnsBytes() {
+        Avatar avatar = em.persistAndFlush(buildAvatar(new byte[]{4, 5, 6}));
+        em.clear();
+
+        assertThat(avatarRepository.findDataById(avatar.getId())).hasValueSatisfying(
+                data -> assertThat(data).containsExactly(4, 5, 6));
+    }
+
+    @Test
+    void findMetadataById_unknownId_returnsEmpty() {
+        assertThat(avatarRepository.findMetadataById("missing")).isEmpty();
+    }
+
+    private Avatar buildAvatar(byte[] data) {
+        Avatar a = new Avatar();
+        a.setContentType("image/png");
+        a.setFileSize(data.length);
+        a.setChecksum("abc123");
+        a.setData(data);
+        return a;
+    }
+}
@@ -0,0 +1,115 @@
+package com.minted.api.avatar.service;
+
+import com.minted.api.avatar.dto.AvatarMetadata;
+import com.minted.api.avatar.entity.Avatar;
+import com.minted.api.avatar.repository.AvatarRepository;
+import com.minted.api.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvatarServiceImplTest {
+
+    @Mock AvatarRepository avatarRepository;
+    @InjectMocks AvatarServiceImpl avatarService;
+
+    @Test
+    void store_validImage_savesWithChecksum() {
+        when(avatarRepository.save(any())).thenAnswer(inv -> {
+            Avatar a = inv.getArgument(0);
+            a.setId("avatar-1");
+            return a;
+        });
+        MockMultipartFile file = new MockMultipartFile("file", "a.png", "image/png", "abc".getBytes());
+
+        String id = avatarService.store(file);
+
+        assertThat(id).isEqualTo("avatar-1");
+        verify(avatarRepository).save(argThat(a ->
+                a.getFileSize() == 3
+                        && "image/png".equals(a.getContentType())
+                        // SHA-256("abc")
+                        && "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad".equals(a.getChecksum())));
+    }
+
+    @Test
+    void store_tooLarge_throwsIllegalArgument() {
+        MockMultipartFile file = new MockMultipartFile("file", "big.png", "image/png", new byte[3 * 1024 * 1024]);
+
+        assertThatThrownBy(() -> avatarService.store(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2MB");
+        verifyNoInteractions(avatarRepository);
+    }
+
+    @Test
+    void store_nonImage_throwsIllegalArgument() {
+        MockMultipartFile file = new MockMultipartFile("file", "doc.pdf", "application/pdf", new byte[100]);
+
+        assertThatThrownBy(() -> avatarService.store(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("image");
+    }
+
+    @Test
+    void store_svg_throwsIllegalArgument() {
+        MockMultipartFile file = new MockMultipartFile("file", "x.svg", "image/svg+xml", new byte[100]);
+
+        assertThatThrownBy(() -> avatarService.store(file))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void delete_null_isNoOp() {
+        avatarService.delete(null);
+
+        verifyNoInteractions(avatarRepository);
+    }
+
+    @Test
+    void deleteAll_empty_isNoOp() {
+        avatarService.deleteAll(List.of());
+
+        verifyNoInteractions(avatarRepository);
+    }
+
+    @Test
+    void getMetadata_notFound_throwsResourceNotFound() {
+        when(avatarRepository.findMetadataById("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> avatarService.getMetadata("missing"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getMetadata_found_returnsProjection() {
+        AvatarMetadata metadata = new AvatarMetadata("avatar-1", "image/png", 3, "abc");
+        when(avatarRepository.findMetadataById("avatar-1")).thenReturn(Optional.of(metadata));
+
+        assertThat(avatarService.getMetadata("avatar-1")).isEqualTo(metadata);
+    }
+
+    @Test
+    void urlFor_includesVersion() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        assertThat(AvatarService.urlFor("avatar-1", updatedAt))
+                .isEqualTo("/api/v1/avatars/avatar-1?v=" + updatedAt.toEpochSecond(ZoneOffset.UTC));
+        assertThat(AvatarService.urlFor(null, updatedAt)).isNull();
+    }
+}
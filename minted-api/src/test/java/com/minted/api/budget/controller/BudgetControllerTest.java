@@ -1,7 +1,9 @@
 package com.minted.api.budget.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.budget.dto.BudgetRequest;
 import com.minted.api.budget.dto.BudgetResponse;
 import com.minted.api.budget.service.BudgetService;
@@ -9,8 +11,6 @@ import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
 import com.minted.api.support.TestSecurityConfig;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,7 +42,7 @@ class BudgetControllerTest {
     @Autowired ObjectMapper objectMapper;
 
     @MockBean BudgetService budgetService;
-    @MockBean UserRepository userRepository;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
@@ -57,10 +57,8 @@ class BudgetControllerTest {
         doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("alice");
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userPrincipalCache.get("alice"))
+                .thenReturn(Optional.of(new UserPrincipal(1L, "alice", "USER", true, "INR")));
 
         sampleResponse = new BudgetResponse(1L, "Monthly Food", BigDecimal.valueOf(5000), 3, 2025, 1L, "Food", null, null);
     }
@@ -1,7 +1,9 @@
 package com.minted.api.bulkimport.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.bulkimport.dto.BulkImportConfirmRequest;
 import com.minted.api.bulkimport.dto.BulkImportResponse;
 import com.minted.api.bulkimport.dto.CsvUploadResponse;
@@ -11,8 +13,6 @@ import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
 import com.minted.api.job.dto.JobExecutionResponse;
 import com.minted.api.support.TestSecurityConfig;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -43,7 +43,7 @@ class BulkImportControllerTest {
     @Autowired ObjectMapper objectMapper;
 
     @MockBean BulkImportService bulkImportService;
-    @MockBean UserRepository userRepository;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
@@ -58,10 +58,8 @@ class BulkImportControllerTest {
         doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("alice");
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userPrincipalCache.get("alice"))
+                .thenReturn(Optional.of(new UserPrincipal(1L, "alice", "USER", true, "INR")));
 
         sampleImport = new BulkImportResponse(
                 1L, 2L, "Savings", "MINTED_CSV", "import.csv",
@@ -144,7 +142,7 @@ class BulkImportControllerTest {
     @Test
     @WithMockUser(username = "alice")
     void getImportJobDetails_returns200() throws Exception {
-        JobExecutionResponse jobResponse = new JobExecutionResponse(10L, "BULK_IMPORT", "COMPLETED", null, null, null, null, null, null, null);
+        JobExecutionResponse jobResponse = new JobExecutionResponse(10L, "BULK_IMPORT", "COMPLETED", null, null, null, null, null, null, null, null, null);
         when(bulkImportService.getImportJobDetails(1L, 1L)).thenReturn(jobResponse);
 
         mockMvc.perform(get("/api/v1/imports/1/job"))
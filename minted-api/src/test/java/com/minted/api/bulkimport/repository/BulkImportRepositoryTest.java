@@ -4,15 +4,22 @@ import com.minted.api.account.entity.Account;
 import com.minted.api.account.entity.AccountType;
 import com.minted.api.bulkimport.entity.BulkImport;
 import com.minted.api.bulkimport.enums.ImportStatus;
+import com.minted.api.payload.dto.PayloadRefs;
+import com.minted.api.payload.entity.PayloadBlob;
+import com.minted.api.payload.enums.PayloadEncoding;
 import com.minted.api.user.entity.User;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -84,6 +91,56 @@ class BulkImportRepositoryTest {
         assertThat(result).allMatch(bi -> bi.getStatus() == ImportStatus.PENDING);
     }
 
+    @Test
+    void payloads_roundTripCompressedAndAreLoadedLazily() {
+        String csv = "date,amount,type,description,categoryName\n" + "2026-01-15,10.00,EXPENSE,Coffee,Food\n".repeat(200);
+        BulkImport bi = buildImport("payload.csv", user1, ImportStatus.VALIDATED);
+        bi.setCsvData(csv);
+        bi.setValidationResult("[{\"rowNumber\":1}]");
+        em.persist(bi);
+        em.flush();
+        em.clear();
+
+        BulkImport loaded = bulkImportRepository.findById(bi.getId()).orElseThrow();
+        PayloadBlob blob = (PayloadBlob) ReflectionTestUtils.getField(loaded, "csvDataBlob");
+
+        assertThat(Hibernate.isInitialized(blob)).isFalse();
+        assertThat(loaded.getCsvData()).isEqualTo(csv);
+        assertThat(loaded.getValidationResult()).isEqualTo("[{\"rowNumber\":1}]");
+        assertThat(blob.getEncoding()).isEqualTo(PayloadEncoding.GZIP);
+        assertThat(blob.getContent().length).isLessThan(csv.length() / 10);
+        assertThat(blob.getOriginalSize()).isEqualTo(csv.length());
+    }
+
+    @Test
+    void findPayloadRefs_andClearPayloads_purgeOnlyFinishedImports() {
+        BulkImport done = buildImport("done.csv", user1, ImportStatus.COMPLETED);
+        done.setValidationResult("[]");
+        em.persist(done);
+        BulkImport failed = buildImport("failed.csv", user1, ImportStatus.FAILED);
+        failed.setCsvData("legacy");
+        em.persist(failed);
+        BulkImport pending = buildImport("pending.csv", user1, ImportStatus.VALIDATED);
+        pending.setValidationResult("[]");
+        em.persist(pending);
+        em.persist(buildImport("empty.csv", user1, ImportStatus.COMPLETED));
+        em.flush();
+        List<ImportStatus> finished = List.of(ImportStatus.COMPLETED, ImportStatus.FAILED);
+
+        List<PayloadRefs> refs = bulkImportRepository.findPayloadRefs(finished, LocalDateTime.now().plusDays(1), PageRequest.of(0, 10));
+
+        assertThat(refs).extracting(PayloadRefs::ownerId).containsExactly(done.getId(), failed.getId());
+        assertThat(refs.get(0).blobIds()).hasSize(1);
+        assertThat(bulkImportRepository.findPayloadRefs(finished, LocalDateTime.now().minusDays(1), PageRequest.of(0, 10))).isEmpty();
+
+        bulkImportRepository.clearPayloads(List.of(done.getId(), failed.getId()));
+        em.clear();
+
+        assertThat(bulkImportRepository.findPayloadRefs(finished, LocalDateTime.now().plusDays(1), PageRequest.of(0, 10))).isEmpty();
+        assertThat(bulkImportRepository.findById(done.getId()).orElseThrow().getValidationResult()).isNull();
+        assertThat(bulkImportRepository.findById(pending.getId()).orElseThrow().getValidationResult()).isEqualTo("[]");
+    }
+
     // helpers
 
     private User buildUser(String username) {
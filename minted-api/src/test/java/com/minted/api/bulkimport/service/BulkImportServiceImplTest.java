@@ -3,34 +3,52 @@ package com.minted.api.bulkimport.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minted.api.account.entity.Account;
 import com.minted.api.account.repository.AccountRepository;
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.bulkimport.dto.BulkImportConfirmRequest;
 import com.minted.api.bulkimport.dto.BulkImportResponse;
+import com.minted.api.bulkimport.dto.CsvRowPreview;
 import com.minted.api.bulkimport.dto.CsvUploadResponse;
 import com.minted.api.bulkimport.entity.BulkImport;
+import com.minted.api.bulkimport.job.BulkImportWorkHandler;
 import com.minted.api.bulkimport.enums.ImportStatus;
 import com.minted.api.bulkimport.enums.ImportType;
 import com.minted.api.bulkimport.repository.BulkImportRepository;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.job.dto.JobExecutionResponse;
+import com.minted.api.job.dto.WorkLease;
 import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.entity.JobStepExecution;
+import com.minted.api.job.enums.JobStepStatus;
 import com.minted.api.job.enums.JobStatus;
 import com.minted.api.job.enums.JobTriggerType;
 import com.minted.api.job.repository.JobExecutionRepository;
 import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.WorkLeaseLostException;
+import com.minted.api.job.service.WorkQueueService;
+import com.minted.api.payload.entity.PayloadBlob;
+import com.minted.api.transaction.dto.TransactionDuplicateKey;
 import com.minted.api.transaction.entity.TransactionCategory;
 import com.minted.api.transaction.enums.TransactionType;
 import com.minted.api.transaction.repository.TransactionCategoryRepository;
+import com.minted.api.transaction.repository.TransactionJdbcRepository;
 import com.minted.api.transaction.repository.TransactionRepository;
+import com.minted.api.transaction.service.TransactionAggregateService;
 import com.minted.api.user.entity.User;
 import com.minted.api.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -45,15 +63,22 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class BulkImportServiceImplTest {
 
+    private static final WorkLease LEASE = new WorkLease(1L, "node-a", 1);
+
     @Mock private BulkImportRepository bulkImportRepository;
     @Mock private TransactionRepository transactionRepository;
     @Mock private TransactionCategoryRepository categoryRepository;
     @Mock private AccountRepository accountRepository;
+    @Mock private AccountBalanceService accountBalanceService;
+    @Mock private TransactionAggregateService transactionAggregateService;
     @Mock private UserRepository userRepository;
     @Mock private JobExecutionRepository jobExecutionRepository;
     @Mock private JobScheduleConfigRepository scheduleConfigRepository;
     @Mock private ObjectMapper objectMapper;
     @Mock private PlatformTransactionManager transactionManager;
+    @Mock private TransactionJdbcRepository transactionJdbcRepository;
+    @Mock private ImportFileStore importFileStore;
+    @Mock private WorkQueueService workQueueService;
 
     @InjectMocks
     private BulkImportServiceImpl bulkImportService;
@@ -71,6 +96,8 @@ class BulkImportServiceImplTest {
         account.setId(1L);
         account.setName("Savings");
         account.setBalance(BigDecimal.valueOf(5000));
+
+        lenient().when(workQueueService.confirmLease(any())).thenReturn(true);
     }
 
     // ── getCsvTemplate ────────────────────────────────────────────────────────
@@ -179,12 +206,10 @@ class BulkImportServiceImplTest {
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(account));
-        when(categoryRepository.findByNameIgnoreCaseAndUserIdAndType("Groceries", 1L, TransactionType.EXPENSE))
-                .thenReturn(Optional.of(category));
-        when(transactionRepository.existsByTransactionDateAndAmountAndDescriptionAndAccountIdAndUserId(
-                eq(LocalDate.of(2026, 1, 15)), eq(new BigDecimal("1500.00")),
-                eq("Grocery shopping"), eq(1L), eq(1L)))
-                .thenReturn(false);
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(category));
+        when(transactionRepository.findDuplicateKeys(1L, 1L, LocalDate.of(2026, 1, 15), LocalDate.of(2026, 1, 15)))
+                .thenReturn(List.of());
         when(bulkImportRepository.save(any())).thenAnswer(inv -> {
             BulkImport bi = inv.getArgument(0);
             bi.setId(99L);
@@ -210,8 +235,8 @@ class BulkImportServiceImplTest {
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(account));
-        when(categoryRepository.findByNameIgnoreCaseAndUserIdAndType("Unknown", 1L, TransactionType.EXPENSE))
-                .thenReturn(Optional.empty());
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of());
         when(bulkImportRepository.save(any())).thenAnswer(inv -> {
             BulkImport bi = inv.getArgument(0);
             bi.setId(100L);
@@ -224,8 +249,331 @@ class BulkImportServiceImplTest {
         assertThat(result.rows().get(0).status()).isEqualTo("ERROR");
     }
 
+    @Test
+    void uploadAndValidate_existingTransaction_marksRowDuplicate() throws Exception {
+        String csv = "date,amount,type,description,categoryName,notes,tags\n" +
+                     "2026-01-15,1500,EXPENSE,grocery shopping ,Groceries,,\n" +
+                     "2026-01-20,99.00,EXPENSE,Other,Groceries,,\n";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "import.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(account));
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(groceries()));
+        when(transactionRepository.findDuplicateKeys(1L, 1L, LocalDate.of(2026, 1, 15), LocalDate.of(2026, 1, 20)))
+                .thenReturn(List.of(new TransactionDuplicateKey(LocalDate.of(2026, 1, 15), new BigDecimal("1500.00"), "Grocery shopping")));
+        when(bulkImportRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        CsvUploadResponse result = bulkImportService.uploadAndValidate(file, 1L, 1L);
+
+        assertThat(result.duplicateRows()).isEqualTo(1);
+        assertThat(result.rows()).extracting(CsvRowPreview::status).containsExactly("DUPLICATE", "VALID");
+        assertThat(result.rows().get(0).isDuplicate()).isTrue();
+    }
+
+    @Test
+    void uploadAndValidate_duplicateLookupIsOneQueryPerChunkNotPerRow() throws Exception {
+        StringBuilder csv = new StringBuilder("date,amount,type,description,categoryName,notes,tags\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append(LocalDate.of(2026, 1, 1).plusDays(i % 60)).append(",").append(i + 1).append(".00,EXPENSE,Row ")
+                    .append(i).append(",Groceries,,\n");
+        }
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "import.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(account));
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(groceries()));
+        when(transactionRepository.findDuplicateKeys(anyLong(), anyLong(), any(), any())).thenReturn(List.of());
+        when(bulkImportRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        CsvUploadResponse result = bulkImportService.uploadAndValidate(file, 1L, 1L);
+
+        assertThat(result.validRows()).isEqualTo(500);
+        verify(categoryRepository, times(1)).findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE);
+        verify(transactionRepository, times(1))
+                .findDuplicateKeys(1L, 1L, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 1));
+        verify(transactionRepository, never())
+                .existsByTransactionDateAndAmountAndDescriptionAndAccountIdAndUserId(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void uploadAndValidate_quotedMultilineField_parsesOneRowAndStoresFile() throws Exception {
+        String csv = "date,amount,type,description,categoryName,notes,tags\r\n" +
+                     "2026-01-15,1500.00,EXPENSE,\"Groceries, weekly\",Groceries,\"first line\nsecond line\",\r\n";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "import.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(account));
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(groceries()));
+        PayloadBlob csvFile = new PayloadBlob();
+        when(importFileStore.store(file)).thenReturn(csvFile);
+        when(bulkImportRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        CsvUploadResponse result = bulkImportService.uploadAndValidate(file, 1L, 1L);
+
+        assertThat(result.totalRows()).isEqualTo(1);
+        assertThat(result.rows().get(0).status()).isEqualTo("VALID");
+        assertThat(result.rows().get(0).description()).isEqualTo("Groceries, weekly");
+        assertThat(result.rows().get(0).notes()).isEqualTo("first line\nsecond line");
+        verify(bulkImportRepository).save(argThat(bi -> ReflectionTestUtils.getField(bi, "csvDataBlob") == csvFile));
+    }
+
+    @Test
+    void uploadAndValidate_largeFile_keepsPreviewBoundedAndShowsLateErrors() throws Exception {
+        StringBuilder csv = new StringBuilder("date,amount,type,description,categoryName,notes,tags\n");
+        for (int i = 0; i < 6_000; i++) {
+            csv.append("2026-01-15,").append(i + 1).append(".00,EXPENSE,Row ").append(i).append(",Groceries,,\n");
+        }
+        csv.append("not-a-date,1.00,EXPENSE,Broken,Groceries,,\n");
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "import.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(account));
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(groceries()));
+        when(transactionRepository.findDuplicateKeys(anyLong(), anyLong(), any(), any())).thenReturn(List.of());
+        when(bulkImportRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        CsvUploadResponse result = bulkImportService.uploadAndValidate(file, 1L, 1L);
+
+        assertThat(result.totalRows()).isEqualTo(6_001);
+        assertThat(result.validRows()).isEqualTo(6_000);
+        assertThat(result.errorRows()).isEqualTo(1);
+        assertThat(result.rows()).hasSizeLessThanOrEqualTo(1_000);
+        assertThat(result.rows()).extracting(CsvRowPreview::rowNumber).contains(6_001);
+        // Validated in chunks of 5,000 rows: one duplicate lookup per chunk
+        verify(transactionRepository, times(2)).findDuplicateKeys(anyLong(), anyLong(), any(), any());
+    }
+
+    // ── confirmImport ─────────────────────────────────────────────────────────
+
+    @Test
+    void confirmImport_enqueuesImportForWorkers() {
+        BulkImport bulkImport = buildImport(7L);
+        bulkImport.setUser(user);
+        when(bulkImportRepository.findByIdAndUserId(7L, 1L)).thenReturn(Optional.of(bulkImport));
+        when(jobExecutionRepository.save(any(JobExecution.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(bulkImportRepository.save(any(BulkImport.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        bulkImportService.confirmImport(new BulkImportConfirmRequest(7L, true), 1L);
+
+        verify(workQueueService).enqueue(BulkImportWorkHandler.QUEUE, "7");
+        assertThat(bulkImport.getStatus()).isEqualTo(ImportStatus.IMPORTING);
+    }
+
+    // ── processQueuedImport ───────────────────────────────────────────────────
+
+    @Test
+    void processQueuedImport_notImporting_doesNothing() {
+        BulkImport bulkImport = buildImport(7L);
+        bulkImport.setStatus(ImportStatus.COMPLETED);
+        when(bulkImportRepository.findById(7L)).thenReturn(Optional.of(bulkImport));
+
+        bulkImportService.processQueuedImport(7L, new WorkLease(1L, "node-a", 2));
+
+        verify(transactionJdbcRepository, never()).batchInsert(anyList());
+        assertThat(bulkImport.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+    }
+
+    @Test
+    void processQueuedImport_redeliveredAfterChunksCommitted_failsWithoutReinserting() {
+        BulkImport bulkImport = buildImport(7L);
+        bulkImport.setStatus(ImportStatus.IMPORTING);
+        bulkImport.setImportedRows(500);
+        bulkImport.setJobExecution(new JobExecution());
+        when(bulkImportRepository.findById(7L)).thenReturn(Optional.of(bulkImport));
+
+        bulkImportService.processQueuedImport(7L, new WorkLease(1L, "node-a", 2));
+
+        verify(transactionJdbcRepository, never()).batchInsert(anyList());
+        assertThat(bulkImport.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(bulkImport.getErrorMessage()).contains("interrupted after 500 rows");
+        assertThat(bulkImport.getJobExecution().getStatus()).isEqualTo(JobStatus.FAILED);
+    }
+
+    @Test
+    void abandonImport_importing_marksImportFailed() {
+        BulkImport bulkImport = buildImport(7L);
+        bulkImport.setStatus(ImportStatus.IMPORTING);
+        bulkImport.setJobExecution(new JobExecution());
+        when(bulkImportRepository.findById(7L)).thenReturn(Optional.of(bulkImport));
+
+        bulkImportService.abandonImport(7L, "Abandoned after 3 interrupted attempts");
+
+        assertThat(bulkImport.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(bulkImport.getErrorMessage()).isEqualTo("Abandoned after 3 interrupted attempts");
+    }
+
+    // ── processImportAsync ────────────────────────────────────────────────────
+
+    @Test
+    void processImportAsync_insertsInChunksWithOneBalanceUpdatePerChunk() throws Exception {
+        ReflectionTestUtils.setField(bulkImportService, "batchSize", 2);
+        BulkImport bulkImport = buildImport(7L);
+        bulkImport.setUser(user);
+        bulkImport.setErrorRows(0);
+        storeCsv(bulkImport, "date,amount,type,description,categoryName,notes,tags\n" +
+                "2026-01-15,100.00,EXPENSE,Coffee,Groceries,,\n" +
+                "2026-01-16,200.00,EXPENSE,Lunch,Groceries,,\n" +
+                "2026-01-17,50.00,EXPENSE,Snacks,Groceries,,\n");
+        JobExecution execution = new JobExecution();
+        execution.setId(3L);
+        execution.setTotalSteps(4);
+        bulkImport.setJobExecution(execution);
+
+        TransactionCategory category = new TransactionCategory();
+        category.setId(5L);
+        category.setName("Groceries");
+        category.setType(TransactionType.EXPENSE);
+
+        when(bulkImportRepository.findById(7L)).thenReturn(Optional.of(bulkImport));
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(category));
+        when(transactionJdbcRepository.batchInsert(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        bulkImportService.processImportAsync(7L, LEASE);
+
+        verify(transactionJdbcRepository, times(2)).batchInsert(anyList());
+        // Revalidation and insert share one resolver: a single category query for the whole import
+        verify(categoryRepository, times(1)).findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE);
+        verify(categoryRepository, never()).findById(any());
+        verify(transactionRepository, never()).save(any());
+        verify(accountBalanceService).apply(argThat(d -> d.get(1L).compareTo(BigDecimal.valueOf(-300)) == 0));
+        verify(accountBalanceService).apply(argThat(d -> d.get(1L).compareTo(BigDecimal.valueOf(-50)) == 0));
+        assertThat(bulkImport.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(bulkImport.getImportedRows()).isEqualTo(3);
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(execution.getSteps()).extracting(JobStepExecution::getStatus).containsOnly(JobStepStatus.COMPLETED);
+    }
+
+    @Test
+    void processImportAsync_chunkFailure_marksImportFailedAndKeepsCommittedRows() throws Exception {
+        ReflectionTestUtils.setField(bulkImportService, "batchSize", 1);
+        BulkImport bulkImport = buildImport(7L);
+        bulkImport.setUser(user);
+        storeCsv(bulkImport, "date,amount,type,description,categoryName,notes,tags\n" +
+                "2026-01-15,100.00,EXPENSE,Coffee,Groceries,,\n" +
+                "2026-01-16,200.00,EXPENSE,Lunch,Groceries,,\n");
+        JobExecution execution = new JobExecution();
+        execution.setTotalSteps(4);
+        bulkImport.setJobExecution(execution);
+
+        TransactionCategory category = new TransactionCategory();
+        category.setId(5L);
+        category.setName("Groceries");
+        category.setType(TransactionType.EXPENSE);
+
+        when(bulkImportRepository.findById(7L)).thenReturn(Optional.of(bulkImport));
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(category));
+        when(transactionJdbcRepository.batchInsert(anyList()))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("boom"));
+
+        bulkImportService.processImportAsync(7L, LEASE);
+
+        assertThat(bulkImport.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(bulkImport.getImportedRows()).isEqualTo(1);
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(execution.getSteps()).filteredOn(step -> step.getStepOrder() == 3)
+                .extracting(JobStepExecution::getStatus).containsExactly(JobStepStatus.FAILED);
+    }
+
+    @Test
+    void processImportAsync_leaseLostDuringChunk_rollsBackTheChunkAndStops() throws Exception {
+        ReflectionTestUtils.setField(bulkImportService, "batchSize", 1);
+        BulkImport bulkImport = buildImport(7L);
+        bulkImport.setStatus(ImportStatus.IMPORTING);
+        bulkImport.setUser(user);
+        bulkImport.setErrorRows(0);
+        storeCsv(bulkImport, "date,amount,type,description,categoryName,notes,tags\n" +
+                "2026-01-15,100.00,EXPENSE,Coffee,Groceries,,\n" +
+                "2026-01-16,200.00,EXPENSE,Lunch,Groceries,,\n");
+        JobExecution execution = new JobExecution();
+        execution.setTotalSteps(4);
+        bulkImport.setJobExecution(execution);
+
+        when(bulkImportRepository.findById(7L)).thenReturn(Optional.of(bulkImport));
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(groceries()));
+        when(transactionJdbcRepository.batchInsert(anyList())).thenReturn(1);
+        // Steps 1-2 and the first chunk run under the lease; it expires while the second chunk runs
+        when(workQueueService.confirmLease(LEASE)).thenReturn(true, true, false);
+
+        assertThatThrownBy(() -> bulkImportService.processImportAsync(7L, LEASE))
+                .isInstanceOf(WorkLeaseLostException.class);
+
+        // The lease is confirmed after each chunk's writes, just before its commit
+        InOrder chunks = inOrder(transactionJdbcRepository, accountBalanceService, workQueueService, transactionManager);
+        chunks.verify(transactionJdbcRepository).batchInsert(anyList());
+        chunks.verify(accountBalanceService).apply(any());
+        chunks.verify(workQueueService).confirmLease(LEASE);
+        chunks.verify(transactionManager).commit(any());
+        chunks.verify(transactionJdbcRepository).batchInsert(anyList());
+        chunks.verify(accountBalanceService).apply(any());
+        chunks.verify(workQueueService).confirmLease(LEASE);
+        chunks.verify(transactionManager).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(bulkImport.getStatus()).isEqualTo(ImportStatus.IMPORTING);
+        assertThat(execution.getStatus()).isNotEqualTo(JobStatus.FAILED);
+    }
+
+    @Test
+    void processImportAsync_streamsStoredFileAndSkipsDuplicates() throws Exception {
+        ReflectionTestUtils.setField(bulkImportService, "batchSize", 500);
+        BulkImport bulkImport = buildImport(7L);
+        bulkImport.setUser(user);
+        bulkImport.setErrorRows(0);
+        bulkImport.setSkipDuplicates(true);
+        String csv = "date,amount,type,description,categoryName,notes,tags\n" +
+                "2026-01-15,100.00,EXPENSE,Coffee,Groceries,,\n" +
+                "2026-01-16,200.00,EXPENSE,\"Lunch,\nwith team\",Groceries,,\n" +
+                "2026-01-17,50.00,EXPENSE,Snacks,Groceries,,\n";
+        JobExecution execution = new JobExecution();
+        execution.setTotalSteps(4);
+        bulkImport.setJobExecution(execution);
+
+        when(bulkImportRepository.findById(7L)).thenReturn(Optional.of(bulkImport));
+        storeCsv(bulkImport, csv);
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(groceries()));
+        when(transactionRepository.findDuplicateKeys(1L, 1L, LocalDate.of(2026, 1, 15), LocalDate.of(2026, 1, 17)))
+                .thenReturn(List.of(new TransactionDuplicateKey(LocalDate.of(2026, 1, 15), new BigDecimal("100.00"), "Coffee")));
+        when(transactionJdbcRepository.batchInsert(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        bulkImportService.processImportAsync(7L, LEASE);
+
+        verify(importFileStore, times(2)).open(11L);
+        verify(transactionJdbcRepository).batchInsert(argThat(transactions -> transactions.size() == 2
+                && "Lunch,\nwith team".equals(transactions.get(0).getDescription())));
+        verify(accountBalanceService).apply(argThat(d -> d.get(1L).compareTo(BigDecimal.valueOf(-250)) == 0));
+        assertThat(bulkImport.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(bulkImport.getImportedRows()).isEqualTo(2);
+    }
+
     // helpers
 
+    private void storeCsv(BulkImport bulkImport, String csv) throws IOException {
+        PayloadBlob csvFile = new PayloadBlob();
+        ReflectionTestUtils.setField(csvFile, "id", 11L);
+        bulkImport.setCsvFile(csvFile);
+        when(importFileStore.open(11L)).thenAnswer(inv -> new StringReader(csv));
+    }
+
+    private TransactionCategory groceries() {
+        TransactionCategory category = new TransactionCategory();
+        category.setId(5L);
+        category.setName("Groceries");
+        category.setType(TransactionType.EXPENSE);
+        return category;
+    }
+
     private BulkImport buildImport(Long id) {
         Account account = new Account();
         account.setId(1L);
@@ -0,0 +1,60 @@
+package com.minted.api.bulkimport.service;
+
+import com.minted.api.transaction.entity.TransactionCategory;
+import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.transaction.repository.TransactionCategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryResolverTest {
+
+    @Mock private TransactionCategoryRepository categoryRepository;
+
+    @Test
+    void resolve_isCaseInsensitiveAndLoadsEachTypeOnce() {
+        TransactionCategory groceries = category(5L, "Groceries", TransactionType.EXPENSE);
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE))
+                .thenReturn(List.of(groceries, category(6L, "Rent", TransactionType.EXPENSE)));
+        CategoryResolver resolver = new CategoryResolver(categoryRepository, 1L);
+
+        assertThat(resolver.resolve("groceries", TransactionType.EXPENSE)).contains(groceries);
+        assertThat(resolver.resolve(" GROCERIES ", TransactionType.EXPENSE)).contains(groceries);
+        assertThat(resolver.resolve("Fuel", TransactionType.EXPENSE)).isEmpty();
+
+        verify(categoryRepository, times(1)).findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE);
+    }
+
+    @Test
+    void resolve_sameNameDifferentType_isNotMatched() {
+        when(categoryRepository.findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.INCOME)).thenReturn(List.of());
+        CategoryResolver resolver = new CategoryResolver(categoryRepository, 1L);
+
+        assertThat(resolver.resolve("Groceries", TransactionType.INCOME)).isEmpty();
+        verify(categoryRepository, never()).findByUserIdAndTypeAndIsActiveTrue(1L, TransactionType.EXPENSE);
+    }
+
+    @Test
+    void resolve_nullInput_returnsEmptyWithoutQuery() {
+        CategoryResolver resolver = new CategoryResolver(categoryRepository, 1L);
+
+        assertThat(resolver.resolve(null, TransactionType.EXPENSE)).isEmpty();
+        assertThat(resolver.resolve("Groceries", null)).isEmpty();
+        verifyNoInteractions(categoryRepository);
+    }
+
+    private TransactionCategory category(Long id, String name, TransactionType type) {
+        TransactionCategory category = new TransactionCategory();
+        category.setId(id);
+        category.setName(name);
+        category.setType(type);
+        return category;
+    }
+}
@@ -0,0 +1,76 @@
+package com.minted.api.bulkimport.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void next_plainRecords_splitsOnCommasAndTrims() throws IOException {
+        List<String[]> records = readAll("a, b ,c\n1,2,3\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0)).containsExactly("a", "b", "c");
+        assertThat(records.get(1)).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void next_quotedFields_keepCommasAndUnescapeDoubledQuotes() throws IOException {
+        List<String[]> records = readAll("\"Smith, John\",\"say \"\"hi\"\"\",x\n");
+
+        assertThat(records.get(0)).containsExactly("Smith, John", "say \"hi\"", "x");
+    }
+
+    @Test
+    void next_quotedLineBreak_staysInsideTheField() throws IOException {
+        List<String[]> records = readAll("2026-01-15,\"line one\r\nline two\",Groceries\n2026-01-16,next,Rent\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0)).containsExactly("2026-01-15", "line one\r\nline two", "Groceries");
+        assertThat(records.get(1)[1]).isEqualTo("next");
+    }
+
+    @Test
+    void next_crlfBlankLinesAndMissingFinalNewline_areHandled() throws IOException {
+        List<String[]> records = readAll("a,b\r\n\r\n   \n,\nc,d");
+
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0)).containsExactly("a", "b");
+        assertThat(records.get(1)).containsExactly("", "");
+        assertThat(records.get(2)).containsExactly("c", "d");
+    }
+
+    @Test
+    void next_fieldsSpanningTheReadBuffer_areReadWhole() throws IOException {
+        String longField = "x".repeat(20_000);
+
+        List<String[]> records = readAll("\"" + longField + "\",end\n");
+
+        assertThat(records.get(0)).containsExactly(longField, "end");
+    }
+
+    @Test
+    void next_emptyInput_returnsNull() throws IOException {
+        assertThat(readAll("")).isEmpty();
+        assertThat(readAll("\n\n")).isEmpty();
+    }
+
+    // helpers
+
+    private List<String[]> readAll(String csv) throws IOException {
+        List<String[]> records = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            String[] record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
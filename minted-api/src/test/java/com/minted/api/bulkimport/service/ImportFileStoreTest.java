@@ -0,0 +1,67 @@
+package com.minted.api.bulkimport.service;
+
+import com.minted.api.payload.entity.PayloadBlob;
+import com.minted.api.payload.repository.PayloadBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportFileStoreTest {
+
+    @Mock private PayloadBlobRepository payloadBlobRepository;
+
+    private ImportFileStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ImportFileStore(payloadBlobRepository);
+    }
+
+    @Test
+    void store_thenOpen_roundTripsTheUploadThroughABlob() throws IOException {
+        String csv = "date,amount,description\n2026-01-15,12.50,Café\n";
+
+        PayloadBlob blob = store.store(new MockMultipartFile("file", "import.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(blob.getContent()[0]).isEqualTo((byte) 0x1f); // gzip magic
+        assertThat(blob.getContent()[1]).isEqualTo((byte) 0x8b);
+        assertThat(blob.getOriginalSize()).isEqualTo(csv.getBytes(StandardCharsets.UTF_8).length);
+        when(payloadBlobRepository.findById(11L)).thenReturn(Optional.of(blob));
+        assertThat(read(store.open(11L))).isEqualTo(csv);
+    }
+
+    @Test
+    void open_missingBlob_throws() {
+        when(payloadBlobRepository.findById(11L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> store.open(11L)).isInstanceOf(NoSuchFileException.class);
+    }
+
+    // helpers
+
+    private static String read(Reader reader) throws IOException {
+        try (reader) {
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[64];
+            int n;
+            while ((n = reader.read(buffer)) > 0) {
+                text.append(buffer, 0, n);
+            }
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.minted.api.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedExecutorTest {
+
+    private BoundedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_poolAndQueueFull_rejectsAndCounts() throws Exception {
+        executor = new BoundedExecutor("test", 1, 1, false);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.execute(() -> { });
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("'test'");
+
+        ExecutorStats stats = executor.stats();
+        assertThat(stats.activeCount()).isEqualTo(1);
+        assertThat(stats.queueDepth()).isEqualTo(1);
+        assertThat(stats.queueCapacity()).isEqualTo(1);
+        assertThat(stats.rejectedTasks()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void execute_failingTask_isCountedAndThreadKeepsWorking() throws Exception {
+        executor = new BoundedExecutor("test", 1, 10, false);
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> { throw new IllegalStateException("boom"); });
+        executor.execute(() -> {
+            sleep(20);
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        ExecutorStats stats = executor.stats();
+        assertThat(stats.completedTasks()).isEqualTo(2);
+        assertThat(stats.failedTasks()).isEqualTo(1);
+        assertThat(stats.maxRunMs()).isGreaterThanOrEqualTo(20.0);
+        assertThat(stats.avgRunMs()).isPositive();
+    }
+
+    @Test
+    void constructor_virtualThreadsRequested_fallsBackWhenUnsupported() throws Exception {
+        executor = new BoundedExecutor("test", 1, 1, true);
+        boolean supported = Runtime.version().feature() >= 21;
+        CountDownLatch done = new CountDownLatch(1);
+        String[] threadName = new String[1];
+
+        executor.execute(() -> {
+            threadName[0] = Thread.currentThread().getName();
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName[0]).startsWith("test-");
+        assertThat(executor.stats().virtualThreads()).isEqualTo(supported);
+    }
+
+    // helpers
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.minted.api.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 2, Duration.ofSeconds(30), clock);
+
+    @Test
+    void recordFailure_belowThreshold_staysClosed() {
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    void recordFailure_atThreshold_opensAndRefuses() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.retryAfter()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void recordSuccess_resetsConsecutiveFailures() {
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void allowRequest_afterOpenDuration_allowsOneTrial() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    void halfOpen_successCloses_failureReopens() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        clock.advance(Duration.ofSeconds(30));
+        breaker.allowRequest();
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(30));
+        breaker.allowRequest();
+        breaker.recordSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    void halfOpen_trialWithoutOutcome_isGivenUpAfterOpenDuration() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        clock.advance(Duration.ofSeconds(30));
+        breaker.allowRequest();
+
+        clock.advance(Duration.ofSeconds(29));
+        assertThat(breaker.allowRequest()).isFalse();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    // helpers
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
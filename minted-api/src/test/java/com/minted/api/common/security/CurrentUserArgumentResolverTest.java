@@ -0,0 +1,82 @@
+package com.minted.api.common.security;
+
+import com.minted.api.auth.dto.UserPrincipal;
+import com.minted.api.auth.service.UserPrincipalCache;
+import com.minted.api.common.exception.UnauthorizedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserArgumentResolverTest {
+
+    @Mock private UserPrincipalCache userPrincipalCache;
+    @InjectMocks private CurrentUserArgumentResolver resolver;
+
+    private final UserPrincipal principal = new UserPrincipal(7L, "alice", "USER", true, "INR");
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void supportsParameter_onlyAnnotatedLongOrPrincipal() throws Exception {
+        assertThat(resolver.supportsParameter(param("userId", Long.class))).isTrue();
+        assertThat(resolver.supportsParameter(param("principal", UserPrincipal.class))).isTrue();
+        assertThat(resolver.supportsParameter(param("unannotated", Long.class))).isFalse();
+    }
+
+    @Test
+    void resolveArgument_principalInContext_returnsIdWithoutLookup() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+
+        Object userId = resolver.resolveArgument(param("userId", Long.class), null, null, null);
+        Object resolved = resolver.resolveArgument(param("principal", UserPrincipal.class), null, null, null);
+
+        assertThat(userId).isEqualTo(7L);
+        assertThat(resolved).isEqualTo(principal);
+        verifyNoInteractions(userPrincipalCache);
+    }
+
+    @Test
+    void resolveArgument_foreignPrincipal_fallsBackToCache() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, principal.authorities()));
+        when(userPrincipalCache.get("alice")).thenReturn(Optional.of(principal));
+
+        assertThat(resolver.resolveArgument(param("userId", Long.class), null, null, null)).isEqualTo(7L);
+    }
+
+    @Test
+    void resolveArgument_noAuthentication_throwsUnauthorized() throws Exception {
+        assertThatThrownBy(() -> resolver.resolveArgument(param("userId", Long.class), null, null, null))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    private MethodParameter param(String methodName, Class<?> type) throws NoSuchMethodException {
+        Method method = Handlers.class.getDeclaredMethod(methodName, type);
+        return new MethodParameter(method, 0);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+        void userId(@CurrentUser Long userId) {}
+        void principal(@CurrentUser UserPrincipal principal) {}
+        void unannotated(Long userId) {}
+    }
+}
@@ -6,7 +6,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.Map;
@@ -25,9 +24,7 @@ class JwtUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
-        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
-        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION);
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, 100);
     }
 
     // ── generateToken ────────────────────────────────────────────────────────
@@ -53,6 +50,23 @@ class JwtUtilTest {
         assertThat(jwtUtil.extractUsername(token)).isEqualTo("bob");
     }
 
+    // ── extractUserId ────────────────────────────────────────────────────────
+
+    @Test
+    void generateToken_withUserIdAndRole_embedsClaims() {
+        String token = jwtUtil.generateToken("bob", 42L, "ADMIN");
+        assertThat(jwtUtil.extractUsername(token)).isEqualTo("bob");
+        assertThat(jwtUtil.extractUserId(token)).isEqualTo(42L);
+        String role = jwtUtil.extractClaim(token, c -> c.get(JwtUtil.CLAIM_ROLE, String.class));
+        assertThat(role).isEqualTo("ADMIN");
+    }
+
+    @Test
+    void extractUserId_legacyTokenWithoutClaim_returnsNull() {
+        String token = jwtUtil.generateToken("bob");
+        assertThat(jwtUtil.extractUserId(token)).isNull();
+    }
+
     // ── extractExpiration ────────────────────────────────────────────────────
 
     @Test
@@ -92,12 +106,73 @@ class JwtUtilTest {
 
     @Test
     void validateToken_expiredToken_returnsFalse() {
-        // Override expiration to -1ms so token is already expired
-        ReflectionTestUtils.setField(jwtUtil, "expiration", -1L);
-        String expiredToken = jwtUtil.generateToken("grace");
+        // Issue with expiration -1ms so the token is already expired
+        String expiredToken = new JwtUtil(SECRET, -1L, 100).generateToken("grace");
         assertThat(jwtUtil.validateToken(expiredToken)).isFalse();
     }
 
+    // ── verify ───────────────────────────────────────────────────────────────
+
+    @Test
+    void verify_validToken_returnsAllClaims() {
+        String token = jwtUtil.generateToken("heidi", 7L, "USER");
+
+        VerifiedToken verified = jwtUtil.verify(token).orElseThrow();
+
+        assertThat(verified.username()).isEqualTo("heidi");
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.role()).isEqualTo("USER");
+        assertThat(verified.expiration()).isInTheFuture();
+    }
+
+    @Test
+    void verify_legacyToken_hasNullUserIdAndRole() {
+        VerifiedToken verified = jwtUtil.verify(jwtUtil.generateToken("ivan")).orElseThrow();
+
+        assertThat(verified.userId()).isNull();
+        assertThat(verified.role()).isNull();
+    }
+
+    @Test
+    void verify_sameTokenTwice_returnsCachedInstance() {
+        String token = jwtUtil.generateToken("judy", 3L, "USER");
+
+        VerifiedToken first = jwtUtil.verify(token).orElseThrow();
+        VerifiedToken second = jwtUtil.verify(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void verify_tamperedSignature_returnsEmpty() {
+        String token = jwtUtil.generateToken("mallory", 1L, "ADMIN");
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtUtil.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    void verify_tokenSignedWithOtherSecret_returnsEmpty() {
+        String otherSecret = "another-test-secret-key-that-is-at-least-64-characters-long-5678";
+        String token = new JwtUtil(otherSecret, EXPIRATION, 100).generateToken("oscar");
+
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    @Test
+    void verify_expiredToken_returnsEmpty() {
+        String expiredToken = new JwtUtil(SECRET, -1L, 100).generateToken("grace");
+
+        assertThat(jwtUtil.verify(expiredToken)).isEmpty();
+    }
+
+    @Test
+    void verify_nullOrEmpty_returnsEmpty() {
+        assertThat(jwtUtil.verify(null)).isEmpty();
+        assertThat(jwtUtil.verify("")).isEmpty();
+    }
+
     // ── helpers ──────────────────────────────────────────────────────────────
 
     private UserDetails buildUserDetails(String username) {
@@ -2,7 +2,9 @@ package com.minted.api.dashboard.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minted.api.analytics.service.AnalyticsService;
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
@@ -13,8 +15,6 @@ import com.minted.api.dashboard.enums.CardWidth;
 import com.minted.api.dashboard.enums.ChartType;
 import com.minted.api.dashboard.service.DashboardCardService;
 import com.minted.api.support.TestSecurityConfig;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -45,7 +45,7 @@ class DashboardCardControllerTest {
 
     @MockBean DashboardCardService cardService;
     @MockBean AnalyticsService analyticsService;
-    @MockBean UserRepository userRepository;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
@@ -60,10 +60,8 @@ class DashboardCardControllerTest {
         doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("alice");
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userPrincipalCache.get("alice"))
+                .thenReturn(Optional.of(new UserPrincipal(1L, "alice", "USER", true, "INR")));
 
         sampleResponse = new DashboardCardResponse(
                 1L, "Spending Trend", ChartType.LINE, "month", "amount",
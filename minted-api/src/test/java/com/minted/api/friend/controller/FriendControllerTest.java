@@ -1,7 +1,9 @@
 package com.minted.api.friend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
@@ -9,8 +11,6 @@ import com.minted.api.friend.dto.FriendRequest;
 import com.minted.api.friend.dto.FriendResponse;
 import com.minted.api.friend.service.FriendService;
 import com.minted.api.support.TestSecurityConfig;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -41,7 +41,7 @@ class FriendControllerTest {
     @Autowired ObjectMapper objectMapper;
 
     @MockBean FriendService friendService;
-    @MockBean UserRepository userRepository;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
@@ -56,10 +56,8 @@ class FriendControllerTest {
         doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("alice");
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userPrincipalCache.get("alice"))
+                .thenReturn(Optional.of(new UserPrincipal(1L, "alice", "USER", true, "INR")));
 
         sampleFriend = new FriendResponse(
                 1L, "Bob", "bob@example.com", "555-1234", "#3b82f6", null, true, null, null
@@ -141,7 +139,7 @@ class FriendControllerTest {
     @WithMockUser(username = "alice")
     void uploadAvatar_returns200() throws Exception {
         MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", new byte[]{1, 2, 3});
-        FriendResponse withAvatar = new FriendResponse(1L, "Bob", "bob@example.com", "555-1234", "#3b82f6", "data:image/png;base64,AQID", true, null, null);
+        FriendResponse withAvatar = new FriendResponse(1L, "Bob", "bob@example.com", "555-1234", "#3b82f6", "/api/v1/avatars/3f2a?v=1700000000", true, null, null);
         when(friendService.uploadAvatar(eq(1L), eq(1L), any())).thenReturn(withAvatar);
 
         mockMvc.perform(multipart("/api/v1/friends/1/avatar").file(file))
@@ -44,6 +44,22 @@ class FriendRepositoryTest {
         assertThat(result.get(0).getName()).isEqualTo("Charlie");
     }
 
+    @Test
+    void findAvatarIdsByUserId_returnsOnlyOwnedNonNullIds() {
+        Friend withAvatar = buildFriend("Charlie", user1, true);
+        withAvatar.setAvatarId("avatar-1");
+        em.persist(withAvatar);
+        em.persist(buildFriend("Dave", user1, true));
+        Friend otherUser = buildFriend("Eve", user2, true);
+        otherUser.setAvatarId("avatar-2");
+        em.persist(otherUser);
+        em.flush();
+
+        List<String> result = friendRepository.findAvatarIdsByUserId(user1.getId());
+
+        assertThat(result).containsExactly("avatar-1");
+    }
+
     @Test
     void findByIdAndUserId_ownerFound() {
         Friend friend = em.persist(buildFriend("Charlie", user1, true));
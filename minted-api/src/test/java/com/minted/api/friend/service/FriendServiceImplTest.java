@@ -1,5 +1,6 @@
 package com.minted.api.friend.service;
 
+import com.minted.api.avatar.service.AvatarService;
 import com.minted.api.common.exception.DuplicateResourceException;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.friend.dto.FriendRequest;
@@ -28,6 +29,7 @@ class FriendServiceImplTest {
 
     @Mock FriendRepository friendRepository;
     @Mock UserRepository userRepository;
+    @Mock AvatarService avatarService;
 
     @InjectMocks FriendServiceImpl friendService;
 
@@ -162,30 +164,34 @@ class FriendServiceImplTest {
     // ── uploadAvatar ──────────────────────────────────────────────────────────
 
     @Test
-    void uploadAvatar_validImage_setsAvatarData() throws Exception {
-        byte[] imageBytes = new byte[]{1, 2, 3};
-        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", imageBytes);
+    void uploadAvatar_validImage_storesAvatarAndDeletesPrevious() {
+        friend.setAvatarId("old-avatar");
+        MockMultipartFile file = new MockMultipartFile("file", "avatar.png", "image/png", new byte[]{1, 2, 3});
 
         when(friendRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(friend));
+        when(avatarService.store(file)).thenReturn("new-avatar");
         when(friendRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         FriendResponse result = friendService.uploadAvatar(10L, 1L, file);
 
-        verify(friendRepository).save(argThat(f -> f.getAvatarData() != null));
+        verify(friendRepository).save(argThat(f -> "new-avatar".equals(f.getAvatarId())));
+        verify(avatarService).delete("old-avatar");
+        assertThat(result.avatarUrl()).startsWith("/api/v1/avatars/new-avatar?v=");
     }
 
     // ── deleteAvatar ──────────────────────────────────────────────────────────
 
     @Test
     void deleteAvatar_clearsAvatarFields() {
-        friend.setAvatarData(new byte[]{1, 2, 3});
-        friend.setAvatarContentType("image/png");
+        friend.setAvatarId("avatar-1");
 
         when(friendRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(friend));
         when(friendRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
-        friendService.deleteAvatar(10L, 1L);
+        FriendResponse result = friendService.deleteAvatar(10L, 1L);
 
-        verify(friendRepository).save(argThat(f -> f.getAvatarData() == null));
+        verify(friendRepository).save(argThat(f -> f.getAvatarId() == null));
+        verify(avatarService).delete("avatar-1");
+        assertThat(result.avatarUrl()).isNull();
     }
 }
@@ -0,0 +1,51 @@
+package com.minted.api.job.repository;
+
+import com.minted.api.job.entity.JobLock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class JobLockRepositoryTest {
+
+    @Autowired TestEntityManager em;
+    @Autowired JobLockRepository jobLockRepository;
+
+    @Test
+    void acquireIfFree_heldLock_failsUntilItExpires() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        em.persistAndFlush(new JobLock("RECURRING", "node-a", now, now.plusMinutes(5), 4L));
+
+        assertThat(jobLockRepository.acquireIfFree("RECURRING", "node-b", now, now.plusMinutes(5))).isZero();
+        assertThat(jobLockRepository.acquireIfFree("RECURRING", "node-b", now.plusMinutes(6), now.plusMinutes(11)))
+                .isEqualTo(1);
+
+        JobLock lock = jobLockRepository.findById("RECURRING").orElseThrow();
+        assertThat(lock.getLockedBy()).isEqualTo("node-b");
+        assertThat(lock.getFencingToken()).isEqualTo(5L);
+    }
+
+    @Test
+    void extendAndRelease_staleFencingToken_haveNoEffect() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        em.persistAndFlush(new JobLock("RECURRING", "node-a", now, now.plusMinutes(5), 7L));
+
+        assertThat(jobLockRepository.extend("RECURRING", "node-a", 6L, now, now.plusMinutes(10))).isZero();
+        assertThat(jobLockRepository.release("RECURRING", "node-a", 6L, now)).isZero();
+        assertThat(jobLockRepository.isHeld("RECURRING", "node-a", 6L, now)).isFalse();
+        assertThat(jobLockRepository.isHeld("RECURRING", "node-a", 7L, now)).isTrue();
+
+        assertThat(jobLockRepository.extend("RECURRING", "node-a", 7L, now, now.plusMinutes(10))).isEqualTo(1);
+        assertThat(jobLockRepository.release("RECURRING", "node-a", 7L, now)).isEqualTo(1);
+        assertThat(jobLockRepository.isHeld("RECURRING", "node-a", 7L, now)).isFalse();
+        assertThat(jobLockRepository.acquireIfFree("RECURRING", "node-b", now, now.plusMinutes(5))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,172 @@
+package com.minted.api.job.repository;
+
+import com.minted.api.job.entity.WorkItem;
+import com.minted.api.job.enums.WorkItemStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class WorkItemRepositoryTest {
+
+    @Autowired TestEntityManager em;
+    @Autowired WorkItemRepository workItemRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void lockClaimable_returnsDuePendingItemsOfQueueInOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        WorkItem first = em.persist(buildItem("BULK_IMPORT", "1", now.minusMinutes(2)));
+        WorkItem second = em.persist(buildItem("BULK_IMPORT", "2", now.minusMinutes(1)));
+        em.persist(buildItem("BULK_IMPORT", "3", now.plusMinutes(5)));
+        em.persist(buildItem("STATEMENT_PARSE", "4", now.minusMinutes(1)));
+        WorkItem running = buildItem("BULK_IMPORT", "5", now.minusMinutes(1));
+        running.setStatus(WorkItemStatus.RUNNING);
+        em.persist(running);
+        em.flush();
+
+        List<WorkItem> claimable = workItemRepository.lockClaimable("BULK_IMPORT", now, 10);
+        List<WorkItem> limited = workItemRepository.lockClaimable("BULK_IMPORT", now, 1);
+
+        assertThat(claimable).extracting(WorkItem::getId).containsExactly(first.getId(), second.getId());
+        assertThat(limited).extracting(WorkItem::getId).containsExactly(first.getId());
+    }
+
+    @Test
+    void releaseExpiredLeases_requeuesOnlyExpiredRunningItems() {
+        LocalDateTime now = LocalDateTime.now();
+        WorkItem expired = em.persist(buildRunning("1", "node-a", now.minusSeconds(5)));
+        WorkItem alive = em.persist(buildRunning("2", "node-b", now.plusSeconds(30)));
+        em.flush();
+
+        int released = workItemRepository.releaseExpiredLeases(now);
+        em.clear();
+
+        assertThat(released).isEqualTo(1);
+        WorkItem requeued = em.find(WorkItem.class, expired.getId());
+        assertThat(requeued.getStatus()).isEqualTo(WorkItemStatus.PENDING);
+        assertThat(requeued.getLeaseOwner()).isNull();
+        assertThat(em.find(WorkItem.class, alive.getId()).getStatus()).isEqualTo(WorkItemStatus.RUNNING);
+    }
+
+    @Test
+    void finishAndExtendLeases_onlyApplyToCurrentLeaseOwner() {
+        LocalDateTime now = LocalDateTime.now();
+        WorkItem item = em.persist(buildRunning("1", "node-a", now.plusSeconds(10)));
+        em.flush();
+
+        assertThat(workItemRepository.extendLeases(List.of(item.getId()), "node-b", now.plusMinutes(5), now)).isZero();
+        assertThat(workItemRepository.finish(item.getId(), "node-b", WorkItemStatus.COMPLETED, now, null, now)).isZero();
+        assertThat(workItemRepository.extendLeases(List.of(item.getId()), "node-a", now.plusMinutes(5), now)).isEqualTo(1);
+        assertThat(workItemRepository.finish(item.getId(), "node-a", WorkItemStatus.COMPLETED, now, null, now)).isEqualTo(1);
+        em.clear();
+
+        assertThat(em.find(WorkItem.class, item.getId()).getStatus()).isEqualTo(WorkItemStatus.COMPLETED);
+    }
+
+    @Test
+    void confirmLease_onlyForCurrentOwnerAttemptAndUnexpiredLease() {
+        LocalDateTime now = LocalDateTime.now();
+        WorkItem held = em.persist(buildRunning("1", "node-a", now.plusSeconds(10)));
+        WorkItem expired = em.persist(buildRunning("2", "node-a", now.minusSeconds(1)));
+        em.flush();
+
+        assertThat(workItemRepository.confirmLease(held.getId(), "node-a", 1, now)).isEqualTo(1);
+        assertThat(workItemRepository.confirmLease(held.getId(), "node-b", 1, now)).isZero();
+        // Same node, earlier attempt: the item was re-claimed since
+        assertThat(workItemRepository.confirmLease(held.getId(), "node-a", 0, now)).isZero();
+        assertThat(workItemRepository.confirmLease(expired.getId(), "node-a", 1, now)).isZero();
+    }
+
+    @Test
+    void save_duplicateDedupKey_isRejected() {
+        WorkItem first = buildItem("SCHEDULED_JOB", "RECURRING", LocalDateTime.now());
+        first.setDedupKey("RECURRING@2026-01-01T01:00");
+        workItemRepository.saveAndFlush(first);
+
+        WorkItem second = buildItem("SCHEDULED_JOB", "RECURRING", LocalDateTime.now());
+        second.setDedupKey("RECURRING@2026-01-01T01:00");
+
+        assertThatThrownBy(() -> workItemRepository.saveAndFlush(second))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void lockClaimable_concurrentClaims_skipLockedRows() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        LocalDateTime due = LocalDateTime.now().minusMinutes(1);
+        tx.executeWithoutResult(status -> {
+            workItemRepository.save(buildItem("BULK_IMPORT", "1", due));
+            workItemRepository.save(buildItem("BULK_IMPORT", "2", due));
+        });
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // Node A locks the first item and holds its transaction open
+            CompletableFuture<List<WorkItem>> nodeA = CompletableFuture.supplyAsync(() -> tx.execute(status -> {
+                List<WorkItem> items = workItemRepository.lockClaimable("BULK_IMPORT", LocalDateTime.now(), 1);
+                locked.countDown();
+                await(release);
+                return items;
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Node B does not wait for A's lock: it skips the locked row and gets the next one
+            List<WorkItem> nodeB = tx.execute(status ->
+                    workItemRepository.lockClaimable("BULK_IMPORT", LocalDateTime.now(), 2));
+            release.countDown();
+
+            assertThat(nodeB).extracting(WorkItem::getPayload).containsExactly("2");
+            assertThat(nodeA.get(5, TimeUnit.SECONDS)).extracting(WorkItem::getPayload).containsExactly("1");
+        } finally {
+            release.countDown();
+            tx.executeWithoutResult(status -> workItemRepository.deleteAll());
+        }
+    }
+
+    // helpers
+
+    private WorkItem buildItem(String queueName, String payload, LocalDateTime availableAt) {
+        WorkItem item = new WorkItem();
+        item.setQueueName(queueName);
+        item.setPayload(payload);
+        item.setAvailableAt(availableAt);
+        return item;
+    }
+
+    private WorkItem buildRunning(String payload, String owner, LocalDateTime leaseExpiresAt) {
+        WorkItem item = buildItem("BULK_IMPORT", payload, LocalDateTime.now().minusMinutes(1));
+        item.setStatus(WorkItemStatus.RUNNING);
+        item.setAttempts(1);
+        item.setLeaseOwner(owner);
+        item.setLeaseExpiresAt(leaseExpiresAt);
+        return item;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
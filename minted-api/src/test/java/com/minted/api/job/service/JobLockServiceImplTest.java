@@ -0,0 +1,117 @@
+package com.minted.api.job.service;
+
+import com.minted.api.job.dto.JobLockHandle;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.entity.JobLock;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.enums.JobTriggerType;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobLockRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobLockServiceImplTest {
+
+    @Mock private JobLockRepository jobLockRepository;
+    @Mock private JobExecutionRepository jobExecutionRepository;
+    @Mock private JobScheduleConfigRepository scheduleConfigRepository;
+    @Mock private TaskScheduler taskScheduler;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ScheduledFuture<?> renewal;
+
+    private JobLockServiceImpl jobLockService;
+
+    @BeforeEach
+    void setUp() {
+        jobLockService = new JobLockServiceImpl(jobLockRepository, jobExecutionRepository, scheduleConfigRepository,
+                new NodeIdentity("node-a"), taskScheduler, transactionManager);
+        ReflectionTestUtils.setField(jobLockService, "leaseSeconds", 300L);
+    }
+
+    // ── tryAcquire ────────────────────────────────────────────────────────────
+
+    @Test
+    void tryAcquire_firstRunOfJob_insertsLockWithTokenOne() {
+        when(jobLockRepository.acquireIfFree(eq("RECURRING"), eq("node-a"), any(), any())).thenReturn(0);
+        when(jobLockRepository.existsById("RECURRING")).thenReturn(false);
+
+        Optional<JobLockHandle> handle = jobLockService.tryAcquire("RECURRING");
+
+        assertThat(handle).contains(new JobLockHandle("RECURRING", "node-a", 1L));
+        verify(jobLockRepository).saveAndFlush(argThat(lock -> lock.getFencingToken() == 1L));
+    }
+
+    @Test
+    void tryAcquire_freeLock_returnsIncrementedToken() {
+        when(jobLockRepository.acquireIfFree(eq("RECURRING"), eq("node-a"), any(), any())).thenReturn(1);
+        when(jobLockRepository.findById("RECURRING")).thenReturn(Optional.of(lock("node-a", 8L)));
+
+        assertThat(jobLockService.tryAcquire("RECURRING")).contains(new JobLockHandle("RECURRING", "node-a", 8L));
+    }
+
+    // ── runLocked ─────────────────────────────────────────────────────────────
+
+    @Test
+    void runLocked_acquired_runsJobUnderLockAndReleases() {
+        when(jobLockRepository.acquireIfFree(eq("RECURRING"), eq("node-a"), any(), any())).thenReturn(1);
+        when(jobLockRepository.findById("RECURRING")).thenReturn(Optional.of(lock("node-a", 3L)));
+        doReturn(renewal).when(taskScheduler).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+        AtomicReference<JobLockHandle> seen = new AtomicReference<>();
+
+        boolean ran = jobLockService.runLocked("RECURRING", JobTriggerType.SCHEDULED,
+                () -> seen.set(JobLockContext.current().orElse(null)));
+
+        assertThat(ran).isTrue();
+        assertThat(seen.get()).isEqualTo(new JobLockHandle("RECURRING", "node-a", 3L));
+        assertThat(JobLockContext.current()).isEmpty();
+        verify(renewal).cancel(false);
+        verify(jobLockRepository).release(eq("RECURRING"), eq("node-a"), eq(3L), any());
+    }
+
+    @Test
+    void runLocked_heldByOtherNode_recordsSkippedExecutionWithoutRunning() {
+        when(jobLockRepository.acquireIfFree(eq("RECURRING"), eq("node-a"), any(), any())).thenReturn(0);
+        when(jobLockRepository.existsById("RECURRING")).thenReturn(true);
+        when(jobLockRepository.findById("RECURRING")).thenReturn(Optional.of(lock("node-b", 12L)));
+        when(scheduleConfigRepository.findByJobName("RECURRING")).thenReturn(Optional.empty());
+        Runnable job = mock(Runnable.class);
+
+        boolean ran = jobLockService.runLocked("RECURRING", JobTriggerType.MANUAL, job);
+
+        assertThat(ran).isFalse();
+        verify(job, never()).run();
+        ArgumentCaptor<JobExecution> execution = ArgumentCaptor.forClass(JobExecution.class);
+        verify(jobExecutionRepository).save(execution.capture());
+        assertThat(execution.getValue().getStatus()).isEqualTo(JobStatus.SKIPPED);
+        assertThat(execution.getValue().getTriggerType()).isEqualTo(JobTriggerType.MANUAL);
+        assertThat(execution.getValue().getLockOwner()).isEqualTo("node-b");
+        assertThat(execution.getValue().getFencingToken()).isEqualTo(12L);
+        assertThat(execution.getValue().getErrorMessage()).contains("lock held by node-b");
+    }
+
+    // helpers
+
+    private JobLock lock(String owner, Long token) {
+        return new JobLock("RECURRING", owner, LocalDateTime.now(), LocalDateTime.now().plusMinutes(5), token);
+    }
+}
@@ -0,0 +1,159 @@
+package com.minted.api.job.service;
+
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.job.dto.WorkLease;
+import com.minted.api.job.entity.WorkItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkQueueWorkerTest {
+
+    @Mock private WorkQueueService workQueueService;
+    @Mock private WorkHandler handler;
+    @Mock private BoundedExecutor executor;
+
+    private WorkQueueWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.queueName()).thenReturn("BULK_IMPORT");
+        worker = new WorkQueueWorker(workQueueService, List.of(handler), new NodeIdentity("node-a"));
+    }
+
+    // ── poll ──────────────────────────────────────────────────────────────────
+
+    @Test
+    void poll_claimsOnlyIdleThreadsAndDispatches() throws Exception {
+        WorkItem item = buildItem(1L, "7", 1);
+        when(handler.executor()).thenReturn(executor);
+        when(executor.idleThreads()).thenReturn(2);
+        when(workQueueService.claim("BULK_IMPORT", 2, "node-a")).thenReturn(List.of(item));
+        doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+
+        worker.poll();
+
+        verify(workQueueService).releaseExpiredLeases();
+        verify(handler).handle("7", new WorkLease(1L, "node-a", 1));
+        verify(workQueueService).complete(1L, "node-a");
+    }
+
+    @Test
+    void poll_noIdleThreads_claimsNothing() {
+        when(handler.executor()).thenReturn(executor);
+        when(executor.idleThreads()).thenReturn(0);
+
+        worker.poll();
+
+        verify(workQueueService, never()).claim(any(), anyInt(), any());
+    }
+
+    @Test
+    void poll_rejectedWithAttemptsLeft_retries() {
+        WorkItem item = buildItem(1L, "7", 1);
+        when(handler.executor()).thenReturn(executor);
+        when(executor.idleThreads()).thenReturn(1);
+        when(workQueueService.claim("BULK_IMPORT", 1, "node-a")).thenReturn(List.of(item));
+        doThrow(new RejectedExecutionException("queue full")).when(executor).execute(any(Runnable.class));
+
+        worker.poll();
+
+        verify(workQueueService).fail(item, "node-a", "queue full", true);
+        verify(handler, never()).onGiveUp(any(), any());
+    }
+
+    @Test
+    void poll_rejectedOnLastAttempt_givesUp() {
+        WorkItem item = buildItem(1L, "7", 3);
+        when(handler.executor()).thenReturn(executor);
+        when(executor.idleThreads()).thenReturn(1);
+        when(workQueueService.claim("BULK_IMPORT", 1, "node-a")).thenReturn(List.of(item));
+        doThrow(new RejectedExecutionException("queue full")).when(executor).execute(any(Runnable.class));
+
+        worker.poll();
+
+        verify(handler).onGiveUp("7", "queue full");
+        verify(workQueueService).fail(item, "node-a", "queue full", false);
+        worker.heartbeat();
+        verify(workQueueService, never()).extendLeases(any(), any());
+    }
+
+    @Test
+    void heartbeat_nothingRunning_doesNotTouchDatabase() {
+        worker.heartbeat();
+
+        verify(workQueueService, never()).extendLeases(any(), any());
+    }
+
+    // ── run ───────────────────────────────────────────────────────────────────
+
+    @Test
+    void run_success_completesItem() throws Exception {
+        WorkItem item = buildItem(1L, "7", 1);
+
+        worker.run(handler, item);
+
+        verify(handler).handle("7", new WorkLease(1L, "node-a", 1));
+        verify(workQueueService).complete(1L, "node-a");
+    }
+
+    @Test
+    void run_failureWithAttemptsLeft_retries() throws Exception {
+        WorkItem item = buildItem(1L, "7", 1);
+        doThrow(new IllegalStateException("boom")).when(handler).handle("7", new WorkLease(1L, "node-a", 1));
+
+        worker.run(handler, item);
+
+        verify(workQueueService).fail(item, "node-a", "boom", true);
+        verify(handler, never()).onGiveUp(any(), any());
+    }
+
+    @Test
+    void run_failureOnLastAttempt_givesUp() throws Exception {
+        WorkItem item = buildItem(1L, "7", 3);
+        doThrow(new IllegalStateException("boom")).when(handler).handle("7", new WorkLease(1L, "node-a", 3));
+
+        worker.run(handler, item);
+
+        verify(handler).onGiveUp("7", "boom");
+        verify(workQueueService).fail(item, "node-a", "boom", false);
+    }
+
+    @Test
+    void run_redeliveredPastMaxAttempts_givesUpWithoutRunning() throws Exception {
+        WorkItem item = buildItem(1L, "7", 4);
+
+        worker.run(handler, item);
+
+        verify(handler, never()).handle(any(), any());
+        verify(handler).onGiveUp("7", "Abandoned after 3 interrupted attempts");
+        verify(workQueueService).fail(item, "node-a", "Abandoned after 3 interrupted attempts", false);
+        worker.heartbeat();
+        verify(workQueueService, never()).extendLeases(eq(Set.of(1L)), any());
+    }
+
+    // helpers
+
+    private WorkItem buildItem(Long id, String payload, int attempts) {
+        WorkItem item = new WorkItem();
+        item.setId(id);
+        item.setQueueName("BULK_IMPORT");
+        item.setPayload(payload);
+        item.setAttempts(attempts);
+        item.setMaxAttempts(3);
+        return item;
+    }
+}
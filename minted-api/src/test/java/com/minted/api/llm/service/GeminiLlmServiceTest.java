@@ -0,0 +1,105 @@
+package com.minted.api.llm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.common.exception.BadRequestException;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiLlmServiceTest {
+
+    @Spy  ObjectMapper objectMapper = new ObjectMapper();
+    @Mock LlmHttpClient llmHttpClient;
+
+    @InjectMocks GeminiLlmService geminiLlmService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(geminiLlmService, "streaming", true);
+        ReflectionTestUtils.setField(geminiLlmService, "readTimeoutMs", 1000L);
+    }
+
+    // ── parseStatementStreaming ───────────────────────────────────────────────
+
+    @Test
+    void parseStatementStreaming_emitsRowsAsEventsArrive() {
+        List<ParsedTransactionRow> emitted = new ArrayList<>();
+        List<Integer> emittedBeforeEvent = new ArrayList<>();
+        stream(List.of(
+                event("```json\\n[{\\\"amount\\\": -120.5, \\\"type\\\": \\\"EXPENSE\\\", "),
+                "",
+                event("\\\"description\\\": \\\"COFFEE\\\"}, {\\\"amount\\\": 40, "),
+                ": keep-alive comment",
+                event("\\\"type\\\": \\\"INCOME\\\", \\\"description\\\": \\\"REFUND\\\"}]\\n```")
+        ), emitted, emittedBeforeEvent);
+
+        List<ParsedTransactionRow> rows = geminiLlmService.parseStatementStreaming(
+                "text", 1L, 9L, List.of(), List.of("Food"), "key", "gemini-2.0-flash", emitted::add);
+
+        assertThat(rows).extracting(ParsedTransactionRow::getDescription).containsExactly("COFFEE", "REFUND");
+        assertThat(emitted).isEqualTo(rows);
+        // COFFEE was emitted while the stream was still open
+        assertThat(emittedBeforeEvent).containsExactly(0, 0, 0, 1, 1);
+        assertThat(rows.get(0).getAmount()).isEqualByComparingTo("120.5");
+        assertThat(rows.get(0).getTempId()).isNotBlank();
+        assertThat(rows.get(0).getNotes()).isEmpty();
+        verify(llmHttpClient).postJsonStreaming(eq("GEMINI"), contains(":streamGenerateContent?alt=sse"), any(), any(), any());
+    }
+
+    @Test
+    void parseStatementStreaming_streamEndsMidArray_throwsBadRequest() {
+        stream(List.of(event("[{\\\"amount\\\": 1, \\\"description\\\": \\\"A\\\"}, {\\\"amount\\\"")),
+                new ArrayList<>(), new ArrayList<>());
+
+        assertThatThrownBy(() -> geminiLlmService.parseStatementStreaming(
+                "text", 1L, 9L, List.of(), List.of(), "key", "gemini-2.0-flash", row -> { }))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("ended before all transactions");
+    }
+
+    @Test
+    void parseStatement_streamingDisabled_usesBlockingEndpoint() {
+        ReflectionTestUtils.setField(geminiLlmService, "streaming", false);
+        when(llmHttpClient.postJson(eq("GEMINI"), contains(":generateContent?"), any(), any())).thenReturn(
+                "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"[{\\\"amount\\\": 5, \\\"description\\\": \\\"A\\\"}]\"}]}}]}");
+
+        List<ParsedTransactionRow> rows = geminiLlmService.parseStatement(
+                "text", 1L, 9L, List.of(), List.of(), "key", "gemini-2.0-flash");
+
+        assertThat(rows).extracting(ParsedTransactionRow::getDescription).containsExactly("A");
+        verify(llmHttpClient, never()).postJsonStreaming(any(), any(), any(), any(), any());
+    }
+
+    // helpers
+
+    private static String event(String escapedText) {
+        return "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + escapedText + "\"}]}}]}";
+    }
+
+    private void stream(List<String> lines, List<ParsedTransactionRow> emitted, List<Integer> emittedBeforeLine) {
+        doAnswer(inv -> {
+            Consumer<String> onLine = inv.getArgument(4);
+            for (String line : lines) {
+                emittedBeforeLine.add(emitted.size());
+                onLine.accept(line);
+            }
+            return null;
+        }).when(llmHttpClient).postJsonStreaming(any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,63 @@
+package com.minted.api.llm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.common.exception.BadRequestException;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonArrayStreamParserTest {
+
+    private final JsonArrayStreamParser parser = new JsonArrayStreamParser(new ObjectMapper());
+
+    @Test
+    void feed_emitsEachRowWhenItsObjectCloses() {
+        assertThat(parser.feed("```json\n[{\"amount\": 120.07, \"type\": \"EXP")).isEmpty();
+
+        List<ParsedTransactionRow> first = parser.feed("ENSE\", \"description\": \"CAFÉ {1}\"}, {\"amount\"");
+
+        assertThat(first).hasSize(1);
+        assertThat(first.get(0).getAmount()).isEqualByComparingTo("120.07");
+        assertThat(first.get(0).getType()).isEqualTo("EXPENSE");
+        assertThat(first.get(0).getDescription()).isEqualTo("CAFÉ {1}");
+        assertThat(parser.isComplete()).isFalse();
+
+        List<ParsedTransactionRow> second = parser.feed(": 9, \"type\": \"INCOME\"}]\n```");
+
+        assertThat(second).extracting(ParsedTransactionRow::getType).containsExactly("INCOME");
+        assertThat(parser.isComplete()).isTrue();
+        assertThat(parser.feed("trailing text")).isEmpty();
+    }
+
+    @Test
+    void feed_oneCharacterAtATime_yieldsSameRows() {
+        String json = "[{\"description\": \"A\", \"amount\": 1.50}, {\"description\": \"B\", \"amount\": 2}]";
+        List<ParsedTransactionRow> rows = new ArrayList<>();
+
+        for (char c : json.toCharArray()) {
+            rows.addAll(parser.feed(String.valueOf(c)));
+        }
+
+        assertThat(rows).extracting(ParsedTransactionRow::getDescription).containsExactly("A", "B");
+        assertThat(rows.get(0).getAmount()).isEqualByComparingTo("1.50");
+        assertThat(parser.isComplete()).isTrue();
+    }
+
+    @Test
+    void feed_emptyArray_completesWithoutRows() {
+        assertThat(parser.feed("[]")).isEmpty();
+        assertThat(parser.isComplete()).isTrue();
+    }
+
+    @Test
+    void feed_malformedJson_throwsBadRequest() {
+        assertThatThrownBy(() -> parser.feed("[{\"amount\": }]"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("unparseable");
+    }
+}
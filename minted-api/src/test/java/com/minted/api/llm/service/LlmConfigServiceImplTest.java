@@ -151,4 +151,30 @@ class LlmConfigServiceImplTest {
         assertThatThrownBy(() -> llmConfigService.saveConfig(request, 1L))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
+
+    // ── getEffectiveConfig ────────────────────────────────────────────────────
+
+    @Test
+    void getEffectiveConfig_userKey_usesModelProvider() {
+        model.setProvider("STUB");
+        when(configRepository.findByUserId(1L)).thenReturn(Optional.of(config));
+
+        LlmConfigService.EffectiveLlmConfig result = llmConfigService.getEffectiveConfig(1L);
+
+        assertThat(result.provider()).isEqualTo("STUB");
+        assertThat(result.apiKey()).isEqualTo("test-api-key");
+        assertThat(result.modelKey()).isEqualTo("gemini-2.0-flash");
+    }
+
+    @Test
+    void getEffectiveConfig_noModelConfigured_defaultsToGemini() {
+        config.setModel(null);
+        when(configRepository.findByUserId(1L)).thenReturn(Optional.of(config));
+        when(modelRepository.findByIsActiveTrueOrderByIsDefaultDescNameAsc()).thenReturn(List.of());
+
+        LlmConfigService.EffectiveLlmConfig result = llmConfigService.getEffectiveConfig(1L);
+
+        assertThat(result.provider()).isEqualTo("GEMINI");
+        assertThat(result.modelKey()).isEqualTo("gemini-2.0-flash");
+    }
 }
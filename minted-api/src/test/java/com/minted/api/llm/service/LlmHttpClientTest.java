@@ -0,0 +1,237 @@
+package com.minted.api.llm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.common.concurrent.CircuitBreaker;
+import com.minted.api.common.exception.BadRequestException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmHttpClientTest {
+
+    private LlmHttpClient client;
+    private HttpServer server;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        client = new LlmHttpClient(HttpClient.newHttpClient(), new ObjectMapper());
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "backoffBaseMs", 1L);
+        ReflectionTestUtils.setField(client, "backoffMaxMs", 2L);
+        ReflectionTestUtils.setField(client, "circuitFailureThreshold", 4);
+        ReflectionTestUtils.setField(client, "circuitOpenSeconds", 60L);
+        ReflectionTestUtils.setField(client, "streamMaxSeconds", 600L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (server != null) {
+            server.stop(0);
+        }
+        client.shutdown();
+    }
+
+    // ── execute ───────────────────────────────────────────────────────────────
+
+    @Test
+    void execute_transientFailure_retriesThenSucceeds() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = client.execute("TEST", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new LlmHttpClient.RetryableException("HTTP 503", null);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls).hasValue(3);
+        assertThat(client.circuitState("TEST")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void execute_retriesExhausted_throwsBadRequest() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> client.execute("TEST", () -> {
+            calls.incrementAndGet();
+            throw new LlmHttpClient.RetryableException("timed out", null);
+        }))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("failed after 3 attempts");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void execute_nonRetryableFailure_isNotRetried() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> client.execute("TEST", () -> {
+            calls.incrementAndGet();
+            throw new LlmHttpClient.RejectedException("HTTP 400");
+        }))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("HTTP 400");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void execute_onlyRejectionsCountAsSuccess() {
+        ReflectionTestUtils.setField(client, "maxAttempts", 1);
+        Runnable failing = () -> client.execute("TEST", () -> {
+            throw new LlmHttpClient.RetryableException("HTTP 500", null);
+        });
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(failing::run).isInstanceOf(BadRequestException.class);
+            // An interrupted call says nothing about the provider, so the failures keep counting
+            assertThatThrownBy(() -> client.execute("TEST", () -> {
+                throw new IllegalStateException("Interrupted while calling TEST");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+        assertThatThrownBy(failing::run).isInstanceOf(BadRequestException.class);
+
+        assertThat(client.circuitState("TEST")).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void execute_rejection_resetsFailureCount() {
+        ReflectionTestUtils.setField(client, "maxAttempts", 1);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.execute("TEST", () -> {
+                throw new LlmHttpClient.RetryableException("HTTP 500", null);
+            })).isInstanceOf(BadRequestException.class);
+        }
+        assertThatThrownBy(() -> client.execute("TEST", () -> {
+            throw new LlmHttpClient.RejectedException("HTTP 400");
+        })).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> client.execute("TEST", () -> {
+            throw new LlmHttpClient.RetryableException("HTTP 500", null);
+        })).isInstanceOf(BadRequestException.class);
+
+        assertThat(client.circuitState("TEST")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void execute_repeatedFailures_opensCircuitAndFailsFast() {
+        AtomicInteger calls = new AtomicInteger();
+        Runnable failing = () -> client.execute("TEST", () -> {
+            calls.incrementAndGet();
+            throw new LlmHttpClient.RetryableException("HTTP 500", null);
+        });
+
+        assertThatThrownBy(failing::run).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(failing::run)
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("temporarily unavailable");
+
+        // 3 attempts, then the 4th opens the circuit and the rest are refused
+        assertThat(calls).hasValue(4);
+        assertThat(client.circuitState("TEST")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(client.circuitState("OTHER")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    // ── postJsonStreaming ─────────────────────────────────────────────────────
+
+    @Test
+    void postJsonStreaming_completeBody_deliversEveryLine() throws IOException {
+        String url = serve(List.of("data: 1", "data: 2"), false);
+        List<String> lines = new CopyOnWriteArrayList<>();
+
+        client.postJsonStreaming("TEST", url, "{}", Duration.ofSeconds(5), lines::add);
+
+        assertThat(lines).containsExactly("data: 1", "data: 2");
+    }
+
+    @Test
+    void postJsonStreaming_stallsAfterFirstLine_failsWithoutRetry() throws IOException {
+        String url = serve(List.of("data: 1"), true);
+        List<String> lines = new CopyOnWriteArrayList<>();
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> client.postJsonStreaming("TEST", url, "{}", Duration.ofMillis(300), lines::add))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("stopped responding");
+        assertThat(lines).containsExactly("data: 1");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(4));
+    }
+
+    @Test
+    void postJsonStreaming_stallsBeforeFirstLine_isRetriedLikeATimeout() throws IOException {
+        String url = serve(List.of(), true);
+        List<String> lines = new CopyOnWriteArrayList<>();
+
+        assertThatThrownBy(() -> client.postJsonStreaming("TEST", url, "{}", Duration.ofMillis(300), lines::add))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("failed after 3 attempts: TEST timed out");
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    void postJsonStreaming_exceedsTotalDeadline_isClosed() throws IOException {
+        ReflectionTestUtils.setField(client, "streamMaxSeconds", 0L);
+        String url = serve(List.of(), true);
+
+        assertThatThrownBy(() -> client.postJsonStreaming("TEST", url, "{}", Duration.ofSeconds(30), line -> { }))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("timed out");
+    }
+
+    // ── backoffMillis ─────────────────────────────────────────────────────────
+
+    @Test
+    void backoffMillis_honoursRetryAfterUpToMax() {
+        ReflectionTestUtils.setField(client, "backoffBaseMs", 100L);
+        ReflectionTestUtils.setField(client, "backoffMaxMs", 1000L);
+
+        assertThat(client.backoffMillis(1, null)).isBetween(50L, 100L);
+        assertThat(client.backoffMillis(10, null)).isBetween(500L, 1000L);
+        assertThat(client.backoffMillis(1, Duration.ofSeconds(30))).isEqualTo(1000L);
+    }
+
+    // helpers
+
+    /** Serves {@code lines} as a chunked 200 body; when {@code stall} the response then hangs until the test ends. */
+    private String serve(List<String> lines, boolean stall) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (String line : lines) {
+                    out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+                if (stall) {
+                    release.await(10, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // The client closed the stream
+            }
+        });
+        server.start();
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+}
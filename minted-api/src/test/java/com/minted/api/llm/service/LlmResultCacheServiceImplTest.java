@@ -0,0 +1,177 @@
+package com.minted.api.llm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.llm.entity.LlmResultCacheEntry;
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+import com.minted.api.llm.repository.LlmResultCacheRepository;
+import com.minted.api.payload.dto.PayloadRefs;
+import com.minted.api.payload.repository.PayloadBlobRepository;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+import com.minted.api.transaction.entity.TransactionCategory;
+import com.minted.api.user.entity.User;
+import com.minted.api.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LlmResultCacheServiceImplTest {
+
+    private static final LlmConfigService.EffectiveLlmConfig CONFIG =
+            new LlmConfigService.EffectiveLlmConfig("GEMINI", "key", "gemini-2.0-flash");
+
+    @Mock LlmResultCacheRepository cacheRepository;
+    @Mock PayloadBlobRepository payloadBlobRepository;
+    @Mock UserRepository userRepository;
+    @Spy  ObjectMapper objectMapper = new ObjectMapper();
+    @Mock PlatformTransactionManager transactionManager;
+
+    @InjectMocks LlmResultCacheServiceImpl cacheService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cacheService, "enabled", true);
+        ReflectionTestUtils.setField(cacheService, "maxAgeDays", 30);
+        ReflectionTestUtils.setField(cacheService, "maxEntries", 100);
+    }
+
+    // ── keyFor ────────────────────────────────────────────────────────────────
+
+    @Test
+    void keyFor_ignoresLineEndingsTrailingSpacesAndCategoryOrder() {
+        String a = cacheService.keyFor(1L, CONFIG, "01/03 COFFEE 120.00\r\n02/03 RENT 900.00  \r\n",
+                List.of("Food", "Rent"), List.of());
+        String b = cacheService.keyFor(1L, CONFIG, "01/03 COFFEE 120.00\n02/03 RENT 900.00",
+                List.of("Rent", "Food"), List.of());
+
+        assertThat(a).hasSize(64).isEqualTo(b);
+    }
+
+    @Test
+    void keyFor_changesWithModelUserAndMerchantRules() {
+        String base = cacheService.keyFor(1L, CONFIG, "text", List.of("Food"), List.of());
+
+        assertThat(cacheService.keyFor(1L, new LlmConfigService.EffectiveLlmConfig("GEMINI", "key", "gemini-pro"),
+                "text", List.of("Food"), List.of())).isNotEqualTo(base);
+        assertThat(cacheService.keyFor(2L, CONFIG, "text", List.of("Food"), List.of())).isNotEqualTo(base);
+        assertThat(cacheService.keyFor(1L, CONFIG, "text", List.of("Food"),
+                List.of(buildMapping("swiggy", "Food")))).isNotEqualTo(base);
+    }
+
+    // ── get ───────────────────────────────────────────────────────────────────
+
+    @Test
+    void get_hit_returnsRowsWithFreshTempIdsAndRecordsHit() {
+        LlmResultCacheEntry entry = buildEntry(LocalDateTime.now().minusDays(1),
+                "[{\"tempId\":\"old\",\"amount\":120.00,\"type\":\"EXPENSE\",\"description\":\"COFFEE\"}]");
+        when(cacheRepository.findByCacheKey("abc")).thenReturn(Optional.of(entry));
+
+        Optional<List<ParsedTransactionRow>> result = cacheService.get("abc");
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).hasSize(1);
+        assertThat(result.get().get(0).getAmount()).isEqualByComparingTo(BigDecimal.valueOf(120));
+        assertThat(result.get().get(0).getTempId()).isNotEqualTo("old");
+        verify(cacheRepository).recordHit(eq(7L), any());
+    }
+
+    @Test
+    void get_expiredEntry_returnsEmpty() {
+        when(cacheRepository.findByCacheKey("abc"))
+                .thenReturn(Optional.of(buildEntry(LocalDateTime.now().minusDays(31), "[]")));
+
+        assertThat(cacheService.get("abc")).isEmpty();
+        verify(cacheRepository, never()).recordHit(any(), any());
+    }
+
+    @Test
+    void get_disabled_skipsLookup() {
+        ReflectionTestUtils.setField(cacheService, "enabled", false);
+
+        assertThat(cacheService.get("abc")).isEmpty();
+        verifyNoInteractions(cacheRepository);
+    }
+
+    // ── put ───────────────────────────────────────────────────────────────────
+
+    @Test
+    void put_storesEntryAndEvictsBeyondMaxEntries() {
+        when(cacheRepository.count()).thenReturn(100L);
+
+        cacheService.put("abc", 1L, CONFIG, List.of(new ParsedTransactionRow()));
+
+        verify(cacheRepository).saveAndFlush(argThat(e ->
+                "abc".equals(e.getCacheKey()) && e.getRowCount() == 1 && e.getRowsJson().startsWith("[")));
+        verify(cacheRepository).findExpiredRefs(any(), any());
+        verify(cacheRepository, never()).findLeastRecentlyUsedRefs(any());
+    }
+
+    @Test
+    void put_concurrentDuplicate_isSwallowed() {
+        when(cacheRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("uk_llm_result_cache_key"));
+
+        assertThatCode(() -> cacheService.put("abc", 1L, CONFIG, List.of())).doesNotThrowAnyException();
+        verify(cacheRepository, never()).count();
+    }
+
+    // ── evictUser ─────────────────────────────────────────────────────────────
+
+    @Test
+    void evictUser_deletesEntriesAndTheirBlobs() {
+        when(cacheRepository.findRefsByUserId(1L))
+                .thenReturn(List.of(new PayloadRefs(7L, 70L, null), new PayloadRefs(8L, 80L, null)));
+
+        cacheService.evictUser(1L);
+
+        verify(cacheRepository).deleteByIdIn(List.of(7L, 8L));
+        verify(payloadBlobRepository).deleteAllByIdInBatch(List.of(70L, 80L));
+    }
+
+    @Test
+    void evictUser_noEntries_deletesNothing() {
+        when(cacheRepository.findRefsByUserId(1L)).thenReturn(List.of());
+
+        cacheService.evictUser(1L);
+
+        verify(cacheRepository, never()).deleteByIdIn(any());
+        verifyNoInteractions(payloadBlobRepository);
+    }
+
+    // helpers
+
+    private LlmResultCacheEntry buildEntry(LocalDateTime createdAt, String rowsJson) {
+        LlmResultCacheEntry entry = new LlmResultCacheEntry();
+        entry.setId(7L);
+        entry.setCacheKey("abc");
+        entry.setUser(new User());
+        entry.setCreatedAt(createdAt);
+        entry.setRowsJson(rowsJson);
+        return entry;
+    }
+
+    private MerchantCategoryMapping buildMapping(String snippets, String categoryName) {
+        TransactionCategory category = new TransactionCategory();
+        category.setName(categoryName);
+        MerchantCategoryMapping mapping = new MerchantCategoryMapping();
+        mapping.setSnippets(snippets);
+        mapping.setCategory(category);
+        return mapping;
+    }
+}
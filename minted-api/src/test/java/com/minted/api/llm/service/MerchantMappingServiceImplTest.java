@@ -30,6 +30,7 @@ class MerchantMappingServiceImplTest {
     @Mock private MerchantCategoryMappingRepository mappingRepository;
     @Mock private TransactionCategoryRepository categoryRepository;
     @Mock private UserRepository userRepository;
+    @Mock private MerchantMatcherCache merchantMatcherCache;
 
     @InjectMocks
     private MerchantMappingServiceImpl merchantMappingService;
@@ -63,6 +64,7 @@ class MerchantMappingServiceImplTest {
                 new MerchantMappingRequest("amazon", 1L), 1L);
 
         assertThat(response.id()).isEqualTo(10L);
+        verify(merchantMatcherCache).evict(1L);
     }
 
     @Test
@@ -88,6 +90,7 @@ class MerchantMappingServiceImplTest {
                 new MerchantMappingRequest("amazon,flipkart", 1L), 1L);
 
         assertThat(existing.getSnippets()).isEqualTo("amazon,flipkart");
+        verify(merchantMatcherCache).evict(1L);
     }
 
     @Test
@@ -109,6 +112,7 @@ class MerchantMappingServiceImplTest {
         merchantMappingService.deleteMapping(1L, 1L);
 
         verify(mappingRepository).delete(mapping);
+        verify(merchantMatcherCache).evict(1L);
     }
 
     // helpers
@@ -0,0 +1,79 @@
+package com.minted.api.llm.service;
+
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantMatcherCacheTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private MerchantMatcherCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MerchantMatcherCache(100, 300);
+    }
+
+    @Test
+    void get_sameRules_compileOnce() {
+        MerchantMatcher first = cache.get(1L, List.of(buildMapping(5L, "swiggy", UPDATED)));
+        MerchantMatcher second = cache.get(1L, List.of(buildMapping(5L, "swiggy", UPDATED)));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.match("SWIGGY ORDER")).isEqualTo(5L);
+    }
+
+    @Test
+    void get_ruleChangedElsewhere_recompiles() {
+        // Another node edited rule 5: same id, new snippets and updated_at, and no local evict
+        MerchantMatcher before = cache.get(1L, List.of(buildMapping(5L, "swiggy", UPDATED)));
+        MerchantMatcher after = cache.get(1L, List.of(buildMapping(5L, "zomato", UPDATED.plusMinutes(1))));
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.match("ZOMATO")).isEqualTo(5L);
+        assertThat(cache.get(1L, List.of(buildMapping(5L, "zomato", UPDATED.plusMinutes(1))))).isSameAs(after);
+    }
+
+    @Test
+    void get_ruleAddedOrRemoved_recompiles() {
+        MerchantMatcher one = cache.get(1L, List.of(buildMapping(5L, "swiggy", UPDATED)));
+        MerchantMatcher two = cache.get(1L, List.of(buildMapping(5L, "swiggy", UPDATED), buildMapping(6L, "uber", UPDATED)));
+        MerchantMatcher none = cache.get(1L, List.of());
+
+        assertThat(two).isNotSameAs(one);
+        assertThat(two.match("UBER TRIP")).isEqualTo(6L);
+        assertThat(none.match("SWIGGY")).isNull();
+    }
+
+    @Test
+    void evict_forcesRecompile() {
+        MerchantMatcher first = cache.get(1L, List.of(buildMapping(5L, "swiggy", UPDATED)));
+        cache.evict(1L);
+
+        assertThat(cache.get(1L, List.of(buildMapping(5L, "swiggy", UPDATED)))).isNotSameAs(first);
+    }
+
+    @Test
+    void evict_otherUser_keepsEntry() {
+        MerchantMatcher first = cache.get(1L, List.of());
+        cache.evict(2L);
+
+        assertThat(cache.get(1L, List.of())).isSameAs(first);
+    }
+
+    // helpers
+
+    private MerchantCategoryMapping buildMapping(Long id, String snippets, LocalDateTime updatedAt) {
+        MerchantCategoryMapping m = new MerchantCategoryMapping();
+        m.setId(id);
+        m.setSnippets(snippets);
+        m.setUpdatedAt(updatedAt);
+        return m;
+    }
+}
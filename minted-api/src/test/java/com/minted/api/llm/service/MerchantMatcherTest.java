@@ -0,0 +1,104 @@
+package com.minted.api.llm.service;
+
+import com.minted.api.llm.entity.MerchantCategoryMapping;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantMatcherTest {
+
+    @Test
+    void match_isCaseInsensitiveAndFindsSnippetAnywhere() {
+        MerchantMatcher matcher = MerchantMatcher.compile(List.of(
+                buildMapping(1L, "swiggy, zomato"),
+                buildMapping(2L, "Uber")));
+
+        assertThat(matcher.match("POS 1234 ZOMATO LTD BANGALORE")).isEqualTo(1L);
+        assertThat(matcher.match("uber *trip")).isEqualTo(2L);
+        assertThat(matcher.match("RENT MARCH")).isNull();
+        assertThat(matcher.match("")).isNull();
+        assertThat(matcher.match(null)).isNull();
+    }
+
+    @Test
+    void match_firstRuleWins_evenWhenALaterRuleMatchesEarlierInText() {
+        MerchantMatcher matcher = MerchantMatcher.compile(List.of(
+                buildMapping(1L, "prime"),
+                buildMapping(2L, "amazon")));
+
+        assertThat(matcher.match("AMAZON PRIME VIDEO")).isEqualTo(1L);
+    }
+
+    @Test
+    void match_snippetInsideAnotherSnippet_foundThroughFailureLinks() {
+        MerchantMatcher matcher = MerchantMatcher.compile(List.of(
+                buildMapping(1L, "amazon pay"),
+                buildMapping(2L, "zon")));
+
+        // Walks down "amazon p" before failing back, and must still report "zon"
+        assertThat(matcher.match("AMAZON PRIME")).isEqualTo(2L);
+        assertThat(matcher.match("AMAZON PAY BILL")).isEqualTo(1L);
+    }
+
+    @Test
+    void compile_noRules_matchesNothing() {
+        MerchantMatcher matcher = MerchantMatcher.compile(List.of());
+
+        assertThat(matcher.match("ANYTHING")).isNull();
+        assertThat(matcher.ruleCount()).isZero();
+    }
+
+    @Test
+    void match_agreesWithOrderedContainsLoop() {
+        Random random = new Random(42);
+        List<MerchantCategoryMapping> mappings = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            List<String> snippets = new ArrayList<>();
+            for (int s = 0; s < 1 + random.nextInt(5); s++) {
+                snippets.add(randomText(random, 2 + random.nextInt(5)));
+            }
+            mappings.add(buildMapping(id, String.join(",", snippets)));
+        }
+        MerchantMatcher matcher = MerchantMatcher.compile(mappings);
+
+        for (int i = 0; i < 2000; i++) {
+            String description = randomText(random, 5 + random.nextInt(40));
+            assertThat(matcher.match(description)).as(description).isEqualTo(loopMatch(mappings, description));
+        }
+    }
+
+    // helpers
+
+    // The per-row loop the matcher replaced
+    private static Long loopMatch(List<MerchantCategoryMapping> mappings, String description) {
+        for (MerchantCategoryMapping mapping : mappings) {
+            boolean matches = mapping.getSnippetList().stream()
+                    .anyMatch(snippet -> description.toUpperCase().contains(snippet.toUpperCase()));
+            if (matches) {
+                return mapping.getId();
+            }
+        }
+        return null;
+    }
+
+    // Small alphabet so snippets overlap and share prefixes often
+    private static String randomText(Random random, int length) {
+        String alphabet = "abcdAB C";
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private MerchantCategoryMapping buildMapping(Long id, String snippets) {
+        MerchantCategoryMapping m = new MerchantCategoryMapping();
+        m.setId(id);
+        m.setSnippets(snippets);
+        return m;
+    }
+}
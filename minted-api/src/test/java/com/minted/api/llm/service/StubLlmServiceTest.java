@@ -0,0 +1,53 @@
+package com.minted.api.llm.service;
+
+import com.minted.api.common.exception.BadRequestException;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StubLlmServiceTest {
+
+    @Mock LlmHttpClient llmHttpClient;
+
+    @InjectMocks StubLlmService stubLlmService;
+
+    @Test
+    void parseStatement_disabled_throwsWithoutCalling() {
+        assertThatThrownBy(() -> stubLlmService.parseStatement("text", 1L, 1L, List.of(), List.of(), "k", "m"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("disabled");
+        verifyNoInteractions(llmHttpClient);
+    }
+
+    @Test
+    void extractRows_readsDatedAmountLines() {
+        String text = """
+                STATEMENT FOR MARCH
+                2026-03-02 SWIGGY BANGALORE 1,250.50
+                12/03/2026 REFUND AMAZON 300.00 CR
+                Total due 1,550.50
+                """;
+
+        List<ParsedTransactionRow> rows = StubLlmService.extractRows(text, List.of("Food", "Other"));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getTransactionDate()).isEqualTo("2026-03-02");
+        assertThat(rows.get(0).getDescription()).isEqualTo("SWIGGY BANGALORE");
+        assertThat(rows.get(0).getAmount()).isEqualByComparingTo("1250.50");
+        assertThat(rows.get(0).getType()).isEqualTo("EXPENSE");
+        assertThat(rows.get(0).getCategoryName()).isEqualTo("Other");
+        assertThat(rows.get(1).getTransactionDate()).isEqualTo("2026-03-12");
+        assertThat(rows.get(1).getType()).isEqualTo("INCOME");
+        assertThat(rows.get(1).getTempId()).isNotBlank();
+    }
+}
@@ -0,0 +1,95 @@
+package com.minted.api.payload.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.bulkimport.repository.BulkImportRepository;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.entity.JobStepExecution;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.enums.JobStepStatus;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.JobSchedulerService;
+import com.minted.api.job.service.WorkQueueService;
+import com.minted.api.payload.dto.PayloadRefs;
+import com.minted.api.payload.repository.PayloadBlobRepository;
+import com.minted.api.statement.repository.CreditCardStatementRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PayloadRetentionJobTest {
+
+    @Mock private BulkImportRepository bulkImportRepository;
+    @Mock private CreditCardStatementRepository statementRepository;
+    @Mock private PayloadBlobRepository payloadBlobRepository;
+    @Mock private JobExecutionRepository jobExecutionRepository;
+    @Mock private JobScheduleConfigRepository scheduleConfigRepository;
+    @Mock private JobSchedulerService jobSchedulerService;
+    @Mock private WorkQueueService workQueueService;
+    @Mock private ObjectMapper objectMapper;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PayloadRetentionJob job;
+
+    @Test
+    void run_purgesPagesUntilNoneLeft() {
+        ReflectionTestUtils.setField(job, "retentionDays", 30);
+        when(scheduleConfigRepository.findByJobName(PayloadRetentionJob.JOB_NAME)).thenReturn(Optional.empty());
+        when(jobExecutionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(bulkImportRepository.findPayloadRefs(anyCollection(), any(), any()))
+                .thenReturn(List.of(new PayloadRefs(1L, 10L, 11L), new PayloadRefs(2L, null, 12L)))
+                .thenReturn(List.of());
+        when(statementRepository.findPayloadRefs(anyCollection(), any(), any()))
+                .thenReturn(List.of(new PayloadRefs(5L, 20L, null)))
+                .thenReturn(List.of());
+
+        job.run();
+
+        verify(bulkImportRepository).clearPayloads(List.of(1L, 2L));
+        verify(payloadBlobRepository).deleteAllByIdInBatch(List.of(10L, 11L, 12L));
+        verify(statementRepository).clearPayloads(List.of(5L));
+        verify(payloadBlobRepository).deleteAllByIdInBatch(List.of(20L));
+        verify(workQueueService).deleteFinishedBefore(any());
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(bulkImportRepository, times(2)).findPayloadRefs(anyCollection(), cutoff.capture(), any());
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(29));
+
+        ArgumentCaptor<JobExecution> execution = ArgumentCaptor.forClass(JobExecution.class);
+        verify(jobExecutionRepository, atLeastOnce()).save(execution.capture());
+        assertThat(execution.getValue().getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(execution.getValue().getSteps()).hasSize(4);
+        assertThat(execution.getValue().getSteps()).extracting(JobStepExecution::getStatus)
+                .containsOnly(JobStepStatus.COMPLETED);
+    }
+
+    @Test
+    void run_failure_marksExecutionFailed() {
+        when(scheduleConfigRepository.findByJobName(PayloadRetentionJob.JOB_NAME)).thenReturn(Optional.empty());
+        when(jobExecutionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(bulkImportRepository.findPayloadRefs(anyCollection(), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        job.run();
+
+        ArgumentCaptor<JobExecution> execution = ArgumentCaptor.forClass(JobExecution.class);
+        verify(jobExecutionRepository, atLeastOnce()).save(execution.capture());
+        assertThat(execution.getValue().getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(execution.getValue().getErrorMessage()).isEqualTo("db down");
+        verify(statementRepository, never()).findPayloadRefs(anyCollection(), any(), any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.minted.api.recurring.job;
+
+import com.minted.api.account.entity.Account;
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.recurring.dto.RecurringChunkResult;
+import com.minted.api.recurring.dto.RecurringOccurrenceKey;
+import com.minted.api.recurring.entity.RecurringOccurrence;
+import com.minted.api.recurring.entity.RecurringTransaction;
+import com.minted.api.recurring.enums.RecurringStatus;
+import com.minted.api.recurring.repository.RecurringOccurrenceRepository;
+import com.minted.api.recurring.repository.RecurringTransactionRepository;
+import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.transaction.entity.TransactionCategory;
+import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.transaction.repository.TransactionRepository;
+import com.minted.api.transaction.service.TransactionAggregateService;
+import com.minted.api.user.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringChunkProcessorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 20);
+
+    @Mock private RecurringTransactionRepository recurringTransactionRepository;
+    @Mock private RecurringOccurrenceRepository occurrenceRepository;
+    @Mock private TransactionRepository transactionRepository;
+    @Mock private AccountBalanceService accountBalanceService;
+    @Mock private TransactionAggregateService transactionAggregateService;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Captor private ArgumentCaptor<List<Transaction>> transactionsCaptor;
+    @Captor private ArgumentCaptor<List<RecurringOccurrence>> occurrencesCaptor;
+
+    @InjectMocks
+    private RecurringChunkProcessor processor;
+
+    @Test
+    void process_missedPeriods_catchesUpAndAdjustsBalanceOnce() {
+        RecurringTransaction rent = buildRecurring(1L, 10L, TransactionType.EXPENSE, LocalDate.of(2026, 1, 15));
+        when(recurringTransactionRepository.findAllById(List.of(1L))).thenReturn(List.of(rent));
+        when(occurrenceRepository.findKeys(List.of(1L), LocalDate.of(2026, 1, 15))).thenReturn(List.of());
+
+        RecurringChunkResult result = processor.process(List.of(1L), TODAY);
+
+        assertThat(result).isEqualTo(new RecurringChunkResult(1, 3, 0, List.of()));
+        assertThat(savedTransactions()).extracting(Transaction::getTransactionDate).containsExactly(
+                LocalDate.of(2026, 1, 15), LocalDate.of(2026, 2, 15), LocalDate.of(2026, 3, 15));
+        assertThat(rent.getNextExecutionDate()).isEqualTo(LocalDate.of(2026, 4, 15));
+        verify(accountBalanceService).apply(argThat(d -> d.size() == 1 && d.get(10L).compareTo(new BigDecimal("-300")) == 0));
+        // one aggregate row per generated month
+        verify(transactionAggregateService).apply(argThat(d -> d.size() == 3));
+    }
+
+    @Test
+    void process_occurrenceAlreadyRecorded_isSkipped() {
+        RecurringTransaction salary = buildRecurring(1L, 10L, TransactionType.INCOME, LocalDate.of(2026, 2, 15));
+        when(recurringTransactionRepository.findAllById(List.of(1L))).thenReturn(List.of(salary));
+        when(occurrenceRepository.findKeys(List.of(1L), LocalDate.of(2026, 2, 15)))
+                .thenReturn(List.of(new RecurringOccurrenceKey(1L, LocalDate.of(2026, 2, 15))));
+
+        RecurringChunkResult result = processor.process(List.of(1L), TODAY);
+
+        assertThat(result).isEqualTo(new RecurringChunkResult(1, 1, 1, List.of()));
+        assertThat(savedTransactions()).extracting(Transaction::getTransactionDate).containsExactly(LocalDate.of(2026, 3, 15));
+        verify(occurrenceRepository).saveAll(occurrencesCaptor.capture());
+        assertThat(occurrencesCaptor.getValue()).extracting(RecurringOccurrence::getOccurrenceDate)
+                .containsExactly(LocalDate.of(2026, 3, 15));
+        verify(accountBalanceService).apply(argThat(d -> d.get(10L).compareTo(new BigDecimal("100")) == 0));
+    }
+
+    @Test
+    void process_endDateReached_stopsGenerating() {
+        RecurringTransaction loan = buildRecurring(1L, 10L, TransactionType.EXPENSE, LocalDate.of(2026, 1, 15));
+        loan.setEndDate(LocalDate.of(2026, 2, 28));
+        when(recurringTransactionRepository.findAllById(List.of(1L))).thenReturn(List.of(loan));
+
+        RecurringChunkResult result = processor.process(List.of(1L), TODAY);
+
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(loan.getNextExecutionDate()).isEqualTo(LocalDate.of(2026, 3, 15));
+    }
+
+    @Test
+    void process_partitionFails_retriesEachRecurringSeparately() {
+        RecurringTransaction ok = buildRecurring(1L, 10L, TransactionType.EXPENSE, LocalDate.of(2026, 3, 15));
+        when(recurringTransactionRepository.findAllById(List.of(1L, 2L))).thenThrow(new IllegalStateException("boom"));
+        when(recurringTransactionRepository.findAllById(List.of(1L))).thenReturn(List.of(ok));
+        when(recurringTransactionRepository.findAllById(List.of(2L))).thenThrow(new IllegalStateException("boom"));
+
+        RecurringChunkResult result = processor.process(List.of(1L, 2L), TODAY);
+
+        assertThat(result).isEqualTo(new RecurringChunkResult(1, 1, 0, List.of(2L)));
+    }
+
+    // helpers
+
+    private List<Transaction> savedTransactions() {
+        verify(transactionRepository).saveAll(transactionsCaptor.capture());
+        return transactionsCaptor.getValue();
+    }
+
+    private RecurringTransaction buildRecurring(Long id, Long accountId, TransactionType type, LocalDate next) {
+        Account account = new Account();
+        account.setId(accountId);
+        User user = new User();
+        user.setId(100L);
+        TransactionCategory category = new TransactionCategory();
+        category.setId(20L);
+        RecurringTransaction r = new RecurringTransaction();
+        r.setId(id);
+        r.setName("Recurring " + id);
+        r.setAmount(BigDecimal.valueOf(100));
+        r.setType(type);
+        r.setAccount(account);
+        r.setUser(user);
+        r.setCategory(category);
+        r.setDayOfMonth(next.getDayOfMonth());
+        r.setStartDate(next);
+        r.setNextExecutionDate(next);
+        r.setStatus(RecurringStatus.ACTIVE);
+        return r;
+    }
+}
@@ -0,0 +1,113 @@
+package com.minted.api.recurring.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.JobLockService;
+import com.minted.api.job.service.JobSchedulerService;
+import com.minted.api.recurring.dto.RecurringChunkResult;
+import com.minted.api.recurring.dto.RecurringDueRef;
+import com.minted.api.recurring.enums.RecurringStatus;
+import com.minted.api.recurring.repository.RecurringTransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionJobTest {
+
+    @Mock private RecurringTransactionRepository recurringTransactionRepository;
+    @Mock private RecurringChunkProcessor chunkProcessor;
+    @Mock private JobExecutionRepository jobExecutionRepository;
+    @Mock private JobScheduleConfigRepository scheduleConfigRepository;
+    @Mock private JobSchedulerService jobSchedulerService;
+    @Mock private JobLockService jobLockService;
+
+    private BoundedExecutor recurringExecutor;
+    private RecurringTransactionJob job;
+
+    @BeforeEach
+    void setUp() {
+        recurringExecutor = new BoundedExecutor("recurring-test", 2, 4, false);
+        job = new RecurringTransactionJob(recurringTransactionRepository, chunkProcessor, jobExecutionRepository,
+                scheduleConfigRepository, jobSchedulerService, jobLockService, new ObjectMapper(), recurringExecutor);
+        ReflectionTestUtils.setField(job, "chunkSize", 3);
+        ReflectionTestUtils.setField(job, "parallelism", 2);
+        when(scheduleConfigRepository.findByJobName(RecurringTransactionJob.JOB_NAME)).thenReturn(Optional.empty());
+        when(jobExecutionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recurringExecutor.shutdown();
+    }
+
+    @Test
+    void run_walksKeysetChunksAndPartitionsByUser() {
+        LocalDate d1 = LocalDate.now().minusDays(2);
+        LocalDate d2 = LocalDate.now().minusDays(1);
+        when(recurringTransactionRepository.countDue(eq(RecurringStatus.ACTIVE), any())).thenReturn(4L);
+        when(recurringTransactionRepository.findDueAfter(eq(RecurringStatus.ACTIVE), any(), eq(LocalDate.EPOCH), eq(0L), any()))
+                .thenReturn(List.of(new RecurringDueRef(1L, 10L, d1), new RecurringDueRef(2L, 11L, d1),
+                        new RecurringDueRef(3L, 10L, d2)));
+        when(recurringTransactionRepository.findDueAfter(eq(RecurringStatus.ACTIVE), any(), eq(d2), eq(3L), any()))
+                .thenReturn(List.of(new RecurringDueRef(4L, 11L, d2)));
+        when(recurringTransactionRepository.findDueAfter(eq(RecurringStatus.ACTIVE), any(), eq(d2), eq(4L), any()))
+                .thenReturn(List.of());
+        when(chunkProcessor.process(anyList(), any())).thenAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            return new RecurringChunkResult(ids.size(), ids.size(), 0, List.of());
+        });
+
+        job.run();
+
+        // user 10 → ids 1 and 3 together, user 11 → id 2; next chunk user 11 → id 4
+        verify(chunkProcessor).process(eq(List.of(1L, 3L)), any());
+        verify(chunkProcessor).process(eq(List.of(2L)), any());
+        verify(chunkProcessor).process(eq(List.of(4L)), any());
+        JobExecution execution = lastSavedExecution();
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(execution.getSteps().get(1).getContextJson()).contains("\"created\":4").contains("\"chunks\":2");
+    }
+
+    @Test
+    void run_everyRecurringFails_marksExecutionFailed() {
+        when(recurringTransactionRepository.countDue(eq(RecurringStatus.ACTIVE), any())).thenReturn(1L);
+        LocalDate due = LocalDate.now();
+        when(recurringTransactionRepository.findDueAfter(eq(RecurringStatus.ACTIVE), any(), eq(LocalDate.EPOCH), eq(0L), any()))
+                .thenReturn(List.of(new RecurringDueRef(1L, 10L, due)));
+        when(recurringTransactionRepository.findDueAfter(eq(RecurringStatus.ACTIVE), any(), eq(due), eq(1L), any()))
+                .thenReturn(List.of());
+        when(chunkProcessor.process(anyList(), any())).thenReturn(new RecurringChunkResult(0, 0, 0, List.of(1L)));
+
+        job.run();
+
+        JobExecution execution = lastSavedExecution();
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(execution.getErrorMessage()).isEqualTo("All transactions failed to process");
+    }
+
+    // helpers
+
+    private JobExecution lastSavedExecution() {
+        ArgumentCaptor<JobExecution> captor = ArgumentCaptor.forClass(JobExecution.class);
+        verify(jobExecutionRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -182,6 +182,15 @@ class RecurringTransactionServiceImplTest {
         assertThat(result).isAfterOrEqualTo(futureStart);
     }
 
+    // ── occurrenceAfter ───────────────────────────────────────────────────────
+
+    @Test
+    void occurrenceAfter_clampsToShortMonthAndRestoresDayAfter() {
+        assertThat(RecurringTransactionService.occurrenceAfter(LocalDate.of(2026, 1, 31), 31))
+                .isEqualTo(LocalDate.of(2026, 2, 28));
+        assertThat(RecurringTransactionService.occurrenceAfter(LocalDate.of(2026, 2, 28), 31)).isEqualTo(LocalDate.of(2026, 3, 31));
+    }
+
     // helpers
 
     private RecurringTransaction buildRecurring(Long id, String name, RecurringStatus status) {
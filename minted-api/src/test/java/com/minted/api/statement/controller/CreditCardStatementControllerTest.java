@@ -1,7 +1,9 @@
 package com.minted.api.statement.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
@@ -9,8 +11,6 @@ import com.minted.api.statement.dto.StatementResponse;
 import com.minted.api.statement.enums.StatementStatus;
 import com.minted.api.statement.service.CreditCardStatementService;
 import com.minted.api.support.TestSecurityConfig;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -41,7 +41,7 @@ class CreditCardStatementControllerTest {
     @Autowired ObjectMapper objectMapper;
 
     @MockBean CreditCardStatementService statementService;
-    @MockBean UserRepository userRepository;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
@@ -56,10 +56,8 @@ class CreditCardStatementControllerTest {
         doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("alice");
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userPrincipalCache.get("alice"))
+                .thenReturn(Optional.of(new UserPrincipal(1L, "alice", "USER", true, "INR")));
 
         sampleStatement = new StatementResponse(
                 1L, 2L, "Credit Card", "statement.pdf",
@@ -94,7 +92,7 @@ class CreditCardStatementControllerTest {
                 10240L, StatementStatus.SENT_FOR_AI_PARSING, 2, null,
                 null, null, null, null, null, "pdf", null, null
         );
-        when(statementService.triggerLlmParse(eq(1L), eq(1L), any())).thenReturn(parsing);
+        when(statementService.triggerLlmParse(eq(1L), eq(1L), any(), eq(false))).thenReturn(parsing);
 
         mockMvc.perform(post("/api/v1/statements/1/parse")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -104,6 +102,19 @@ class CreditCardStatementControllerTest {
                 .andExpect(jsonPath("$.data.status").value("SENT_FOR_AI_PARSING"));
     }
 
+    @Test
+    @WithMockUser(username = "alice")
+    void triggerParse_forceReparse_passesFlag() throws Exception {
+        when(statementService.triggerLlmParse(eq(1L), eq(1L), isNull(), eq(true))).thenReturn(sampleStatement);
+
+        mockMvc.perform(post("/api/v1/statements/1/parse")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"forceReparse\": true}"))
+                .andExpect(status().isAccepted());
+
+        verify(statementService).triggerLlmParse(eq(1L), eq(1L), isNull(), eq(true));
+    }
+
     // ── GET /api/v1/statements/{id}/parsed-rows ───────────────────────────────
 
     @Test
@@ -2,6 +2,7 @@ package com.minted.api.statement.repository;
 
 import com.minted.api.account.entity.Account;
 import com.minted.api.account.entity.AccountType;
+import com.minted.api.payload.dto.PayloadRefs;
 import com.minted.api.statement.entity.CreditCardStatement;
 import com.minted.api.statement.enums.StatementStatus;
 import com.minted.api.user.entity.User;
@@ -10,9 +11,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,6 +74,55 @@ class CreditCardStatementRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void findPayloadRefs_andClearPayloads_purgeFinishedStatements() {
+        CreditCardStatement done = buildStatement("done.pdf", user1);
+        done.setStatus(StatementStatus.COMPLETED);
+        done.setExtractedText("statement text");
+        done.setLlmResponseJson("[]");
+        em.persist(done);
+        CreditCardStatement inProgress = buildStatement("review.pdf", user1);
+        inProgress.setStatus(StatementStatus.LLM_PARSED);
+        inProgress.setLlmResponseJson("[]");
+        em.persist(inProgress);
+        em.flush();
+        List<StatementStatus> finished = List.of(StatementStatus.COMPLETED, StatementStatus.FAILED);
+
+        List<PayloadRefs> refs = statementRepository.findPayloadRefs(finished, LocalDateTime.now().plusDays(1), PageRequest.of(0, 10));
+
+        assertThat(refs).hasSize(1);
+        assertThat(refs.get(0).ownerId()).isEqualTo(done.getId());
+        assertThat(refs.get(0).blobIds()).hasSize(2);
+
+        statementRepository.clearPayloads(List.of(done.getId()));
+        em.clear();
+
+        CreditCardStatement purged = statementRepository.findById(done.getId()).orElseThrow();
+        assertThat(purged.getExtractedText()).isNull();
+        assertThat(purged.getLlmResponseJson()).isNull();
+        assertThat(statementRepository.findById(inProgress.getId()).orElseThrow().getLlmResponseJson()).isEqualTo("[]");
+    }
+
+    @Test
+    void updateParsingProgress_onlyWhileAwaitingParse() {
+        CreditCardStatement parsing = buildStatement("parsing.pdf", user1);
+        parsing.setStatus(StatementStatus.SENT_FOR_AI_PARSING);
+        em.persist(parsing);
+        CreditCardStatement parsed = buildStatement("parsed.pdf", user1);
+        parsed.setStatus(StatementStatus.LLM_PARSED);
+        parsed.setParsedCount(12);
+        em.persist(parsed);
+        em.flush();
+
+        int updated = statementRepository.updateParsingProgress(parsing.getId(), 4)
+                + statementRepository.updateParsingProgress(parsed.getId(), 4);
+        em.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(em.find(CreditCardStatement.class, parsing.getId()).getParsedCount()).isEqualTo(4);
+        assertThat(em.find(CreditCardStatement.class, parsed.getId()).getParsedCount()).isEqualTo(12);
+    }
+
     // helpers
 
     private User buildUser(String username) {
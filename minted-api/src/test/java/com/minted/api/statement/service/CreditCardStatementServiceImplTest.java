@@ -3,15 +3,22 @@ package com.minted.api.statement.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minted.api.account.entity.Account;
 import com.minted.api.account.repository.AccountRepository;
+import com.minted.api.account.service.AccountBalanceService;
 import com.minted.api.admin.service.SystemSettingService;
 import com.minted.api.common.exception.BadRequestException;
 import com.minted.api.common.exception.ForbiddenException;
 import com.minted.api.common.exception.ResourceNotFoundException;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.enums.JobStatus;
 import com.minted.api.job.repository.JobExecutionRepository;
 import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.WorkQueueService;
+import com.minted.api.llm.entity.MerchantCategoryMapping;
 import com.minted.api.llm.service.LlmConfigService;
-import com.minted.api.llm.service.LlmService;
+import com.minted.api.llm.service.LlmResultCacheService;
 import com.minted.api.llm.service.MerchantMappingService;
+import com.minted.api.llm.service.MerchantMatcher;
+import com.minted.api.llm.service.MerchantMatcherCache;
 import com.minted.api.notification.enums.NotificationType;
 import com.minted.api.notification.service.NotificationHelper;
 import com.minted.api.statement.dto.ConfirmStatementRequest;
@@ -24,6 +31,7 @@ import com.minted.api.transaction.entity.TransactionCategory;
 import com.minted.api.transaction.enums.TransactionType;
 import com.minted.api.transaction.repository.TransactionCategoryRepository;
 import com.minted.api.transaction.repository.TransactionRepository;
+import com.minted.api.transaction.service.TransactionAggregateService;
 import com.minted.api.transaction.service.TransactionCategoryService;
 import com.minted.api.user.entity.User;
 import com.minted.api.user.repository.UserRepository;
@@ -41,6 +49,7 @@ import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -53,18 +62,23 @@ class CreditCardStatementServiceImplTest {
     @Mock TransactionRepository transactionRepository;
     @Mock TransactionCategoryRepository categoryRepository;
     @Mock AccountRepository accountRepository;
+    @Mock AccountBalanceService accountBalanceService;
+    @Mock TransactionAggregateService transactionAggregateService;
     @Mock UserRepository userRepository;
     @Mock JobExecutionRepository jobExecutionRepository;
     @Mock JobScheduleConfigRepository scheduleConfigRepository;
     @Mock StatementParserService statementParserService;
-    @Mock LlmService llmService;
+    @Mock StatementChunkParser statementChunkParser;
     @Mock LlmConfigService llmConfigService;
+    @Mock LlmResultCacheService llmResultCacheService;
     @Mock MerchantMappingService merchantMappingService;
+    @Mock MerchantMatcherCache merchantMatcherCache;
     @Mock TransactionCategoryService transactionCategoryService;
     @Mock SystemSettingService systemSettingService;
     @Mock NotificationHelper notificationHelper;
     @Spy  ObjectMapper objectMapper = new ObjectMapper();
     @Mock PlatformTransactionManager transactionManager;
+    @Mock WorkQueueService workQueueService;
 
     @InjectMocks CreditCardStatementServiceImpl statementService;
 
@@ -92,6 +106,8 @@ class CreditCardStatementServiceImplTest {
         statement.setFileType("PDF");
         statement.setStatus(StatementStatus.TEXT_EXTRACTED);
         statement.setCurrentStep(2);
+
+        lenient().when(merchantMatcherCache.get(eq(1L), any())).thenReturn(MerchantMatcher.compile(List.of()));
     }
 
     // ── getUserStatements ─────────────────────────────────────────────────────
@@ -220,6 +236,174 @@ class CreditCardStatementServiceImplTest {
         verify(notificationHelper).notify(eq(1L), eq(NotificationType.INFO), anyString(), anyString());
     }
 
+    @Test
+    void uploadAndExtract_identicalReupload_reusesExtractedText() throws Exception {
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "statement.pdf", "application/pdf", "%PDF-1.4 bytes".getBytes(StandardCharsets.UTF_8));
+        CreditCardStatement previous = new CreditCardStatement();
+        previous.setExtractedText("01/03 COFFEE 120.00");
+
+        when(systemSettingService.getValue("CREDIT_CARD_PARSER_ENABLED")).thenReturn("true");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(account));
+        when(statementRepository.findFirstByUserIdAndFileHashAndExtractedTextBlobIsNotNullOrderByIdDesc(eq(1L), anyString()))
+                .thenReturn(Optional.of(previous));
+        when(statementRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        StatementResponse result = statementService.uploadAndExtract(file, 1L, null, 1L);
+
+        assertThat(result.status()).isEqualTo(StatementStatus.TEXT_EXTRACTED);
+        verify(statementRepository, atLeastOnce()).save(argThat(s ->
+                "01/03 COFFEE 120.00".equals(s.getExtractedText()) && s.getFileHash().length() == 64));
+        verifyNoInteractions(statementParserService);
+    }
+
+    // ── triggerLlmParse ───────────────────────────────────────────────────────
+
+    @Test
+    void triggerLlmParse_forceReparse_evictsCachedResult() {
+        statement.setExtractedText("01/03 COFFEE 120.00");
+        LlmConfigService.EffectiveLlmConfig llmConfig = new LlmConfigService.EffectiveLlmConfig("GEMINI", "key", "model");
+        when(systemSettingService.getValue("CREDIT_CARD_PARSER_ENABLED")).thenReturn("true");
+        when(statementRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(statement));
+        when(llmConfigService.getEffectiveConfig(1L)).thenReturn(llmConfig);
+        when(llmResultCacheService.keyFor(eq(1L), eq(llmConfig), eq("01/03 COFFEE 120.00"), any(), any())).thenReturn("abc");
+        when(jobExecutionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(statementRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        statementService.triggerLlmParse(1L, 1L, null, true);
+
+        verify(llmResultCacheService).evict("abc");
+        assertThat(statement.getStatus()).isEqualTo(StatementStatus.SENT_FOR_AI_PARSING);
+    }
+
+    @Test
+    void triggerLlmParse_editedText_isNotReusedForReuploads() {
+        statement.setExtractedText("01/03 COFFEE 120.00");
+        statement.setFileHash("a".repeat(64));
+        when(systemSettingService.getValue("CREDIT_CARD_PARSER_ENABLED")).thenReturn("true");
+        when(statementRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(statement));
+        when(llmConfigService.getEffectiveConfig(1L))
+                .thenReturn(new LlmConfigService.EffectiveLlmConfig("GEMINI", "key", "model"));
+        when(jobExecutionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(statementRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        statementService.triggerLlmParse(1L, 1L, "01/03 COFFEE 125.00", false);
+
+        assertThat(statement.getExtractedText()).isEqualTo("01/03 COFFEE 125.00");
+        assertThat(statement.getFileHash()).isNull();
+    }
+
+    @Test
+    void triggerLlmParse_unchangedText_keepsFileHash() {
+        statement.setExtractedText("01/03 COFFEE 120.00");
+        statement.setFileHash("a".repeat(64));
+        when(systemSettingService.getValue("CREDIT_CARD_PARSER_ENABLED")).thenReturn("true");
+        when(statementRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(statement));
+        when(llmConfigService.getEffectiveConfig(1L))
+                .thenReturn(new LlmConfigService.EffectiveLlmConfig("GEMINI", "key", "model"));
+        when(jobExecutionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(statementRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        statementService.triggerLlmParse(1L, 1L, "01/03 COFFEE 120.00", false);
+
+        assertThat(statement.getFileHash()).isEqualTo("a".repeat(64));
+    }
+
+    // ── processQueuedParse / abandonParse ─────────────────────────────────────
+
+    @Test
+    void processQueuedParse_cachedResult_skipsLlmCall() {
+        ParsedTransactionRow row = new ParsedTransactionRow(
+                "t1", BigDecimal.valueOf(120), "EXPENSE", "COFFEE",
+                "2025-03-01", "Food", null, "", "", false, null, false);
+        LlmConfigService.EffectiveLlmConfig llmConfig = new LlmConfigService.EffectiveLlmConfig("GEMINI", "key", "model");
+        statement.setStatus(StatementStatus.SENT_FOR_AI_PARSING);
+        statement.setJobExecution(new JobExecution());
+        statement.setExtractedText("01/03 COFFEE 120.00");
+        when(statementRepository.findById(1L)).thenReturn(Optional.of(statement));
+        when(llmConfigService.getEffectiveConfig(1L)).thenReturn(llmConfig);
+        when(llmResultCacheService.keyFor(eq(1L), eq(llmConfig), anyString(), any(), any())).thenReturn("abc");
+        when(llmResultCacheService.get("abc")).thenReturn(Optional.of(List.of(row)));
+
+        statementService.processQueuedParse(1L);
+
+        verifyNoInteractions(statementChunkParser);
+        verify(llmResultCacheService, never()).put(any(), any(), any(), any());
+        assertThat(statement.getStatus()).isEqualTo(StatementStatus.LLM_PARSED);
+        assertThat(statement.getParsedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void processQueuedParse_streamedRows_areMappedCheckedAndReportedAsTheyArrive() {
+        TransactionCategory food = new TransactionCategory();
+        food.setId(5L);
+        food.setName("Food");
+        MerchantCategoryMapping mapping = new MerchantCategoryMapping();
+        mapping.setId(7L);
+        mapping.setSnippets("swiggy");
+        mapping.setCategory(food);
+        ParsedTransactionRow swiggy = new ParsedTransactionRow(
+                "t1", BigDecimal.valueOf(250), "EXPENSE", "SWIGGY ORDER",
+                "2025-03-01", "Other", null, "", "", false, null, false);
+        ParsedTransactionRow rent = new ParsedTransactionRow(
+                "t2", BigDecimal.valueOf(900), "EXPENSE", "RENT MARCH",
+                "2025-03-02", "Rent", null, "", "", false, null, false);
+        LlmConfigService.EffectiveLlmConfig llmConfig = new LlmConfigService.EffectiveLlmConfig("GEMINI", "key", "model");
+        statement.setStatus(StatementStatus.SENT_FOR_AI_PARSING);
+        statement.setJobExecution(new JobExecution());
+        statement.setExtractedText("01/03 SWIGGY ORDER 250.00\n02/03 RENT MARCH 900.00");
+        when(statementRepository.findById(1L)).thenReturn(Optional.of(statement));
+        when(llmConfigService.getEffectiveConfig(1L)).thenReturn(llmConfig);
+        when(merchantMappingService.getRawMappings(1L)).thenReturn(List.of(mapping));
+        when(merchantMatcherCache.get(1L, List.of(mapping))).thenReturn(MerchantMatcher.compile(List.of(mapping)));
+        when(llmResultCacheService.get(any())).thenReturn(Optional.empty());
+        when(transactionRepository.existsByAccountIdAndAmountAndTransactionDateBetweenAndDescriptionContainingIgnoreCase(
+                eq(1L), eq(BigDecimal.valueOf(900)), any(), any(), anyString())).thenReturn(true);
+        when(statementChunkParser.parse(anyString(), eq(1L), eq(1L), any(), any(), eq(llmConfig), any())).thenAnswer(inv -> {
+            Consumer<ParsedTransactionRow> onRow = inv.getArgument(6);
+            onRow.accept(swiggy);
+            assertThat(swiggy.getCategoryName()).isEqualTo("Food");
+            verify(statementRepository).updateParsingProgress(1L, 1);
+            onRow.accept(rent);
+            return new StatementChunkParser.Result(List.of(swiggy, rent), 0, List.of());
+        });
+
+        statementService.processQueuedParse(1L);
+
+        assertThat(swiggy.getMappedByRule()).isTrue();
+        assertThat(swiggy.getIsDuplicate()).isFalse();
+        assertThat(rent.getIsDuplicate()).isTrue();
+        assertThat(statement.getStatus()).isEqualTo(StatementStatus.LLM_PARSED);
+        assertThat(statement.getParsedCount()).isEqualTo(2);
+        assertThat(statement.getDuplicateCount()).isEqualTo(1);
+        verify(llmResultCacheService).put(any(), eq(1L), eq(llmConfig), eq(List.of(swiggy, rent)));
+    }
+
+    @Test
+    void processQueuedParse_notAwaitingParse_skipsLlmCall() {
+        statement.setStatus(StatementStatus.LLM_PARSED);
+        when(statementRepository.findById(1L)).thenReturn(Optional.of(statement));
+
+        statementService.processQueuedParse(1L);
+
+        verifyNoInteractions(statementChunkParser, llmConfigService);
+    }
+
+    @Test
+    void abandonParse_awaitingParse_marksStatementFailed() {
+        JobExecution execution = new JobExecution();
+        statement.setStatus(StatementStatus.SENT_FOR_AI_PARSING);
+        statement.setJobExecution(execution);
+        when(statementRepository.findById(1L)).thenReturn(Optional.of(statement));
+
+        statementService.abandonParse(1L, "Abandoned after 3 interrupted attempts");
+
+        assertThat(statement.getStatus()).isEqualTo(StatementStatus.FAILED);
+        assertThat(statement.getErrorMessage()).contains("Abandoned after 3 interrupted attempts");
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.FAILED);
+    }
+
     // ── confirmImport ─────────────────────────────────────────────────────────
 
     @Test
@@ -256,7 +440,7 @@ class CreditCardStatementServiceImplTest {
         statementService.confirmImport(request, 1L);
 
         verify(transactionRepository).save(any());
-        verify(accountRepository).save(account);
+        verify(accountBalanceService).apply(argThat(d -> d.get(account.getId()).compareTo(BigDecimal.valueOf(-100)) == 0));
         verify(statementRepository, atLeastOnce()).save(statement);
         verify(notificationHelper).notify(eq(1L), eq(NotificationType.SUCCESS), anyString(), anyString());
     }
@@ -0,0 +1,181 @@
+package com.minted.api.statement.service;
+
+import com.minted.api.common.concurrent.BoundedExecutor;
+import com.minted.api.llm.service.LlmConfigService;
+import com.minted.api.llm.service.LlmProviderRegistry;
+import com.minted.api.llm.service.LlmService;
+import com.minted.api.statement.dto.ParsedTransactionRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementChunkParserTest {
+
+    @Mock LlmService llmService;
+
+    private static final LlmConfigService.EffectiveLlmConfig CONFIG =
+            new LlmConfigService.EffectiveLlmConfig("GEMINI", "key", "model");
+
+    private BoundedExecutor executor;
+    private StatementChunkParser parser;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BoundedExecutor("llm-chunks-test", 4, 16, false);
+        lenient().when(llmService.getProviderName()).thenReturn("GEMINI");
+        // Streaming falls back to parseStatement, which the tests stub
+        lenient().when(llmService.parseStatementStreaming(anyString(), any(), any(), any(), any(), any(), any(), any()))
+                .thenCallRealMethod();
+        parser = new StatementChunkParser(new LlmProviderRegistry(List.of(llmService)), executor);
+        ReflectionTestUtils.setField(parser, "maxChunkChars", 60);
+        ReflectionTestUtils.setField(parser, "overlapLines", 1);
+        ReflectionTestUtils.setField(parser, "maxParallelChunks", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    // ── split ─────────────────────────────────────────────────────────────────
+
+    @Test
+    void split_shortText_returnsSingleChunk() {
+        assertThat(StatementChunkParser.split("01/03 COFFEE 120.00\n", 100, 2)).containsExactly("01/03 COFFEE 120.00\n");
+    }
+
+    @Test
+    void split_packsPagesAndRepeatsLastLinesOfPreviousChunk() {
+        String page1 = "STATEMENT MARCH\n01/03 COFFEE 120.00\n";
+        String page2 = "02/03 GROCERY 950.00\n03/03 FUEL 2000.00\n";
+        String page3 = "04/03 RENT 15000.00\n";
+
+        List<String> chunks = StatementChunkParser.split(page1 + "\f" + page2 + "\f" + page3, 60, 1);
+
+        assertThat(chunks).containsExactly(
+                page1,
+                "01/03 COFFEE 120.00\n" + page2,
+                "03/03 FUEL 2000.00\n" + page3);
+    }
+
+    @Test
+    void split_oversizedPage_cutsBeforeTransactionRow() {
+        String page = "01/03 COFFEE SHOP 120.00\n  REF 88231\n02/03 GROCERY MART 950.00\n  REF 88232\n";
+
+        List<String> chunks = StatementChunkParser.split(page, 40, 0);
+
+        assertThat(chunks).containsExactly(
+                "01/03 COFFEE SHOP 120.00\n  REF 88231\n",
+                "02/03 GROCERY MART 950.00\n  REF 88232\n");
+    }
+
+    // ── dropOverlap ───────────────────────────────────────────────────────────
+
+    @Test
+    void dropOverlap_dropsRowsRepeatedFromPreviousChunkButKeepsRealRepeats() {
+        List<ParsedTransactionRow> previous = List.of(row("2025-03-01", "120.00", "Coffee"));
+        List<ParsedTransactionRow> current = List.of(
+                row("2025-03-01", "120", " COFFEE "),
+                row("2025-03-01", "120.00", "Coffee"),
+                row("2025-03-02", "950.00", "Grocery"));
+
+        List<ParsedTransactionRow> kept = StatementChunkParser.dropOverlap(previous, current, 1);
+
+        assertThat(kept).extracting(ParsedTransactionRow::getDescription).containsExactly("Coffee", "Grocery");
+    }
+
+    @Test
+    void dropOverlap_repeatOutsideOverlap_isKept() {
+        // Coffee on 03-01 was bought twice: once early in the previous chunk and once after the overlap
+        List<ParsedTransactionRow> previous = List.of(
+                row("2025-03-01", "120.00", "Coffee"),
+                row("2025-03-01", "900.00", "Rent"),
+                row("2025-03-01", "950.00", "Grocery"));
+        List<ParsedTransactionRow> current = List.of(
+                row("2025-03-01", "950.00", "Grocery"),
+                row("2025-03-01", "120.00", "Coffee"));
+
+        List<ParsedTransactionRow> kept = StatementChunkParser.dropOverlap(previous, current, 1);
+
+        assertThat(kept).extracting(ParsedTransactionRow::getDescription).containsExactly("Coffee");
+    }
+
+    @Test
+    void dropOverlap_matchBeyondStartOfCurrentChunk_isKept() {
+        List<ParsedTransactionRow> previous = List.of(row("2025-03-01", "120.00", "Coffee"));
+        List<ParsedTransactionRow> current = List.of(
+                row("2025-03-02", "950.00", "Grocery"),
+                row("2025-03-01", "120.00", "Coffee"));
+
+        assertThat(StatementChunkParser.dropOverlap(previous, current, 1)).hasSize(2);
+        assertThat(StatementChunkParser.dropOverlap(previous, current, 0)).hasSize(2);
+    }
+
+    // ── parse ─────────────────────────────────────────────────────────────────
+
+    @Test
+    void parse_fansOutWithinLimitAndMergesInChunkOrder() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(llmService.parseStatement(anyString(), any(), any(), any(), any(), any(), any())).thenAnswer(inv -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            String chunk = inv.getArgument(0);
+            // every chunk returns the rows of all its lines, overlap included
+            return chunk.lines().filter(l -> !l.isBlank())
+                    .map(l -> row("2025-03-0" + l.charAt(1), "10", l.substring(6)))
+                    .toList();
+        });
+        String text = "01/03 A\f02/03 B\f03/03 C\f04/03 D\f05/03 E\f06/03 F\f07/03 G\f08/03 H\f09/03 I\f";
+        ReflectionTestUtils.setField(parser, "maxChunkChars", 20);
+
+        Queue<ParsedTransactionRow> streamed = new ConcurrentLinkedQueue<>();
+
+        StatementChunkParser.Result result = parser.parse(text, 1L, 9L, List.of(), List.of(), CONFIG, streamed::add);
+
+        assertThat(streamed).hasSize(result.rows().size() + result.overlapDuplicatesDropped());
+        assertThat(result.timings()).hasSizeGreaterThan(2);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(result.rows()).extracting(ParsedTransactionRow::getDescription)
+                .containsExactly("A", "B", "C", "D", "E", "F", "G", "H", "I");
+        assertThat(result.overlapDuplicatesDropped()).isEqualTo(result.timings().size() - 1);
+    }
+
+    @Test
+    void parse_chunkFails_rethrowsCause() {
+        when(llmService.parseStatement(anyString(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("quota exceeded"));
+
+        assertThatThrownBy(() -> parser.parse("01/03 COFFEE 120.00\n", 1L, 9L, List.of(), List.of(), CONFIG, row -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("quota exceeded");
+    }
+
+    // helpers
+
+    private ParsedTransactionRow row(String date, String amount, String description) {
+        ParsedTransactionRow row = new ParsedTransactionRow();
+        row.setTransactionDate(date);
+        row.setAmount(new BigDecimal(amount));
+        row.setType("EXPENSE");
+        row.setDescription(description);
+        return row;
+    }
+}
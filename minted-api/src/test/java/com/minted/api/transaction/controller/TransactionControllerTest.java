@@ -1,17 +1,20 @@
 package com.minted.api.transaction.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
 import com.minted.api.support.TestSecurityConfig;
+import com.minted.api.transaction.dto.BulkOperationResult;
+import com.minted.api.transaction.dto.TransactionFilter;
+import com.minted.api.transaction.dto.TransactionPage;
 import com.minted.api.transaction.dto.TransactionRequest;
 import com.minted.api.transaction.dto.TransactionResponse;
 import com.minted.api.transaction.enums.TransactionType;
 import com.minted.api.transaction.service.TransactionService;
-import com.minted.api.user.entity.User;
-import com.minted.api.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +24,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,7 +35,9 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,7 +51,7 @@ class TransactionControllerTest {
     @Autowired ObjectMapper objectMapper;
 
     @MockBean TransactionService transactionService;
-    @MockBean UserRepository userRepository;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
@@ -60,10 +66,8 @@ class TransactionControllerTest {
         doAnswer(inv -> { ((FilterChain) inv.getArgument(2)).doFilter(inv.getArgument(0), inv.getArgument(1)); return null; })
                 .when(mdcFilter).doFilter(any(HttpServletRequest.class), any(HttpServletResponse.class), any(FilterChain.class));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("alice");
-        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userPrincipalCache.get("alice"))
+                .thenReturn(Optional.of(new UserPrincipal(1L, "alice", "USER", true, "INR")));
 
         sampleResponse = new TransactionResponse(
                 1L, BigDecimal.valueOf(100), TransactionType.EXPENSE,
@@ -79,13 +83,51 @@ class TransactionControllerTest {
 
     @Test
     @WithMockUser(username = "alice")
-    void getAllTransactions_returns200() throws Exception {
-        when(transactionService.getAllByUserId(1L)).thenReturn(List.of(sampleResponse));
+    void getAllTransactions_returnsFirstPage() throws Exception {
+        when(transactionService.getPage(1L, TransactionFilter.all(), null, null))
+                .thenReturn(new TransactionPage(List.of(sampleResponse), "next-token", true));
 
         mockMvc.perform(get("/api/v1/transactions"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data[0].id").value(1));
+                .andExpect(jsonPath("$.data.content[0].id").value(1))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+    }
+
+    @Test
+    @WithMockUser(username = "alice")
+    void getAllTransactions_passesCursorAndLimit() throws Exception {
+        when(transactionService.getPage(1L, TransactionFilter.all(), "abc", 50))
+                .thenReturn(new TransactionPage(List.of(sampleResponse), null, false));
+
+        mockMvc.perform(get("/api/v1/transactions").param("cursor", "abc").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "alice")
+    void getAllTransactions_ndjson_streamsOneObjectPerLine() throws Exception {
+        doAnswer(inv -> {
+            Consumer<TransactionResponse> consumer = inv.getArgument(2);
+            consumer.accept(sampleResponse);
+            consumer.accept(sampleResponse);
+            return null;
+        }).when(transactionService).streamAll(eq(1L), eq(TransactionFilter.all()), any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/transactions").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asLong()).isEqualTo(1L);
     }
 
     // ── GET /api/v1/transactions/date-range ───────────────────────────────────
@@ -93,15 +135,16 @@ class TransactionControllerTest {
     @Test
     @WithMockUser(username = "alice")
     void getByDateRange_returns200() throws Exception {
-        when(transactionService.getAllByUserIdAndDateRange(eq(1L), any(), any()))
-                .thenReturn(List.of(sampleResponse));
+        TransactionFilter filter = TransactionFilter.dateRange(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        when(transactionService.getPage(1L, filter, null, null))
+                .thenReturn(new TransactionPage(List.of(sampleResponse), null, false));
 
         mockMvc.perform(get("/api/v1/transactions/date-range")
                         .param("startDate", "2025-01-01")
                         .param("endDate", "2025-01-31"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data[0].id").value(1));
+                .andExpect(jsonPath("$.data.content[0].id").value(1));
     }
 
     // ── GET /api/v1/transactions/filter ───────────────────────────────────────
@@ -109,14 +152,20 @@ class TransactionControllerTest {
     @Test
     @WithMockUser(username = "alice")
     void getByFilters_returns200() throws Exception {
-        when(transactionService.getAllByFilters(eq(1L), any(), any(), any(), any(), any()))
-                .thenReturn(List.of(sampleResponse));
+        TransactionFilter filter = new TransactionFilter(
+                2L, null, TransactionType.EXPENSE, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        when(transactionService.getPage(1L, filter, null, 20))
+                .thenReturn(new TransactionPage(List.of(sampleResponse), null, false));
 
         mockMvc.perform(get("/api/v1/transactions/filter")
+                        .param("accountId", "2")
+                        .param("type", "EXPENSE")
                         .param("startDate", "2025-01-01")
-                        .param("endDate", "2025-01-31"))
+                        .param("endDate", "2025-01-31")
+                        .param("limit", "20"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content[0].id").value(1));
     }
 
     // ── GET /api/v1/transactions/{id} ─────────────────────────────────────────
@@ -196,12 +245,30 @@ class TransactionControllerTest {
     @Test
     @WithMockUser(username = "alice")
     void bulkDelete_returns200() throws Exception {
-        doNothing().when(transactionService).bulkDelete(anyList(), eq(1L));
+        when(transactionService.bulkDelete(anyList(), eq(1L))).thenReturn(
+                new BulkOperationResult(1, List.of(new BulkOperationResult.Failure(2L, "Transaction not found with id: 2"))));
 
         mockMvc.perform(delete("/api/v1/transactions/bulk")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(Map.of("ids", List.of(1L, 2L)))))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.succeeded").value(1))
+                .andExpect(jsonPath("$.data.failures[0].id").value(2));
+    }
+
+    // ── PUT /api/v1/transactions/bulk/category ────────────────────────────────
+
+    @Test
+    @WithMockUser(username = "alice")
+    void bulkUpdateCategory_returnsResult() throws Exception {
+        when(transactionService.bulkUpdateCategory(List.of(1L, 2L), 5L, 1L)).thenReturn(new BulkOperationResult(2, List.of()));
+
+        mockMvc.perform(put("/api/v1/transactions/bulk/category")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("ids", List.of(1, 2), "categoryId", 5))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded").value(2))
+                .andExpect(jsonPath("$.data.failures").isEmpty());
     }
 }
@@ -0,0 +1,84 @@
+package com.minted.api.transaction.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minted.api.job.entity.JobExecution;
+import com.minted.api.job.enums.JobStatus;
+import com.minted.api.job.repository.JobExecutionRepository;
+import com.minted.api.job.repository.JobScheduleConfigRepository;
+import com.minted.api.job.service.JobLockService;
+import com.minted.api.job.service.JobSchedulerService;
+import com.minted.api.transaction.service.TransactionAggregateService;
+import com.minted.api.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionAggregateRebuildJobTest {
+
+    @Mock private TransactionAggregateService transactionAggregateService;
+    @Mock private UserRepository userRepository;
+    @Mock private JobExecutionRepository jobExecutionRepository;
+    @Mock private JobScheduleConfigRepository scheduleConfigRepository;
+    @Mock private JobSchedulerService jobSchedulerService;
+    @Mock private JobLockService jobLockService;
+
+    private TransactionAggregateRebuildJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new TransactionAggregateRebuildJob(transactionAggregateService, userRepository, jobExecutionRepository,
+                scheduleConfigRepository, jobSchedulerService, jobLockService, new ObjectMapper());
+        when(scheduleConfigRepository.findByJobName(TransactionAggregateRebuildJob.JOB_NAME)).thenReturn(Optional.empty());
+        when(jobExecutionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void run_rebuildsEveryUser() {
+        when(userRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(transactionAggregateService.rebuild(1L)).thenReturn(4);
+        when(transactionAggregateService.rebuild(2L)).thenReturn(6);
+
+        job.run();
+
+        JobExecution execution = lastSavedExecution();
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(execution.getSteps().get(0).getContextJson())
+                .contains("\"usersRebuilt\":2")
+                .contains("\"rowsWritten\":10")
+                .doesNotContain("failedUsers");
+    }
+
+    @Test
+    void run_oneUserFails_continuesAndMarksExecutionFailed() {
+        when(userRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(transactionAggregateService.rebuild(1L)).thenThrow(new IllegalStateException("deadlock"));
+        when(transactionAggregateService.rebuild(2L)).thenReturn(3);
+
+        job.run();
+
+        verify(transactionAggregateService).rebuild(2L);
+        JobExecution execution = lastSavedExecution();
+        assertThat(execution.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(execution.getErrorMessage()).contains("1 users");
+        assertThat(execution.getSteps().get(0).getContextJson()).contains("\"failedUsers\":[1]");
+    }
+
+    // helpers
+
+    private JobExecution lastSavedExecution() {
+        ArgumentCaptor<JobExecution> captor = ArgumentCaptor.forClass(JobExecution.class);
+        verify(jobExecutionRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+}
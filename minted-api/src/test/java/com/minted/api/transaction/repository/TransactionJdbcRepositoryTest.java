@@ -0,0 +1,131 @@
+package com.minted.api.transaction.repository;
+
+import com.minted.api.account.entity.Account;
+import com.minted.api.account.entity.AccountType;
+import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.transaction.entity.TransactionCategory;
+import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TransactionJdbcRepository.class)
+class TransactionJdbcRepositoryTest {
+
+    @Autowired TestEntityManager em;
+    @Autowired TransactionJdbcRepository transactionJdbcRepository;
+    @Autowired TransactionRepository transactionRepository;
+
+    private User user;
+    private Account account;
+    private TransactionCategory category;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(buildUser());
+        AccountType accountType = em.persist(buildAccountType(user));
+        account = em.persist(buildAccount(user, accountType));
+        category = em.persist(buildCategory(user));
+        em.flush();
+    }
+
+    @Test
+    void batchInsert_writesAllRows() {
+        List<Transaction> rows = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            rows.add(buildTx(BigDecimal.valueOf(i), LocalDate.of(2026, 1, i), i % 2 == 0 ? "tag" : null));
+        }
+
+        int inserted = transactionJdbcRepository.batchInsert(rows);
+        em.clear();
+
+        assertThat(inserted).isEqualTo(25);
+        List<Transaction> saved = transactionRepository.findByUserId(user.getId());
+        assertThat(saved).hasSize(25);
+        Transaction first = saved.stream()
+                .filter(t -> t.getTransactionDate().equals(LocalDate.of(2026, 1, 2)))
+                .findFirst().orElseThrow();
+        assertThat(first.getAmount()).isEqualByComparingTo("2");
+        assertThat(first.getType()).isEqualTo(TransactionType.EXPENSE);
+        assertThat(first.getTags()).isEqualTo("tag");
+        assertThat(first.getCategory().getId()).isEqualTo(category.getId());
+        assertThat(first.getToAccount()).isNull();
+        assertThat(first.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void batchInsert_emptyList_writesNothing() {
+        assertThat(transactionJdbcRepository.batchInsert(List.of())).isZero();
+    }
+
+    // helpers
+
+    private User buildUser() {
+        User u = new User();
+        u.setUsername("alice");
+        u.setPassword("hashed");
+        u.setIsActive(true);
+        u.setForcePasswordChange(false);
+        u.setRole("USER");
+        return u;
+    }
+
+    private AccountType buildAccountType(User user) {
+        AccountType at = new AccountType();
+        at.setName("Bank");
+        at.setUser(user);
+        at.setIsActive(true);
+        at.setIsDefault(false);
+        return at;
+    }
+
+    private Account buildAccount(User user, AccountType type) {
+        Account a = new Account();
+        a.setName("Savings");
+        a.setUser(user);
+        a.setAccountType(type);
+        a.setIsActive(true);
+        a.setBalance(BigDecimal.ZERO);
+        a.setCurrency("INR");
+        return a;
+    }
+
+    private TransactionCategory buildCategory(User user) {
+        TransactionCategory c = new TransactionCategory();
+        c.setName("Food");
+        c.setType(TransactionType.EXPENSE);
+        c.setIsActive(true);
+        c.setIsDefault(false);
+        c.setUser(user);
+        return c;
+    }
+
+    private Transaction buildTx(BigDecimal amount, LocalDate date, String tags) {
+        Transaction t = new Transaction();
+        t.setUser(user);
+        t.setAccount(account);
+        t.setCategory(category);
+        t.setAmount(amount);
+        t.setType(TransactionType.EXPENSE);
+        t.setDescription("Imported");
+        t.setTransactionDate(date);
+        t.setIsRecurring(false);
+        t.setExcludeFromAnalysis(false);
+        t.setTags(tags);
+        return t;
+    }
+}
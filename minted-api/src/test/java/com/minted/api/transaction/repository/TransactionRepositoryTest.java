@@ -2,6 +2,10 @@ package com.minted.api.transaction.repository;
 
 import com.minted.api.account.entity.Account;
 import com.minted.api.account.entity.AccountType;
+import com.minted.api.split.entity.SplitTransaction;
+import com.minted.api.split.enums.SplitType;
+import com.minted.api.transaction.dto.TransactionBalanceEntry;
+import com.minted.api.transaction.dto.TransactionDuplicateKey;
 import com.minted.api.transaction.entity.Transaction;
 import com.minted.api.transaction.entity.TransactionCategory;
 import com.minted.api.transaction.enums.TransactionType;
@@ -10,15 +14,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -81,6 +90,95 @@ class TransactionRepositoryTest {
         assertThat(result).isEmpty();
     }
 
+    // ── isSplit formula ───────────────────────────────────────────────────────
+
+    @Test
+    void findByIdAndUserId_splitSource_isSplitTrue() {
+        Transaction tx = em.persist(buildTx(user1, account, category, BigDecimal.valueOf(50), TransactionType.EXPENSE, LocalDate.now()));
+        em.persist(buildSplit(user1, tx));
+        em.flush();
+        em.clear();
+
+        Transaction result = transactionRepository.findByIdAndUserId(tx.getId(), user1.getId()).orElseThrow();
+
+        assertThat(result.getIsSplit()).isTrue();
+    }
+
+    @Test
+    void findPageByFilters_isSplitComputedPerRow() {
+        LocalDate day = LocalDate.of(2025, 3, 1);
+        Transaction split = em.persist(buildTx(user1, account, category, BigDecimal.valueOf(10), TransactionType.EXPENSE, day));
+        Transaction plain = em.persist(buildTx(user1, account, category, BigDecimal.valueOf(20), TransactionType.EXPENSE, day));
+        em.persist(buildSplit(user1, split));
+        em.flush();
+        em.clear();
+
+        List<Transaction> result = transactionRepository.findPageByFilters(user1.getId(), null, null, null,
+                day, day, day, Long.MAX_VALUE, Limit.of(10));
+
+        assertThat(result).extracting(Transaction::getId, Transaction::getIsSplit)
+                .containsExactly(
+                        tuple(plain.getId(), false),
+                        tuple(split.getId(), true));
+    }
+
+    // ── bulk operations ───────────────────────────────────────────────────────
+
+    @Test
+    void findBalanceEntriesByIdInAndUserId_skipsOtherUsersRows() {
+        Account acct2 = em.persist(buildAccount(user2, em.persist(buildAccountType(user2))));
+        Account toAccount = em.persist(buildAccount(user1, em.persist(buildAccountType(user1))));
+        Transaction transfer = buildTx(user1, account, category, BigDecimal.valueOf(25), TransactionType.TRANSFER, LocalDate.now());
+        transfer.setToAccount(toAccount);
+        em.persist(transfer);
+        Transaction foreign = em.persist(buildTx(user2, acct2, em.persist(buildCategory(user2)),
+                BigDecimal.TEN, TransactionType.EXPENSE, LocalDate.now()));
+        em.flush();
+
+        List<TransactionBalanceEntry> result = transactionRepository.findBalanceEntriesByIdInAndUserId(
+                List.of(transfer.getId(), foreign.getId()), user1.getId());
+
+        assertThat(result).hasSize(1);
+        TransactionBalanceEntry entry = result.get(0);
+        assertThat(entry.id()).isEqualTo(transfer.getId());
+        assertThat(entry.type()).isEqualTo(TransactionType.TRANSFER);
+        assertThat(entry.amount()).isEqualByComparingTo("25");
+        assertThat(entry.accountId()).isEqualTo(account.getId());
+        assertThat(entry.toAccountId()).isEqualTo(toAccount.getId());
+    }
+
+    @Test
+    void deleteByIdInAndUserId_deletesOnlyOwnedRows() {
+        Account acct2 = em.persist(buildAccount(user2, em.persist(buildAccountType(user2))));
+        Transaction own = em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, LocalDate.now()));
+        Transaction foreign = em.persist(buildTx(user2, acct2, em.persist(buildCategory(user2)),
+                BigDecimal.ONE, TransactionType.EXPENSE, LocalDate.now()));
+        em.flush();
+
+        int deleted = transactionRepository.deleteByIdInAndUserId(List.of(own.getId(), foreign.getId()), user1.getId());
+        em.clear();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(transactionRepository.findById(own.getId())).isEmpty();
+        assertThat(transactionRepository.findById(foreign.getId())).isPresent();
+    }
+
+    @Test
+    void updateCategoryByIdInAndUserId_movesRowsToCategory() {
+        Transaction tx1 = em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, LocalDate.now()));
+        Transaction tx2 = em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, LocalDate.now()));
+        TransactionCategory other = em.persist(buildCategory(user1));
+        em.flush();
+
+        int updated = transactionRepository.updateCategoryByIdInAndUserId(
+                List.of(tx1.getId(), tx2.getId()), user1.getId(), other, LocalDateTime.now());
+        em.clear();
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(transactionRepository.findByIdAndUserId(tx1.getId(), user1.getId()).orElseThrow().getCategory().getId())
+                .isEqualTo(other.getId());
+    }
+
     // ── findByUserIdAndTransactionDateBetween ─────────────────────────────────
 
     @Test
@@ -127,6 +225,25 @@ class TransactionRepositoryTest {
         assertThat(result.get(0).getAccount().getId()).isEqualTo(account.getId());
     }
 
+    // ── findDuplicateKeys ─────────────────────────────────────────────────────
+
+    @Test
+    void findDuplicateKeys_returnsAccountRowsInDateWindow() {
+        LocalDate day = LocalDate.of(2026, 2, 10);
+        Transaction inWindow = buildTx(user1, account, category, new BigDecimal("42.50"), TransactionType.EXPENSE, day);
+        inWindow.setDescription("Coffee");
+        em.persist(inWindow);
+        em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, day.plusDays(5)));
+        Account other = em.persist(buildAccount(user1, em.persist(buildAccountType(user1))));
+        em.persist(buildTx(user1, other, category, BigDecimal.TEN, TransactionType.EXPENSE, day));
+        em.flush();
+
+        List<TransactionDuplicateKey> keys = transactionRepository.findDuplicateKeys(
+                user1.getId(), account.getId(), day.minusDays(1), day.plusDays(1));
+
+        assertThat(keys).containsExactly(new TransactionDuplicateKey(day, new BigDecimal("42.5"), "coffee"));
+    }
+
     // ── existsByTransactionDateAndAmountAndDescriptionAndAccountIdAndUserId ───
 
     @Test
@@ -169,6 +286,81 @@ class TransactionRepositoryTest {
         assertThat(result.get(2).getAmount()).isEqualByComparingTo("100"); // oldest last
     }
 
+    // ── findPageByFilters (keyset pagination) ─────────────────────────────────
+
+    @Test
+    void findPageByFilters_walksAllRowsWithoutGapsOrDuplicates() {
+        LocalDate today = LocalDate.now();
+        // Several rows share a date so the id tie-breaker is exercised
+        for (int i = 0; i < 7; i++) {
+            em.persist(buildTx(user1, account, category, BigDecimal.valueOf(i + 1), TransactionType.EXPENSE, today.minusDays(i / 3)));
+        }
+        em.flush();
+
+        List<Long> seen = new ArrayList<>();
+        LocalDate cursorDate = today;
+        Long cursorId = Long.MAX_VALUE;
+        List<Transaction> page;
+        do {
+            page = transactionRepository.findPageByFilters(user1.getId(), null, null, null,
+                    today.minusDays(10), today, cursorDate, cursorId, Limit.of(3));
+            page.forEach(t -> seen.add(t.getId()));
+            if (!page.isEmpty()) {
+                Transaction last = page.get(page.size() - 1);
+                cursorDate = last.getTransactionDate();
+                cursorId = last.getId();
+            }
+        } while (page.size() == 3);
+
+        assertThat(seen).hasSize(7).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void findPageByFilters_ordersByDateThenIdDescending() {
+        LocalDate today = LocalDate.now();
+        Transaction older = em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, today.minusDays(1)));
+        Transaction first = em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, today));
+        Transaction second = em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, today));
+        em.flush();
+
+        List<Transaction> result = transactionRepository.findPageByFilters(user1.getId(), null, null, null,
+                today.minusDays(5), today, today, Long.MAX_VALUE, Limit.of(10));
+
+        assertThat(result).extracting(Transaction::getId)
+                .containsExactly(second.getId(), first.getId(), older.getId());
+    }
+
+    @Test
+    void findPageByFilters_appliesFilters() {
+        LocalDate today = LocalDate.now();
+        em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, today));
+        em.persist(buildTx(user1, account, category, BigDecimal.TEN, TransactionType.INCOME, today));
+        em.flush();
+
+        List<Transaction> result = transactionRepository.findPageByFilters(user1.getId(), account.getId(), null,
+                TransactionType.INCOME, today.minusDays(1), today, today, Long.MAX_VALUE, Limit.of(10));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getAmount()).isEqualByComparingTo("10");
+    }
+
+    @Test
+    void streamByFilters_returnsRowsNewestFirst() {
+        LocalDate today = LocalDate.now();
+        em.persist(buildTx(user1, account, category, BigDecimal.ONE, TransactionType.EXPENSE, today.minusDays(3)));
+        em.persist(buildTx(user1, account, category, BigDecimal.TEN, TransactionType.EXPENSE, today));
+        em.flush();
+        em.clear();
+
+        try (Stream<Transaction> rows = transactionRepository.streamByFilters(user1.getId(), null, null, null,
+                today.minusDays(5), today)) {
+            List<Transaction> result = rows.toList();
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getAmount()).isEqualByComparingTo("10");
+            assertThat(result.get(0).getAccount().getName()).isNotNull();
+        }
+    }
+
     // ── sumAmountByUserIdAndTypeAndDateBetween (named query) ──────────────────
 
     @Test
@@ -239,4 +431,17 @@ class TransactionRepositoryTest {
         t.setExcludeFromAnalysis(false);
         return t;
     }
+
+    private SplitTransaction buildSplit(User user, Transaction source) {
+        SplitTransaction st = new SplitTransaction();
+        st.setDescription("Dinner");
+        st.setUser(user);
+        st.setSourceTransaction(source);
+        st.setCategoryName("Food");
+        st.setTotalAmount(source.getAmount());
+        st.setSplitType(SplitType.EQUAL);
+        st.setTransactionDate(source.getTransactionDate());
+        st.setIsSettled(false);
+        return st;
+    }
 }
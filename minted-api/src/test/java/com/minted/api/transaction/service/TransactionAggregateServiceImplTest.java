@@ -0,0 +1,178 @@
+package com.minted.api.transaction.service;
+
+import com.minted.api.account.entity.Account;
+import com.minted.api.account.entity.AccountType;
+import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.transaction.entity.TransactionCategory;
+import com.minted.api.transaction.entity.TransactionMonthlyAggregate;
+import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.transaction.repository.TransactionMonthlyAggregateRepository;
+import com.minted.api.transaction.repository.TransactionRepository;
+import com.minted.api.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TransactionAggregateServiceImpl.class)
+class TransactionAggregateServiceImplTest {
+
+    @Autowired TestEntityManager em;
+    @Autowired TransactionAggregateService transactionAggregateService;
+    @Autowired TransactionMonthlyAggregateRepository aggregateRepository;
+    @Autowired TransactionRepository transactionRepository;
+
+    private User user;
+    private Account account;
+    private TransactionCategory food;
+    private TransactionCategory rent;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(buildUser());
+        AccountType type = em.persist(buildAccountType(user));
+        account = em.persist(buildAccount(user, type));
+        food = em.persist(buildCategory(user, "Food"));
+        rent = em.persist(buildCategory(user, "Rent"));
+        em.flush();
+    }
+
+    @Test
+    void apply_upsertsAndAccumulatesRows() {
+        Transaction lunch = buildTx(food, "20", LocalDate.of(2026, 3, 2));
+        Transaction dinner = buildTx(food, "30", LocalDate.of(2026, 3, 20));
+
+        transactionAggregateService.apply(new MonthlyAggregateDeltas().add(lunch));
+        transactionAggregateService.apply(new MonthlyAggregateDeltas().add(dinner));
+        em.clear();
+
+        List<TransactionMonthlyAggregate> rows = aggregateRepository.findAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getMonthKey()).isEqualTo(202603);
+        assertThat(rows.get(0).getTotalAmount()).isEqualByComparingTo("50");
+        assertThat(rows.get(0).getTxnCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void apply_reversalEmptiesRow_rowIsIgnoredByReads() {
+        Transaction lunch = buildTx(food, "20", LocalDate.of(2026, 3, 2));
+        transactionAggregateService.apply(new MonthlyAggregateDeltas().add(lunch));
+
+        transactionAggregateService.apply(new MonthlyAggregateDeltas().reverse(lunch));
+        em.clear();
+
+        assertThat(aggregateRepository.sumAmountGroupedByCategory(user.getId(), TransactionType.EXPENSE,
+                202601, 202612, List.of(-1L), null)).isEmpty();
+        assertThat(aggregateRepository.count(user.getId(), 202601, 202612, List.of(-1L), null)).isZero();
+    }
+
+    @Test
+    void rebuild_matchesTransactionsAndSkipsExcludedOnes() {
+        em.persist(buildTx(food, "20", LocalDate.of(2026, 2, 2)));
+        em.persist(buildTx(food, "30", LocalDate.of(2026, 2, 20)));
+        em.persist(buildTx(rent, "500", LocalDate.of(2026, 3, 1)));
+        Transaction excluded = buildTx(rent, "999", LocalDate.of(2026, 3, 5));
+        excluded.setExcludeFromAnalysis(true);
+        em.persist(excluded);
+        // stale row that the rebuild must replace
+        transactionAggregateService.apply(new MonthlyAggregateDeltas().add(buildTx(food, "1", LocalDate.of(2025, 1, 1))));
+        em.flush();
+
+        int written = transactionAggregateService.rebuild(user.getId());
+        em.clear();
+
+        assertThat(written).isEqualTo(2);
+        List<TransactionMonthlyAggregate> rows = aggregateRepository.findAll().stream()
+                .sorted(Comparator.comparing(TransactionMonthlyAggregate::getMonthKey))
+                .toList();
+        assertThat(rows).extracting(TransactionMonthlyAggregate::getMonthKey).containsExactly(202602, 202603);
+        assertThat(rows.get(0).getTotalAmount()).isEqualByComparingTo("50");
+        assertThat(rows.get(1).getTotalAmount()).isEqualByComparingTo("500");
+        assertThat(rows.get(1).getTxnCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void sumMonthlyAggregates_groupsTransactionsByMonthAndCategory() {
+        Transaction a = em.persist(buildTx(food, "20", LocalDate.of(2026, 2, 2)));
+        Transaction b = em.persist(buildTx(food, "30", LocalDate.of(2026, 2, 20)));
+        Transaction c = em.persist(buildTx(rent, "500", LocalDate.of(2026, 3, 1)));
+        em.flush();
+
+        var rows = transactionRepository.sumMonthlyAggregatesByIdInAndUserId(
+                List.of(a.getId(), b.getId(), c.getId()), user.getId());
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows).anySatisfy(r -> {
+            assertThat(r.categoryId()).isEqualTo(food.getId());
+            assertThat(r.monthKey()).isEqualTo(202602);
+            assertThat(r.amount()).isEqualByComparingTo("50");
+            assertThat(r.count()).isEqualTo(2L);
+        });
+    }
+
+    // helpers
+
+    private User buildUser() {
+        User u = new User();
+        u.setUsername("alice");
+        u.setPassword("hashed");
+        u.setIsActive(true);
+        u.setForcePasswordChange(false);
+        u.setRole("USER");
+        return u;
+    }
+
+    private AccountType buildAccountType(User user) {
+        AccountType at = new AccountType();
+        at.setName("Bank");
+        at.setUser(user);
+        at.setIsActive(true);
+        at.setIsDefault(false);
+        return at;
+    }
+
+    private Account buildAccount(User user, AccountType type) {
+        Account a = new Account();
+        a.setName("Savings");
+        a.setUser(user);
+        a.setAccountType(type);
+        a.setIsActive(true);
+        a.setBalance(BigDecimal.ZERO);
+        a.setCurrency("INR");
+        return a;
+    }
+
+    private TransactionCategory buildCategory(User user, String name) {
+        TransactionCategory c = new TransactionCategory();
+        c.setName(name);
+        c.setType(TransactionType.EXPENSE);
+        c.setIsActive(true);
+        c.setIsDefault(false);
+        c.setUser(user);
+        return c;
+    }
+
+    private Transaction buildTx(TransactionCategory category, String amount, LocalDate date) {
+        Transaction t = new Transaction();
+        t.setUser(user);
+        t.setAccount(account);
+        t.setCategory(category);
+        t.setAmount(new BigDecimal(amount));
+        t.setType(TransactionType.EXPENSE);
+        t.setTransactionDate(date);
+        t.setExcludeFromAnalysis(false);
+        return t;
+    }
+}
@@ -0,0 +1,167 @@
+package com.minted.api.transaction.service;
+
+import com.minted.api.account.entity.Account;
+import com.minted.api.account.entity.AccountType;
+import com.minted.api.account.service.AccountBalanceServiceImpl;
+import com.minted.api.transaction.dto.TransactionFilter;
+import com.minted.api.transaction.dto.TransactionPage;
+import com.minted.api.transaction.dto.TransactionResponse;
+import com.minted.api.transaction.entity.Transaction;
+import com.minted.api.transaction.entity.TransactionCategory;
+import com.minted.api.transaction.enums.TransactionType;
+import com.minted.api.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 selects in the listing read path: every row gets its own account,
+ * destination account and category, yet the number of statements must not grow with the row count.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TransactionServiceImpl.class, AccountBalanceServiceImpl.class, TransactionAggregateServiceImpl.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TransactionListingQueryCountTest {
+
+    // One statement: account, toAccount and category are joined and isSplit is an EXISTS subquery in the same select
+    private static final long EXPECTED_STATEMENTS = 1;
+
+    @Autowired TestEntityManager em;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired TransactionService transactionService;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(buildUser());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getPage_statementCountIsIndependentOfRowCount() {
+        persistTransfers(3);
+        long small = countStatements(() -> transactionService.getPage(user.getId(), TransactionFilter.all(), null, 100));
+
+        persistTransfers(30);
+        long large = countStatements(() -> {
+            TransactionPage page = transactionService.getPage(user.getId(), TransactionFilter.all(), null, 100);
+            assertThat(page.content()).hasSize(33);
+            assertThat(page.content()).allSatisfy(r -> {
+                assertThat(r.accountName()).isNotNull();
+                assertThat(r.toAccountName()).isNotNull();
+                assertThat(r.categoryName()).isNotNull();
+            });
+        });
+
+        assertThat(small).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(large).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    @Test
+    void streamAll_statementCountIsIndependentOfRowCount() {
+        persistTransfers(25);
+
+        List<TransactionResponse> emitted = new ArrayList<>();
+        long statements = countStatements(() -> transactionService.streamAll(user.getId(), TransactionFilter.all(), emitted::add));
+
+        assertThat(emitted).hasSize(25);
+        assertThat(statements).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    @Test
+    void getById_loadsAssociationsWithTheTransaction() {
+        persistTransfers(1);
+        Long id = em.getEntityManager()
+                .createQuery("SELECT t.id FROM Transaction t", Long.class)
+                .getSingleResult();
+
+        long statements = countStatements(() -> transactionService.getById(id, user.getId()));
+
+        assertThat(statements).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    private long countStatements(Runnable action) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistTransfers(int count) {
+        AccountType type = em.persist(buildAccountType());
+        for (int i = 0; i < count; i++) {
+            Account from = em.persist(buildAccount(type, "From-" + i));
+            Account to = em.persist(buildAccount(type, "To-" + i));
+            TransactionCategory category = em.persist(buildCategory("Category-" + i));
+            Transaction t = new Transaction();
+            t.setUser(user);
+            t.setAccount(from);
+            t.setToAccount(to);
+            t.setCategory(category);
+            t.setAmount(BigDecimal.TEN);
+            t.setType(TransactionType.TRANSFER);
+            t.setTransactionDate(LocalDate.now().minusDays(i));
+            t.setExcludeFromAnalysis(false);
+            em.persist(t);
+        }
+    }
+
+    private User buildUser() {
+        User u = new User();
+        u.setUsername("alice");
+        u.setPassword("hashed");
+        u.setIsActive(true);
+        u.setForcePasswordChange(false);
+        u.setRole("USER");
+        return u;
+    }
+
+    private AccountType buildAccountType() {
+        AccountType at = new AccountType();
+        at.setName("Bank-" + System.nanoTime());
+        at.setUser(user);
+        at.setIsActive(true);
+        at.setIsDefault(false);
+        return at;
+    }
+
+    private Account buildAccount(AccountType type, String name) {
+        Account a = new Account();
+        a.setName(name + "-" + System.nanoTime());
+        a.setUser(user);
+        a.setAccountType(type);
+        a.setIsActive(true);
+        a.setBalance(BigDecimal.ZERO);
+        a.setCurrency("INR");
+        return a;
+    }
+
+    private TransactionCategory buildCategory(String name) {
+        TransactionCategory c = new TransactionCategory();
+        c.setName(name + "-" + System.nanoTime());
+        c.setType(TransactionType.TRANSFER);
+        c.setIsActive(true);
+        c.setIsDefault(false);
+        c.setUser(user);
+        return c;
+    }
+}
@@ -3,10 +3,18 @@ package com.minted.api.transaction.service;
 import com.minted.api.account.entity.Account;
 import com.minted.api.account.entity.AccountType;
 import com.minted.api.account.repository.AccountRepository;
+import com.minted.api.account.service.AccountBalanceService;
+import com.minted.api.account.service.BalanceDeltas;
 import com.minted.api.common.exception.BadRequestException;
 import com.minted.api.common.exception.ResourceNotFoundException;
-import com.minted.api.split.repository.SplitTransactionRepository;
+import com.minted.api.transaction.dto.BulkOperationResult;
+import com.minted.api.transaction.dto.MonthlyAggregateRow;
+import com.minted.api.transaction.dto.TransactionBalanceEntry;
+import com.minted.api.transaction.dto.TransactionCursor;
+import com.minted.api.transaction.dto.TransactionFilter;
+import com.minted.api.transaction.dto.TransactionPage;
 import com.minted.api.transaction.dto.TransactionRequest;
+import com.minted.api.transaction.dto.TransactionResponse;
 import com.minted.api.transaction.entity.Transaction;
 import com.minted.api.transaction.entity.TransactionCategory;
 import com.minted.api.transaction.enums.TransactionType;
@@ -14,20 +22,26 @@ import com.minted.api.transaction.repository.TransactionCategoryRepository;
 import com.minted.api.transaction.repository.TransactionRepository;
 import com.minted.api.user.entity.User;
 import com.minted.api.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -38,11 +52,89 @@ class TransactionServiceImplTest {
     @Mock private AccountRepository accountRepository;
     @Mock private TransactionCategoryRepository categoryRepository;
     @Mock private UserRepository userRepository;
-    @Mock private SplitTransactionRepository splitTransactionRepository;
+    @Mock private AccountBalanceService accountBalanceService;
+    @Mock private TransactionAggregateService transactionAggregateService;
+    @Mock private EntityManager entityManager;
 
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
+    // ── getPage ───────────────────────────────────────────────────────────────
+
+    @Test
+    void getPage_moreRowsThanLimit_returnsCursorForLastRow() {
+        LocalDate day = LocalDate.of(2025, 1, 10);
+        Account account = buildAccount(1L, BigDecimal.ZERO);
+        List<Transaction> rows = List.of(
+                buildTransaction(30L, TransactionType.EXPENSE, BigDecimal.ONE, account, null),
+                buildTransaction(20L, TransactionType.EXPENSE, BigDecimal.ONE, account, null),
+                buildTransaction(10L, TransactionType.EXPENSE, BigDecimal.ONE, account, null));
+        rows.forEach(t -> t.setTransactionDate(day));
+        rows.get(1).setIsSplit(true);
+        TransactionFilter filter = TransactionFilter.all();
+        when(transactionRepository.findPageByFilters(eq(1L), isNull(), isNull(), isNull(),
+                eq(filter.startDate()), eq(filter.endDate()), eq(filter.endDate()), eq(Long.MAX_VALUE), eq(Limit.of(3))))
+                .thenReturn(rows);
+
+        TransactionPage page = transactionService.getPage(1L, filter, null, 2);
+
+        assertThat(page.content()).extracting(TransactionResponse::id).containsExactly(30L, 20L);
+        assertThat(page.content().get(1).isSplit()).isTrue();
+        assertThat(page.hasMore()).isTrue();
+        assertThat(TransactionCursor.decode(page.nextCursor())).isEqualTo(new TransactionCursor(day, 20L));
+    }
+
+    @Test
+    void getPage_lastPage_hasNoCursor() {
+        Account account = buildAccount(1L, BigDecimal.ZERO);
+        Transaction t = buildTransaction(5L, TransactionType.EXPENSE, BigDecimal.ONE, account, null);
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2025, 1, 10), 20L);
+        when(transactionRepository.findPageByFilters(eq(1L), any(), any(), any(), any(), any(),
+                eq(cursor.transactionDate()), eq(20L), any()))
+                .thenReturn(List.of(t));
+
+        TransactionPage page = transactionService.getPage(1L, TransactionFilter.all(), cursor.encode(), null);
+
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getPage_limitAboveCap_isClamped() {
+        when(transactionRepository.findPageByFilters(eq(1L), any(), any(), any(), any(), any(), any(), any(),
+                eq(Limit.of(TransactionService.MAX_PAGE_SIZE + 1))))
+                .thenReturn(List.of());
+
+        TransactionPage page = transactionService.getPage(1L, TransactionFilter.all(), null, 100_000);
+
+        assertThat(page.content()).isEmpty();
+    }
+
+    @Test
+    void getPage_malformedCursor_throwsBadRequest() {
+        assertThatThrownBy(() -> transactionService.getPage(1L, TransactionFilter.all(), "not-a-cursor", null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    // ── streamAll ─────────────────────────────────────────────────────────────
+
+    @Test
+    void streamAll_emitsEveryRowAndDetachesIt() {
+        Account account = buildAccount(1L, BigDecimal.ZERO);
+        Transaction t1 = buildTransaction(1L, TransactionType.EXPENSE, BigDecimal.ONE, account, null);
+        Transaction t2 = buildTransaction(2L, TransactionType.EXPENSE, BigDecimal.TEN, account, null);
+        when(transactionRepository.streamByFilters(eq(1L), any(), any(), any(), any(), any()))
+                .thenReturn(Stream.of(t1, t2));
+
+        List<TransactionResponse> emitted = new ArrayList<>();
+        transactionService.streamAll(1L, TransactionFilter.all(), emitted::add);
+
+        assertThat(emitted).extracting(TransactionResponse::id).containsExactly(1L, 2L);
+        verify(entityManager).detach(t1);
+        verify(entityManager).detach(t2);
+    }
+
     // ── create — validation ───────────────────────────────────────────────────
 
     @Test
@@ -94,11 +186,11 @@ class TransactionServiceImplTest {
 
         Transaction saved = buildTransaction(1L, TransactionType.INCOME, BigDecimal.valueOf(50), account, null);
         when(transactionRepository.save(any(Transaction.class))).thenReturn(saved);
-        when(accountRepository.save(account)).thenReturn(account);
 
         transactionService.create(buildRequest(TransactionType.INCOME, 1L, null), 1L);
 
-        assertThat(account.getBalance()).isEqualByComparingTo("150");
+        assertThat(appliedDeltas().asMap()).containsOnlyKeys(1L);
+        assertThat(appliedDeltas().get(1L)).isEqualByComparingTo("50");
     }
 
     @Test
@@ -113,12 +205,12 @@ class TransactionServiceImplTest {
 
         Transaction saved = buildTransaction(1L, TransactionType.EXPENSE, BigDecimal.valueOf(80), account, null);
         when(transactionRepository.save(any(Transaction.class))).thenReturn(saved);
-        when(accountRepository.save(account)).thenReturn(account);
 
         transactionService.create(buildRequest(TransactionType.EXPENSE, 1L, null), 1L);
 
-        // buildRequest uses amount=50, so 200 - 50 = 150
-        assertThat(account.getBalance()).isEqualByComparingTo("150");
+        // buildRequest uses amount=50
+        assertThat(appliedDeltas().get(1L)).isEqualByComparingTo("-50");
+        verify(accountRepository, never()).save(any(Account.class));
     }
 
     @Test
@@ -135,12 +227,11 @@ class TransactionServiceImplTest {
 
         Transaction saved = buildTransaction(1L, TransactionType.TRANSFER, BigDecimal.valueOf(200), from, to);
         when(transactionRepository.save(any(Transaction.class))).thenReturn(saved);
-        when(accountRepository.save(any(Account.class))).thenReturn(from);
 
         transactionService.create(buildTransferRequest(1L, 2L), 1L);
 
-        assertThat(from.getBalance()).isEqualByComparingTo("300");
-        assertThat(to.getBalance()).isEqualByComparingTo("300");
+        assertThat(appliedDeltas().get(1L)).isEqualByComparingTo("-200");
+        assertThat(appliedDeltas().get(2L)).isEqualByComparingTo("200");
     }
 
     // ── delete ────────────────────────────────────────────────────────────────
@@ -151,12 +242,11 @@ class TransactionServiceImplTest {
         Transaction tx = buildTransaction(10L, TransactionType.EXPENSE, BigDecimal.valueOf(50), account, null);
 
         when(transactionRepository.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(tx));
-        when(accountRepository.save(account)).thenReturn(account);
 
         transactionService.delete(10L, 1L);
 
-        // Expense reversal: add back 50 → 350
-        assertThat(account.getBalance()).isEqualByComparingTo("350");
+        // Expense reversal: add back 50
+        assertThat(appliedDeltas().get(1L)).isEqualByComparingTo("50");
         verify(transactionRepository).delete(tx);
     }
 
@@ -177,19 +267,49 @@ class TransactionServiceImplTest {
     }
 
     @Test
-    void bulkDelete_deletesAll() {
-        Account account = buildAccount(1L, BigDecimal.valueOf(100));
-        Transaction tx1 = buildTransaction(1L, TransactionType.INCOME, BigDecimal.valueOf(50), account, null);
-        Transaction tx2 = buildTransaction(2L, TransactionType.INCOME, BigDecimal.valueOf(30), account, null);
+    void bulkDelete_aggregatesBalanceDeltasPerAccount() {
+        when(transactionRepository.findBalanceEntriesByIdInAndUserId(List.of(1L, 2L, 3L), 1L)).thenReturn(List.of(
+                new TransactionBalanceEntry(1L, TransactionType.INCOME, BigDecimal.valueOf(50), 10L, null),
+                new TransactionBalanceEntry(2L, TransactionType.EXPENSE, BigDecimal.valueOf(30), 10L, null),
+                new TransactionBalanceEntry(3L, TransactionType.TRANSFER, BigDecimal.valueOf(20), 10L, 11L)));
+
+        BulkOperationResult result = transactionService.bulkDelete(List.of(1L, 2L, 3L), 1L);
+
+        // Account 10: -50 (income reversed) +30 (expense reversed) +20 (transfer out reversed) = 0 -> untouched
+        assertThat(appliedDeltas().get(10L)).isZero();
+        assertThat(appliedDeltas().get(11L)).isEqualByComparingTo("-20");
+        verify(transactionRepository).deleteByIdInAndUserId(List.of(1L, 2L, 3L), 1L);
+        verify(transactionRepository, never()).delete(any(Transaction.class));
+        assertThat(result.succeeded()).isEqualTo(3);
+        assertThat(result.failures()).isEmpty();
+    }
 
-        when(transactionRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(tx1));
-        when(transactionRepository.findByIdAndUserId(2L, 1L)).thenReturn(Optional.of(tx2));
-        when(accountRepository.save(account)).thenReturn(account);
+    @Test
+    void bulkDelete_unknownIds_reportedAsFailures() {
+        when(transactionRepository.findBalanceEntriesByIdInAndUserId(List.of(1L, 99L), 1L)).thenReturn(List.of(
+                new TransactionBalanceEntry(1L, TransactionType.EXPENSE, BigDecimal.valueOf(40), 10L, null)));
 
-        transactionService.bulkDelete(List.of(1L, 2L), 1L);
+        BulkOperationResult result = transactionService.bulkDelete(List.of(1L, 99L, 1L), 1L);
 
-        verify(transactionRepository).delete(tx1);
-        verify(transactionRepository).delete(tx2);
+        assertThat(appliedDeltas().get(10L)).isEqualByComparingTo("40");
+        verify(transactionRepository).deleteByIdInAndUserId(List.of(1L), 1L);
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.failures()).extracting(BulkOperationResult.Failure::id).containsExactly(99L);
+    }
+
+    @Test
+    void bulkDelete_largeSelection_isChunked() {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= 1200; i++) {
+            ids.add(i);
+        }
+        when(transactionRepository.findBalanceEntriesByIdInAndUserId(anyCollection(), eq(1L))).thenReturn(List.of());
+
+        BulkOperationResult result = transactionService.bulkDelete(ids, 1L);
+
+        verify(transactionRepository, times(3)).findBalanceEntriesByIdInAndUserId(anyCollection(), eq(1L));
+        verify(transactionRepository, never()).deleteByIdInAndUserId(anyCollection(), anyLong());
+        assertThat(result.failures()).hasSize(1200);
     }
 
     // ── bulkUpdateCategory ────────────────────────────────────────────────────
@@ -201,18 +321,43 @@ class TransactionServiceImplTest {
     }
 
     @Test
-    void bulkUpdateCategory_updatesAllTransactions() {
+    void bulkUpdateCategory_updatesOwnedIdsInOneStatement() {
         TransactionCategory newCategory = buildCategory(5L, TransactionType.EXPENSE);
-        Account account = buildAccount(1L, BigDecimal.ZERO);
-        Transaction tx = buildTransaction(1L, TransactionType.EXPENSE, BigDecimal.TEN, account, null);
+        when(categoryRepository.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(newCategory));
+        when(transactionRepository.findIdsByIdInAndUserId(List.of(1L, 2L, 7L), 1L)).thenReturn(List.of(1L, 2L));
+
+        BulkOperationResult result = transactionService.bulkUpdateCategory(List.of(1L, 2L, 7L), 5L, 1L);
+
+        verify(transactionRepository).updateCategoryByIdInAndUserId(eq(List.of(1L, 2L)), eq(1L), eq(newCategory), any());
+        verify(transactionRepository, never()).save(any());
+        assertThat(aggregatedDeltas().asMap()).isEmpty();
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failures()).extracting(BulkOperationResult.Failure::id).containsExactly(7L);
+    }
 
+    @Test
+    void bulkUpdateCategory_movesMonthlyAggregatesToNewCategory() {
+        TransactionCategory newCategory = buildCategory(5L, TransactionType.EXPENSE);
         when(categoryRepository.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(newCategory));
-        when(transactionRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(tx));
-        when(transactionRepository.save(tx)).thenReturn(tx);
+        when(transactionRepository.findIdsByIdInAndUserId(List.of(1L, 2L), 1L)).thenReturn(List.of(1L, 2L));
+        when(transactionRepository.sumMonthlyAggregatesByIdInAndUserId(List.of(1L, 2L), 1L)).thenReturn(List.of(
+                new MonthlyAggregateRow(1L, 3L, TransactionType.EXPENSE, 202603, BigDecimal.valueOf(70), 2L)));
+
+        transactionService.bulkUpdateCategory(List.of(1L, 2L), 5L, 1L);
+
+        assertThat(aggregatedDeltas().asMap()).containsOnly(
+                entry(new MonthlyAggregateDeltas.Key(1L, 202603, 1L, 3L, TransactionType.EXPENSE),
+                        new MonthlyAggregateDeltas.Delta(BigDecimal.valueOf(-70), -2)),
+                entry(new MonthlyAggregateDeltas.Key(1L, 202603, 1L, 5L, TransactionType.EXPENSE),
+                        new MonthlyAggregateDeltas.Delta(BigDecimal.valueOf(70), 2)));
+    }
 
-        transactionService.bulkUpdateCategory(List.of(1L), 5L, 1L);
+    @Test
+    void bulkUpdateCategory_unknownCategory_throwsNotFound() {
+        when(categoryRepository.findByIdAndUserId(5L, 1L)).thenReturn(Optional.empty());
 
-        assertThat(tx.getCategory()).isEqualTo(newCategory);
+        assertThatThrownBy(() -> transactionService.bulkUpdateCategory(List.of(1L), 5L, 1L))
+                .isInstanceOf(ResourceNotFoundException.class);
     }
 
     // ── update ────────────────────────────────────────────────────────────────
@@ -233,17 +378,34 @@ class TransactionServiceImplTest {
         when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(account));
         when(categoryRepository.findByIdAndUserId(2L, 1L)).thenReturn(Optional.of(newCategory));
         when(transactionRepository.save(tx)).thenReturn(tx);
-        when(accountRepository.save(account)).thenReturn(account);
-        when(splitTransactionRepository.findSourceTransactionIdsByUserId(1L)).thenReturn(Collections.emptyList());
 
         transactionService.update(10L, request, 1L);
 
-        // Old expense reversed: 200 + 50 = 250; new expense applied: 250 - 80 = 170
-        assertThat(account.getBalance()).isEqualByComparingTo("170");
+        // Old expense reversed (+50) and new expense applied (-80) in one delta
+        assertThat(appliedDeltas().get(1L)).isEqualByComparingTo("-30");
+        // Monthly totals move from the old category to the new one
+        int month = MonthlyAggregateDeltas.monthKey(LocalDate.now());
+        assertThat(aggregatedDeltas().asMap()).containsOnly(
+                entry(new MonthlyAggregateDeltas.Key(1L, month, 1L, 1L, TransactionType.EXPENSE),
+                        new MonthlyAggregateDeltas.Delta(BigDecimal.valueOf(-50), -1)),
+                entry(new MonthlyAggregateDeltas.Key(1L, month, 1L, 2L, TransactionType.EXPENSE),
+                        new MonthlyAggregateDeltas.Delta(BigDecimal.valueOf(80), 1)));
     }
 
     // ── helpers ──────────────────────────────────────────────────────────────
 
+    private BalanceDeltas appliedDeltas() {
+        ArgumentCaptor<BalanceDeltas> captor = ArgumentCaptor.forClass(BalanceDeltas.class);
+        verify(accountBalanceService).apply(captor.capture());
+        return captor.getValue();
+    }
+
+    private MonthlyAggregateDeltas aggregatedDeltas() {
+        ArgumentCaptor<MonthlyAggregateDeltas> captor = ArgumentCaptor.forClass(MonthlyAggregateDeltas.class);
+        verify(transactionAggregateService).apply(captor.capture());
+        return captor.getValue();
+    }
+
     private void stubUserAndAccountAndCategory(TransactionType categoryType) {
         when(userRepository.findById(1L)).thenReturn(Optional.of(buildUser(1L)));
         when(accountRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(buildAccount(1L, BigDecimal.ZERO)));
@@ -298,6 +460,7 @@ class TransactionServiceImplTest {
         t.setAccount(account);
         t.setToAccount(toAccount);
         t.setTransactionDate(LocalDate.now());
+        t.setUser(buildUser(1L));
         t.setIsRecurring(false);
         t.setExcludeFromAnalysis(false);
         // TransactionResponse.from() reads category fields — provide a minimal one
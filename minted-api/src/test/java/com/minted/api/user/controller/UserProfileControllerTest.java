@@ -2,6 +2,7 @@ package com.minted.api.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.minted.api.auth.service.CustomUserDetailsService;
+import com.minted.api.auth.service.UserPrincipalCache;
 import com.minted.api.common.filter.JwtAuthFilter;
 import com.minted.api.common.filter.MdcFilter;
 import com.minted.api.common.util.JwtUtil;
@@ -39,6 +40,7 @@ class UserProfileControllerTest {
     @MockBean JwtAuthFilter jwtAuthFilter;
     @MockBean MdcFilter mdcFilter;
     @MockBean CustomUserDetailsService customUserDetailsService;
+    @MockBean UserPrincipalCache userPrincipalCache;
     @MockBean JwtUtil jwtUtil;
 
     private UserResponse sampleUser;
@@ -1,5 +1,6 @@
 package com.minted.api.user.repository;
 
+import com.minted.api.auth.dto.UserPrincipal;
 import com.minted.api.user.entity.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +45,23 @@ class UserRepositoryTest {
         assertThat(userRepository.existsByUsername("nobody")).isFalse();
     }
 
+    @Test
+    void findPrincipalByUsername_returnsProjection() {
+        User u = buildUser("dave");
+        u.setCurrency("EUR");
+        em.persist(u);
+        em.flush();
+
+        Optional<UserPrincipal> result = userRepository.findPrincipalByUsername("dave");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().id()).isEqualTo(u.getId());
+        assertThat(result.get().role()).isEqualTo("USER");
+        assertThat(result.get().active()).isTrue();
+        assertThat(result.get().currency()).isEqualTo("EUR");
+        assertThat(userRepository.findPrincipalByUsername("ghost")).isEmpty();
+    }
+
     @Test
     void save_persistsAllFields() {
         User u = buildUser("carol");
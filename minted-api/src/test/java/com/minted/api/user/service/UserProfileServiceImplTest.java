@@ -1,5 +1,7 @@
 package com.minted.api.user.service;
 
+import com.minted.api.auth.service.UserPrincipalCache;
+import com.minted.api.avatar.service.AvatarService;
 import com.minted.api.common.exception.ResourceNotFoundException;
 import com.minted.api.user.dto.UserProfileUpdateRequest;
 import com.minted.api.user.dto.UserResponse;
@@ -11,18 +13,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UserProfileServiceImplTest {
 
     @Mock UserRepository userRepository;
+    @Mock UserPrincipalCache userPrincipalCache;
+    @Mock AvatarService avatarService;
     @InjectMocks UserProfileServiceImpl userProfileService;
 
     @Test
@@ -54,6 +58,7 @@ class UserProfileServiceImplTest {
         assertThat(user.getDisplayName()).isEqualTo("Alice Updated");
         assertThat(user.getEmail()).isEqualTo("new@email.com");
         assertThat(user.getCurrency()).isEqualTo("USD");
+        verify(userPrincipalCache).evict("alice");
     }
 
     @Test
@@ -71,55 +76,62 @@ class UserProfileServiceImplTest {
     }
 
     @Test
-    void uploadAvatar_validImage_saves() throws Exception {
+    void uploadAvatar_validImage_storesAndReturnsVersionedUrl() {
         User user = buildUser("alice");
         when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
         when(userRepository.save(user)).thenReturn(user);
-
         MockMultipartFile file = new MockMultipartFile("avatar", "test.png", "image/png", new byte[100]);
-        userProfileService.uploadAvatar("alice", file);
+        when(avatarService.store(file)).thenReturn("avatar-1");
+
+        UserResponse response = userProfileService.uploadAvatar("alice", file);
 
-        assertThat(user.getAvatarData()).isNotNull();
-        assertThat(user.getAvatarContentType()).isEqualTo("image/png");
+        assertThat(user.getAvatarId()).isEqualTo("avatar-1");
+        assertThat(user.getAvatarUpdatedAt()).isNotNull();
+        assertThat(response.avatarUrl()).startsWith("/api/v1/avatars/avatar-1?v=");
     }
 
     @Test
-    void uploadAvatar_tooLarge_throwsIllegalArgument() {
+    void uploadAvatar_replacesPreviousAvatar() {
         User user = buildUser("alice");
+        user.setAvatarId("old-avatar");
         when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+        MockMultipartFile file = new MockMultipartFile("avatar", "test.png", "image/png", new byte[100]);
+        when(avatarService.store(file)).thenReturn("new-avatar");
 
-        byte[] bigData = new byte[3 * 1024 * 1024]; // 3MB
-        MockMultipartFile file = new MockMultipartFile("avatar", "big.png", "image/png", bigData);
+        userProfileService.uploadAvatar("alice", file);
 
-        assertThatThrownBy(() -> userProfileService.uploadAvatar("alice", file))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessageContaining("2MB");
+        assertThat(user.getAvatarId()).isEqualTo("new-avatar");
+        verify(avatarService).delete("old-avatar");
     }
 
     @Test
-    void uploadAvatar_nonImage_throwsIllegalArgument() {
+    void uploadAvatar_invalidFile_propagatesAndKeepsAvatar() {
         User user = buildUser("alice");
+        user.setAvatarId("old-avatar");
         when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
-
         MockMultipartFile file = new MockMultipartFile("file", "doc.pdf", "application/pdf", new byte[100]);
+        when(avatarService.store(file)).thenThrow(new IllegalArgumentException("Only image files are allowed"));
 
         assertThatThrownBy(() -> userProfileService.uploadAvatar("alice", file))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("image");
+        assertThat(user.getAvatarId()).isEqualTo("old-avatar");
+        verify(avatarService, never()).delete(any());
     }
 
     @Test
     void deleteAvatar_clearsAvatarFields() {
         User user = buildUser("alice");
-        user.setAvatarData(new byte[]{1, 2, 3});
-        user.setAvatarContentType("image/png");
+        user.setAvatarId("avatar-1");
         when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
         when(userRepository.save(user)).thenReturn(user);
 
-        userProfileService.deleteAvatar("alice");
+        UserResponse response = userProfileService.deleteAvatar("alice");
 
-        assertThat(user.getAvatarData()).isNull();
-        assertThat(user.getAvatarContentType()).isNull();
+        assertThat(user.getAvatarId()).isNull();
+        assertThat(response.avatarUrl()).isNull();
+        verify(avatarService).delete("avatar-1");
     }
 
     private User buildUser(String username) {
@@ -8,6 +8,8 @@ export interface JobExecution {
   errorMessage?: string;
   totalSteps: number;
   completedSteps: number;
+  lockOwner?: string;
+  fencingToken?: number;
   steps?: JobStepExecution[];
 }
 
@@ -69,3 +69,19 @@ export interface TotalBalance {
   incomeChangePercent: number;
   expenseChangePercent: number;
 }
+
+export interface DashboardCardData {
+  cardId: number;
+  title: string;
+  data: ChartDataResponse;
+}
+
+export interface DashboardData {
+  summary: AnalyticsSummary;
+  categoryWise: CategoryWise[];
+  trend: TrendData[];
+  spendingActivity: SpendingActivity[];
+  totalBalance: TotalBalance;
+  budgetSummary: BudgetSummary[];
+  cards: DashboardCardData[];
+}
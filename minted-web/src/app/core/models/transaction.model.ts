@@ -37,6 +37,17 @@ export interface TransactionResponse {
   updatedAt: string;
 }
 
+export interface TransactionPage {
+  content: TransactionResponse[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
+export interface BulkOperationResult {
+  succeeded: number;
+  failures: { id: number; reason: string }[];
+}
+
 export interface TransactionFilters {
   accountId?: number;
   categoryId?: number;
@@ -6,6 +6,7 @@ export interface User {
   forcePasswordChange: boolean;
   currency: string;
   role?: string;
+  avatarUrl?: string | null;
 }
 
 export interface LoginRequest {
@@ -60,6 +61,7 @@ export interface CreateUserRequest {
   displayName?: string;
   email?: string;
   role?: string;
+  avatarUrl?: string | null;
 }
 
 export interface ResetPasswordRequest {
@@ -3,7 +3,7 @@ import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { map } from 'rxjs/operators';
 import { environment } from '../../../environments/environment';
-import { AnalyticsSummary, BudgetSummary, CategoryWise, TrendData, SpendingActivity, TotalBalance } from '../models/dashboard.model';
+import { AnalyticsSummary, BudgetSummary, CategoryWise, TrendData, SpendingActivity, TotalBalance, DashboardData } from '../models/dashboard.model';
 
 @Injectable({
     providedIn: 'root'
@@ -60,4 +60,15 @@ export class AnalyticsService {
         return this.http.get<{ success: boolean; data: BudgetSummary[] }>(`${this.apiUrl}/budget-summary`)
             .pipe(map(response => response.data));
     }
+
+    getDashboard(startDate: string, endDate: string, accountId?: number | null, trendMonths: number = 6): Observable<DashboardData> {
+        let params = new HttpParams()
+            .set('startDate', startDate)
+            .set('endDate', endDate)
+            .set('trendMonths', trendMonths.toString());
+        if (accountId) params = params.set('accountId', accountId.toString());
+
+        return this.http.get<{ success: boolean; data: DashboardData }>(`${this.apiUrl}/dashboard`, { params })
+            .pipe(map(response => response.data));
+    }
 }
@@ -4,6 +4,10 @@ import { Observable } from 'rxjs';
 import { map } from 'rxjs/operators';
 import { environment } from '../../../environments/environment';
 import { FriendRequest, FriendResponse } from '../models/friend.model';
+import { resolveApiUrl } from '../utils/api-url';
+
+const withResolvedAvatar = (friend: FriendResponse): FriendResponse =>
+  ({ ...friend, avatarUrl: resolveApiUrl(friend.avatarUrl) });
 
 @Injectable({
   providedIn: 'root'
@@ -16,22 +20,22 @@ export class FriendService {
   getAll(includeAvatar: boolean = true): Observable<FriendResponse[]> {
     return this.http.get<{ success: boolean; data: FriendResponse[] }>(
       `${this.apiUrl}?includeAvatar=${includeAvatar}`
-    ).pipe(map(response => response.data));
+    ).pipe(map(response => response.data.map(withResolvedAvatar)));
   }
 
   getById(id: number): Observable<FriendResponse> {
     return this.http.get<{ success: boolean; data: FriendResponse }>(`${this.apiUrl}/${id}`)
-      .pipe(map(response => response.data));
+      .pipe(map(response => withResolvedAvatar(response.data)));
   }
 
   create(request: FriendRequest): Observable<FriendResponse> {
     return this.http.post<{ success: boolean; data: FriendResponse }>(this.apiUrl, request)
-      .pipe(map(response => response.data));
+      .pipe(map(response => withResolvedAvatar(response.data)));
   }
 
   update(id: number, request: FriendRequest): Observable<FriendResponse> {
     return this.http.put<{ success: boolean; data: FriendResponse }>(`${this.apiUrl}/${id}`, request)
-      .pipe(map(response => response.data));
+      .pipe(map(response => withResolvedAvatar(response.data)));
   }
 
   delete(id: number): Observable<void> {
@@ -42,11 +46,11 @@ export class FriendService {
     const formData = new FormData();
     formData.append('file', file);
     return this.http.post<{ success: boolean; data: FriendResponse }>(`${this.apiUrl}/${id}/avatar`, formData)
-      .pipe(map(response => response.data));
+      .pipe(map(response => withResolvedAvatar(response.data)));
   }
 
   deleteAvatar(id: number): Observable<FriendResponse> {
     return this.http.delete<{ success: boolean; data: FriendResponse }>(`${this.apiUrl}/${id}/avatar`)
-      .pipe(map(response => response.data));
+      .pipe(map(response => withResolvedAvatar(response.data)));
   }
 }
@@ -27,8 +27,11 @@ export class StatementService {
     ).pipe(map(r => r.data));
   }
 
-  triggerParse(statementId: number, editedText?: string): Observable<CreditCardStatement> {
-    const body = editedText ? { extractedText: editedText } : {};
+  triggerParse(statementId: number, editedText?: string, forceReparse = false): Observable<CreditCardStatement> {
+    const body: { extractedText?: string; forceReparse?: boolean } = editedText ? { extractedText: editedText } : {};
+    if (forceReparse) {
+      body.forceReparse = true;
+    }
     return this.http.post<{ success: boolean; data: CreditCardStatement }>(
       `${this.apiUrl}/${statementId}/parse`, body
     ).pipe(map(r => r.data));
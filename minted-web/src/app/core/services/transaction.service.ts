@@ -1,30 +1,46 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
-import { Observable } from 'rxjs';
-import { map } from 'rxjs/operators';
+import { EMPTY, Observable } from 'rxjs';
+import { expand, map, reduce } from 'rxjs/operators';
 import { environment } from '../../../environments/environment';
-import { TransactionRequest, TransactionResponse, TransactionFilters } from '../models/transaction.model';
+import { TransactionRequest, TransactionResponse, TransactionFilters, TransactionPage, BulkOperationResult } from '../models/transaction.model';
 
 @Injectable({
   providedIn: 'root'
 })
 export class TransactionService {
   private apiUrl = `${environment.apiUrl}/transactions`;
+  private readonly pageSize = 500;
 
   constructor(private http: HttpClient) {}
 
   getAll(): Observable<TransactionResponse[]> {
-    return this.http.get<{ success: boolean; data: TransactionResponse[] }>(this.apiUrl)
+    return this.getAllPages(this.apiUrl, new HttpParams());
+  }
+
+  private getPage(url: string, params: HttpParams, cursor?: string | null): Observable<TransactionPage> {
+    let pageParams = params.set('limit', this.pageSize.toString());
+    if (cursor) {
+      pageParams = pageParams.set('cursor', cursor);
+    }
+    return this.http.get<{ success: boolean; data: TransactionPage }>(url, { params: pageParams })
       .pipe(map(response => response.data));
   }
 
+  // Follows the continuation cursor until the last page and concatenates the results
+  private getAllPages(url: string, params: HttpParams): Observable<TransactionResponse[]> {
+    return this.getPage(url, params).pipe(
+      expand(page => page.hasMore ? this.getPage(url, params, page.nextCursor) : EMPTY),
+      reduce((all, page) => all.concat(page.content), [] as TransactionResponse[])
+    );
+  }
+
   getByDateRange(startDate: string, endDate: string): Observable<TransactionResponse[]> {
     const params = new HttpParams()
       .set('startDate', startDate)
       .set('endDate', endDate);
 
-    return this.http.get<{ success: boolean; data: TransactionResponse[] }>(`${this.apiUrl}/date-range`, { params })
-      .pipe(map(response => response.data));
+    return this.getAllPages(`${this.apiUrl}/date-range`, params);
   }
 
   getByFilters(filters: TransactionFilters): Observable<TransactionResponse[]> {
@@ -42,8 +58,7 @@ export class TransactionService {
       params = params.set('type', filters.type);
     }
 
-    return this.http.get<{ success: boolean; data: TransactionResponse[] }>(`${this.apiUrl}/filter`, { params })
-      .pipe(map(response => response.data));
+    return this.getAllPages(`${this.apiUrl}/filter`, params);
   }
 
   getById(id: number): Observable<TransactionResponse> {
@@ -65,12 +80,14 @@ export class TransactionService {
     return this.http.delete<void>(`${this.apiUrl}/${id}`);
   }
 
-  bulkDelete(ids: number[]): Observable<any> {
-    return this.http.delete<any>(`${this.apiUrl}/bulk`, { body: { ids } });
+  bulkDelete(ids: number[]): Observable<BulkOperationResult> {
+    return this.http.delete<{ success: boolean; data: BulkOperationResult }>(`${this.apiUrl}/bulk`, { body: { ids } })
+      .pipe(map(response => response.data));
   }
 
-  bulkUpdateCategory(ids: number[], categoryId: number): Observable<any> {
-    return this.http.put<any>(`${this.apiUrl}/bulk/category`, { ids, categoryId });
+  bulkUpdateCategory(ids: number[], categoryId: number): Observable<BulkOperationResult> {
+    return this.http.put<{ success: boolean; data: BulkOperationResult }>(`${this.apiUrl}/bulk/category`, { ids, categoryId })
+      .pipe(map(response => response.data));
   }
 
   // Utility method to export transactions (basic CSV export)
@@ -0,0 +1,12 @@
+import { environment } from '../../../environments/environment';
+
+const API_ORIGIN = environment.apiUrl.replace(/\/api\/v1\/?$/, '');
+
+/**
+ * Resolves a server-relative URL returned by the API (e.g. an avatar URL) against the API origin,
+ * so it also works when the API is served from a different host than the app (local development).
+ */
+export function resolveApiUrl(path: string | null | undefined): string | null {
+  if (!path) return null;
+  return path.startsWith('/') ? `${API_ORIGIN}${path}` : path;
+}
@@ -115,6 +115,6 @@ export class Sidebar {
   }
 
   get userAvatar(): string | null {
-    return localStorage.getItem('avatarBase64');
+    return localStorage.getItem('avatarUrl');
   }
 }
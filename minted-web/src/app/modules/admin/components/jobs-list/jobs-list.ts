@@ -58,6 +58,7 @@ export class JobsList implements OnInit {
         if (status === 'COMPLETED') { bgClass = 'var(--minted-success-subtle)'; textClass = 'var(--minted-success)'; }
         if (status === 'FAILED') { bgClass = 'var(--minted-danger-subtle)'; textClass = 'var(--minted-danger)'; }
         if (status === 'RUNNING') { bgClass = 'var(--minted-info-subtle)'; textClass = 'var(--minted-info)'; }
+        if (status === 'SKIPPED') { bgClass = 'var(--minted-accent-subtle)'; textClass = 'var(--minted-accent)'; }
         return `<span class="px-2.5 py-1 rounded-full text-xs font-semibold" style="background-color: ${bgClass}; color: ${textClass};">${status}</span>`;
       }
     },
@@ -152,64 +152,38 @@ export class Home implements OnInit, OnDestroy {
 
     const { startDate, endDate } = this.selectedPeriod;
 
-    // Load summary
+    // One request for every widget
     this.loadingSummary = true;
-    this.analyticsService.getSummary(startDate, endDate, this.selectedAccountId)
-      .pipe(takeUntil(this.destroy$))
-      .subscribe({
-        next: (data) => {
-          this.summary = data;
-          this.loadingSummary = false;
-          this.cdr.detectChanges();
-        },
-        error: () => {
-          this.summary = { totalIncome: 0, totalExpense: 0, netBalance: 0, transactionCount: 0 };
-          this.loadingSummary = false;
-          this.cdr.detectChanges();
-        }
-      });
-
-    // Load category-wise
     this.loadingCategories = true;
-    this.analyticsService.getCategoryWise(startDate, endDate, 'EXPENSE', this.selectedAccountId)
-      .pipe(takeUntil(this.destroy$))
-      .subscribe({
-        next: (data) => {
-          this.categoryData = data;
-          this.loadingCategories = false;
-          this.buildDoughnutChart();
-          this.buildBarChart();
-          this.cdr.detectChanges();
-        },
-        error: () => {
-          this.categoryData = [];
-          this.loadingCategories = false;
-          this.buildDoughnutChart();
-          this.buildBarChart();
-          this.cdr.detectChanges();
-        }
-      });
-
-    // Load trend
     this.loadingTrend = true;
-    this.analyticsService.getTrend(6, this.selectedAccountId)
+    this.analyticsService.getDashboard(startDate, endDate, this.selectedAccountId, 6)
       .pipe(takeUntil(this.destroy$))
       .subscribe({
         next: (data) => {
-          this.trendData = data;
-          this.loadingTrend = false;
-          this.buildLineChart();
-          this.cdr.detectChanges();
+          this.summary = data.summary;
+          this.categoryData = data.categoryWise;
+          this.trendData = data.trend;
+          this.onDashboardLoaded();
         },
         error: () => {
+          this.summary = { totalIncome: 0, totalExpense: 0, netBalance: 0, transactionCount: 0 };
+          this.categoryData = [];
           this.trendData = [];
-          this.loadingTrend = false;
-          this.buildLineChart();
-          this.cdr.detectChanges();
+          this.onDashboardLoaded();
         }
       });
   }
 
+  private onDashboardLoaded(): void {
+    this.loadingSummary = false;
+    this.loadingCategories = false;
+    this.loadingTrend = false;
+    this.buildDoughnutChart();
+    this.buildBarChart();
+    this.buildLineChart();
+    this.cdr.detectChanges();
+  }
+
   private buildBarChart(): void {
     const topCategories = this.categoryData.slice(0, 8);
     this.barChartData = {
@@ -7,6 +7,7 @@ import { AuthService } from '../../../../core/services/auth.service';
 import { ThemeService, AccentPreset } from '../../../../core/services/theme.service';
 import { CurrencyService, CurrencyOption } from '../../../../core/services/currency.service';
 import { ProfileService } from '../../../../core/services/profile.service';
+import { resolveApiUrl } from '../../../../core/utils/api-url';
 
 @Component({
   selector: 'app-profile',
@@ -89,13 +90,13 @@ export class Profile implements OnInit {
     const username = user?.username || 'User';
     const email = user?.email || '';
     const displayName = user?.displayName || username;
-    const avatarBase64 = localStorage.getItem('avatarBase64') || null;
+    const avatarUrl = localStorage.getItem('avatarUrl') || null;
 
     this.currentUser = {
       username,
       email,
       displayName,
-      avatarBase64
+      avatarUrl
     };
 
     this.profileForm?.patchValue({
@@ -149,9 +150,9 @@ export class Profile implements OnInit {
     this.profileService.uploadAvatar(file).subscribe({
       next: (response) => {
         if (response.success && response.data) {
-          const avatarBase64 = (response.data as any).avatarBase64 || null;
-          if (this.currentUser) { this.currentUser.avatarBase64 = avatarBase64; }
-          if (avatarBase64) { localStorage.setItem('avatarBase64', avatarBase64); }
+          const avatarUrl = resolveApiUrl(response.data.avatarUrl);
+          if (this.currentUser) { this.currentUser.avatarUrl = avatarUrl; }
+          if (avatarUrl) { localStorage.setItem('avatarUrl', avatarUrl); }
         }
         this.messageService.add({ severity: 'success', summary: 'Avatar Updated', detail: 'Profile picture saved.' });
       },
@@ -164,8 +165,8 @@ export class Profile implements OnInit {
   onAvatarRemoved(): void {
     this.profileService.deleteAvatar().subscribe({
       next: () => {
-        if (this.currentUser) { this.currentUser.avatarBase64 = null; }
-        localStorage.removeItem('avatarBase64');
+        if (this.currentUser) { this.currentUser.avatarUrl = null; }
+        localStorage.removeItem('avatarUrl');
         this.messageService.add({ severity: 'info', summary: 'Avatar Removed', detail: 'Profile picture removed.' });
       },
       error: () => {
@@ -246,18 +246,11 @@ export class SplitsPage implements OnInit {
 
   async loadFriends(): Promise<void> {
     this.avatarLoaded.clear();
-    // First: fetch friends without avatars (fast, lightweight payload)
-    this.friendService.getAll(false).subscribe({
+    // Avatars are returned as cacheable URLs, so a single request is enough
+    this.friendService.getAll(true).subscribe({
       next: (data) => {
         this.friends = data;
         this.cdr.detectChanges();
-        // Then: fetch friends with avatar data
-        this.friendService.getAll(true).subscribe({
-          next: (withAvatars) => {
-            this.friends = withAvatars;
-            this.cdr.detectChanges();
-          }
-        });
       },
       error: () => {
         this.messageService.add({ severity: 'error', summary: 'Error', detail: 'Failed to load friends' });
@@ -618,7 +611,7 @@ export class SplitsPage implements OnInit {
       next: (updated) => {
         // Update in-place so the ring preview refreshes
         if (this.selectedFriend) {
-          this.selectedFriend.avatarBase64 = updated.avatarBase64;
+          this.selectedFriend.avatarUrl = updated.avatarUrl;
         }
         // Also refresh the friends list
         this.loadFriends();
@@ -635,7 +628,7 @@ export class SplitsPage implements OnInit {
     this.friendService.deleteAvatar(this.selectedFriend.id).subscribe({
       next: (updated) => {
         if (this.selectedFriend) {
-          this.selectedFriend.avatarBase64 = null;
+          this.selectedFriend.avatarUrl = null;
         }
         this.loadFriends();
         this.messageService.add({ severity: 'info', summary: 'Avatar Removed', detail: 'Friend avatar removed.' });
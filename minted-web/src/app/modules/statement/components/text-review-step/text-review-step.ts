@@ -17,6 +17,7 @@ export class TextReviewStep implements OnChanges {
   parsing = false;
   editedText = '';
   textModified = false;
+  forceReparse = false;
 
   constructor(
     private statementService: StatementService,
@@ -42,7 +43,7 @@ export class TextReviewStep implements OnChanges {
   triggerParse(): void {
     this.parsing = true;
     const textToSend = this.textModified ? this.editedText : undefined;
-    this.statementService.triggerParse(this.statement.id, textToSend).subscribe({
+    this.statementService.triggerParse(this.statement.id, textToSend, this.forceReparse).subscribe({
       next: (stmt) => {
         this.messageService.add({
           severity: 'info',
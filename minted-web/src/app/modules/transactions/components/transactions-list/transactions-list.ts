@@ -266,11 +266,12 @@ export class TransactionsList implements OnInit {
       accept: () => {
         const ids = this.selectedTransactions.map(t => t.id);
         this.transactionService.bulkDelete(ids).subscribe({
-          next: () => {
+          next: (result) => {
             this.messageService.add({
-              severity: 'success',
-              summary: 'Success',
-              detail: `${ids.length} transaction(s) deleted successfully`
+              severity: result.failures.length ? 'warn' : 'success',
+              summary: result.failures.length ? 'Partially Completed' : 'Success',
+              detail: `${result.succeeded} transaction(s) deleted successfully` +
+                (result.failures.length ? `, ${result.failures.length} not found` : '')
             });
             this.selectedTransactions = [];
             this.loadTransactions();
@@ -297,11 +298,12 @@ export class TransactionsList implements OnInit {
     if (!this.bulkCategoryId || this.selectedTransactions.length === 0) return;
     const ids = this.selectedTransactions.map(t => t.id);
     this.transactionService.bulkUpdateCategory(ids, this.bulkCategoryId).subscribe({
-      next: () => {
+      next: (result) => {
         this.messageService.add({
-          severity: 'success',
-          summary: 'Success',
-          detail: `Category updated for ${ids.length} transaction(s)`
+          severity: result.failures.length ? 'warn' : 'success',
+          summary: result.failures.length ? 'Partially Completed' : 'Success',
+          detail: `Category updated for ${result.succeeded} transaction(s)` +
+            (result.failures.length ? `, ${result.failures.length} not found` : '')
         });
         this.showBulkCategoryDialog = false;
         this.selectedTransactions = [];